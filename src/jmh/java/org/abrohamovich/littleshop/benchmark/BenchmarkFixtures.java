@@ -0,0 +1,67 @@
+package org.abrohamovich.littleshop.benchmark;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
+import org.abrohamovich.littleshop.domain.model.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkFixtures {
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+    static final long ORDER_ID = 1L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static Customer customer() {
+        return Customer.withId(1L, "John", "Doe", "john@mail.com", "+1394022933", "Main street 1", NOW, NOW);
+    }
+
+    static User user() {
+        return User.withId(1L, "Jane", "Smith", "jane@mail.com", "$2a$04$hash", UserRole.WORKER, "+1394022934", NOW, NOW);
+    }
+
+    static List<OrderItem> orderItems(int count) {
+        Category category = Category.withId(1L, "Coffee", "Beans and ground coffee", NOW, NOW);
+        Supplier supplier = Supplier.withId(1L, "Roastery", "roastery@mail.com", "+1394022935", "Main street 2",
+                "Local roastery", NOW, NOW);
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Offer offer = Offer.withId(i + 1L, "Offer " + i, Money.ofMinor(1000 + 10L * i), OfferType.PRODUCT,
+                    "Offer description " + i, category, supplier, NOW, NOW, 0L);
+            items.add(OrderItem.withId(i + 1L, offer, 1 + i % 5, offer.getPrice(), NOW, NOW));
+        }
+        return items;
+    }
+
+    static Order order(int itemCount) {
+        return Order.withId(ORDER_ID, customer(), user(), OrderStatus.IN_PROGRESS, orderItems(itemCount), NOW, NOW, 0L);
+    }
+
+    static OrderJpaEntity orderJpaEntity(int itemCount) {
+        CategoryJpaEntity category = new CategoryJpaEntity(1L, "Coffee", "Beans and ground coffee", NOW, NOW);
+        SupplierJpaEntity supplier = new SupplierJpaEntity(1L, "Roastery", "roastery@mail.com", "+1394022935",
+                "Main street 2", "Local roastery", NOW, NOW);
+
+        OrderJpaEntity order = new OrderJpaEntity();
+        order.setId(ORDER_ID);
+        order.setCustomer(new CustomerJpaEntity(1L, "John", "Doe", "john@mail.com", "+1394022933", "Main street 1", NOW, NOW));
+        order.setUser(new UserJpaEntity(1L, "Jane", "Smith", "jane@mail.com", "$2a$04$hash", UserRole.WORKER, "+1394022934", NOW, NOW, 0L));
+        order.setStatus(OrderStatus.IN_PROGRESS);
+        order.setCreatedAt(NOW);
+        order.setUpdatedAt(NOW);
+        order.setVersion(0L);
+        Money total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            OfferJpaEntity offer = new OfferJpaEntity(i + 1L, "Offer " + i, Money.ofMinor(1000 + 10L * i), OfferType.PRODUCT,
+                    "Offer description " + i, category, supplier, NOW, NOW, 0L);
+            int quantity = 1 + i % 5;
+            order.addOrderItem(new OrderItemJpaEntity(i + 1L, offer, quantity, offer.getPrice(), NOW, NOW, null));
+            total = total.plus(offer.getPrice().times(quantity));
+        }
+        order.setTotalPrice(total);
+        order.setItemCount(itemCount);
+        return order;
+    }
+}
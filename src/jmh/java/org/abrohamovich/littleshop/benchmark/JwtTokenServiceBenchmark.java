@@ -0,0 +1,41 @@
+package org.abrohamovich.littleshop.benchmark;
+
+import org.abrohamovich.littleshop.adapter.auth.JwtTokenServiceAdapter;
+import org.abrohamovich.littleshop.application.dto.auth.TokenClaims;
+import org.abrohamovich.littleshop.domain.model.AuthenticationToken;
+import org.abrohamovich.littleshop.domain.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenServiceBenchmark {
+    private static final String JWT_SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private JwtTokenServiceAdapter tokenService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new JwtTokenServiceAdapter(JWT_SECRET, 3_600_000L);
+        user = BenchmarkFixtures.user();
+        token = tokenService.generateToken(user).getToken();
+    }
+
+    @Benchmark
+    public AuthenticationToken generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> parseToken() {
+        return tokenService.parseToken(token);
+    }
+}
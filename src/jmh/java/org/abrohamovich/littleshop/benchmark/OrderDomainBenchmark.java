@@ -0,0 +1,48 @@
+package org.abrohamovich.littleshop.benchmark;
+
+import org.abrohamovich.littleshop.domain.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderDomainBenchmark {
+    @Param({"1", "20", "100"})
+    private int itemCount;
+
+    private Customer customer;
+    private User user;
+    private List<OrderItem> items;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        customer = BenchmarkFixtures.customer();
+        user = BenchmarkFixtures.user();
+        items = BenchmarkFixtures.orderItems(itemCount);
+        order = BenchmarkFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public Order withIdValidatesAndTotals() {
+        return Order.withId(BenchmarkFixtures.ORDER_ID, customer, user, OrderStatus.IN_PROGRESS, items,
+                BenchmarkFixtures.NOW, BenchmarkFixtures.NOW, 0L);
+    }
+
+    @Benchmark
+    public Order updateDetailsValidates() {
+        order.updateDetails(customer);
+        return order;
+    }
+
+    @Benchmark
+    public Money totalPrice() {
+        return order.totalPrice();
+    }
+}
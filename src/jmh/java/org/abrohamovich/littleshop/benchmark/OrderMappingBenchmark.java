@@ -0,0 +1,101 @@
+package org.abrohamovich.littleshop.benchmark;
+
+import org.abrohamovich.littleshop.adapter.persistence.OrderRepositoryAdapter;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OrderJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataOrderRepository;
+import org.abrohamovich.littleshop.adapter.persistence.mapper.*;
+import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.Order;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMappingBenchmark {
+    @Param({"1", "20", "100"})
+    private int itemCount;
+
+    private AnnotationConfigApplicationContext mappers;
+    private OrderJpaMapper orderJpaMapper;
+    private OfferJpaMapper offerJpaMapper;
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+    private Order order;
+    private OrderJpaEntity orderJpaEntity;
+    private Offer offer;
+    private OfferJpaEntity offerJpaEntity;
+
+    @Setup
+    public void setUp() {
+        mappers = new AnnotationConfigApplicationContext(CategoryJpaMapperImpl.class, SupplierJpaMapperImpl.class,
+                CustomerJpaMapperImpl.class, UserJpaMapperImpl.class, OfferJpaMapperImpl.class,
+                OrderItemJpaMapperImpl.class, OrderJpaMapperImpl.class);
+        orderJpaMapper = mappers.getBean(OrderJpaMapper.class);
+        offerJpaMapper = mappers.getBean(OfferJpaMapper.class);
+
+        order = BenchmarkFixtures.order(itemCount);
+        orderJpaEntity = BenchmarkFixtures.orderJpaEntity(itemCount);
+        offer = order.getItems().get(0).getOffer();
+        offerJpaEntity = orderJpaEntity.getItems().get(0).getOffer();
+
+        orderRepositoryAdapter = new OrderRepositoryAdapter(repositoryReturning(orderJpaEntity),
+                mappers.getBean(UserJpaMapper.class), mappers.getBean(CustomerJpaMapper.class), offerJpaMapper,
+                mappers.getBean(OrderItemJpaMapper.class), orderJpaMapper, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseToResponse() {
+        return OrderResponse.toResponse(order);
+    }
+
+    @Benchmark
+    public OrderJpaEntity orderJpaMapperToJpaEntity() {
+        return orderJpaMapper.toJpaEntity(order);
+    }
+
+    @Benchmark
+    public Order orderJpaMapperToDomainEntity() {
+        return orderJpaMapper.toDomainEntity(orderJpaEntity);
+    }
+
+    @Benchmark
+    public OfferJpaEntity offerJpaMapperToJpaEntity() {
+        return offerJpaMapper.toJpaEntity(offer);
+    }
+
+    @Benchmark
+    public Offer offerJpaMapperToDomainEntityWithDetails() {
+        return offerJpaMapper.toDomainEntityWithDetails(offerJpaEntity);
+    }
+
+    @Benchmark
+    public Optional<Order> hydrateOrderGraph() {
+        return orderRepositoryAdapter.findById(BenchmarkFixtures.ORDER_ID);
+    }
+
+    private static SpringDataOrderRepository repositoryReturning(OrderJpaEntity entity) {
+        Optional<OrderJpaEntity> result = Optional.of(entity);
+        return (SpringDataOrderRepository) Proxy.newProxyInstance(SpringDataOrderRepository.class.getClassLoader(),
+                new Class<?>[]{SpringDataOrderRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByIdWithDetails")) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
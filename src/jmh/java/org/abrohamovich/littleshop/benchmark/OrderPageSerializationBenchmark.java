@@ -0,0 +1,66 @@
+package org.abrohamovich.littleshop.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.abrohamovich.littleshop.adapter.web.order.OrderWebMapper;
+import org.abrohamovich.littleshop.adapter.web.order.OrderWebMapperImpl;
+import org.abrohamovich.littleshop.adapter.web.order.OrderWebResponse;
+import org.abrohamovich.littleshop.application.dto.PageResponse;
+import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderPageSerializationBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "20"})
+    private int itemsPerOrder;
+
+    private ObjectMapper objectMapper;
+    private OrderWebMapper orderWebMapper;
+    private List<OrderResponse> orderResponses;
+    private PageResponse<OrderWebResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        orderWebMapper = new OrderWebMapperImpl();
+        orderResponses = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            orderResponses.add(OrderResponse.toResponse(BenchmarkFixtures.order(itemsPerOrder)));
+        }
+        page = toWebPage();
+    }
+
+    @Benchmark
+    public PageResponse<OrderWebResponse> mapPageToWebResponse() {
+        return toWebPage();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toWebPage());
+    }
+
+    private PageResponse<OrderWebResponse> toWebPage() {
+        return PageResponse.fromSpringPage(new PageImpl<>(orderResponses, PageRequest.of(0, PAGE_SIZE), 1000)
+                .map(orderWebMapper::toWebResponse));
+    }
+}
@@ -0,0 +1,38 @@
+package org.abrohamovich.littleshop.benchmark;
+
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHasherBenchmark {
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"4", "10"})
+    private int cost;
+
+    private PasswordHasher passwordHasher;
+    private String hashedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordHasher = new PasswordHasher(cost);
+        hashedPassword = passwordHasher.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordHasher.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return PasswordHasher.verify(PASSWORD, hashedPassword);
+    }
+}
@@ -0,0 +1,109 @@
+package org.abrohamovich.littleshop.adapter.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.abrohamovich.littleshop.application.port.out.auth.PasswordVerifierPort;
+import org.abrohamovich.littleshop.domain.exception.ServiceOverloadedException;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class BoundedPasswordVerifierAdapter implements PasswordVerifierPort, DisposableBean {
+    private static final String EXECUTOR_NAME = "passwordHashing";
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final MeterRegistry meterRegistry;
+    private final PasswordHasher passwordHasher;
+
+    public BoundedPasswordVerifierAdapter(@Value("${app.auth.hashing.threads:2}") int threads,
+                                          @Value("${app.auth.hashing.queue-capacity:32}") int queueCapacity,
+                                          @Value("${app.auth.hashing.timeout:5s}") Duration timeout,
+                                          MeterRegistry meterRegistry,
+                                          PasswordHasher passwordHasher) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.hashTimer = Timer.builder("littleshop.auth.password.hash")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("littleshop.auth.password.rejected")
+                .register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+        this.passwordHasher = passwordHasher;
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public boolean verify(String rawPassword, String hashedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> hashTimer.record(() -> PasswordHasher.verify(rawPassword, hashedPassword)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Too many concurrent logins. Please retry shortly.");
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Password verification timed out. Please retry shortly.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new ServiceOverloadedException("Password verification was interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return passwordHasher.needsRehash(hashedPassword);
+    }
+
+    @Override
+    public void rehashInBackground(String rawPassword, Consumer<String> onRehashed) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onRehashed.accept(hashTimer.record(() -> passwordHasher.hashPassword(rawPassword)));
+                    rehashCounter("completed").increment();
+                } catch (RuntimeException e) {
+                    rehashCounter("failed").increment();
+                    log.warn("Background password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rehashCounter("skipped").increment();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Counter rehashCounter(String outcome) {
+        return meterRegistry.counter("littleshop.auth.password.rehash", "outcome", outcome);
+    }
+}
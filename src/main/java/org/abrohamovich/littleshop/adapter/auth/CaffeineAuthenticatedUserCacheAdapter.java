@@ -0,0 +1,84 @@
+package org.abrohamovich.littleshop.adapter.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Component
+public class CaffeineAuthenticatedUserCacheAdapter implements AuthenticatedUserCachePort {
+    private static final String CACHE_NAME = "authenticatedUsers";
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    public CaffeineAuthenticatedUserCacheAdapter(@Value("${app.auth.user-cache.max-size:10000}") long maxSize,
+                                                 @Value("${app.auth.user-cache.ttl:5m}") Duration ttl,
+                                                 MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<AuthenticatedPrincipal> get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(digest(token));
+        return Optional.ofNullable(cached).map(CachedPrincipal::principal);
+    }
+
+    @Override
+    public void put(String token, AuthenticatedPrincipal principal, LocalDateTime expiresAt) {
+        long expiresAtNanos = System.nanoTime() + Duration.between(LocalDateTime.now(ZoneId.systemDefault()), expiresAt).toNanos();
+        cache.put(digest(token), new CachedPrincipal(principal, expiresAtNanos));
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        cache.asMap().values().removeIf(cached -> cached.principal().getUserId().equals(userId));
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedPrincipal(AuthenticatedPrincipal principal, long expiresAtNanos) {
+    }
+
+    private record TokenExpiry(Duration ttl) implements Expiry<String, CachedPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            return Math.max(0, Math.min(ttl.toNanos(), value.expiresAtNanos() - currentTime));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
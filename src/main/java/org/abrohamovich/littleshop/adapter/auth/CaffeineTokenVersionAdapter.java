@@ -0,0 +1,43 @@
+package org.abrohamovich.littleshop.adapter.auth;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
+import org.abrohamovich.littleshop.domain.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class CaffeineTokenVersionAdapter implements TokenVersionPort {
+    private static final String CACHE_NAME = "tokenVersions";
+
+    private final LoadingCache<Long, Optional<Long>> versions;
+
+    public CaffeineTokenVersionAdapter(UserRepositoryPort userRepositoryPort,
+                                       @Value("${app.auth.token-versions.max-size:10000}") long maxSize,
+                                       @Value("${app.auth.token-versions.ttl:1m}") Duration ttl,
+                                       MeterRegistry meterRegistry) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userId -> userRepositoryPort.findById(userId).map(User::getTokenVersion));
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Long> currentVersion(Long userId) {
+        return versions.get(userId);
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        versions.invalidate(userId);
+    }
+}
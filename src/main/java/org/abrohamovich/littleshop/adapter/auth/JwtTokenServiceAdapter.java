@@ -1,12 +1,15 @@
 package org.abrohamovich.littleshop.adapter.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.abrohamovich.littleshop.application.dto.auth.TokenClaims;
 import org.abrohamovich.littleshop.application.port.out.auth.TokenServicePort;
 import org.abrohamovich.littleshop.domain.model.AuthenticationToken;
 import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.domain.model.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -14,15 +17,20 @@ import javax.crypto.SecretKey;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
 
 @Service
 public class JwtTokenServiceAdapter implements TokenServicePort {
     private final SecretKey key;
+    private final JwtParser parser;
     private final long jwtExpirationMs;
 
     public JwtTokenServiceAdapter(@Value("${jwt.secret}") String jwtSecret,
                                   @Value("${jwt.expiration-ms:2592000000}") long jwtExpirationMs) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser()
+                .setSigningKey(key)
+                .build();
         this.jwtExpirationMs = jwtExpirationMs;
     }
 
@@ -36,6 +44,7 @@ public class JwtTokenServiceAdapter implements TokenServicePort {
                 .setExpiration(expiryDate)
                 .claim("email", user.getEmail())
                 .claim("role", user.getRole().toString())
+                .claim("ver", user.getTokenVersion())
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
 
@@ -47,26 +56,22 @@ public class JwtTokenServiceAdapter implements TokenServicePort {
     }
 
     @Override
-    public Long extractUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.parseLong(claims.getSubject());
-    }
-
-    @Override
-    public boolean isTokenValid(String token) {
+    public Optional<TokenClaims> parseToken(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String role = claims.get("role", String.class);
+            LocalDateTime expiresAt = claims.getExpiration().toInstant()
+                    .atZone(ZoneId.systemDefault())
+                    .toLocalDateTime();
+            return Optional.of(new TokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    role == null ? null : UserRole.valueOf(role),
+                    claims.get("ver", Long.class),
+                    expiresAt
+            ));
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
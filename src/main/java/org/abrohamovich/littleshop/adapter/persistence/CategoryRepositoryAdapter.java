@@ -2,16 +2,19 @@ package org.abrohamovich.littleshop.adapter.persistence;
 
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UniqueConstraints;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCategoryRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.CategoryJpaMapper;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
 import org.abrohamovich.littleshop.domain.model.Category;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -19,13 +22,19 @@ import java.util.Optional;
 public class CategoryRepositoryAdapter implements CategoryRepositoryPort {
     private final SpringDataCategoryRepository springDataCategoryRepository;
     private final CategoryJpaMapper categoryJpaMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public Category save(Category category) {
         try {
             CategoryJpaEntity entity = categoryJpaMapper.toJpaEntity(category);
-            CategoryJpaEntity savedEntity = springDataCategoryRepository.save(entity);
+            CategoryJpaEntity savedEntity = springDataCategoryRepository.saveAndFlush(entity);
+            referenceDataCache.evictCategory(savedEntity.getId());
             return categoryJpaMapper.toDomainEntity(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolations.translate(e, Map.of(
+                    UniqueConstraints.CATEGORY_NAME, "Category with name '" + category.getName() + "' already exists."),
+                    "Failed to save category due to data integrity violation.");
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to save category due to data integrity violation. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -35,8 +44,8 @@ public class CategoryRepositoryAdapter implements CategoryRepositoryPort {
 
     @Override
     public Optional<Category> findById(Long id) {
-        return springDataCategoryRepository.findById(id)
-                .map(categoryJpaMapper::toDomainEntity);
+        return referenceDataCache.getCategory(id, key -> springDataCategoryRepository.findById(key)
+                .map(categoryJpaMapper::toDomainEntity));
     }
 
     @Override
@@ -67,6 +76,7 @@ public class CategoryRepositoryAdapter implements CategoryRepositoryPort {
     public void deleteById(Long id) {
         try {
             springDataCategoryRepository.deleteById(id);
+            referenceDataCache.evictCategory(id);
         } catch (Exception e) {
             throw new DataPersistenceException("Failed to delete category with ID '" + id + "'. " + e.getMessage(), e);
         }
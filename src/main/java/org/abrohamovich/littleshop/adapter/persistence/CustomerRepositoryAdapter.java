@@ -1,31 +1,46 @@
 package org.abrohamovich.littleshop.adapter.persistence;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CustomerJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UniqueConstraints;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCustomerRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.CustomerJpaMapper;
 import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
 import org.abrohamovich.littleshop.domain.model.Customer;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
     private final SpringDataCustomerRepository springDataCustomerRepository;
     private final CustomerJpaMapper customerJpaMapper;
+    private final EntityManager entityManager;
 
     @Override
     public Customer save(Customer customer) {
         try {
             CustomerJpaEntity customerJpaEntity = customerJpaMapper.toJpaEntity(customer);
-            CustomerJpaEntity savedEntity = springDataCustomerRepository.save(customerJpaEntity);
+            CustomerJpaEntity savedEntity = springDataCustomerRepository.saveAndFlush(customerJpaEntity);
             return customerJpaMapper.toDomainEntity(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolations.translate(e, Map.of(
+                    UniqueConstraints.CUSTOMER_EMAIL, "Customer with email '" + customer.getEmail() + "' already exists.",
+                    UniqueConstraints.CUSTOMER_PHONE, "Customer with phone '" + customer.getPhone() + "' already exists."),
+                    "Failed to save customer due to data integrity violation.");
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to save customer due to data integrity violation. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -39,6 +54,16 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
                 .map(customerJpaMapper::toDomainEntity);
     }
 
+    @Override
+    public List<Customer> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return springDataCustomerRepository.findAllById(ids).stream()
+                .map(customerJpaMapper::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public Optional<Customer> findByEmail(String email) {
         return springDataCustomerRepository.findByEmail(email)
@@ -75,6 +100,30 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
                 .map(customerJpaMapper::toDomainEntity);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Customer> consumer) {
+        forEachDetached(springDataCustomerRepository.streamAll(), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByFirstNameLike(String firstName, Consumer<Customer> consumer) {
+        forEachDetached(springDataCustomerRepository.streamByFirstNameContainingIgnoreCase(firstName), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByLastNameLike(String lastName, Consumer<Customer> consumer) {
+        forEachDetached(springDataCustomerRepository.streamByLastNameContainingIgnoreCase(lastName), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByEmailLike(String email, Consumer<Customer> consumer) {
+        forEachDetached(springDataCustomerRepository.streamByEmailContainingIgnoreCase(email), consumer);
+    }
+
     @Override
     public void deleteById(Long id) {
         try {
@@ -83,4 +132,13 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
             throw new DataPersistenceException("Failed to delete customer with ID '" + id + "'. " + e.getMessage(), e);
         }
     }
+
+    private void forEachDetached(Stream<CustomerJpaEntity> entities, Consumer<Customer> consumer) {
+        try (entities) {
+            entities.forEach(entity -> {
+                consumer.accept(customerJpaMapper.toDomainEntity(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
 }
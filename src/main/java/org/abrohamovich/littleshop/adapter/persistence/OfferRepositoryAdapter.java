@@ -1,33 +1,64 @@
 package org.abrohamovich.littleshop.adapter.persistence;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.OfferTextSearchQueries;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataOfferRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.StreamingQueryHints;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.specification.OfferSpecifications;
+import org.abrohamovich.littleshop.adapter.persistence.mapper.CategoryJpaMapper;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.OfferJpaMapper;
+import org.abrohamovich.littleshop.adapter.persistence.mapper.SupplierJpaMapper;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.SupplierRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
 import org.abrohamovich.littleshop.domain.exception.category.CategoryNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.supplier.SupplierNotFoundException;
 import org.abrohamovich.littleshop.domain.model.Category;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.abrohamovich.littleshop.domain.model.Supplier;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class OfferRepositoryAdapter implements OfferRepositoryPort {
+    private static final String ID_PROPERTY = "id";
+
     private final SpringDataOfferRepository springDataOfferRepository;
     private final CategoryRepositoryPort categoryRepositoryPort;
     private final SupplierRepositoryPort supplierRepositoryPort;
     private final OfferJpaMapper offerJpaMapper;
+    private final CategoryJpaMapper categoryJpaMapper;
+    private final SupplierJpaMapper supplierJpaMapper;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -40,10 +71,13 @@ public class OfferRepositoryAdapter implements OfferRepositoryPort {
             } else {
                 entityToPersist = springDataOfferRepository.findByIdWithDetails(offer.getId())
                         .orElseThrow(() -> new DataPersistenceException("Offer with ID '" + offer.getId() + "' not found for update."));
+                if (offer.getVersion() != null && !offer.getVersion().equals(entityToPersist.getVersion())) {
+                    throw new VersionConflictException("Offer with ID '" + offer.getId() + "' was modified concurrently. Reload it and try again.");
+                }
 
                 offerJpaMapper.updateJpaEntityFromDomain(offer, entityToPersist);
             }
-            OfferJpaEntity savedOrUpdatedJpaEntity = springDataOfferRepository.save(entityToPersist);
+            OfferJpaEntity savedOrUpdatedJpaEntity = springDataOfferRepository.saveAndFlush(entityToPersist);
             Offer resultOffer = offerJpaMapper.toDomainEntity(savedOrUpdatedJpaEntity);
             Category category = categoryRepositoryPort.findById(savedOrUpdatedJpaEntity.getCategory().getId())
                     .orElseThrow(() -> new CategoryNotFoundException(
@@ -64,9 +98,14 @@ public class OfferRepositoryAdapter implements OfferRepositoryPort {
                     category,
                     supplier,
                     resultOffer.getCreatedAt(),
-                    resultOffer.getUpdatedAt()
+                    resultOffer.getUpdatedAt(),
+                    savedOrUpdatedJpaEntity.getVersion()
             );
 
+        } catch (VersionConflictException e) {
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("Offer with ID '" + offer.getId() + "' was modified concurrently. Reload it and try again.", e);
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to save offer due to data access error: " + e.getMessage(), e);
         } catch (Exception e) {
@@ -77,174 +116,73 @@ public class OfferRepositoryAdapter implements OfferRepositoryPort {
     @Override
     @Transactional(readOnly = true)
     public Optional<Offer> findById(Long id) {
+        if (allCached(List.of(id))) {
+            return Optional.ofNullable(entityManager.find(OfferJpaEntity.class, id))
+                    .map(this::toDomainEntity);
+        }
         return springDataOfferRepository.findByIdWithDetails(id)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + id + " (Category ID: " + jpaEntity.getCategory().getId() + ")"));
-
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + id + " (Supplier ID: " + jpaEntity.getSupplier().getId() + ")"));
-
-                    return Offer.withId(
-                            offer.getId(),
-                            offer.getName(),
-                            offer.getPrice(),
-                            offer.getType(),
-                            offer.getDescription(),
-                            category,
-                            supplier,
-                            offer.getCreatedAt(),
-                            offer.getUpdatedAt()
-                    );
-                });
+                .map(this::toDomainEntity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Offer> findByName(String name) {
         return springDataOfferRepository.findByNameWithDetails(name)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer name " + name));
-
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer name " + name));
-
-                    return Offer.withId(
-                            offer.getId(),
-                            offer.getName(),
-                            offer.getPrice(),
-                            offer.getType(),
-                            offer.getDescription(),
-                            category,
-                            supplier,
-                            offer.getCreatedAt(),
-                            offer.getUpdatedAt()
-                    );
-                });
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Page<Offer> findAll(Pageable pageable) {
-        return springDataOfferRepository.findAll(pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + jpaEntity.getId()));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + jpaEntity.getId()));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Page<Offer> findByNameLike(String name, Pageable pageable) {
-        return springDataOfferRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer name " + name));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer name " + name));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
+                .map(this::toDomainEntity);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Offer> findByCategoryId(Long categoryId, Pageable pageable) {
-        return springDataOfferRepository.findByCategoryId(categoryId, pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + jpaEntity.getId()));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + jpaEntity.getId()));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
+    public List<Offer> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<OfferJpaEntity> entities = allCached(ids)
+                ? ids.stream().map(id -> entityManager.find(OfferJpaEntity.class, id)).filter(Objects::nonNull).toList()
+                : springDataOfferRepository.findAllWithDetailsByIdIn(ids);
+        return entities.stream()
+                .map(this::toDomainEntity)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Offer> findBySupplierId(Long supplierId, Pageable pageable) {
-        return springDataOfferRepository.findBySupplierId(supplierId, pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + jpaEntity.getId()));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + jpaEntity.getId()));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
+    public Page<Offer> search(OfferSearchCriteria criteria, Pageable pageable) {
+        return springDataOfferRepository.findAll(OfferSpecifications.matching(criteria), withStableSort(pageable))
+                .map(this::toDomainEntity);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Offer> findByPriceIsGreaterThanEqual(Double price, Pageable pageable) {
-        return springDataOfferRepository.findByPriceIsGreaterThanEqual(price, pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + jpaEntity.getId()));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + jpaEntity.getId()));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
+    public Page<Offer> searchByText(String text, Pageable pageable) {
+        Page<Long> idPage = springDataOfferRepository.searchIdsByText(text.trim(),
+                OfferTextSearchQueries.containsPattern(text),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        Map<Long, Offer> offersById = findAllByIds(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Offer::getId, Function.identity()));
+        List<Offer> offers = idPage.getContent().stream()
+                .map(offersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(offers, idPage.getPageable(), idPage.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Offer> findByPriceIsLessThanEqual(Double price, Pageable pageable) {
-        return springDataOfferRepository.findByPriceIsLessThanEqual(price, pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + jpaEntity.getId()));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + jpaEntity.getId()));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
-    }
+    public void streamSearch(OfferSearchCriteria criteria, Consumer<Offer> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OfferJpaEntity> query = cb.createQuery(OfferJpaEntity.class);
+        Root<OfferJpaEntity> root = query.from(OfferJpaEntity.class);
+        Predicate predicate = OfferSpecifications.matching(criteria).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(cb.asc(root.get(ID_PROPERTY)));
 
-    @Override
-    @Transactional(readOnly = true)
-    public Page<Offer> findByPriceIsGreaterThanEqualAndPriceLessThanEqual(Double min, Double max, Pageable pageable) {
-        return springDataOfferRepository.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(min, max, pageable)
-                .map(jpaEntity -> {
-                    Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
-                    Category category = categoryRepositoryPort.findById(jpaEntity.getCategory().getId())
-                            .orElseThrow(() -> new CategoryNotFoundException("Category not found for offer ID " + jpaEntity.getId()));
-                    Supplier supplier = supplierRepositoryPort.findById(jpaEntity.getSupplier().getId())
-                            .orElseThrow(() -> new SupplierNotFoundException("Supplier not found for offer ID " + jpaEntity.getId()));
-                    return Offer.withId(
-                            offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
-                            category, supplier, offer.getCreatedAt(), offer.getUpdatedAt()
-                    );
-                });
+        forEachDetached(entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, StreamingQueryHints.FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream(), consumer);
     }
 
     @Override
@@ -256,4 +194,39 @@ public class OfferRepositoryAdapter implements OfferRepositoryPort {
             throw new DataPersistenceException("Failed to delete offer with ID '" + id + "'. " + e.getMessage(), e);
         }
     }
+
+    private Pageable withStableSort(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor(ID_PROPERTY) == null) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, ID_PROPERTY));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private boolean allCached(Collection<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        return ids.stream().allMatch(id -> cache.contains(OfferJpaEntity.class, id));
+    }
+
+    private Offer toDomainEntity(OfferJpaEntity jpaEntity) {
+        Offer offer = offerJpaMapper.toDomainEntity(jpaEntity);
+        Category category = categoryJpaMapper.toDomainEntity(jpaEntity.getCategory());
+        Supplier supplier = supplierJpaMapper.toDomainEntity(jpaEntity.getSupplier());
+        return Offer.withId(
+                offer.getId(), offer.getName(), offer.getPrice(), offer.getType(), offer.getDescription(),
+                category, supplier, offer.getCreatedAt(), offer.getUpdatedAt(), jpaEntity.getVersion()
+        );
+    }
+
+    private void forEachDetached(Stream<OfferJpaEntity> entities, Consumer<Offer> consumer) {
+        try (entities) {
+            entities.forEach(entity -> {
+                consumer.accept(toDomainEntity(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
 }
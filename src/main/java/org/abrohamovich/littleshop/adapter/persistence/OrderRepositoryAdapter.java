@@ -1,115 +1,77 @@
 package org.abrohamovich.littleshop.adapter.persistence;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.adapter.persistence.analytics.SalesRollupChanges;
+import org.abrohamovich.littleshop.adapter.persistence.analytics.SalesRollupWriter;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataOrderRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.specification.OrderSpecifications;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.*;
-import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
-import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
 import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
-import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
-import org.abrohamovich.littleshop.domain.exception.customer.CustomerNotFoundException;
-import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
-import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
 import org.abrohamovich.littleshop.domain.model.*;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, SCROLL_CREATED_AT_KEY, SCROLL_ID_KEY);
+    private static final int STREAM_BATCH_SIZE = 100;
+
     private final SpringDataOrderRepository springDataOrderRepository;
     private final UserJpaMapper userJpaMapper;
     private final CustomerJpaMapper customerJpaMapper;
     private final OfferJpaMapper offerJpaMapper;
     private final OrderItemJpaMapper orderItemJpaMapper;
     private final OrderJpaMapper orderJpaMapper;
-    private final CustomerRepositoryPort customerRepositoryPort;
-    private final UserRepositoryPort userRepositoryPort;
-    private final OfferRepositoryPort offerRepositoryPort;
+    private final EntityManager entityManager;
+    private final SalesRollupWriter salesRollupWriter;
 
     @Override
     @Transactional
     public Order save(Order order) {
         try {
-            CustomerJpaEntity customerJpaEntity = customerRepositoryPort.findById(order.getCustomer().getId())
-                    .map(customerJpaMapper::toJpaEntity)
-                    .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + order.getCustomer().getId()));
-
-            UserJpaEntity userJpaEntity = userRepositoryPort.findById(order.getUser().getId())
-                    .map(userJpaMapper::toJpaEntity)
-                    .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + order.getUser().getId()));
-
-            OrderJpaEntity orderJpaEntity;
-
-            if (order.getId() == null) {
-                orderJpaEntity = orderJpaMapper.toJpaEntity(order);
-                orderJpaEntity.setCustomer(customerJpaEntity);
-                orderJpaEntity.setUser(userJpaEntity);
-
-                for (OrderItem domainItem : order.getItems()) {
-                    OrderItemJpaEntity jpaItem = orderItemJpaMapper.toJpaEntity(domainItem);
-                    OfferJpaEntity offerJpaEntity = offerRepositoryPort.findById(domainItem.getOffer().getId())
-                            .map(offerJpaMapper::toJpaEntity)
-                            .orElseThrow(() -> new OfferNotFoundException("Offer not found for OrderItem. Offer ID: " + domainItem.getOffer().getId()));
-                    jpaItem.setOffer(offerJpaEntity);
-                    orderJpaEntity.addOrderItem(jpaItem);
-                }
-
-            } else {
-                orderJpaEntity = springDataOrderRepository.findById(order.getId())
-                        .map(existingEntity -> {
-                            orderJpaMapper.updateJpaEntityFromDomain(order, existingEntity);
-                            existingEntity.setCustomer(customerJpaEntity);
-                            existingEntity.setUser(userJpaEntity);
-
-                            Set<Long> updatedOrderItemIds = order.getItems().stream()
-                                    .map(OrderItem::getId)
-                                    .filter(Objects::nonNull)
-                                    .collect(Collectors.toSet());
-
-                            existingEntity.getItems().removeIf(jpaItem -> !updatedOrderItemIds.contains(jpaItem.getId()));
-
-                            for (OrderItem domainItem : order.getItems()) {
-                                OrderItemJpaEntity jpaItem;
-
-                                if (domainItem.getId() != null) {
-                                    jpaItem = existingEntity.getItems().stream()
-                                            .filter(item -> domainItem.getId().equals(item.getId()))
-                                            .findFirst()
-                                            .orElseThrow(() -> new DataPersistenceException("Order item with ID " + domainItem.getId() + " not found for update."));
-
-                                    orderItemJpaMapper.updateJpaEntityFromDomain(domainItem, jpaItem);
-                                } else {
-                                    jpaItem = orderItemJpaMapper.toJpaEntity(domainItem);
-                                    existingEntity.addOrderItem(jpaItem);
-                                }
-
-                                OfferJpaEntity offerJpaEntity = offerRepositoryPort.findById(domainItem.getOffer().getId())
-                                        .map(offerJpaMapper::toJpaEntity)
-                                        .orElseThrow(() -> new OfferNotFoundException("Offer not found for OrderItem. Offer ID: " + domainItem.getOffer().getId()));
-                                jpaItem.setOffer(offerJpaEntity);
-                            }
-
-                            return existingEntity;
-                        })
-                        .orElseThrow(() -> new DataPersistenceException("Order with ID '" + order.getId() + "' not found for update."));
-            }
-
-            OrderJpaEntity savedEntity = springDataOrderRepository.save(orderJpaEntity);
+            SalesRollupChanges rollupChanges = new SalesRollupChanges();
+            OrderJpaEntity orderJpaEntity = toOrderJpaEntity(order, new HashMap<>(), rollupChanges);
+            springDataOrderRepository.saveAndFlush(orderJpaEntity);
+            rollupChanges.add(orderJpaEntity);
+            salesRollupWriter.apply(rollupChanges);
 
             return getOrder(orderJpaEntity);
 
+        } catch (VersionConflictException e) {
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("Order with ID '" + order.getId() + "' was modified concurrently. Reload it and try again.", e);
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to save order due to data integrity violation. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -117,6 +79,34 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         }
     }
 
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        try {
+            Map<Long, OfferJpaEntity> offerJpaEntities = new HashMap<>();
+            SalesRollupChanges rollupChanges = new SalesRollupChanges();
+            List<OrderJpaEntity> orderJpaEntities = orders.stream()
+                    .map(order -> toOrderJpaEntity(order, offerJpaEntities, rollupChanges))
+                    .toList();
+            springDataOrderRepository.saveAllAndFlush(orderJpaEntities);
+            orderJpaEntities.forEach(rollupChanges::add);
+            salesRollupWriter.apply(rollupChanges);
+
+            return orderJpaEntities.stream()
+                    .map(this::getOrder)
+                    .toList();
+
+        } catch (VersionConflictException e) {
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("One of the orders was modified concurrently. Reload them and try again.", e);
+        } catch (DataAccessException e) {
+            throw new DataPersistenceException("Failed to save orders due to data integrity violation. " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new DataPersistenceException("Failed to save orders. " + e.getMessage(), e);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Order> findById(Long id) {
@@ -127,36 +117,103 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     @Override
     @Transactional(readOnly = true)
     public Page<Order> findAll(Pageable pageable) {
-        return springDataOrderRepository.findAllWithDetails(pageable)
-                .map(this::getOrder);
+        return getOrderPage(springDataOrderRepository.findAllIds(withDefaultSort(pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Order> findByCustomerId(Long customerId, Pageable pageable) {
-        return springDataOrderRepository.findByCustomerIdWithDetails(customerId, pageable)
-                .map(this::getOrder);
+        return getOrderPage(springDataOrderRepository.findIdsByCustomerId(customerId, withDefaultSort(pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Order> findByUserId(Long userId, Pageable pageable) {
-        return springDataOrderRepository.findByUserIdWithDetails(userId, pageable)
-                .map(this::getOrder);
+        return getOrderPage(springDataOrderRepository.findIdsByUserId(userId, withDefaultSort(pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Order> findByStatus(OrderStatus status, Pageable pageable) {
-        return springDataOrderRepository.findByStatusWithDetails(status, pageable)
-                .map(this::getOrder);
+        return getOrderPage(springDataOrderRepository.findIdsByStatus(status, withDefaultSort(pageable)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Order> search(OrderSearchCriteria criteria, Pageable pageable) {
+        Specification<OrderJpaEntity> specification = OrderSpecifications.matching(criteria);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> idQuery = cb.createQuery(Long.class);
+        Root<OrderJpaEntity> root = idQuery.from(OrderJpaEntity.class);
+        Predicate predicate = specification.toPredicate(root, idQuery, cb);
+        if (predicate != null) {
+            idQuery.where(predicate);
+        }
+        idQuery.select(root.get(SCROLL_ID_KEY)).orderBy(QueryUtils.toOrders(withStableSort(pageable.getSort()), root, cb));
+
+        TypedQuery<Long> query = entityManager.createQuery(idQuery);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        Page<Long> idPage = PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(specification));
+        return getOrderPage(idPage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Order> scrollAll(KeysetScrollPosition position, int limit) {
+        List<Long> ids = position.isInitial()
+                ? springDataOrderRepository.findFirstIds(Limit.of(limit + 1))
+                : springDataOrderRepository.findIdsAfter(getCreatedAtKey(position), getIdKey(position), Limit.of(limit + 1));
+        return getOrderWindow(ids, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Order> scrollByCustomerId(Long customerId, KeysetScrollPosition position, int limit) {
+        List<Long> ids = position.isInitial()
+                ? springDataOrderRepository.findFirstIdsByCustomerId(customerId, Limit.of(limit + 1))
+                : springDataOrderRepository.findIdsByCustomerIdAfter(customerId, getCreatedAtKey(position), getIdKey(position), Limit.of(limit + 1));
+        return getOrderWindow(ids, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Order> scrollByUserId(Long userId, KeysetScrollPosition position, int limit) {
+        List<Long> ids = position.isInitial()
+                ? springDataOrderRepository.findFirstIdsByUserId(userId, Limit.of(limit + 1))
+                : springDataOrderRepository.findIdsByUserIdAfter(userId, getCreatedAtKey(position), getIdKey(position), Limit.of(limit + 1));
+        return getOrderWindow(ids, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Order> consumer) {
+        forEachOrder(springDataOrderRepository.streamAllIds(), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByCustomerId(Long customerId, Consumer<Order> consumer) {
+        forEachOrder(springDataOrderRepository.streamIdsByCustomerId(customerId), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByUserId(Long userId, Consumer<Order> consumer) {
+        forEachOrder(springDataOrderRepository.streamIdsByUserId(userId), consumer);
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
         try {
-            springDataOrderRepository.deleteById(id);
+            springDataOrderRepository.findById(id).ifPresent(orderJpaEntity -> {
+                SalesRollupChanges rollupChanges = new SalesRollupChanges();
+                rollupChanges.subtract(orderJpaEntity);
+                springDataOrderRepository.delete(orderJpaEntity);
+                salesRollupWriter.apply(rollupChanges);
+            });
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to delete order with ID '" + id + "' due to data access error. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -164,29 +221,172 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         }
     }
 
-    private Order getOrder(OrderJpaEntity orderJpaEntity) {
-        Order resultOrder = orderJpaMapper.toDomainEntity(orderJpaEntity);
+    private OrderJpaEntity toOrderJpaEntity(Order order, Map<Long, OfferJpaEntity> offerJpaEntities,
+                                            SalesRollupChanges rollupChanges) {
+        CustomerJpaEntity customerJpaEntity = customerJpaMapper.toJpaEntity(order.getCustomer());
+        UserJpaEntity userJpaEntity = userJpaMapper.toJpaEntity(order.getUser());
+        OrderJpaEntity orderJpaEntity;
+
+        if (order.getId() == null) {
+            orderJpaEntity = orderJpaMapper.toJpaEntity(order);
+            orderJpaEntity.setCustomer(customerJpaEntity);
+            orderJpaEntity.setUser(userJpaEntity);
+
+            for (OrderItem domainItem : order.getItems()) {
+                OrderItemJpaEntity jpaItem = orderItemJpaMapper.toJpaEntity(domainItem);
+                jpaItem.setOffer(getOfferJpaEntity(domainItem.getOffer(), offerJpaEntities));
+                orderJpaEntity.addOrderItem(jpaItem);
+            }
 
-        Customer domainCustomer = null;
-        if (orderJpaEntity.getCustomer() != null) {
-            domainCustomer = customerRepositoryPort.findById(orderJpaEntity.getCustomer().getId())
-                    .orElseThrow(() -> new CustomerNotFoundException("Customer not found for order ID " + orderJpaEntity.getId()));
+        } else {
+            orderJpaEntity = springDataOrderRepository.findById(order.getId())
+                    .map(existingEntity -> {
+                        if (order.getVersion() != null && !order.getVersion().equals(existingEntity.getVersion())) {
+                            throw new VersionConflictException("Order with ID '" + order.getId() + "' was modified concurrently. Reload it and try again.");
+                        }
+                        rollupChanges.subtract(existingEntity);
+                        orderJpaMapper.updateJpaEntityFromDomain(order, existingEntity);
+                        existingEntity.setCustomer(customerJpaEntity);
+                        existingEntity.setUser(userJpaEntity);
+
+                        Set<Long> updatedOrderItemIds = order.getItems().stream()
+                                .map(OrderItem::getId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet());
+
+                        existingEntity.getItems().removeIf(jpaItem -> !updatedOrderItemIds.contains(jpaItem.getId()));
+
+                        for (OrderItem domainItem : order.getItems()) {
+                            OrderItemJpaEntity jpaItem;
+
+                            if (domainItem.getId() != null) {
+                                jpaItem = existingEntity.getItems().stream()
+                                        .filter(item -> domainItem.getId().equals(item.getId()))
+                                        .findFirst()
+                                        .orElseThrow(() -> new DataPersistenceException("Order item with ID " + domainItem.getId() + " not found for update."));
+
+                                orderItemJpaMapper.updateJpaEntityFromDomain(domainItem, jpaItem);
+                            } else {
+                                jpaItem = orderItemJpaMapper.toJpaEntity(domainItem);
+                                existingEntity.addOrderItem(jpaItem);
+                            }
+
+                            jpaItem.setOffer(getOfferJpaEntity(domainItem.getOffer(), offerJpaEntities));
+                        }
+
+                        return existingEntity;
+                    })
+                    .orElseThrow(() -> new DataPersistenceException("Order with ID '" + order.getId() + "' not found for update."));
+        }
+
+        return orderJpaEntity;
+    }
+
+    private OfferJpaEntity getOfferJpaEntity(Offer offer, Map<Long, OfferJpaEntity> offerJpaEntities) {
+        if (offer.getId() == null) {
+            throw new DataPersistenceException("Offer for OrderItem must be persisted before the order is saved.");
         }
+        return offerJpaEntities.computeIfAbsent(offer.getId(), offerId -> offerJpaMapper.toJpaEntity(offer));
+    }
+
+    private Pageable withDefaultSort(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
+    }
 
-        User domainUser = null;
-        if (orderJpaEntity.getUser() != null) {
-            domainUser = userRepositoryPort.findById(orderJpaEntity.getUser().getId())
-                    .orElseThrow(() -> new UserNotFoundException("User not found for order ID " + orderJpaEntity.getId()));
+    private Sort withStableSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_SORT;
+        }
+        if (sort.getOrderFor(SCROLL_ID_KEY) == null) {
+            Sort.Order first = sort.iterator().next();
+            return sort.and(Sort.by(first.getDirection(), SCROLL_ID_KEY));
         }
+        return sort;
+    }
+
+    private long count(Specification<OrderJpaEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<OrderJpaEntity> root = countQuery.from(OrderJpaEntity.class);
+        Predicate predicate = specification.toPredicate(root, countQuery, cb);
+        if (predicate != null) {
+            countQuery.where(predicate);
+        }
+        return entityManager.createQuery(countQuery.select(cb.count(root))).getSingleResult();
+    }
+
+    private Page<Order> getOrderPage(Page<Long> idPage) {
+        return new PageImpl<>(getOrders(idPage.getContent()), idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    private Window<Order> getOrderWindow(List<Long> ids, int limit) {
+        boolean hasNext = ids.size() > limit;
+        List<Order> orders = getOrders(hasNext ? ids.subList(0, limit) : ids);
+        return Window.from(orders, index -> ScrollPosition.forward(Map.of(
+                SCROLL_CREATED_AT_KEY, orders.get(index).getCreatedAt(),
+                SCROLL_ID_KEY, orders.get(index).getId()
+        )), hasNext);
+    }
+
+    private List<Order> getOrders(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OrderJpaEntity> entitiesById = springDataOrderRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(OrderJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
+                .map(this::getOrder)
+                .toList();
+    }
+
+    private void forEachOrder(Stream<Long> ids, Consumer<Order> consumer) {
+        try (ids) {
+            List<Long> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+            Iterator<Long> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == STREAM_BATCH_SIZE || !iterator.hasNext()) {
+                    getOrders(batch).forEach(consumer);
+                    entityManager.clear();
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private LocalDateTime getCreatedAtKey(KeysetScrollPosition position) {
+        Object createdAt = position.getKeys().get(SCROLL_CREATED_AT_KEY);
+        if (!(createdAt instanceof LocalDateTime)) {
+            throw new IllegalArgumentException("Scroll position must contain a '" + SCROLL_CREATED_AT_KEY + "' key.");
+        }
+        return (LocalDateTime) createdAt;
+    }
+
+    private Long getIdKey(KeysetScrollPosition position) {
+        Object id = position.getKeys().get(SCROLL_ID_KEY);
+        if (!(id instanceof Long)) {
+            throw new IllegalArgumentException("Scroll position must contain an '" + SCROLL_ID_KEY + "' key.");
+        }
+        return (Long) id;
+    }
+
+    private Order getOrder(OrderJpaEntity orderJpaEntity) {
+        Order resultOrder = orderJpaMapper.toDomainEntity(orderJpaEntity);
+        Customer domainCustomer = customerJpaMapper.toDomainEntity(orderJpaEntity.getCustomer());
+        User domainUser = userJpaMapper.toDomainEntity(orderJpaEntity.getUser());
 
+        Map<Long, Offer> domainOffers = new HashMap<>();
         List<OrderItem> domainItems = orderJpaEntity.getItems().stream()
                 .map(orderItemJpaEntity -> {
                     OrderItem domainOrderItem = orderItemJpaMapper.toDomainEntity(orderItemJpaEntity);
-                    Offer domainOffer = null;
-                    if (orderItemJpaEntity.getOffer() != null) {
-                        domainOffer = offerRepositoryPort.findById(orderItemJpaEntity.getOffer().getId())
-                                .orElseThrow(() -> new OfferNotFoundException("Offer not found for OrderItem ID " + orderItemJpaEntity.getId()));
-                    }
+                    OfferJpaEntity offerJpaEntity = orderItemJpaEntity.getOffer();
+                    Offer domainOffer = offerJpaEntity == null ? null : domainOffers.computeIfAbsent(
+                            offerJpaEntity.getId(), offerId -> offerJpaMapper.toDomainEntityWithDetails(offerJpaEntity));
                     return OrderItem.withId(
                             domainOrderItem.getId(),
                             domainOffer,
@@ -205,7 +405,8 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
                 resultOrder.getStatus(),
                 domainItems,
                 resultOrder.getCreatedAt(),
-                resultOrder.getUpdatedAt()
+                resultOrder.getUpdatedAt(),
+                orderJpaEntity.getVersion()
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Component
+public class ReferenceDataCache {
+    private static final String CATEGORY_CACHE_NAME = "categories";
+    private static final String SUPPLIER_CACHE_NAME = "suppliers";
+
+    private final AsyncCache<Long, Category> categories;
+    private final AsyncCache<Long, Supplier> suppliers;
+
+    public ReferenceDataCache(@Value("${app.persistence.reference-cache.max-size:1000}") long maxSize,
+                              @Value("${app.persistence.reference-cache.ttl:10m}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.suppliers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, categories, CATEGORY_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, suppliers, SUPPLIER_CACHE_NAME);
+    }
+
+    public Optional<Category> getCategory(Long id, Function<Long, Optional<Category>> loader) {
+        return load(categories, id, loader).map(ReferenceDataCache::copyOf);
+    }
+
+    public Optional<Supplier> getSupplier(Long id, Function<Long, Optional<Supplier>> loader) {
+        return load(suppliers, id, loader).map(ReferenceDataCache::copyOf);
+    }
+
+    public void evictCategory(Long id) {
+        evict(categories, id);
+    }
+
+    public void evictSupplier(Long id) {
+        evict(suppliers, id);
+    }
+
+    private static <T> Optional<T> load(AsyncCache<Long, T> cache, Long id, Function<Long, Optional<T>> loader) {
+        if (dirtyKeys(cache).contains(id)) {
+            return loader.apply(id);
+        }
+        CompletableFuture<T> pending = new CompletableFuture<>();
+        CompletableFuture<T> future = cache.get(id, (key, executor) -> pending);
+        if (future == pending) {
+            try {
+                pending.complete(loader.apply(id).orElse(null));
+            } catch (RuntimeException e) {
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return Optional.ofNullable(future.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void evict(AsyncCache<Long, ?> cache, Long id) {
+        if (id == null) {
+            return;
+        }
+        cache.synchronous().invalidate(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Set<Long> dirty = dirtyKeys(cache);
+        if (dirty.isEmpty()) {
+            Set<Long> keys = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(cache, keys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+                    cache.synchronous().invalidateAll(keys);
+                }
+            });
+            dirty = keys;
+        }
+        dirty.add(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Long> dirtyKeys(AsyncCache<Long, ?> cache) {
+        Object keys = TransactionSynchronizationManager.getResource(cache);
+        return keys != null ? (Set<Long>) keys : Set.of();
+    }
+
+    private static Category copyOf(Category category) {
+        return Category.withId(category.getId(), category.getName(), category.getDescription(),
+                category.getCreatedAt(), category.getUpdatedAt());
+    }
+
+    private static Supplier copyOf(Supplier supplier) {
+        return Supplier.withId(supplier.getId(), supplier.getName(), supplier.getEmail(), supplier.getPhone(),
+                supplier.getAddress(), supplier.getDescription(), supplier.getCreatedAt(), supplier.getUpdatedAt());
+    }
+}
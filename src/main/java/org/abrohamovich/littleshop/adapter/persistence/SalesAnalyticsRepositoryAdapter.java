@@ -0,0 +1,58 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataSalesDailyRollupRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataSalesDailyRollupRepository.SalesBreakdownView;
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+import org.abrohamovich.littleshop.application.port.out.persistence.SalesAnalyticsRepositoryPort;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SalesAnalyticsRepositoryAdapter implements SalesAnalyticsRepositoryPort {
+    private final SpringDataSalesDailyRollupRepository springDataSalesDailyRollupRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailySalesResponse> findDailySales(SalesAnalyticsQuery query) {
+        return springDataSalesDailyRollupRepository.findDailySales(query.getFrom(), query.getTo(),
+                        query.getCategoryId(), query.getSupplierId()).stream()
+                .map(view -> new DailySalesResponse(view.getSalesDate(), view.getQuantity(), Money.ofMinor(view.getRevenueMinor())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesBreakdownResponse> findSalesByOffer(SalesAnalyticsQuery query) {
+        return toBreakdown(springDataSalesDailyRollupRepository.findSalesByOffer(query.getFrom(), query.getTo(),
+                query.getCategoryId(), query.getSupplierId(), Limit.of(query.getLimit())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesBreakdownResponse> findSalesByCategory(SalesAnalyticsQuery query) {
+        return toBreakdown(springDataSalesDailyRollupRepository.findSalesByCategory(query.getFrom(), query.getTo(),
+                query.getCategoryId(), query.getSupplierId(), Limit.of(query.getLimit())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesBreakdownResponse> findSalesByUser(SalesAnalyticsQuery query) {
+        return toBreakdown(springDataSalesDailyRollupRepository.findSalesByUser(query.getFrom(), query.getTo(),
+                query.getCategoryId(), query.getSupplierId(), Limit.of(query.getLimit())));
+    }
+
+    private List<SalesBreakdownResponse> toBreakdown(List<SalesBreakdownView> views) {
+        return views.stream()
+                .map(view -> new SalesBreakdownResponse(view.getId(), view.getName(), view.getQuantity(),
+                        Money.ofMinor(view.getRevenueMinor())))
+                .toList();
+    }
+}
@@ -2,17 +2,20 @@ package org.abrohamovich.littleshop.adapter.persistence;
 
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UniqueConstraints;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataSupplierRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.SupplierJpaMapper;
 import org.abrohamovich.littleshop.application.port.out.persistence.SupplierRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
 import org.abrohamovich.littleshop.domain.model.Supplier;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -20,14 +23,22 @@ import java.util.Optional;
 public class SupplierRepositoryAdapter implements SupplierRepositoryPort {
     private final SpringDataSupplierRepository springDataSupplierRepository;
     private final SupplierJpaMapper supplierJpaMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
     public Supplier save(Supplier supplier) {
         try {
             SupplierJpaEntity entity = supplierJpaMapper.toJpaEntity(supplier);
-            SupplierJpaEntity savedEntity = springDataSupplierRepository.save(entity);
+            SupplierJpaEntity savedEntity = springDataSupplierRepository.saveAndFlush(entity);
+            referenceDataCache.evictSupplier(savedEntity.getId());
             return supplierJpaMapper.toDomainEntity(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolations.translate(e, Map.of(
+                    UniqueConstraints.SUPPLIER_NAME, "Supplier with name '" + supplier.getName() + "' already exists.",
+                    UniqueConstraints.SUPPLIER_EMAIL, "Supplier with email '" + supplier.getEmail() + "' already exists.",
+                    UniqueConstraints.SUPPLIER_PHONE, "Supplier with phone '" + supplier.getPhone() + "' already exists."),
+                    "Failed to save supplier due to data integrity violation.");
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to save supplier due to data integrity violation. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -38,8 +49,8 @@ public class SupplierRepositoryAdapter implements SupplierRepositoryPort {
     @Override
     @Transactional(readOnly = true)
     public Optional<Supplier> findById(Long id) {
-        return springDataSupplierRepository.findById(id)
-                .map(supplierJpaMapper::toDomainEntity);
+        return referenceDataCache.getSupplier(id, key -> springDataSupplierRepository.findById(key)
+                .map(supplierJpaMapper::toDomainEntity));
     }
 
     @Override
@@ -96,6 +107,7 @@ public class SupplierRepositoryAdapter implements SupplierRepositoryPort {
     public void deleteById(Long id) {
         try {
             springDataSupplierRepository.deleteById(id);
+            referenceDataCache.evictSupplier(id);
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to delete supplier with ID '" + id + "' due to data access error. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -0,0 +1,35 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Map;
+
+final class UniqueConstraintViolations {
+    private UniqueConstraintViolations() {
+    }
+
+    static RuntimeException translate(DataIntegrityViolationException e, Map<String, String> duplicateMessages, String failureMessage) {
+        String constraintName = violatedConstraintName(e);
+        if (constraintName != null) {
+            for (Map.Entry<String, String> entry : duplicateMessages.entrySet()) {
+                if (constraintName.contains(entry.getKey())) {
+                    return new DuplicateEntryException(entry.getValue());
+                }
+            }
+        }
+        return new DataPersistenceException(failureMessage + " " + e.getMessage(), e);
+    }
+
+    private static String violatedConstraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+}
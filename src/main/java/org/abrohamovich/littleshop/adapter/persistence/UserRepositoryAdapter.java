@@ -2,16 +2,21 @@ package org.abrohamovich.littleshop.adapter.persistence;
 
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UserJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UniqueConstraints;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataUserRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.UserJpaMapper;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
 import org.abrohamovich.littleshop.domain.model.User;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -24,8 +29,13 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     public User save(User user) {
         try {
             UserJpaEntity entity = userJpaMapper.toJpaEntity(user);
-            UserJpaEntity savedEntity = springDataUserRepository.save(entity);
+            UserJpaEntity savedEntity = springDataUserRepository.saveAndFlush(entity);
             return userJpaMapper.toDomainEntity(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolations.translate(e, Map.of(
+                    UniqueConstraints.USER_EMAIL, "User with email '" + user.getEmail() + "' already exists.",
+                    UniqueConstraints.USER_PHONE, "User with phone '" + user.getPhone() + "' already exists."),
+                    "Failed to save user due to data integrity violation.");
         } catch (DataAccessException e) {
             throw new DataPersistenceException("Failed to save user due to data integrity violation. " + e.getMessage(), e);
         } catch (Exception e) {
@@ -39,6 +49,16 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .map(userJpaMapper::toDomainEntity);
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return springDataUserRepository.findAllById(ids).stream()
+                .map(userJpaMapper::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return springDataUserRepository.findByEmail(email)
@@ -75,6 +95,15 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .map(userJpaMapper::toDomainEntity);
     }
 
+    @Override
+    public boolean updatePasswordHash(Long id, String currentHash, String newHash) {
+        try {
+            return springDataUserRepository.updatePasswordHash(id, currentHash, newHash) > 0;
+        } catch (DataAccessException e) {
+            throw new DataPersistenceException("Failed to update password hash for user with ID '" + id + "'. " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public void deleteById(Long id) {
         try {
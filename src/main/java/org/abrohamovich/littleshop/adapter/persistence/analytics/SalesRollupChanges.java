@@ -0,0 +1,53 @@
+package org.abrohamovich.littleshop.adapter.persistence.analytics;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OrderItemJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OrderJpaEntity;
+import org.abrohamovich.littleshop.domain.model.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SalesRollupChanges {
+    private final Map<Key, Delta> deltas = new LinkedHashMap<>();
+
+    public void add(OrderJpaEntity order) {
+        apply(order, 1);
+    }
+
+    public void subtract(OrderJpaEntity order) {
+        apply(order, -1);
+    }
+
+    Collection<Map.Entry<Key, Delta>> nonZero() {
+        return deltas.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .toList();
+    }
+
+    private void apply(OrderJpaEntity order, int sign) {
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return;
+        }
+        LocalDate salesDate = order.getCreatedAt().toLocalDate();
+        Long userId = order.getUser().getId();
+        for (OrderItemJpaEntity item : order.getItems()) {
+            Delta delta = deltas.computeIfAbsent(new Key(salesDate, userId, item.getOffer().getId()), key -> new Delta());
+            delta.quantity += (long) sign * item.getQuantity();
+            delta.revenueMinor += sign * item.getPriceAtTimeOfOrder().times(item.getQuantity()).minorUnits();
+        }
+    }
+
+    record Key(LocalDate salesDate, Long userId, Long offerId) {
+    }
+
+    static final class Delta {
+        long quantity;
+        long revenueMinor;
+
+        boolean isZero() {
+            return quantity == 0 && revenueMinor == 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.abrohamovich.littleshop.adapter.persistence.analytics;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class SalesRollupWriter implements InitializingBean {
+    private static final String H2_PRODUCT_NAME = "H2";
+    private static final String POSTGRES_UPSERT = "INSERT INTO t_sales_daily_rollup AS r " +
+            "(sales_date, user_id, offer_id, quantity, revenue_minor) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (sales_date, user_id, offer_id) DO UPDATE SET " +
+            "quantity = r.quantity + EXCLUDED.quantity, revenue_minor = r.revenue_minor + EXCLUDED.revenue_minor";
+    private static final String H2_UPSERT = "MERGE INTO t_sales_daily_rollup r " +
+            "USING (SELECT CAST(? AS DATE) AS sales_date, CAST(? AS BIGINT) AS user_id, CAST(? AS BIGINT) AS offer_id, " +
+            "CAST(? AS BIGINT) AS quantity, CAST(? AS BIGINT) AS revenue_minor) d " +
+            "ON r.sales_date = d.sales_date AND r.user_id = d.user_id AND r.offer_id = d.offer_id " +
+            "WHEN MATCHED THEN UPDATE SET quantity = r.quantity + d.quantity, revenue_minor = r.revenue_minor + d.revenue_minor " +
+            "WHEN NOT MATCHED THEN INSERT (sales_date, user_id, offer_id, quantity, revenue_minor) " +
+            "VALUES (d.sales_date, d.user_id, d.offer_id, d.quantity, d.revenue_minor)";
+
+    private final DataSource dataSource;
+    private final EntityManager entityManager;
+    private String upsertSql;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            upsertSql = H2_PRODUCT_NAME.equals(connection.getMetaData().getDatabaseProductName()) ? H2_UPSERT : POSTGRES_UPSERT;
+        }
+    }
+
+    public void apply(SalesRollupChanges changes) {
+        Collection<Map.Entry<SalesRollupChanges.Key, SalesRollupChanges.Delta>> rows = changes.nonZero();
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(upsertSql)) {
+                for (Map.Entry<SalesRollupChanges.Key, SalesRollupChanges.Delta> row : rows) {
+                    statement.setDate(1, Date.valueOf(row.getKey().salesDate()));
+                    statement.setLong(2, row.getKey().userId());
+                    statement.setLong(3, row.getKey().offerId());
+                    statement.setLong(4, row.getValue().quantity);
+                    statement.setLong(5, row.getValue().revenueMinor);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.abrohamovich.littleshop.domain.model.Money;
+
+@Converter
+public class MoneyAttributeConverter implements AttributeConverter<Money, Long> {
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money != null ? money.minorUnits() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits != null ? Money.ofMinor(minorUnits) : null;
+    }
+}
@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.entity;
+
+import java.util.List;
+
+public final class CacheRegions {
+    public static final String CATEGORY = "category";
+    public static final String SUPPLIER = "supplier";
+    public static final String OFFER = "offer";
+    public static final String REFERENCE_QUERIES = "reference-queries";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(CATEGORY, SUPPLIER, OFFER);
+    public static final List<String> QUERY_REGIONS = List.of(REFERENCE_QUERIES, DEFAULT_QUERY_RESULTS);
+
+    private CacheRegions() {
+    }
+}
@@ -5,11 +5,19 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "t_category")
+@Table(name = "t_category", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.CATEGORY_NAME, columnNames = "name")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY)
+@BatchSize(size = 50)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -18,7 +26,7 @@ public class CategoryJpaEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(name = "name", nullable = false, unique = true, length = 100)
+    @Column(name = "name", nullable = false, length = 100)
     private String name;
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
@@ -9,7 +9,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "t_customer")
+@Table(name = "t_customer", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.CUSTOMER_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = UniqueConstraints.CUSTOMER_PHONE, columnNames = "phone")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,9 +25,9 @@ public class CustomerJpaEntity {
     private String firstName;
     @Column(name = "last_name", nullable = false, length = 50)
     private String lastName;
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
-    @Column(name = "phone", nullable = false, unique = true, length = 20)
+    @Column(name = "phone", nullable = false, length = 20)
     private String phone;
     @Column(name = "address", columnDefinition = "TEXT")
     private String address;
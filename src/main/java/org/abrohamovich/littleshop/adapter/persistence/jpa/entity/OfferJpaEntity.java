@@ -5,24 +5,37 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.converter.MoneyAttributeConverter;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "t_offer")
+@Table(name = "t_offer", indexes = {
+        @Index(name = "idx_offer_category_price", columnList = "category_id, price_minor"),
+        @Index(name = "idx_offer_supplier_price", columnList = "supplier_id, price_minor"),
+        @Index(name = "idx_offer_type_price", columnList = "type, price_minor"),
+        @Index(name = "idx_offer_price", columnList = "price_minor")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OFFER)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class OfferJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_offer_seq")
+    @SequenceGenerator(name = "t_offer_seq", sequenceName = "t_offer_seq", allocationSize = 50)
     private Long id;
     @Column(name = "name", nullable = false, length = 100)
     private String name;
-    @Column(name = "price", nullable = false)
-    private double price;
+    @Column(name = "price_minor", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money price;
     @Column(name = "type", nullable = false)
     @Enumerated(EnumType.STRING)
     private OfferType type;
@@ -38,4 +51,7 @@ public class OfferJpaEntity {
     private LocalDateTime createdAt;
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
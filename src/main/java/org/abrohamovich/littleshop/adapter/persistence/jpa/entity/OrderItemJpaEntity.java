@@ -2,6 +2,8 @@ package org.abrohamovich.littleshop.adapter.persistence.jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.converter.MoneyAttributeConverter;
+import org.abrohamovich.littleshop.domain.model.Money;
 
 import java.time.LocalDateTime;
 
@@ -14,15 +16,17 @@ import java.time.LocalDateTime;
 @ToString
 public class OrderItemJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_order_item_seq")
+    @SequenceGenerator(name = "t_order_item_seq", sequenceName = "t_order_item_seq", allocationSize = 50)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "offer_id", nullable = false)
     private OfferJpaEntity offer;
     @Column(name = "quantity", nullable = false)
     private int quantity;
-    @Column(name = "price_at_time_of_order", nullable = false)
-    private double priceAtTimeOfOrder;
+    @Column(name = "price_at_time_of_order_minor", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money priceAtTimeOfOrder;
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     @Column(name = "updated_at")
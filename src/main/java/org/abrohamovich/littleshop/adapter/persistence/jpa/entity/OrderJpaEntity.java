@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.converter.MoneyAttributeConverter;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.OrderStatus;
 
 import java.time.LocalDateTime;
@@ -11,13 +13,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "t_order")
+@Table(name = "t_order", indexes = {
+        @Index(name = "idx_order_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_order_customer_created_at_id", columnList = "customer_id, created_at, id"),
+        @Index(name = "idx_order_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_order_total_price_id", columnList = "total_price_minor, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class OrderJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "t_order_seq")
+    @SequenceGenerator(name = "t_order_seq", sequenceName = "t_order_seq", allocationSize = 50)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
@@ -28,10 +36,18 @@ public class OrderJpaEntity {
     @Column(name = "status", nullable = false)
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
+    @Column(name = "total_price_minor", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money totalPrice = Money.ZERO;
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderItemJpaEntity> items = new ArrayList<>();
 
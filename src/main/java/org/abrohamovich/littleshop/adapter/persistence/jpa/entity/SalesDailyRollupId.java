@@ -0,0 +1,23 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SalesDailyRollupId implements Serializable {
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "offer_id", nullable = false)
+    private Long offerId;
+}
@@ -0,0 +1,25 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.converter.MoneyAttributeConverter;
+import org.abrohamovich.littleshop.domain.model.Money;
+
+@Entity
+@Table(name = "t_sales_daily_rollup")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesDailyRollupJpaEntity {
+    @EmbeddedId
+    private SalesDailyRollupId id;
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+    @Column(name = "revenue_minor", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money revenue;
+}
@@ -5,11 +5,21 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "t_supplier")
+@Table(name = "t_supplier", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.SUPPLIER_NAME, columnNames = "name"),
+        @UniqueConstraint(name = UniqueConstraints.SUPPLIER_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = UniqueConstraints.SUPPLIER_PHONE, columnNames = "phone")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUPPLIER)
+@BatchSize(size = 50)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,11 +28,11 @@ public class SupplierJpaEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(name = "name", nullable = false, unique = true, length = 100)
+    @Column(name = "name", nullable = false, length = 100)
     private String name;
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
-    @Column(name = "phone", nullable = false, unique = true, length = 20)
+    @Column(name = "phone", nullable = false, length = 20)
     private String phone;
     @Column(name = "address", columnDefinition = "TEXT")
     private String address;
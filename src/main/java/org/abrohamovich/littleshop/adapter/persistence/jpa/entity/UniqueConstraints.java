@@ -0,0 +1,15 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.entity;
+
+public final class UniqueConstraints {
+    public static final String CATEGORY_NAME = "uk_category_name";
+    public static final String CUSTOMER_EMAIL = "uk_customer_email";
+    public static final String CUSTOMER_PHONE = "uk_customer_phone";
+    public static final String SUPPLIER_NAME = "uk_supplier_name";
+    public static final String SUPPLIER_EMAIL = "uk_supplier_email";
+    public static final String SUPPLIER_PHONE = "uk_supplier_phone";
+    public static final String USER_EMAIL = "uk_user_email";
+    public static final String USER_PHONE = "uk_user_phone";
+
+    private UniqueConstraints() {
+    }
+}
@@ -10,7 +10,10 @@ import org.abrohamovich.littleshop.domain.model.UserRole;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "t_user")
+@Table(name = "t_user", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.USER_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = UniqueConstraints.USER_PHONE, columnNames = "phone")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,17 +26,19 @@ public class UserJpaEntity {
     private String firstName;
     @Column(name = "last_name", nullable = false, length = 50)
     private String lastName;
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
     @Column(name = "password_hash", nullable = false, length = 255)
     private String password;
     @Column(name = "role", nullable = false)
     @Enumerated(EnumType.STRING)
     private UserRole role;
-    @Column(name = "phone", nullable = false, unique = true, length = 20)
+    @Column(name = "phone", nullable = false, length = 20)
     private String phone;
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
 }
@@ -0,0 +1,29 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
+
+import java.util.Locale;
+
+public final class OfferTextSearchQueries {
+    public static final char ESCAPE_CHARACTER = '!';
+
+    public static final String MATCHES = "(LOWER(o.name) LIKE :pattern ESCAPE '!' " +
+            "OR LOWER(o.description) LIKE :pattern ESCAPE '!')";
+
+    public static final String SEARCH_IDS = "SELECT o.id FROM t_offer o WHERE " + MATCHES + " " +
+            "ORDER BY GREATEST(similarity(o.name, :term), similarity(COALESCE(o.description, ''), :term) * 0.5) DESC, o.id";
+
+    public static final String COUNT = "SELECT count(*) FROM t_offer o WHERE " + MATCHES;
+
+    private OfferTextSearchQueries() {
+    }
+
+    public static String containsPattern(String term) {
+        StringBuilder pattern = new StringBuilder("%");
+        for (char c : term.trim().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == ESCAPE_CHARACTER || c == '%' || c == '_') {
+                pattern.append(ESCAPE_CHARACTER);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
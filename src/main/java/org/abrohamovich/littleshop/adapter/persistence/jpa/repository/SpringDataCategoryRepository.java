@@ -1,15 +1,21 @@
 package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
 
+import jakarta.persistence.QueryHint;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CacheRegions;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface SpringDataCategoryRepository extends JpaRepository<CategoryJpaEntity, Long> {
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)})
     Optional<CategoryJpaEntity> findByName(String name);
 
     Page<CategoryJpaEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
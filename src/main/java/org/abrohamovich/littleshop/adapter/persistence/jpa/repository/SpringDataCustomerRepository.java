@@ -1,11 +1,17 @@
 package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
 
+import jakarta.persistence.QueryHint;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CustomerJpaEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SpringDataCustomerRepository extends JpaRepository<CustomerJpaEntity, Long> {
     Optional<CustomerJpaEntity> findByEmail(String email);
@@ -17,4 +23,24 @@ public interface SpringDataCustomerRepository extends JpaRepository<CustomerJpaE
     Page<CustomerJpaEntity> findByLastNameContainingIgnoreCase(String lastName, Pageable pageable);
 
     Page<CustomerJpaEntity> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM CustomerJpaEntity c ORDER BY c.id")
+    Stream<CustomerJpaEntity> streamAll();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE LOWER(c.firstName) LIKE LOWER(CONCAT('%', :firstName, '%')) ORDER BY c.id")
+    Stream<CustomerJpaEntity> streamByFirstNameContainingIgnoreCase(@Param("firstName") String firstName);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE LOWER(c.lastName) LIKE LOWER(CONCAT('%', :lastName, '%')) ORDER BY c.id")
+    Stream<CustomerJpaEntity> streamByLastNameContainingIgnoreCase(@Param("lastName") String lastName);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE LOWER(c.email) LIKE LOWER(CONCAT('%', :email, '%')) ORDER BY c.id")
+    Stream<CustomerJpaEntity> streamByEmailContainingIgnoreCase(@Param("email") String email);
 }
@@ -1,14 +1,22 @@
 package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
 
+import jakarta.persistence.QueryHint;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OrderJpaEntity;
 import org.abrohamovich.littleshop.domain.model.OrderStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SpringDataOrderRepository extends JpaRepository<OrderJpaEntity, Long> {
 
@@ -16,48 +24,84 @@ public interface SpringDataOrderRepository extends JpaRepository<OrderJpaEntity,
             "LEFT JOIN FETCH o.customer c " +
             "LEFT JOIN FETCH o.user u " +
             "LEFT JOIN FETCH o.items oi " +
-            "LEFT JOIN FETCH oi.offer " +
+            "LEFT JOIN FETCH oi.offer off " +
+            "LEFT JOIN FETCH off.category " +
+            "LEFT JOIN FETCH off.supplier " +
             "WHERE o.id = :id")
     Optional<OrderJpaEntity> findByIdWithDetails(@Param("id") Long id);
 
-    @Query(value = "SELECT DISTINCT o FROM OrderJpaEntity o " +
+    @Query("SELECT DISTINCT o FROM OrderJpaEntity o " +
             "LEFT JOIN FETCH o.customer c " +
             "LEFT JOIN FETCH o.user u " +
             "LEFT JOIN FETCH o.items oi " +
-            "LEFT JOIN FETCH oi.offer",
+            "LEFT JOIN FETCH oi.offer off " +
+            "LEFT JOIN FETCH off.category " +
+            "LEFT JOIN FETCH off.supplier " +
+            "WHERE o.id IN :ids")
+    List<OrderJpaEntity> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT o.id FROM OrderJpaEntity o",
             countQuery = "SELECT count(o) FROM OrderJpaEntity o")
-    Page<OrderJpaEntity> findAllWithDetails(Pageable pageable);
+    Page<Long> findAllIds(Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT o FROM OrderJpaEntity o " +
-            "LEFT JOIN FETCH o.customer c " +
-            "LEFT JOIN FETCH o.user u " +
-            "LEFT JOIN FETCH o.items oi " +
-            "LEFT JOIN FETCH oi.offer " +
-            "WHERE c.id = :customerId",
+    @Query(value = "SELECT o.id FROM OrderJpaEntity o WHERE o.customer.id = :customerId",
             countQuery = "SELECT count(o) FROM OrderJpaEntity o WHERE o.customer.id = :customerId")
-    Page<OrderJpaEntity> findByCustomerIdWithDetails(@Param("customerId") Long customerId, Pageable pageable);
+    Page<Long> findIdsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT o FROM OrderJpaEntity o " +
-            "LEFT JOIN FETCH o.customer c " +
-            "LEFT JOIN FETCH o.user u " +
-            "LEFT JOIN FETCH o.items oi " +
-            "LEFT JOIN FETCH oi.offer " +
-            "WHERE u.id = :userId",
+    @Query(value = "SELECT o.id FROM OrderJpaEntity o WHERE o.user.id = :userId",
             countQuery = "SELECT count(o) FROM OrderJpaEntity o WHERE o.user.id = :userId")
-    Page<OrderJpaEntity> findByUserIdWithDetails(@Param("userId") Long userId, Pageable pageable);
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT o FROM OrderJpaEntity o " +
-            "LEFT JOIN FETCH o.customer c " +
-            "LEFT JOIN FETCH o.user u " +
-            "LEFT JOIN FETCH o.items oi " +
-            "LEFT JOIN FETCH oi.offer " +
-            "WHERE o.status = :status",
+    @Query(value = "SELECT o.id FROM OrderJpaEntity o WHERE o.status = :status",
             countQuery = "SELECT count(o) FROM OrderJpaEntity o WHERE o.status = :status")
-    Page<OrderJpaEntity> findByStatusWithDetails(@Param("status") OrderStatus status, Pageable pageable);
+    Page<Long> findIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+    @Query("SELECT o.id FROM OrderJpaEntity o ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findFirstIds(Limit limit);
+
+    @Query("SELECT o.id FROM OrderJpaEntity o " +
+            "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT o.id FROM OrderJpaEntity o WHERE o.customer.id = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findFirstIdsByCustomerId(@Param("customerId") Long customerId, Limit limit);
+
+    @Query("SELECT o.id FROM OrderJpaEntity o " +
+            "WHERE o.customer.id = :customerId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByCustomerIdAfter(@Param("customerId") Long customerId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Limit limit);
+
+    @Query("SELECT o.id FROM OrderJpaEntity o WHERE o.user.id = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findFirstIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT o.id FROM OrderJpaEntity o " +
+            "WHERE o.user.id = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT o.id FROM OrderJpaEntity o ORDER BY o.createdAt DESC, o.id DESC")
+    Stream<Long> streamAllIds();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT o.id FROM OrderJpaEntity o WHERE o.customer.id = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    Stream<Long> streamIdsByCustomerId(@Param("customerId") Long customerId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT o.id FROM OrderJpaEntity o WHERE o.user.id = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    Stream<Long> streamIdsByUserId(@Param("userId") Long userId);
 
     Page<OrderJpaEntity> findByCustomerId(Long customerId, Pageable pageable);
 
     Page<OrderJpaEntity> findByUserId(Long userId, Pageable pageable);
 
     Page<OrderJpaEntity> findByStatus(OrderStatus status, Pageable pageable);
-}
\ No newline at end of file
+}
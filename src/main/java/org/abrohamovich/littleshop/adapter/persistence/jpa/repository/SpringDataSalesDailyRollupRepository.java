@@ -0,0 +1,71 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SalesDailyRollupId;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SalesDailyRollupJpaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SpringDataSalesDailyRollupRepository extends JpaRepository<SalesDailyRollupJpaEntity, SalesDailyRollupId> {
+    String FILTERS = "r.id.salesDate BETWEEN :from AND :to " +
+            "AND (:categoryId IS NULL OR o.category.id = :categoryId) " +
+            "AND (:supplierId IS NULL OR o.supplier.id = :supplierId) ";
+
+    @Query("SELECT r.id.salesDate AS salesDate, SUM(r.quantity) AS quantity, SUM(r.revenue) AS revenueMinor " +
+            "FROM SalesDailyRollupJpaEntity r LEFT JOIN OfferJpaEntity o ON o.id = r.id.offerId " +
+            "WHERE " + FILTERS +
+            "GROUP BY r.id.salesDate HAVING SUM(r.quantity) > 0 " +
+            "ORDER BY r.id.salesDate")
+    List<DailySalesView> findDailySales(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("categoryId") Long categoryId, @Param("supplierId") Long supplierId);
+
+    @Query("SELECT o.id AS id, o.name AS name, SUM(r.quantity) AS quantity, SUM(r.revenue) AS revenueMinor " +
+            "FROM SalesDailyRollupJpaEntity r JOIN OfferJpaEntity o ON o.id = r.id.offerId " +
+            "WHERE " + FILTERS +
+            "GROUP BY o.id, o.name HAVING SUM(r.quantity) > 0 " +
+            "ORDER BY SUM(r.revenue) DESC, o.id")
+    List<SalesBreakdownView> findSalesByOffer(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                              @Param("categoryId") Long categoryId, @Param("supplierId") Long supplierId,
+                                              Limit limit);
+
+    @Query("SELECT c.id AS id, c.name AS name, SUM(r.quantity) AS quantity, SUM(r.revenue) AS revenueMinor " +
+            "FROM SalesDailyRollupJpaEntity r JOIN OfferJpaEntity o ON o.id = r.id.offerId JOIN o.category c " +
+            "WHERE " + FILTERS +
+            "GROUP BY c.id, c.name HAVING SUM(r.quantity) > 0 " +
+            "ORDER BY SUM(r.revenue) DESC, c.id")
+    List<SalesBreakdownView> findSalesByCategory(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                                 @Param("categoryId") Long categoryId, @Param("supplierId") Long supplierId,
+                                                 Limit limit);
+
+    @Query("SELECT u.id AS id, CONCAT(u.firstName, ' ', u.lastName) AS name, SUM(r.quantity) AS quantity, SUM(r.revenue) AS revenueMinor " +
+            "FROM SalesDailyRollupJpaEntity r JOIN UserJpaEntity u ON u.id = r.id.userId " +
+            "LEFT JOIN OfferJpaEntity o ON o.id = r.id.offerId " +
+            "WHERE " + FILTERS +
+            "GROUP BY u.id, u.firstName, u.lastName HAVING SUM(r.quantity) > 0 " +
+            "ORDER BY SUM(r.revenue) DESC, u.id")
+    List<SalesBreakdownView> findSalesByUser(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                             @Param("categoryId") Long categoryId, @Param("supplierId") Long supplierId,
+                                             Limit limit);
+
+    interface DailySalesView {
+        LocalDate getSalesDate();
+
+        long getQuantity();
+
+        long getRevenueMinor();
+    }
+
+    interface SalesBreakdownView {
+        Long getId();
+
+        String getName();
+
+        long getQuantity();
+
+        long getRevenueMinor();
+    }
+}
@@ -1,17 +1,27 @@
 package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
 
+import jakarta.persistence.QueryHint;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CacheRegions;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface SpringDataSupplierRepository extends JpaRepository<SupplierJpaEntity, Long> {
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)})
     Optional<SupplierJpaEntity> findByName(String name);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)})
     Optional<SupplierJpaEntity> findByEmail(String email);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)})
     Optional<SupplierJpaEntity> findByPhone(String phone);
 
     Page<SupplierJpaEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
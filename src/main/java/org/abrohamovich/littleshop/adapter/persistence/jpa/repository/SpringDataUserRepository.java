@@ -4,6 +4,10 @@ import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UserJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -17,4 +21,9 @@ public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, L
     Page<UserJpaEntity> findByLastNameContainingIgnoreCase(String lastName, Pageable pageable);
 
     Page<UserJpaEntity> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserJpaEntity u SET u.password = :newHash WHERE u.id = :id AND u.password = :currentHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("currentHash") String currentHash, @Param("newHash") String newHash);
 }
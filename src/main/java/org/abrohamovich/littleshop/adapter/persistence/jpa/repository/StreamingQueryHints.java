@@ -0,0 +1,8 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.repository;
+
+public final class StreamingQueryHints {
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingQueryHints() {
+    }
+}
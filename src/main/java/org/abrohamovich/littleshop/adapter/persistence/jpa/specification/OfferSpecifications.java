@@ -0,0 +1,66 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.specification;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.OfferTextSearchQueries;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class OfferSpecifications {
+    private OfferSpecifications() {
+    }
+
+    public static Specification<OfferJpaEntity> matching(OfferSearchCriteria criteria) {
+        return Specification.allOf(
+                withDetails(),
+                criteria.hasName() ? nameContains(criteria.getName()) : null,
+                criteria.getCategoryId() != null ? hasCategory(criteria.getCategoryId()) : null,
+                criteria.getSupplierId() != null ? hasSupplier(criteria.getSupplierId()) : null,
+                criteria.getType() != null ? hasType(criteria.getType()) : null,
+                criteria.getMinPrice() != null ? priceAtLeast(criteria.getMinPrice()) : null,
+                criteria.getMaxPrice() != null ? priceAtMost(criteria.getMaxPrice()) : null
+        );
+    }
+
+    public static Specification<OfferJpaEntity> withDetails() {
+        return (root, query, cb) -> {
+            if (!isCountQuery(query)) {
+                root.fetch("category", JoinType.LEFT);
+                root.fetch("supplier", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<OfferJpaEntity> nameContains(String name) {
+        String pattern = OfferTextSearchQueries.containsPattern(name);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, OfferTextSearchQueries.ESCAPE_CHARACTER);
+    }
+
+    public static Specification<OfferJpaEntity> hasCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<OfferJpaEntity> hasSupplier(Long supplierId) {
+        return (root, query, cb) -> cb.equal(root.get("supplier").get("id"), supplierId);
+    }
+
+    public static Specification<OfferJpaEntity> hasType(OfferType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<OfferJpaEntity> priceAtLeast(Money price) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Money>get("price"), price);
+    }
+
+    public static Specification<OfferJpaEntity> priceAtMost(Money price) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.<Money>get("price"), price);
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        return query.getResultType() == Long.class || query.getResultType() == long.class;
+    }
+}
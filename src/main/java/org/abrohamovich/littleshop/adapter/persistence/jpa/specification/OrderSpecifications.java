@@ -0,0 +1,36 @@
+package org.abrohamovich.littleshop.adapter.persistence.jpa.specification;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OrderJpaEntity;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class OrderSpecifications {
+    private OrderSpecifications() {
+    }
+
+    public static Specification<OrderJpaEntity> matching(OrderSearchCriteria criteria) {
+        return Specification.allOf(
+                criteria.getCustomerId() != null ? hasCustomer(criteria.getCustomerId()) : null,
+                criteria.getUserId() != null ? hasUser(criteria.getUserId()) : null,
+                criteria.getMinTotal() != null ? totalAtLeast(criteria.getMinTotal()) : null,
+                criteria.getMaxTotal() != null ? totalAtMost(criteria.getMaxTotal()) : null
+        );
+    }
+
+    public static Specification<OrderJpaEntity> hasCustomer(Long customerId) {
+        return (root, query, cb) -> cb.equal(root.get("customer").get("id"), customerId);
+    }
+
+    public static Specification<OrderJpaEntity> hasUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<OrderJpaEntity> totalAtLeast(Money total) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Money>get("totalPrice"), total);
+    }
+
+    public static Specification<OrderJpaEntity> totalAtMost(Money total) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.<Money>get("totalPrice"), total);
+    }
+}
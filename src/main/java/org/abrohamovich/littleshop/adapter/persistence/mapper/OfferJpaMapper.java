@@ -34,8 +34,27 @@ public abstract class OfferJpaMapper {
         );
     }
 
+    public Offer toDomainEntityWithDetails(OfferJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return Offer.withId(
+                entity.getId(),
+                entity.getName(),
+                entity.getPrice(),
+                entity.getType(),
+                entity.getDescription(),
+                categoryJpaMapper.toDomainEntity(entity.getCategory()),
+                supplierJpaMapper.toDomainEntity(entity.getSupplier()),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getVersion()
+        );
+    }
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "category", expression = "java(categoryJpaMapper.toJpaEntity(domainOffer.getCategory()))")
     @Mapping(target = "supplier", expression = "java(supplierJpaMapper.toJpaEntity(domainOffer.getSupplier()))")
     public abstract void updateJpaEntityFromDomain(Offer domainOffer, @MappingTarget OfferJpaEntity jpaEntity);
@@ -41,5 +41,6 @@ public abstract class OrderJpaMapper {
 
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "items", ignore = true)
+    @Mapping(target = "version", ignore = true)
     public abstract void updateJpaEntityFromDomain(Order domainOrder, @MappingTarget OrderJpaEntity jpaEntity);
 }
@@ -2,10 +2,15 @@ package org.abrohamovich.littleshop.adapter.persistence.mapper;
 
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UserJpaEntity;
 import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.util.PasswordHasher;
 import org.mapstruct.*;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public abstract class UserJpaMapper {
+    @Autowired
+    protected PasswordHasher passwordHasher;
+
     @Mapping(target = "id", source = "id")
     public abstract UserJpaEntity toJpaEntity(User domainUser);
 
@@ -23,7 +28,8 @@ public abstract class UserJpaMapper {
                     entity.getRole(),
                     entity.getPhone(),
                     entity.getCreatedAt(),
-                    entity.getUpdatedAt()
+                    entity.getUpdatedAt(),
+                    entity.getTokenVersion()
             );
         } else {
             return User.createNewUser(
@@ -32,7 +38,8 @@ public abstract class UserJpaMapper {
                     entity.getEmail(),
                     entity.getPassword(),
                     entity.getRole(),
-                    entity.getPhone()
+                    entity.getPhone(),
+                    passwordHasher
             );
         }
     }
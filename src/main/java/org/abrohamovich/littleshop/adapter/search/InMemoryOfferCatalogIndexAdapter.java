@@ -0,0 +1,548 @@
+package org.abrohamovich.littleshop.adapter.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestion;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+public class InMemoryOfferCatalogIndexAdapter implements OfferCatalogIndexPort {
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private static final long NO_REFERENCE = 0L;
+    private static final OfferType[] TYPES = OfferType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private final int initialCapacity;
+    private Catalog catalog;
+    private List<Consumer<Catalog>> pendingChanges;
+
+    public InMemoryOfferCatalogIndexAdapter(@Value("${app.search.offer-catalog.initial-capacity:1024}") int initialCapacity,
+                                            MeterRegistry meterRegistry) {
+        this.initialCapacity = initialCapacity;
+        this.catalog = new Catalog(initialCapacity);
+        Gauge.builder("littleshop.offer.catalog.size", this, InMemoryOfferCatalogIndexAdapter::size)
+                .register(meterRegistry);
+        Gauge.builder("littleshop.offer.catalog.footprint", this, InMemoryOfferCatalogIndexAdapter::estimatedFootprintBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void rebuild(Consumer<Consumer<Offer>> source) {
+        rebuildLock.lock();
+        try {
+            rebuildExclusively(source);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildExclusively(Consumer<Consumer<Offer>> source) {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Catalog rebuilt = new Catalog(initialCapacity);
+        try {
+            source.accept(offer -> rebuilt.put(Document.from(offer)));
+            rebuilt.trim();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            catalog = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Offer offer) {
+        Document document = Document.from(offer);
+        afterCommit(current -> current.put(document));
+    }
+
+    @Override
+    public void remove(Long offerId) {
+        afterCommit(current -> current.remove(offerId));
+    }
+
+    @Override
+    public OfferSuggestionsResponse suggest(OfferSuggestQuery query) {
+        lock.readLock().lock();
+        try {
+            return catalog.suggest(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return catalog.slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimatedFootprintBytes() {
+        lock.readLock().lock();
+        try {
+            return catalog.estimatedFootprintBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Consumer<Catalog> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Catalog> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(catalog);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String[] tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char current = i < text.length() ? text.charAt(i) : ' ';
+            if (isWordChar(current)) {
+                token.append(toLowerCase(current));
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    private static boolean isWordChar(char value) {
+        if (value < 128) {
+            return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z') || (value >= '0' && value <= '9');
+        }
+        return Character.isLetterOrDigit(value);
+    }
+
+    private static char toLowerCase(char value) {
+        if (value < 128) {
+            return value >= 'A' && value <= 'Z' ? (char) (value + ('a' - 'A')) : value;
+        }
+        return Character.toLowerCase(value);
+    }
+
+    private static String gram(String token, int length) {
+        return token.substring(0, Math.min(length, token.length()));
+    }
+
+    private record Document(long id, String name, long price, OfferType type, long categoryId, long supplierId) {
+        static Document from(Offer offer) {
+            return new Document(offer.getId(), offer.getName(), offer.getPrice().minorUnits(), offer.getType(),
+                    offer.getCategory() != null ? offer.getCategory().getId() : NO_REFERENCE,
+                    offer.getSupplier() != null ? offer.getSupplier().getId() : NO_REFERENCE);
+        }
+    }
+
+    private static final class Catalog {
+        private static final int MIN_COMPACTION_GARBAGE = 4096;
+
+        private final LongIntHashMap slotsById;
+        private final Map<String, IntList> postings = new HashMap<>();
+        private final IntList freeSlots = new IntList();
+        private final ReferenceOrdinals categories = new ReferenceOrdinals();
+        private final ReferenceOrdinals suppliers = new ReferenceOrdinals();
+        private long[] ids;
+        private int[] nameOffsets;
+        private short[] nameLengths;
+        private long[] prices;
+        private int[] categoryOrdinals;
+        private int[] supplierOrdinals;
+        private byte[] types;
+        private char[] nameChars;
+        private int nameCharsUsed;
+        private int nameCharsGarbage;
+        private int highWaterMark;
+
+        Catalog(int capacity) {
+            this.slotsById = new LongIntHashMap(capacity);
+            this.ids = new long[capacity];
+            this.nameOffsets = new int[capacity];
+            this.nameLengths = new short[capacity];
+            this.prices = new long[capacity];
+            this.categoryOrdinals = new int[capacity];
+            this.supplierOrdinals = new int[capacity];
+            this.types = new byte[capacity];
+            this.nameChars = new char[capacity * 16];
+        }
+
+        void put(Document document) {
+            remove(document.id());
+            int slot = allocateSlot();
+            String name = document.name();
+            ids[slot] = document.id();
+            nameOffsets[slot] = appendName(name);
+            nameLengths[slot] = (short) name.length();
+            prices[slot] = document.price();
+            categoryOrdinals[slot] = categories.ordinalOf(document.categoryId());
+            supplierOrdinals[slot] = suppliers.ordinalOf(document.supplierId());
+            types[slot] = (byte) document.type().ordinal();
+            slotsById.put(document.id(), slot);
+            for (String gram : gramsOf(name)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).addSorted(slot);
+            }
+        }
+
+        void remove(long id) {
+            int slot = slotsById.remove(id);
+            if (slot == LongIntHashMap.MISSING) {
+                return;
+            }
+            for (String gram : gramsOf(nameOf(slot))) {
+                IntList posting = postings.get(gram);
+                if (posting != null && posting.removeSorted(slot) && posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+            nameCharsGarbage += nameLengths[slot];
+            nameLengths[slot] = 0;
+            freeSlots.add(slot);
+            if (nameCharsGarbage > MIN_COMPACTION_GARBAGE && nameCharsGarbage > nameCharsUsed / 2) {
+                compactNames();
+            }
+        }
+
+        void trim() {
+            postings.values().forEach(IntList::trim);
+            nameChars = Arrays.copyOf(nameChars, nameCharsUsed);
+        }
+
+        OfferSuggestionsResponse suggest(OfferSuggestQuery query) {
+            String[] tokens = tokenize(query.getText());
+            if (tokens.length == 0) {
+                return OfferSuggestionsResponse.empty();
+            }
+            IntList[] tokenPostings = new IntList[tokens.length];
+            int driver = 0;
+            boolean needsVerification = false;
+            for (int t = 0; t < tokens.length; t++) {
+                tokenPostings[t] = postings.get(gram(tokens[t], MAX_GRAM_LENGTH));
+                if (tokenPostings[t] == null) {
+                    return OfferSuggestionsResponse.empty();
+                }
+                if (tokenPostings[t].size() < tokenPostings[driver].size()) {
+                    driver = t;
+                }
+                needsVerification |= tokens[t].length() > MAX_GRAM_LENGTH;
+            }
+
+            int categoryFilter = query.getCategoryId() != null ? categories.find(query.getCategoryId()) : ReferenceOrdinals.ANY;
+            int supplierFilter = query.getSupplierId() != null ? suppliers.find(query.getSupplierId()) : ReferenceOrdinals.ANY;
+            long minPrice = query.getMinPrice() != null ? query.getMinPrice().minorUnits() : Long.MIN_VALUE;
+            long maxPrice = query.getMaxPrice() != null ? query.getMaxPrice().minorUnits() : Long.MAX_VALUE;
+            int[] categoryCounts = new int[categories.size()];
+            int[] supplierCounts = new int[suppliers.size()];
+            TopRanked best = new TopRanked(query.getLimit(), tokens[0]);
+            int totalMatches = 0;
+
+            IntList candidates = tokenPostings[driver];
+            int[] cursors = new int[tokens.length];
+            for (int i = 0; i < candidates.size(); i++) {
+                int slot = candidates.get(i);
+                if (!inOtherPostings(slot, tokenPostings, cursors, driver)
+                        || prices[slot] < minPrice || prices[slot] > maxPrice
+                        || (needsVerification && !matchesAllTokens(slot, tokens))) {
+                    continue;
+                }
+                boolean categoryMatches = categoryFilter == ReferenceOrdinals.ANY || categoryOrdinals[slot] == categoryFilter;
+                boolean supplierMatches = supplierFilter == ReferenceOrdinals.ANY || supplierOrdinals[slot] == supplierFilter;
+                if (supplierMatches) {
+                    categoryCounts[categoryOrdinals[slot]]++;
+                }
+                if (categoryMatches) {
+                    supplierCounts[supplierOrdinals[slot]]++;
+                }
+                if (categoryMatches && supplierMatches) {
+                    totalMatches++;
+                    best.offer(slot);
+                }
+            }
+
+            List<OfferSuggestion> suggestions = new ArrayList<>(best.size);
+            for (int i = 0; i < best.size; i++) {
+                suggestions.add(toSuggestion(best.slots[i]));
+            }
+            return new OfferSuggestionsResponse(suggestions, totalMatches,
+                    categories.sortedCounts(categoryCounts), suppliers.sortedCounts(supplierCounts));
+        }
+
+        long estimatedFootprintBytes() {
+            long perSlot = Long.BYTES * 2L + Integer.BYTES * 3L + Short.BYTES + Byte.BYTES;
+            long bytes = perSlot * ids.length
+                    + (Long.BYTES + Integer.BYTES) * (long) slotsById.capacity()
+                    + Character.BYTES * (long) nameChars.length;
+            for (IntList posting : postings.values()) {
+                bytes += Integer.BYTES * (long) posting.size() + 96;
+            }
+            return bytes;
+        }
+
+        private static boolean inOtherPostings(int slot, IntList[] tokenPostings, int[] cursors, int driver) {
+            for (int t = 0; t < tokenPostings.length; t++) {
+                if (t == driver) {
+                    continue;
+                }
+                cursors[t] = tokenPostings[t].advanceTo(cursors[t], slot);
+                if (cursors[t] == tokenPostings[t].size() || tokenPostings[t].get(cursors[t]) != slot) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matchesAllTokens(int slot, String[] tokens) {
+            for (String token : tokens) {
+                if (token.length() > MAX_GRAM_LENGTH && !matchesWordPrefix(slot, token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matchesWordPrefix(int slot, String token) {
+            int end = nameOffsets[slot] + nameLengths[slot] - token.length();
+            char first = token.charAt(0);
+            boolean previousWordChar = false;
+            for (int i = nameOffsets[slot]; i <= end; i++) {
+                boolean wordChar = isWordChar(nameChars[i]);
+                if (wordChar && !previousWordChar && toLowerCase(nameChars[i]) == first
+                        && regionMatches(i, token)) {
+                    return true;
+                }
+                previousWordChar = wordChar;
+            }
+            return false;
+        }
+
+        private boolean startsWith(int slot, String token) {
+            return nameLengths[slot] >= token.length() && regionMatches(nameOffsets[slot], token);
+        }
+
+        private boolean regionMatches(int offset, String token) {
+            for (int j = 0; j < token.length(); j++) {
+                if (toLowerCase(nameChars[offset + j]) != token.charAt(j)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String nameOf(int slot) {
+            return new String(nameChars, nameOffsets[slot], nameLengths[slot]);
+        }
+
+        private int appendName(String name) {
+            if (nameCharsUsed + name.length() > nameChars.length) {
+                nameChars = Arrays.copyOf(nameChars, Math.max(nameCharsUsed + name.length(), nameChars.length + (nameChars.length >> 1)));
+            }
+            int offset = nameCharsUsed;
+            name.getChars(0, name.length(), nameChars, offset);
+            nameCharsUsed += name.length();
+            return offset;
+        }
+
+        private void compactNames() {
+            char[] compacted = new char[nameCharsUsed - nameCharsGarbage + nameChars.length / 4];
+            int used = 0;
+            for (int slot = 0; slot < highWaterMark; slot++) {
+                if (nameLengths[slot] > 0) {
+                    System.arraycopy(nameChars, nameOffsets[slot], compacted, used, nameLengths[slot]);
+                    nameOffsets[slot] = used;
+                    used += nameLengths[slot];
+                }
+            }
+            nameChars = compacted;
+            nameCharsUsed = used;
+            nameCharsGarbage = 0;
+        }
+
+        private static Set<String> gramsOf(String name) {
+            Set<String> grams = new HashSet<>();
+            for (String token : tokenize(name)) {
+                for (int length = 1; length <= MAX_GRAM_LENGTH && length <= token.length(); length++) {
+                    grams.add(gram(token, length));
+                }
+            }
+            return grams;
+        }
+
+        private OfferSuggestion toSuggestion(int slot) {
+            return new OfferSuggestion(ids[slot], nameOf(slot), Money.ofMinor(prices[slot]), TYPES[types[slot]],
+                    categories.idOf(categoryOrdinals[slot]), suppliers.idOf(supplierOrdinals[slot]));
+        }
+
+        private int allocateSlot() {
+            if (!freeSlots.isEmpty()) {
+                return freeSlots.removeLast();
+            }
+            if (highWaterMark == ids.length) {
+                int capacity = Math.max(16, ids.length + (ids.length >> 1));
+                ids = Arrays.copyOf(ids, capacity);
+                nameOffsets = Arrays.copyOf(nameOffsets, capacity);
+                nameLengths = Arrays.copyOf(nameLengths, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                categoryOrdinals = Arrays.copyOf(categoryOrdinals, capacity);
+                supplierOrdinals = Arrays.copyOf(supplierOrdinals, capacity);
+                types = Arrays.copyOf(types, capacity);
+            }
+            return highWaterMark++;
+        }
+
+        private final class TopRanked {
+            private final int[] slots;
+            private final boolean[] leading;
+            private final String firstToken;
+            private int size;
+
+            TopRanked(int limit, String firstToken) {
+                this.slots = new int[limit];
+                this.leading = new boolean[limit];
+                this.firstToken = firstToken;
+            }
+
+            void offer(int slot) {
+                boolean full = size == slots.length;
+                if (full && leading[size - 1] && nameLengths[slot] > nameLengths[slots[size - 1]]) {
+                    return;
+                }
+                boolean slotLeading = startsWith(slot, firstToken);
+                int position = size;
+                while (position > 0 && ranksBefore(slot, slotLeading, slots[position - 1], leading[position - 1])) {
+                    position--;
+                }
+                if (position == slots.length) {
+                    return;
+                }
+                int last = full ? size - 1 : size;
+                System.arraycopy(slots, position, slots, position + 1, last - position);
+                System.arraycopy(leading, position, leading, position + 1, last - position);
+                slots[position] = slot;
+                leading[position] = slotLeading;
+                if (!full) {
+                    size++;
+                }
+            }
+
+            private boolean ranksBefore(int slot, boolean slotLeading, int other, boolean otherLeading) {
+                if (slotLeading != otherLeading) {
+                    return slotLeading;
+                }
+                if (nameLengths[slot] != nameLengths[other]) {
+                    return nameLengths[slot] < nameLengths[other];
+                }
+                return ids[slot] < ids[other];
+            }
+        }
+    }
+
+    private static final class ReferenceOrdinals {
+        static final int ANY = -1;
+        static final int UNKNOWN = -2;
+
+        private final LongIntHashMap ordinalsById = new LongIntHashMap(64);
+        private long[] idsByOrdinal = new long[16];
+        private int size = 1;
+
+        int ordinalOf(long id) {
+            int ordinal = ordinalsById.get(id);
+            if (ordinal != LongIntHashMap.MISSING) {
+                return ordinal;
+            }
+            if (id == NO_REFERENCE) {
+                return 0;
+            }
+            if (size == idsByOrdinal.length) {
+                idsByOrdinal = Arrays.copyOf(idsByOrdinal, size + (size >> 1));
+            }
+            ordinal = size++;
+            idsByOrdinal[ordinal] = id;
+            ordinalsById.put(id, ordinal);
+            return ordinal;
+        }
+
+        int find(long id) {
+            int ordinal = ordinalsById.get(id);
+            return ordinal != LongIntHashMap.MISSING ? ordinal : UNKNOWN;
+        }
+
+        Long idOf(int ordinal) {
+            return ordinal == 0 ? null : idsByOrdinal[ordinal];
+        }
+
+        int size() {
+            return size;
+        }
+
+        Map<Long, Integer> sortedCounts(int[] counts) {
+            List<Integer> ordinals = new ArrayList<>();
+            for (int ordinal = 1; ordinal < counts.length; ordinal++) {
+                if (counts[ordinal] > 0) {
+                    ordinals.add(ordinal);
+                }
+            }
+            ordinals.sort(Comparator.comparingInt((Integer ordinal) -> -counts[ordinal])
+                    .thenComparingLong(ordinal -> idsByOrdinal[ordinal]));
+            Map<Long, Integer> sorted = new LinkedHashMap<>();
+            ordinals.forEach(ordinal -> sorted.put(idsByOrdinal[ordinal], counts[ordinal]));
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.abrohamovich.littleshop.adapter.search;
+
+import java.util.Arrays;
+
+final class IntList {
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this.values = new int[2];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    void addSorted(int value) {
+        if (size == 0 || values[size - 1] < value) {
+            add(value);
+            return;
+        }
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+        int insertion = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+        values[insertion] = value;
+        size++;
+    }
+
+    boolean removeSorted(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    int advanceTo(int from, int value) {
+        if (from >= size || values[from] >= value) {
+            return from;
+        }
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < size && values[high] < value) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(values, low, Math.min(high + 1, size), value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int removeLast() {
+        return values[--size];
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void trim() {
+        if (values.length != size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+}
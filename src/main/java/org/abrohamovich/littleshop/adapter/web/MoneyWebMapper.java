@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.adapter.web;
+
+import org.abrohamovich.littleshop.domain.model.Money;
+
+import java.math.BigDecimal;
+
+public final class MoneyWebMapper {
+    private MoneyWebMapper() {
+    }
+
+    public static Money toMoney(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
+
+    public static BigDecimal toDecimal(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+}
@@ -0,0 +1,69 @@
+package org.abrohamovich.littleshop.adapter.web.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.port.in.analytics.GetSalesAnalyticsUseCase;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/analytics")
+@RequiredArgsConstructor
+public class AnalyticsRestController {
+    private final GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+    private final AnalyticsWebMapper analyticsWebMapper;
+
+    @GetMapping("/sales/daily")
+    public ResponseEntity<List<DailySalesWebResponse>> dailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long supplierId
+    ) {
+        SalesAnalyticsQuery query = new SalesAnalyticsQuery(from, to, categoryId, supplierId, 0);
+        return ResponseEntity.ok(analyticsWebMapper.toDailyWebResponses(getSalesAnalyticsUseCase.dailySales(query)));
+    }
+
+    @GetMapping("/sales/offers")
+    public ResponseEntity<List<SalesBreakdownWebResponse>> salesByOffer(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long supplierId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        SalesAnalyticsQuery query = new SalesAnalyticsQuery(from, to, categoryId, supplierId, limit);
+        return ResponseEntity.ok(analyticsWebMapper.toBreakdownWebResponses(getSalesAnalyticsUseCase.salesByOffer(query)));
+    }
+
+    @GetMapping("/sales/categories")
+    public ResponseEntity<List<SalesBreakdownWebResponse>> salesByCategory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long supplierId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        SalesAnalyticsQuery query = new SalesAnalyticsQuery(from, to, categoryId, supplierId, limit);
+        return ResponseEntity.ok(analyticsWebMapper.toBreakdownWebResponses(getSalesAnalyticsUseCase.salesByCategory(query)));
+    }
+
+    @GetMapping("/sales/users")
+    public ResponseEntity<List<SalesBreakdownWebResponse>> salesByUser(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long supplierId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        SalesAnalyticsQuery query = new SalesAnalyticsQuery(from, to, categoryId, supplierId, limit);
+        return ResponseEntity.ok(analyticsWebMapper.toBreakdownWebResponses(getSalesAnalyticsUseCase.salesByUser(query)));
+    }
+}
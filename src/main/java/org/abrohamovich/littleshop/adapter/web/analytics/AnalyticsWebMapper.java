@@ -0,0 +1,19 @@
+package org.abrohamovich.littleshop.adapter.web.analytics;
+
+import org.abrohamovich.littleshop.adapter.web.MoneyWebMapper;
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", uses = MoneyWebMapper.class)
+public interface AnalyticsWebMapper {
+    DailySalesWebResponse toWebResponse(DailySalesResponse response);
+
+    SalesBreakdownWebResponse toWebResponse(SalesBreakdownResponse response);
+
+    List<DailySalesWebResponse> toDailyWebResponses(List<DailySalesResponse> responses);
+
+    List<SalesBreakdownWebResponse> toBreakdownWebResponses(List<SalesBreakdownResponse> responses);
+}
@@ -0,0 +1,17 @@
+package org.abrohamovich.littleshop.adapter.web.analytics;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySalesWebResponse {
+    private LocalDate date;
+    private long quantity;
+    private BigDecimal revenue;
+}
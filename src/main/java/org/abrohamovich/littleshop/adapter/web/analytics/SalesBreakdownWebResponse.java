@@ -0,0 +1,17 @@
+package org.abrohamovich.littleshop.adapter.web.analytics;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesBreakdownWebResponse {
+    private Long id;
+    private String name;
+    private long quantity;
+    private BigDecimal revenue;
+}
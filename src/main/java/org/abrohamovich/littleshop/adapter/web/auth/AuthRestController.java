@@ -1,9 +1,11 @@
 package org.abrohamovich.littleshop.adapter.web.auth;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.dto.auth.AuthenticationResponse;
 import org.abrohamovich.littleshop.application.dto.auth.LoginCommand;
 import org.abrohamovich.littleshop.application.port.in.auth.AuthenticateUseCase;
+import org.abrohamovich.littleshop.domain.exception.auth.AuthenticationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -16,11 +18,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthRestController {
     private final AuthenticateUseCase authenticateUseCase;
     private final AuthWebMapper authWebMapper;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthenticationWebResponse> login(@RequestBody LoginWebRequest request) {
+    public ResponseEntity<AuthenticationWebResponse> login(@RequestBody LoginWebRequest request,
+                                                           HttpServletRequest httpRequest) {
+        loginThrottle.acquire(httpRequest.getRemoteAddr(), request.getEmail());
         LoginCommand command = authWebMapper.toLoginCommand(request);
-        AuthenticationResponse response = authenticateUseCase.authenticate(command);
+        AuthenticationResponse response;
+        try {
+            response = authenticateUseCase.authenticate(command);
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(request.getEmail());
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.getEmail());
         return ResponseEntity.ok(authWebMapper.toWebResponse(response));
     }
 }
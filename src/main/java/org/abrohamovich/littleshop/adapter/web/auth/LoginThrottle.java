@@ -0,0 +1,70 @@
+package org.abrohamovich.littleshop.adapter.web.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.abrohamovich.littleshop.domain.exception.auth.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class LoginThrottle {
+    private static final String THROTTLED_METER = "littleshop.auth.login.throttled";
+
+    private final int maxAttemptsPerAddress;
+    private final int maxFailuresPerEmail;
+    private final long retryAfterSeconds;
+    private final Cache<String, AtomicInteger> attemptsByAddress;
+    private final Cache<String, AtomicInteger> failuresByEmail;
+    private final MeterRegistry meterRegistry;
+
+    public LoginThrottle(@Value("${app.auth.login-throttle.max-attempts-per-address:30}") int maxAttemptsPerAddress,
+                         @Value("${app.auth.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${app.auth.login-throttle.window:1m}") Duration window,
+                         @Value("${app.auth.login-throttle.max-tracked-keys:100000}") long maxTrackedKeys,
+                         MeterRegistry meterRegistry) {
+        this.maxAttemptsPerAddress = maxAttemptsPerAddress;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.retryAfterSeconds = Math.max(1, window.toSeconds());
+        this.attemptsByAddress = newWindow(window, maxTrackedKeys);
+        this.failuresByEmail = newWindow(window, maxTrackedKeys);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void acquire(String clientAddress, String email) {
+        AtomicInteger failures = failuresByEmail.getIfPresent(normalize(email));
+        if (failures != null && failures.get() >= maxFailuresPerEmail) {
+            meterRegistry.counter(THROTTLED_METER, "reason", "email").increment();
+            throw new LoginThrottledException("Too many failed logins for this account. Please retry later.", retryAfterSeconds);
+        }
+
+        int attempts = attemptsByAddress.get(normalize(clientAddress), key -> new AtomicInteger()).incrementAndGet();
+        if (attempts > maxAttemptsPerAddress) {
+            meterRegistry.counter(THROTTLED_METER, "reason", "address").increment();
+            throw new LoginThrottledException("Too many login attempts. Please retry later.", retryAfterSeconds);
+        }
+    }
+
+    public void recordFailure(String email) {
+        failuresByEmail.get(normalize(email), key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public void recordSuccess(String email) {
+        failuresByEmail.invalidate(normalize(email));
+    }
+
+    private static Cache<String, AtomicInteger> newWindow(Duration window, long maxTrackedKeys) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxTrackedKeys)
+                .build();
+    }
+
+    private static String normalize(String key) {
+        return key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,12 +2,16 @@ package org.abrohamovich.littleshop.adapter.web.customer;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.adapter.web.export.CsvColumn;
+import org.abrohamovich.littleshop.adapter.web.export.ExportFormat;
+import org.abrohamovich.littleshop.adapter.web.export.ExportResponseFactory;
 import org.abrohamovich.littleshop.application.dto.PageResponse;
 import org.abrohamovich.littleshop.application.dto.customer.CustomerCreateCommand;
 import org.abrohamovich.littleshop.application.dto.customer.CustomerResponse;
 import org.abrohamovich.littleshop.application.dto.customer.CustomerUpdateCommand;
 import org.abrohamovich.littleshop.application.port.in.customer.CreateCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.DeleteCustomerUseCase;
+import org.abrohamovich.littleshop.application.port.in.customer.ExportCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.GetCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.UpdateCustomerUseCase;
 import org.springframework.data.domain.Page;
@@ -16,16 +20,33 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("api/v1/customers")
 @RequiredArgsConstructor
 public class CustomerRestController {
+    private static final List<CsvColumn<CustomerWebResponse>> CSV_COLUMNS = List.of(
+            CsvColumn.of("id", CustomerWebResponse::getId),
+            CsvColumn.of("firstName", CustomerWebResponse::getFirstName),
+            CsvColumn.of("lastName", CustomerWebResponse::getLastName),
+            CsvColumn.of("email", CustomerWebResponse::getEmail),
+            CsvColumn.of("phone", CustomerWebResponse::getPhone),
+            CsvColumn.of("address", CustomerWebResponse::getAddress),
+            CsvColumn.of("createdAt", CustomerWebResponse::getCreatedAt),
+            CsvColumn.of("updatedAt", CustomerWebResponse::getUpdatedAt)
+    );
+
     private final CreateCustomerUseCase createCustomerUseCase;
     private final GetCustomerUseCase getCustomerUseCase;
     private final UpdateCustomerUseCase updateCustomerUseCase;
     private final DeleteCustomerUseCase deleteCustomerUseCase;
+    private final ExportCustomerUseCase exportCustomerUseCase;
     private final CustomerWebMapper customerWebMapper;
+    private final ExportResponseFactory exportResponseFactory;
 
     @PostMapping
     public ResponseEntity<CustomerWebResponse> create(@Valid @RequestBody CustomerCreateWebRequest customerCreateWebRequest) {
@@ -65,6 +86,28 @@ public class CustomerRestController {
         return new ResponseEntity<>(PageResponse.fromSpringPage(webResponsePage), HttpStatus.OK);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String email
+    ) {
+        return exportResponseFactory.create("customers", ExportFormat.from(format), CSV_COLUMNS, rows -> {
+            Consumer<CustomerResponse> consumer = customerResponse -> rows.accept(customerWebMapper.toWebResponse(customerResponse));
+
+            if (firstName != null && !firstName.isBlank()) {
+                exportCustomerUseCase.exportByFirstNameLike(firstName, consumer);
+            } else if (lastName != null && !lastName.isBlank()) {
+                exportCustomerUseCase.exportByLastNameLike(lastName, consumer);
+            } else if (email != null && !email.isBlank()) {
+                exportCustomerUseCase.exportByEmailLike(email, consumer);
+            } else {
+                exportCustomerUseCase.exportAll(consumer);
+            }
+        });
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CustomerWebResponse> update(@PathVariable Long id, @Valid @RequestBody CustomerUpdateWebRequest customerUpdateWebRequest) {
         CustomerUpdateCommand customerUpdateCommand = customerWebMapper.toUpdateCommand(customerUpdateWebRequest);
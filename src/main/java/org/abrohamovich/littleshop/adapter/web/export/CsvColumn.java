@@ -0,0 +1,13 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class CsvColumn<T> {
+    private final String header;
+    private final Function<T, Object> value;
+}
@@ -0,0 +1,47 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+class CsvRowWriter<T> implements RowWriter<T> {
+    private final Writer writer;
+    private final List<CsvColumn<T>> columns;
+
+    CsvRowWriter(OutputStream out, List<CsvColumn<T>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.columns = columns;
+        writeLine(columns.stream().map(CsvColumn::getHeader).toList());
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        writeLine(columns.stream().map(column -> column.getValue().apply(row)).toList());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,25 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new ModelValidationException("Unsupported export format '" + value + "'. Supported formats: csv, ndjson."));
+    }
+}
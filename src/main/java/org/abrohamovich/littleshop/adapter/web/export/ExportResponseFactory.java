@@ -0,0 +1,49 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class ExportResponseFactory {
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> create(String fileName, ExportFormat format,
+                                                            List<CsvColumn<T>> csvColumns, Consumer<Consumer<T>> rows) {
+        StreamingResponseBody body = out -> {
+            RowWriter<T> writer = format == ExportFormat.CSV
+                    ? new CsvRowWriter<>(out, csvColumns)
+                    : new NdjsonRowWriter<>(out, objectMapper);
+            try {
+                rows.accept(row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+        };
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(fileName + "." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,29 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonRowWriter<T> implements RowWriter<T> {
+    private final ObjectMapper objectMapper;
+    private final JsonGenerator generator;
+
+    NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        objectMapper.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
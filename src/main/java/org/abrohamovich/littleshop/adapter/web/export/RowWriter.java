@@ -0,0 +1,9 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import java.io.IOException;
+
+interface RowWriter<T> {
+    void write(T row) throws IOException;
+
+    void finish() throws IOException;
+}
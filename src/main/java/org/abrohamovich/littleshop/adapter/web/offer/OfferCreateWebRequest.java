@@ -3,6 +3,8 @@ package org.abrohamovich.littleshop.adapter.web.offer;
 import lombok.*;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 @Builder
@@ -10,7 +12,7 @@ import org.abrohamovich.littleshop.domain.model.OfferType;
 @AllArgsConstructor
 public class OfferCreateWebRequest {
     private String name;
-    private double price;
+    private BigDecimal price;
     private OfferType type;
     private String description;
     private Long categoryId;
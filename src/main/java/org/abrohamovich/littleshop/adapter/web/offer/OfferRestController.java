@@ -2,30 +2,59 @@ package org.abrohamovich.littleshop.adapter.web.offer;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.adapter.web.MoneyWebMapper;
+import org.abrohamovich.littleshop.adapter.web.export.CsvColumn;
+import org.abrohamovich.littleshop.adapter.web.export.ExportFormat;
+import org.abrohamovich.littleshop.adapter.web.export.ExportResponseFactory;
 import org.abrohamovich.littleshop.application.dto.PageResponse;
 import org.abrohamovich.littleshop.application.dto.offer.OfferCreateCommand;
 import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
 import org.abrohamovich.littleshop.application.dto.offer.OfferUpdateCommand;
 import org.abrohamovich.littleshop.application.port.in.offer.CreateOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.DeleteOfferUseCase;
+import org.abrohamovich.littleshop.application.port.in.offer.ExportOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.GetOfferUseCase;
+import org.abrohamovich.littleshop.application.port.in.offer.SuggestOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.UpdateOfferUseCase;
+import org.abrohamovich.littleshop.domain.model.OfferType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.util.List;
 @RestController
 @RequestMapping("api/v1/offers")
 @RequiredArgsConstructor
 public class OfferRestController {
+    private static final List<CsvColumn<OfferWebResponse>> CSV_COLUMNS = List.of(
+            CsvColumn.of("id", OfferWebResponse::getId),
+            CsvColumn.of("name", OfferWebResponse::getName),
+            CsvColumn.of("price", OfferWebResponse::getPrice),
+            CsvColumn.of("type", OfferWebResponse::getType),
+            CsvColumn.of("description", OfferWebResponse::getDescription),
+            CsvColumn.of("categoryId", offer -> offer.getCategory().getId()),
+            CsvColumn.of("categoryName", offer -> offer.getCategory().getName()),
+            CsvColumn.of("supplierId", offer -> offer.getSupplier().getId()),
+            CsvColumn.of("supplierName", offer -> offer.getSupplier().getName()),
+            CsvColumn.of("createdAt", OfferWebResponse::getCreatedAt),
+            CsvColumn.of("updatedAt", OfferWebResponse::getUpdatedAt)
+    );
+
     private final CreateOfferUseCase createOfferUseCase;
     private final GetOfferUseCase getOfferUseCase;
     private final UpdateOfferUseCase updateOfferUseCase;
     private final DeleteOfferUseCase deleteOfferUseCase;
+    private final ExportOfferUseCase exportOfferUseCase;
+    private final SuggestOfferUseCase suggestOfferUseCase;
     private final OfferWebMapper offerWebMapper;
+    private final ExportResponseFactory exportResponseFactory;
 
     @PostMapping
     public ResponseEntity<OfferWebResponse> create(@Valid @RequestBody OfferCreateWebRequest offerCreateWebRequest) {
@@ -41,33 +70,63 @@ public class OfferRestController {
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Long supplierId,
-            @RequestParam(required = false) Double priceGreaterEqual,
-            @RequestParam(required = false) Double priceLessEqual
+            @RequestParam(required = false) OfferType type,
+            @RequestParam(required = false) BigDecimal priceGreaterEqual,
+            @RequestParam(required = false) BigDecimal priceLessEqual,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<OfferResponse> offersPage;
+        Pageable pageable = PageRequest.of(page, size, OfferSortField.toSort(sortBy, direction));
+        OfferSearchCriteria criteria = new OfferSearchCriteria(name, categoryId, supplierId, type,
+                MoneyWebMapper.toMoney(priceGreaterEqual), MoneyWebMapper.toMoney(priceLessEqual));
 
-        if (name != null && !name.isBlank()) {
-            offersPage = getOfferUseCase.findByNameLike(name, pageable);
-        } else if (categoryId != null && categoryId > 0) {
-            offersPage = getOfferUseCase.findByCategoryId(categoryId, pageable);
-        } else if (supplierId != null && supplierId > 0) {
-            offersPage = getOfferUseCase.findBySupplierId(supplierId, pageable);
-        } else if (priceGreaterEqual != null && priceLessEqual != null
-                && priceGreaterEqual > 0 && priceLessEqual > 0) {
-            offersPage = getOfferUseCase.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(priceGreaterEqual, priceLessEqual, pageable);
-        } else if (priceGreaterEqual != null && priceGreaterEqual > 0) {
-            offersPage = getOfferUseCase.findByPriceIsGreaterThanEqual(priceGreaterEqual, pageable);
-        } else if (priceLessEqual != null && priceLessEqual > 0) {
-            offersPage = getOfferUseCase.findByPriceIsLessThanEqual(priceLessEqual, pageable);
-        } else {
-            offersPage = getOfferUseCase.findAll(pageable);
-        }
+        Page<OfferWebResponse> webResponsePage = getOfferUseCase.search(criteria, pageable)
+                .map(offerWebMapper::toWebResponse);
+        return new ResponseEntity<>(PageResponse.fromSpringPage(webResponsePage), HttpStatus.OK);
+    }
 
-        Page<OfferWebResponse> webResponsePage = offersPage.map(offerWebMapper::toWebResponse);
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<OfferWebResponse>> searchByText(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Page<OfferWebResponse> webResponsePage = getOfferUseCase.searchByText(q, PageRequest.of(page, size))
+                .map(offerWebMapper::toWebResponse);
         return new ResponseEntity<>(PageResponse.fromSpringPage(webResponsePage), HttpStatus.OK);
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<OfferSuggestionsWebResponse> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long supplierId,
+            @RequestParam(required = false) BigDecimal priceGreaterEqual,
+            @RequestParam(required = false) BigDecimal priceLessEqual,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        OfferSuggestQuery query = new OfferSuggestQuery(q, categoryId, supplierId,
+                MoneyWebMapper.toMoney(priceGreaterEqual), MoneyWebMapper.toMoney(priceLessEqual), limit);
+        return new ResponseEntity<>(offerWebMapper.toWebResponse(suggestOfferUseCase.suggest(query)), HttpStatus.OK);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long supplierId,
+            @RequestParam(required = false) OfferType type,
+            @RequestParam(required = false) BigDecimal priceGreaterEqual,
+            @RequestParam(required = false) BigDecimal priceLessEqual
+    ) {
+        OfferSearchCriteria criteria = new OfferSearchCriteria(name, categoryId, supplierId, type,
+                MoneyWebMapper.toMoney(priceGreaterEqual), MoneyWebMapper.toMoney(priceLessEqual));
+        criteria.validate();
+        return exportResponseFactory.create("offers", ExportFormat.from(format), CSV_COLUMNS, rows ->
+                exportOfferUseCase.export(criteria, offerResponse -> rows.accept(offerWebMapper.toWebResponse(offerResponse))));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<OfferWebResponse> update(@PathVariable Long id, @Valid @RequestBody OfferUpdateWebRequest offerUpdateWebRequest) {
         OfferUpdateCommand offerUpdateCommand = offerWebMapper.toUpdateCommand(offerUpdateWebRequest);
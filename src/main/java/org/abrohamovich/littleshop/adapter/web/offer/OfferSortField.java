@@ -0,0 +1,30 @@
+package org.abrohamovich.littleshop.adapter.web.offer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum OfferSortField {
+    ID("id"),
+    NAME("name"),
+    PRICE("price"),
+    TYPE("type"),
+    CREATED_AT("createdAt");
+
+    private final String property;
+
+    public static Sort toSort(String sortBy, String direction) {
+        OfferSortField field = Arrays.stream(values())
+                .filter(candidate -> candidate.property.equalsIgnoreCase(sortBy) || candidate.name().equalsIgnoreCase(sortBy))
+                .findFirst()
+                .orElseThrow(() -> new ModelValidationException("Unsupported sort field '" + sortBy + "'. Supported fields: id, name, price, type, createdAt."));
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new ModelValidationException("Unsupported sort direction '" + direction + "'. Supported directions: asc, desc."));
+        return Sort.by(sortDirection, field.property);
+    }
+}
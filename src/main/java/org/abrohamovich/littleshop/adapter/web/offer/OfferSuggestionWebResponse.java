@@ -0,0 +1,20 @@
+package org.abrohamovich.littleshop.adapter.web.offer;
+
+import lombok.*;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferSuggestionWebResponse {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private OfferType type;
+    private Long categoryId;
+    private Long supplierId;
+}
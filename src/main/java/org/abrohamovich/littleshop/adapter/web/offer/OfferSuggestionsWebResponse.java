@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.adapter.web.offer;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferSuggestionsWebResponse {
+    private List<OfferSuggestionWebResponse> suggestions;
+    private int totalMatches;
+    private Map<Long, Integer> categoryCounts;
+    private Map<Long, Integer> supplierCounts;
+}
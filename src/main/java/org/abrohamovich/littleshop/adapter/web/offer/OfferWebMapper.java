@@ -1,15 +1,22 @@
 package org.abrohamovich.littleshop.adapter.web.offer;
 
+import org.abrohamovich.littleshop.adapter.web.MoneyWebMapper;
 import org.abrohamovich.littleshop.application.dto.offer.OfferCreateCommand;
 import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestion;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
 import org.abrohamovich.littleshop.application.dto.offer.OfferUpdateCommand;
 import org.mapstruct.Mapper;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = MoneyWebMapper.class)
 public interface OfferWebMapper {
     OfferCreateCommand toCreateCommand(OfferCreateWebRequest request);
 
     OfferUpdateCommand toUpdateCommand(OfferUpdateWebRequest request);
 
     OfferWebResponse toWebResponse(OfferResponse response);
+
+    OfferSuggestionWebResponse toWebResponse(OfferSuggestion suggestion);
+
+    OfferSuggestionsWebResponse toWebResponse(OfferSuggestionsResponse response);
 }
@@ -5,6 +5,7 @@ import org.abrohamovich.littleshop.adapter.web.category.CategoryWebResponse;
 import org.abrohamovich.littleshop.adapter.web.supplier.SupplierWebResponse;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 public class OfferWebResponse {
     private Long id;
     private String name;
-    private double price;
+    private BigDecimal price;
     private OfferType type;
     private String description;
     private CategoryWebResponse category;
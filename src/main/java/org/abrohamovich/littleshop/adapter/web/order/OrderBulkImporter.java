@@ -0,0 +1,167 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.abrohamovich.littleshop.application.dto.order.OrderBulkRecordResult;
+import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
+import org.abrohamovich.littleshop.application.port.in.order.BulkCreateOrderUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderBulkImporter {
+    private final BulkCreateOrderUseCase bulkCreateOrderUseCase;
+    private final OrderWebMapper orderWebMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public OrderBulkImporter(BulkCreateOrderUseCase bulkCreateOrderUseCase,
+                             OrderWebMapper orderWebMapper,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${app.orders.bulk-chunk-size:500}") int chunkSize) {
+        this.bulkCreateOrderUseCase = bulkCreateOrderUseCase;
+        this.orderWebMapper = orderWebMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public void importOrders(InputStream body, OutputStream out) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            Report report = new Report(generator);
+            List<OrderCreateCommand> commands = new ArrayList<>();
+            List<String> errors = new ArrayList<>();
+            String abortError = null;
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("results");
+
+            try {
+                JsonToken token = parser.nextToken();
+                boolean array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+
+                while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                    JsonNode record = parser.readValueAsTree();
+                    try {
+                        OrderCreateWebRequest request = objectMapper.treeToValue(record, OrderCreateWebRequest.class);
+                        Set<ConstraintViolation<OrderCreateWebRequest>> violations = validator.validate(request);
+                        if (violations.isEmpty()) {
+                            commands.add(orderWebMapper.toCreateCommand(request));
+                            errors.add(null);
+                        } else {
+                            commands.add(null);
+                            errors.add("Invalid order record: " + describe(violations));
+                        }
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        commands.add(null);
+                        errors.add("Malformed order record: " + e.getMessage());
+                    }
+
+                    if (commands.size() == chunkSize) {
+                        processChunk(commands, errors, report);
+                    }
+                    token = parser.nextToken();
+                }
+            } catch (JsonProcessingException e) {
+                abortError = "Malformed request body: " + e.getOriginalMessage();
+            }
+
+            processChunk(commands, errors, report);
+
+            generator.writeEndArray();
+            generator.writeNumberField("total", report.index);
+            generator.writeNumberField("created", report.created);
+            generator.writeNumberField("failed", report.index - report.created);
+            if (abortError != null) {
+                generator.writeStringField("error", abortError);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void processChunk(List<OrderCreateCommand> commands, List<String> errors, Report report) throws IOException {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        List<OrderCreateCommand> validCommands = commands.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        Iterator<OrderBulkRecordResult> results = saveAll(validCommands).iterator();
+
+        for (int i = 0; i < commands.size(); i++) {
+            report.write(commands.get(i) == null ? OrderBulkRecordResult.failed(errors.get(i)) : results.next());
+        }
+        report.generator.flush();
+
+        commands.clear();
+        errors.clear();
+    }
+
+    private List<OrderBulkRecordResult> saveAll(List<OrderCreateCommand> commands) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return bulkCreateOrderUseCase.saveAll(commands);
+        } catch (RuntimeException e) {
+            OrderBulkRecordResult failed = OrderBulkRecordResult.failed("Failed to import order: " + e.getMessage());
+            return commands.stream()
+                    .map(command -> failed)
+                    .toList();
+        }
+    }
+
+    private static String describe(Set<ConstraintViolation<OrderCreateWebRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static class Report {
+        private final JsonGenerator generator;
+        private int index;
+        private int created;
+
+        private Report(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void write(OrderBulkRecordResult result) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("index", index++);
+            if (result.isCreated()) {
+                created++;
+                generator.writeStringField("status", "CREATED");
+                generator.writeNumberField("orderId", result.getOrderId());
+            } else {
+                generator.writeStringField("status", "FAILED");
+                generator.writeStringField("error", result.getError());
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.abrohamovich.littleshop.adapter.web.order;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.util.List;
@@ -10,7 +13,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderCreateWebRequest {
+    @NotNull(message = "Customer ID cannot be null")
     private Long customerId;
+    @NotNull(message = "User ID cannot be null")
     private Long userId;
-    private List<OrderItemCreateWebRequest> items;
+    @NotEmpty(message = "Order must contain at least one item")
+    private List<@NotNull(message = "Order item cannot be null") @Valid OrderItemCreateWebRequest> items;
 }
@@ -0,0 +1,43 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+final class OrderCursorCodec {
+    private static final String SEPARATOR = "|";
+
+    private OrderCursorCodec() {
+    }
+
+    static String encode(ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        String raw = keys.get(OrderRepositoryPort.SCROLL_CREATED_AT_KEY) + SEPARATOR + keys.get(OrderRepositoryPort.SCROLL_ID_KEY);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return ScrollPosition.forward(Map.of(
+                    OrderRepositoryPort.SCROLL_CREATED_AT_KEY, createdAt,
+                    OrderRepositoryPort.SCROLL_ID_KEY, id
+            ));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ModelValidationException("Invalid order cursor '" + cursor + "'.", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+
+final class OrderETag {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private OrderETag() {
+    }
+
+    static String of(Long version) {
+        return QUOTE + version + QUOTE;
+    }
+
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() < 3 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) {
+            throw new ModelValidationException("Invalid If-Match header '" + ifMatch + "'. Expected a single order ETag such as \"3\".");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new ModelValidationException("Invalid If-Match header '" + ifMatch + "'. Expected a single order ETag such as \"3\".", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.abrohamovich.littleshop.adapter.web.order;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.*;
 
 @Getter
@@ -8,6 +10,8 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderItemCreateWebRequest {
+    @NotNull(message = "Offer ID cannot be null")
     private Long offerId;
+    @Positive(message = "Quantity must be positive")
     private int quantity;
 }
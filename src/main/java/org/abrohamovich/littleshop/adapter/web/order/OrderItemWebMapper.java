@@ -1,17 +1,18 @@
 package org.abrohamovich.littleshop.adapter.web.order;
 
+import org.abrohamovich.littleshop.adapter.web.MoneyWebMapper;
 import org.abrohamovich.littleshop.application.dto.orderItem.*;
 import org.mapstruct.Mapper;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = MoneyWebMapper.class)
 public interface OrderItemWebMapper {
     OrderItemCreateCommand toCreateCommand(OrderItemCreateWebRequest request);
 
-    OrderItemAddToOrderCommand toAddToOrderCommand(OrderItemAddToOrderWebRequest request);
+    OrderItemAddToOrderCommand toAddToOrderCommand(OrderItemAddToOrderWebRequest request, Long expectedVersion);
 
-    OrderItemRemoveFromOrderCommand toRemoveFromOrderCommand(OrderItemRemoveFromOrderWebRequest request);
+    OrderItemRemoveFromOrderCommand toRemoveFromOrderCommand(OrderItemRemoveFromOrderWebRequest request, Long expectedVersion);
 
-    OrderItemUpdateQuantityCommand toUpdateQuantityCommand(OrderItemUpdateQuantityWebRequest request);
+    OrderItemUpdateQuantityCommand toUpdateQuantityCommand(OrderItemUpdateQuantityWebRequest request, Long expectedVersion);
 
     OrderItemWebResponse toWebResponse(OrderItemResponse response);
 }
@@ -3,6 +3,7 @@ package org.abrohamovich.littleshop.adapter.web.order;
 import lombok.*;
 import org.abrohamovich.littleshop.adapter.web.offer.OfferWebResponse;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,7 +15,7 @@ public class OrderItemWebResponse {
     private Long id;
     private OfferWebResponse offer;
     private int quantity;
-    private double priceAtTimeOfOrder;
+    private BigDecimal priceAtTimeOfOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
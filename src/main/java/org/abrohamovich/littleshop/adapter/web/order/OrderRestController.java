@@ -1,27 +1,56 @@
 package org.abrohamovich.littleshop.adapter.web.order;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.adapter.web.MoneyWebMapper;
+import org.abrohamovich.littleshop.adapter.web.export.CsvColumn;
+import org.abrohamovich.littleshop.adapter.web.export.ExportFormat;
+import org.abrohamovich.littleshop.adapter.web.export.ExportResponseFactory;
+import org.abrohamovich.littleshop.application.dto.CursorPageResponse;
 import org.abrohamovich.littleshop.application.dto.PageResponse;
 import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
 import org.abrohamovich.littleshop.application.dto.order.OrderUpdateCommand;
 import org.abrohamovich.littleshop.application.dto.order.OrderUpdateStatusCommand;
 import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemAddToOrderCommand;
 import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemRemoveFromOrderCommand;
 import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemUpdateQuantityCommand;
 import org.abrohamovich.littleshop.application.port.in.order.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("api/v1/orders")
 @RequiredArgsConstructor
 public class OrderRestController {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final List<CsvColumn<OrderWebResponse>> CSV_COLUMNS = List.of(
+            CsvColumn.of("id", OrderWebResponse::getId),
+            CsvColumn.of("status", OrderWebResponse::getStatus),
+            CsvColumn.of("customerId", order -> order.getCustomer().getId()),
+            CsvColumn.of("customerEmail", order -> order.getCustomer().getEmail()),
+            CsvColumn.of("userId", order -> order.getUser().getId()),
+            CsvColumn.of("userEmail", order -> order.getUser().getEmail()),
+            CsvColumn.of("itemCount", OrderWebResponse::getItemCount),
+            CsvColumn.of("totalPrice", OrderWebResponse::getTotalPrice),
+            CsvColumn.of("createdAt", OrderWebResponse::getCreatedAt),
+            CsvColumn.of("updatedAt", OrderWebResponse::getUpdatedAt)
+    );
+
     private final AddOrderItemToOrderUseCase addOrderItemToOrderUseCase;
     private final ChangeOrderStatusUseCase changeOrderStatusUseCase;
     private final CreateOrderUseCase createOrderUseCase;
@@ -30,20 +59,30 @@ public class OrderRestController {
     private final RemoveOrderItemFromOrderUseCase removeOrderItemFromOrderUseCase;
     private final UpdateOrderItemQuantityUseCase updateOrderItemQuantityUseCase;
     private final UpdateOrderUseCase updateOrderUseCase;
+    private final ExportOrderUseCase exportOrderUseCase;
     private final OrderWebMapper orderWebMapper;
     private final OrderItemWebMapper orderItemWebMapper;
+    private final OrderBulkImporter orderBulkImporter;
+    private final ExportResponseFactory exportResponseFactory;
 
     @PostMapping
     public ResponseEntity<OrderWebResponse> create(@Valid @RequestBody OrderCreateWebRequest orderCreateWebRequest) {
         OrderCreateCommand orderCreateCommand = orderWebMapper.toCreateCommand(orderCreateWebRequest);
         OrderResponse orderResponse = createOrderUseCase.save(orderCreateCommand);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.CREATED);
+        return toVersionedResponse(orderResponse, HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void bulkCreate(InputStream body, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        orderBulkImporter.importOrders(body, response.getOutputStream());
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<OrderWebResponse> findById(@PathVariable Long id) {
         OrderResponse orderResponse = getOrderUseCase.findById(id);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.OK);
+        return toVersionedResponse(orderResponse, HttpStatus.OK);
     }
 
     @GetMapping
@@ -51,56 +90,108 @@ public class OrderRestController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) BigDecimal totalGreaterEqual,
+            @RequestParam(required = false) BigDecimal totalLessEqual,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction
+    ) {
+        Pageable pageable = PageRequest.of(page, size, OrderSortField.toSort(sortBy, direction));
+        OrderSearchCriteria criteria = new OrderSearchCriteria(
+                customerId != null && customerId > 0 ? customerId : null,
+                userId != null && userId > 0 ? userId : null,
+                MoneyWebMapper.toMoney(totalGreaterEqual), MoneyWebMapper.toMoney(totalLessEqual));
+
+        Page<OrderWebResponse> webResponsePage = getOrderUseCase.search(criteria, pageable)
+                .map(orderWebMapper::toWebResponse);
+        return new ResponseEntity<>(PageResponse.fromSpringPage(webResponsePage), HttpStatus.OK);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long customerId,
             @RequestParam(required = false) Long userId
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<OrderResponse> ordersPage;
+        return exportResponseFactory.create("orders", ExportFormat.from(format), CSV_COLUMNS, rows -> {
+            Consumer<OrderResponse> consumer = orderResponse -> rows.accept(orderWebMapper.toWebResponse(orderResponse));
+
+            if (customerId != null && customerId > 0) {
+                exportOrderUseCase.exportByCustomerId(customerId, consumer);
+            } else if (userId != null && userId > 0) {
+                exportOrderUseCase.exportByUserId(userId, consumer);
+            } else {
+                exportOrderUseCase.exportAll(consumer);
+            }
+        });
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponse<OrderWebResponse>> scroll(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Long userId
+    ) {
+        KeysetScrollPosition position = OrderCursorCodec.decode(after);
+        checkScrollSize(size);
+        Window<OrderResponse> ordersWindow;
 
         if (customerId != null && customerId > 0) {
-            ordersPage = getOrderUseCase.findByCustomerId(customerId, pageable);
+            ordersWindow = getOrderUseCase.scrollByCustomerId(customerId, position, size);
         } else if (userId != null && userId > 0) {
-            ordersPage = getOrderUseCase.findByUserId(userId, pageable);
+            ordersWindow = getOrderUseCase.scrollByUserId(userId, position, size);
         } else {
-            ordersPage = getOrderUseCase.findAll(pageable);
+            ordersWindow = getOrderUseCase.scrollAll(position, size);
         }
 
-        Page<OrderWebResponse> webResponsePage = ordersPage.map(orderWebMapper::toWebResponse);
-        return new ResponseEntity<>(PageResponse.fromSpringPage(webResponsePage), HttpStatus.OK);
+        Window<OrderWebResponse> webResponseWindow = ordersWindow.map(orderWebMapper::toWebResponse);
+        return new ResponseEntity<>(CursorPageResponse.fromSpringWindow(webResponseWindow, OrderCursorCodec::encode), HttpStatus.OK);
     }
 
     @PutMapping("change-customer/{id}")
-    public ResponseEntity<OrderWebResponse> changeCustomer(@PathVariable Long id, @Valid @RequestBody OrderUpdateWebRequest orderupdateWebRequest) {
-        OrderUpdateCommand orderUpdateCommand = orderWebMapper.toUpdateCommand(orderupdateWebRequest);
+    public ResponseEntity<OrderWebResponse> changeCustomer(@PathVariable Long id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                           @Valid @RequestBody OrderUpdateWebRequest orderupdateWebRequest) {
+        OrderUpdateCommand orderUpdateCommand = orderWebMapper.toUpdateCommand(orderupdateWebRequest, OrderETag.parseIfMatch(ifMatch));
         OrderResponse orderResponse = updateOrderUseCase.update(id, orderUpdateCommand);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.OK);
+        return toVersionedResponse(orderResponse, HttpStatus.OK);
     }
 
     @PutMapping("add-item/{id}")
-    public ResponseEntity<OrderWebResponse> addOrderItem(@PathVariable Long id, @Valid @RequestBody OrderItemAddToOrderWebRequest orderItemAddToOrderWebRequest) {
-        OrderItemAddToOrderCommand orderItemAddToOrderCommand = orderItemWebMapper.toAddToOrderCommand(orderItemAddToOrderWebRequest);
+    public ResponseEntity<OrderWebResponse> addOrderItem(@PathVariable Long id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @Valid @RequestBody OrderItemAddToOrderWebRequest orderItemAddToOrderWebRequest) {
+        OrderItemAddToOrderCommand orderItemAddToOrderCommand = orderItemWebMapper.toAddToOrderCommand(orderItemAddToOrderWebRequest, OrderETag.parseIfMatch(ifMatch));
         OrderResponse orderResponse = addOrderItemToOrderUseCase.add(id, orderItemAddToOrderCommand);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.OK);
+        return toVersionedResponse(orderResponse, HttpStatus.OK);
     }
 
     @PutMapping("change-status/{id}")
-    public ResponseEntity<OrderWebResponse> changeStatus(@PathVariable Long id, @Valid @RequestBody OrderUpdateStatusWebRequest orderUpdateStatusWebRequest) {
-        OrderUpdateStatusCommand orderUpdateStatusCommand = orderWebMapper.toUpdateStatusCommand(orderUpdateStatusWebRequest);
+    public ResponseEntity<OrderWebResponse> changeStatus(@PathVariable Long id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @Valid @RequestBody OrderUpdateStatusWebRequest orderUpdateStatusWebRequest) {
+        OrderUpdateStatusCommand orderUpdateStatusCommand = orderWebMapper.toUpdateStatusCommand(orderUpdateStatusWebRequest, OrderETag.parseIfMatch(ifMatch));
         OrderResponse orderResponse = changeOrderStatusUseCase.changeStatus(id, orderUpdateStatusCommand);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.OK);
+        return toVersionedResponse(orderResponse, HttpStatus.OK);
     }
 
     @PutMapping("remove-item/{id}")
-    public ResponseEntity<OrderWebResponse> removeOrderItem(@PathVariable Long id, @Valid @RequestBody OrderItemRemoveFromOrderWebRequest orderItemRemoveFromOrderWebRequest) {
-        OrderItemRemoveFromOrderCommand orderItemRemoveFromOrderCommand = orderItemWebMapper.toRemoveFromOrderCommand(orderItemRemoveFromOrderWebRequest);
+    public ResponseEntity<OrderWebResponse> removeOrderItem(@PathVariable Long id,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                            @Valid @RequestBody OrderItemRemoveFromOrderWebRequest orderItemRemoveFromOrderWebRequest) {
+        OrderItemRemoveFromOrderCommand orderItemRemoveFromOrderCommand = orderItemWebMapper.toRemoveFromOrderCommand(orderItemRemoveFromOrderWebRequest, OrderETag.parseIfMatch(ifMatch));
         OrderResponse orderResponse = removeOrderItemFromOrderUseCase.remove(id, orderItemRemoveFromOrderCommand);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.OK);
+        return toVersionedResponse(orderResponse, HttpStatus.OK);
     }
 
     @PutMapping("update-item-quantity/{id}")
-    public ResponseEntity<OrderWebResponse> UpdateOrderItemQuantity(@PathVariable Long id, @Valid @RequestBody OrderItemUpdateQuantityWebRequest orderItemUpdateQuantityWebRequest) {
-        OrderItemUpdateQuantityCommand orderItemUpdateQuantityCommand = orderItemWebMapper.toUpdateQuantityCommand(orderItemUpdateQuantityWebRequest);
+    public ResponseEntity<OrderWebResponse> UpdateOrderItemQuantity(@PathVariable Long id,
+                                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                    @Valid @RequestBody OrderItemUpdateQuantityWebRequest orderItemUpdateQuantityWebRequest) {
+        OrderItemUpdateQuantityCommand orderItemUpdateQuantityCommand = orderItemWebMapper.toUpdateQuantityCommand(orderItemUpdateQuantityWebRequest, OrderETag.parseIfMatch(ifMatch));
         OrderResponse orderResponse = updateOrderItemQuantityUseCase.updateQuantity(id, orderItemUpdateQuantityCommand);
-        return new ResponseEntity<>(orderWebMapper.toWebResponse(orderResponse), HttpStatus.OK);
+        return toVersionedResponse(orderResponse, HttpStatus.OK);
     }
 
     @DeleteMapping("/{id}")
@@ -108,4 +199,16 @@ public class OrderRestController {
         deleteOrderUseCase.deleteById(id);
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    private ResponseEntity<OrderWebResponse> toVersionedResponse(OrderResponse orderResponse, HttpStatus status) {
+        return ResponseEntity.status(status)
+                .eTag(OrderETag.of(orderResponse.getVersion()))
+                .body(orderWebMapper.toWebResponse(orderResponse));
+    }
+
+    private static void checkScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new ModelValidationException("Scroll size must be between 1 and " + MAX_SCROLL_SIZE + ", but was " + size + ".");
+        }
+    }
 }
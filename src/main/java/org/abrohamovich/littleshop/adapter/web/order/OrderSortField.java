@@ -0,0 +1,29 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderSortField {
+    ID("id"),
+    CREATED_AT("createdAt"),
+    TOTAL_PRICE("totalPrice"),
+    ITEM_COUNT("itemCount");
+
+    private final String property;
+
+    public static Sort toSort(String sortBy, String direction) {
+        OrderSortField field = Arrays.stream(values())
+                .filter(candidate -> candidate.property.equalsIgnoreCase(sortBy) || candidate.name().equalsIgnoreCase(sortBy))
+                .findFirst()
+                .orElseThrow(() -> new ModelValidationException("Unsupported sort field '" + sortBy + "'. Supported fields: id, createdAt, totalPrice, itemCount."));
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new ModelValidationException("Unsupported sort direction '" + direction + "'. Supported directions: asc, desc."));
+        return Sort.by(sortDirection, field.property);
+    }
+}
@@ -1,18 +1,19 @@
 package org.abrohamovich.littleshop.adapter.web.order;
 
+import org.abrohamovich.littleshop.adapter.web.MoneyWebMapper;
 import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
 import org.abrohamovich.littleshop.application.dto.order.OrderUpdateCommand;
 import org.abrohamovich.littleshop.application.dto.order.OrderUpdateStatusCommand;
 import org.mapstruct.Mapper;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = MoneyWebMapper.class)
 public interface OrderWebMapper {
     OrderCreateCommand toCreateCommand(OrderCreateWebRequest request);
 
-    OrderUpdateStatusCommand toUpdateStatusCommand(OrderUpdateStatusWebRequest request);
+    OrderUpdateStatusCommand toUpdateStatusCommand(OrderUpdateStatusWebRequest request, Long expectedVersion);
 
-    OrderUpdateCommand toUpdateCommand(OrderUpdateWebRequest request);
+    OrderUpdateCommand toUpdateCommand(OrderUpdateWebRequest request, Long expectedVersion);
 
     OrderWebResponse toWebResponse(OrderResponse response);
 }
@@ -5,6 +5,7 @@ import org.abrohamovich.littleshop.adapter.web.customer.CustomerWebResponse;
 import org.abrohamovich.littleshop.adapter.web.user.UserWebResponse;
 import org.abrohamovich.littleshop.domain.model.OrderStatus;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -19,6 +20,9 @@ public class OrderWebResponse {
     private UserWebResponse user;
     private OrderStatus status;
     private List<OrderItemWebResponse> items;
+    private BigDecimal totalPrice;
+    private int itemCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
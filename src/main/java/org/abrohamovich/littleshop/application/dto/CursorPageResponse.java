@@ -0,0 +1,33 @@
+package org.abrohamovich.littleshop.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> fromSpringWindow(Window<T> window, Function<ScrollPosition, String> cursorEncoder) {
+        CursorPageResponse<T> cursorPageResponse = new CursorPageResponse<>();
+        cursorPageResponse.setContent(window.getContent());
+        cursorPageResponse.setPageSize(window.size());
+        cursorPageResponse.setHasNext(window.hasNext());
+        if (window.hasNext() && !window.isEmpty()) {
+            cursorPageResponse.setNextCursor(cursorEncoder.apply(window.positionAt(window.size() - 1)));
+        }
+        return cursorPageResponse;
+    }
+}
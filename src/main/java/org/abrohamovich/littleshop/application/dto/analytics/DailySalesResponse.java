@@ -0,0 +1,15 @@
+package org.abrohamovich.littleshop.application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.abrohamovich.littleshop.domain.model.Money;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DailySalesResponse {
+    private final LocalDate date;
+    private final long quantity;
+    private final Money revenue;
+}
@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.application.dto.analytics;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesAnalyticsQuery {
+    private LocalDate from;
+    private LocalDate to;
+    private Long categoryId;
+    private Long supplierId;
+    private int limit;
+}
@@ -0,0 +1,14 @@
+package org.abrohamovich.littleshop.application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.abrohamovich.littleshop.domain.model.Money;
+
+@Getter
+@AllArgsConstructor
+public class SalesBreakdownResponse {
+    private final Long id;
+    private final String name;
+    private final long quantity;
+    private final Money revenue;
+}
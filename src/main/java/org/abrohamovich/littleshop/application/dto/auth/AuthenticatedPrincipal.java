@@ -0,0 +1,22 @@
+package org.abrohamovich.littleshop.application.dto.auth;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class AuthenticatedPrincipal {
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
+
+    public static AuthenticatedPrincipal fromUser(User user) {
+        return new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
+}
@@ -0,0 +1,25 @@
+package org.abrohamovich.littleshop.application.dto.auth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class TokenClaims {
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
+    private final Long tokenVersion;
+    private final LocalDateTime expiresAt;
+
+    public boolean hasPrincipalClaims() {
+        return email != null && role != null && tokenVersion != null;
+    }
+
+    public AuthenticatedPrincipal toPrincipal() {
+        return new AuthenticatedPrincipal(userId, email, role);
+    }
+}
@@ -1,6 +1,7 @@
 package org.abrohamovich.littleshop.application.dto.offer;
 
 import lombok.*;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 
 @Getter
@@ -10,7 +11,7 @@ import org.abrohamovich.littleshop.domain.model.OfferType;
 @AllArgsConstructor
 public class OfferCreateCommand {
     private String name;
-    private double price;
+    private Money price;
     private OfferType type;
     private String description;
     private Long categoryId;
@@ -3,6 +3,7 @@ package org.abrohamovich.littleshop.application.dto.offer;
 import lombok.*;
 import org.abrohamovich.littleshop.application.dto.category.CategoryResponse;
 import org.abrohamovich.littleshop.application.dto.supplier.SupplierResponse;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 public class OfferResponse {
     private Long id;
     private String name;
-    private double price;
+    private Money price;
     private OfferType type;
     private String description;
     private CategoryResponse category;
@@ -0,0 +1,37 @@
+package org.abrohamovich.littleshop.application.dto.offer;
+
+import lombok.*;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferSearchCriteria {
+    private String name;
+    private Long categoryId;
+    private Long supplierId;
+    private OfferType type;
+    private Money minPrice;
+    private Money maxPrice;
+
+    public static OfferSearchCriteria any() {
+        return new OfferSearchCriteria();
+    }
+
+    public boolean hasName() {
+        return name != null && !name.isBlank();
+    }
+
+    public void validate() {
+        if ((minPrice != null && minPrice.isNegative()) || (maxPrice != null && maxPrice.isNegative())) {
+            throw new ModelValidationException("Price filters cannot be negative.");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new ModelValidationException("Minimum price cannot be greater than maximum price.");
+        }
+    }
+}
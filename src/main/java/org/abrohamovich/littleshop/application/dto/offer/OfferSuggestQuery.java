@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.application.dto.offer;
+
+import lombok.*;
+import org.abrohamovich.littleshop.domain.model.Money;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferSuggestQuery {
+    private String text;
+    private Long categoryId;
+    private Long supplierId;
+    private Money minPrice;
+    private Money maxPrice;
+    private int limit;
+}
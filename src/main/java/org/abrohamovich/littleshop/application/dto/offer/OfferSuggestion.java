@@ -0,0 +1,17 @@
+package org.abrohamovich.littleshop.application.dto.offer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+
+@Getter
+@AllArgsConstructor
+public class OfferSuggestion {
+    private final Long id;
+    private final String name;
+    private final Money price;
+    private final OfferType type;
+    private final Long categoryId;
+    private final Long supplierId;
+}
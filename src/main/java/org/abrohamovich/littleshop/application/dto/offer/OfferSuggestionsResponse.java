@@ -0,0 +1,20 @@
+package org.abrohamovich.littleshop.application.dto.offer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class OfferSuggestionsResponse {
+    private final List<OfferSuggestion> suggestions;
+    private final int totalMatches;
+    private final Map<Long, Integer> categoryCounts;
+    private final Map<Long, Integer> supplierCounts;
+
+    public static OfferSuggestionsResponse empty() {
+        return new OfferSuggestionsResponse(List.of(), 0, Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,25 @@
+package org.abrohamovich.littleshop.application.dto.order;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkRecordResult {
+    private Long orderId;
+    private String error;
+
+    public static OrderBulkRecordResult created(Long orderId) {
+        return new OrderBulkRecordResult(orderId, null);
+    }
+
+    public static OrderBulkRecordResult failed(String error) {
+        return new OrderBulkRecordResult(null, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.*;
 import org.abrohamovich.littleshop.application.dto.customer.CustomerResponse;
 import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemResponse;
 import org.abrohamovich.littleshop.application.dto.user.UserResponse;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.Order;
 import org.abrohamovich.littleshop.domain.model.OrderStatus;
 
@@ -21,8 +22,11 @@ public class OrderResponse {
     private UserResponse user;
     private OrderStatus status;
     private List<OrderItemResponse> items;
+    private Money totalPrice;
+    private int itemCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static OrderResponse toResponse(Order order) {
         if (order == null) {
@@ -34,12 +38,11 @@ public class OrderResponse {
                 .user(UserResponse.toResponse(order.getUser()))
                 .status(order.getStatus())
                 .items(order.getItems().stream().map(OrderItemResponse::toResponse).toList())
+                .totalPrice(order.getTotalPrice())
+                .itemCount(order.getItemCount())
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
                 .build();
     }
-
-    public double getTotalPrice() {
-        return items.stream().mapToDouble(item -> item.getQuantity() * item.getPriceAtTimeOfOrder()).sum();
-    }
 }
@@ -0,0 +1,30 @@
+package org.abrohamovich.littleshop.application.dto.order;
+
+import lombok.*;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.model.Money;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchCriteria {
+    private Long customerId;
+    private Long userId;
+    private Money minTotal;
+    private Money maxTotal;
+
+    public static OrderSearchCriteria any() {
+        return new OrderSearchCriteria();
+    }
+
+    public void validate() {
+        if ((minTotal != null && minTotal.isNegative()) || (maxTotal != null && maxTotal.isNegative())) {
+            throw new ModelValidationException("Total filters cannot be negative.");
+        }
+        if (minTotal != null && maxTotal != null && minTotal.compareTo(maxTotal) > 0) {
+            throw new ModelValidationException("Minimum total cannot be greater than maximum total.");
+        }
+    }
+}
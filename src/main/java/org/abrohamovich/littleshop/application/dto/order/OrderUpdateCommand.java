@@ -9,4 +9,5 @@ import lombok.*;
 @AllArgsConstructor
 public class OrderUpdateCommand {
     private Long customerId;
+    private Long expectedVersion;
 }
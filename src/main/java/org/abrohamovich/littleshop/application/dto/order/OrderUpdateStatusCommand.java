@@ -10,4 +10,5 @@ import org.abrohamovich.littleshop.domain.model.OrderStatus;
 @AllArgsConstructor
 public class OrderUpdateStatusCommand {
     private OrderStatus status;
+    private Long expectedVersion;
 }
@@ -10,4 +10,5 @@ import lombok.*;
 public class OrderItemAddToOrderCommand {
     private Long offerId;
     private int quantity;
+    private Long expectedVersion;
 }
@@ -9,4 +9,5 @@ import lombok.*;
 @AllArgsConstructor
 public class OrderItemRemoveFromOrderCommand {
     private Long orderItemId;
+    private Long expectedVersion;
 }
@@ -2,6 +2,7 @@ package org.abrohamovich.littleshop.application.dto.orderItem;
 
 import lombok.*;
 import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.OrderItem;
 
 import java.time.LocalDateTime;
@@ -15,7 +16,7 @@ public class OrderItemResponse {
     private Long id;
     private OfferResponse offer;
     private int quantity;
-    private double priceAtTimeOfOrder;
+    private Money priceAtTimeOfOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -10,4 +10,5 @@ import lombok.*;
 public class OrderItemUpdateQuantityCommand {
     private Long orderItemId;
     private int newQuantity;
+    private Long expectedVersion;
 }
@@ -0,0 +1,17 @@
+package org.abrohamovich.littleshop.application.port.in.analytics;
+
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+
+import java.util.List;
+
+public interface GetSalesAnalyticsUseCase {
+    List<DailySalesResponse> dailySales(SalesAnalyticsQuery query);
+
+    List<SalesBreakdownResponse> salesByOffer(SalesAnalyticsQuery query);
+
+    List<SalesBreakdownResponse> salesByCategory(SalesAnalyticsQuery query);
+
+    List<SalesBreakdownResponse> salesByUser(SalesAnalyticsQuery query);
+}
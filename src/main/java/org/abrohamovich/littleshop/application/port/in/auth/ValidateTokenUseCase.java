@@ -1,7 +1,7 @@
 package org.abrohamovich.littleshop.application.port.in.auth;
 
-import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
 
 public interface ValidateTokenUseCase {
-    User validateTokenAndGetUser(String token);
+    AuthenticatedPrincipal validateTokenAndGetUser(String token);
 }
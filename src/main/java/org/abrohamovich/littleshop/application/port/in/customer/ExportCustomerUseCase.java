@@ -0,0 +1,15 @@
+package org.abrohamovich.littleshop.application.port.in.customer;
+
+import org.abrohamovich.littleshop.application.dto.customer.CustomerResponse;
+
+import java.util.function.Consumer;
+
+public interface ExportCustomerUseCase {
+    void exportAll(Consumer<CustomerResponse> consumer);
+
+    void exportByFirstNameLike(String firstName, Consumer<CustomerResponse> consumer);
+
+    void exportByLastNameLike(String lastName, Consumer<CustomerResponse> consumer);
+
+    void exportByEmailLike(String email, Consumer<CustomerResponse> consumer);
+}
@@ -0,0 +1,10 @@
+package org.abrohamovich.littleshop.application.port.in.offer;
+
+import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+
+import java.util.function.Consumer;
+
+public interface ExportOfferUseCase {
+    void export(OfferSearchCriteria criteria, Consumer<OfferResponse> consumer);
+}
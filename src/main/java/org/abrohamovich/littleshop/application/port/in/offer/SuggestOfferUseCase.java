@@ -0,0 +1,8 @@
+package org.abrohamovich.littleshop.application.port.in.offer;
+
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
+
+public interface SuggestOfferUseCase {
+    OfferSuggestionsResponse suggest(OfferSuggestQuery query);
+}
@@ -0,0 +1,10 @@
+package org.abrohamovich.littleshop.application.port.in.order;
+
+import org.abrohamovich.littleshop.application.dto.order.OrderBulkRecordResult;
+import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
+
+import java.util.List;
+
+public interface BulkCreateOrderUseCase {
+    List<OrderBulkRecordResult> saveAll(List<OrderCreateCommand> commands);
+}
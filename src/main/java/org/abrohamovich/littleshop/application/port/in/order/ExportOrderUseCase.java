@@ -0,0 +1,13 @@
+package org.abrohamovich.littleshop.application.port.in.order;
+
+import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+
+import java.util.function.Consumer;
+
+public interface ExportOrderUseCase {
+    void exportAll(Consumer<OrderResponse> consumer);
+
+    void exportByCustomerId(Long customerId, Consumer<OrderResponse> consumer);
+
+    void exportByUserId(Long userId, Consumer<OrderResponse> consumer);
+}
@@ -1,8 +1,11 @@
 package org.abrohamovich.littleshop.application.port.in.order;
 
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 public interface GetOrderUseCase {
     OrderResponse findById(Long id);
@@ -12,4 +15,12 @@ public interface GetOrderUseCase {
     Page<OrderResponse> findByCustomerId(Long customerId, Pageable pageable);
 
     Page<OrderResponse> findByUserId(Long userId, Pageable pageable);
+
+    Page<OrderResponse> search(OrderSearchCriteria criteria, Pageable pageable);
+
+    Window<OrderResponse> scrollAll(KeysetScrollPosition position, int size);
+
+    Window<OrderResponse> scrollByCustomerId(Long customerId, KeysetScrollPosition position, int size);
+
+    Window<OrderResponse> scrollByUserId(Long userId, KeysetScrollPosition position, int size);
 }
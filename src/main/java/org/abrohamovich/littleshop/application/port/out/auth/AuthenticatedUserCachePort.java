@@ -0,0 +1,14 @@
+package org.abrohamovich.littleshop.application.port.out.auth;
+
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AuthenticatedUserCachePort {
+    Optional<AuthenticatedPrincipal> get(String token);
+
+    void put(String token, AuthenticatedPrincipal principal, LocalDateTime expiresAt);
+
+    void evictUser(Long userId);
+}
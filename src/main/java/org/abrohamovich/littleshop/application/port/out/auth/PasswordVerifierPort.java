@@ -0,0 +1,11 @@
+package org.abrohamovich.littleshop.application.port.out.auth;
+
+import java.util.function.Consumer;
+
+public interface PasswordVerifierPort {
+    boolean verify(String rawPassword, String hashedPassword);
+
+    boolean needsRehash(String hashedPassword);
+
+    void rehashInBackground(String rawPassword, Consumer<String> onRehashed);
+}
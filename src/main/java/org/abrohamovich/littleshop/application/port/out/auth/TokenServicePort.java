@@ -1,12 +1,13 @@
 package org.abrohamovich.littleshop.application.port.out.auth;
 
+import org.abrohamovich.littleshop.application.dto.auth.TokenClaims;
 import org.abrohamovich.littleshop.domain.model.AuthenticationToken;
 import org.abrohamovich.littleshop.domain.model.User;
 
+import java.util.Optional;
+
 public interface TokenServicePort {
     AuthenticationToken generateToken(User user);
 
-    Long extractUserIdFromToken(String token);
-
-    boolean isTokenValid(String token);
+    Optional<TokenClaims> parseToken(String token);
 }
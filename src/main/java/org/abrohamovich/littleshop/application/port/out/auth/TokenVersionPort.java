@@ -0,0 +1,9 @@
+package org.abrohamovich.littleshop.application.port.out.auth;
+
+import java.util.Optional;
+
+public interface TokenVersionPort {
+    Optional<Long> currentVersion(Long userId);
+
+    void invalidate(Long userId);
+}
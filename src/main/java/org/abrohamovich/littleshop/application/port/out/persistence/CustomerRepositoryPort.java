@@ -4,13 +4,18 @@ import org.abrohamovich.littleshop.domain.model.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CustomerRepositoryPort {
     Customer save(Customer customer);
 
     Optional<Customer> findById(Long id);
 
+    List<Customer> findAllByIds(Collection<Long> ids);
+
     Optional<Customer> findByEmail(String email);
 
     Optional<Customer> findByPhone(String phone);
@@ -23,5 +28,13 @@ public interface CustomerRepositoryPort {
 
     Page<Customer> findByEmailLike(String email, Pageable pageable);
 
+    void streamAll(Consumer<Customer> consumer);
+
+    void streamByFirstNameLike(String firstName, Consumer<Customer> consumer);
+
+    void streamByLastNameLike(String lastName, Consumer<Customer> consumer);
+
+    void streamByEmailLike(String email, Consumer<Customer> consumer);
+
     void deleteById(Long id);
 }
@@ -1,10 +1,14 @@
 package org.abrohamovich.littleshop.application.port.out.persistence;
 
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OfferRepositoryPort {
     Offer save(Offer offer);
@@ -13,19 +17,13 @@ public interface OfferRepositoryPort {
 
     Optional<Offer> findByName(String name);
 
-    Page<Offer> findAll(Pageable pageable);
+    List<Offer> findAllByIds(Collection<Long> ids);
 
-    Page<Offer> findByNameLike(String name, Pageable pageable);
+    Page<Offer> search(OfferSearchCriteria criteria, Pageable pageable);
 
-    Page<Offer> findByCategoryId(Long categoryId, Pageable pageable);
+    Page<Offer> searchByText(String text, Pageable pageable);
 
-    Page<Offer> findBySupplierId(Long supplierId, Pageable pageable);
-
-    Page<Offer> findByPriceIsGreaterThanEqual(Double price, Pageable pageable);
-
-    Page<Offer> findByPriceIsLessThanEqual(Double price, Pageable pageable);
-
-    Page<Offer> findByPriceIsGreaterThanEqualAndPriceLessThanEqual(Double minPrice, Double maxPrice, Pageable pageable);
+    void streamSearch(OfferSearchCriteria criteria, Consumer<Offer> consumer);
 
     void deleteById(Long id);
 }
@@ -1,15 +1,25 @@
 package org.abrohamovich.littleshop.application.port.out.persistence;
 
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
 import org.abrohamovich.littleshop.domain.model.Order;
 import org.abrohamovich.littleshop.domain.model.OrderStatus;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryPort {
+    String SCROLL_CREATED_AT_KEY = "createdAt";
+    String SCROLL_ID_KEY = "id";
+
     Order save(Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
     Optional<Order> findById(Long id);
 
     Page<Order> findAll(Pageable pageable);
@@ -20,5 +30,19 @@ public interface OrderRepositoryPort {
 
     Page<Order> findByStatus(OrderStatus status, Pageable pageable);
 
+    Page<Order> search(OrderSearchCriteria criteria, Pageable pageable);
+
+    Window<Order> scrollAll(KeysetScrollPosition position, int limit);
+
+    Window<Order> scrollByCustomerId(Long customerId, KeysetScrollPosition position, int limit);
+
+    Window<Order> scrollByUserId(Long userId, KeysetScrollPosition position, int limit);
+
+    void streamAll(Consumer<Order> consumer);
+
+    void streamByCustomerId(Long customerId, Consumer<Order> consumer);
+
+    void streamByUserId(Long userId, Consumer<Order> consumer);
+
     void deleteById(Long id);
 }
@@ -0,0 +1,17 @@
+package org.abrohamovich.littleshop.application.port.out.persistence;
+
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+
+import java.util.List;
+
+public interface SalesAnalyticsRepositoryPort {
+    List<DailySalesResponse> findDailySales(SalesAnalyticsQuery query);
+
+    List<SalesBreakdownResponse> findSalesByOffer(SalesAnalyticsQuery query);
+
+    List<SalesBreakdownResponse> findSalesByCategory(SalesAnalyticsQuery query);
+
+    List<SalesBreakdownResponse> findSalesByUser(SalesAnalyticsQuery query);
+}
@@ -4,6 +4,8 @@ import org.abrohamovich.littleshop.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepositoryPort {
@@ -11,6 +13,8 @@ public interface UserRepositoryPort {
 
     Optional<User> findById(Long id);
 
+    List<User> findAllByIds(Collection<Long> ids);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByPhone(String phone);
@@ -23,5 +27,7 @@ public interface UserRepositoryPort {
 
     Page<User> findByEmailLike(String email, Pageable pageable);
 
+    boolean updatePasswordHash(Long id, String currentHash, String newHash);
+
     void deleteById(Long id);
 }
@@ -0,0 +1,17 @@
+package org.abrohamovich.littleshop.application.port.out.search;
+
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
+import org.abrohamovich.littleshop.domain.model.Offer;
+
+import java.util.function.Consumer;
+
+public interface OfferCatalogIndexPort {
+    void rebuild(Consumer<Consumer<Offer>> source);
+
+    void index(Offer offer);
+
+    void remove(Long offerId);
+
+    OfferSuggestionsResponse suggest(OfferSuggestQuery query);
+}
@@ -0,0 +1,65 @@
+package org.abrohamovich.littleshop.application.usecase.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+import org.abrohamovich.littleshop.application.port.in.analytics.GetSalesAnalyticsUseCase;
+import org.abrohamovich.littleshop.application.port.out.persistence.SalesAnalyticsRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class GetSalesAnalyticsService implements GetSalesAnalyticsUseCase {
+    private static final long MAX_RANGE_DAYS = 366;
+    private static final int MAX_LIMIT = 100;
+
+    private final SalesAnalyticsRepositoryPort salesAnalyticsRepositoryPort;
+
+    @Override
+    public List<DailySalesResponse> dailySales(SalesAnalyticsQuery query) {
+        validateRange(query);
+        return salesAnalyticsRepositoryPort.findDailySales(query);
+    }
+
+    @Override
+    public List<SalesBreakdownResponse> salesByOffer(SalesAnalyticsQuery query) {
+        validateRange(query);
+        validateLimit(query);
+        return salesAnalyticsRepositoryPort.findSalesByOffer(query);
+    }
+
+    @Override
+    public List<SalesBreakdownResponse> salesByCategory(SalesAnalyticsQuery query) {
+        validateRange(query);
+        validateLimit(query);
+        return salesAnalyticsRepositoryPort.findSalesByCategory(query);
+    }
+
+    @Override
+    public List<SalesBreakdownResponse> salesByUser(SalesAnalyticsQuery query) {
+        validateRange(query);
+        validateLimit(query);
+        return salesAnalyticsRepositoryPort.findSalesByUser(query);
+    }
+
+    private void validateRange(SalesAnalyticsQuery query) {
+        if (query.getFrom() == null || query.getTo() == null) {
+            throw new ModelValidationException("Both 'from' and 'to' dates are required.");
+        }
+        if (query.getFrom().isAfter(query.getTo())) {
+            throw new ModelValidationException("'from' date cannot be after 'to' date.");
+        }
+        if (ChronoUnit.DAYS.between(query.getFrom(), query.getTo()) >= MAX_RANGE_DAYS) {
+            throw new ModelValidationException("Date range cannot exceed " + MAX_RANGE_DAYS + " days.");
+        }
+    }
+
+    private void validateLimit(SalesAnalyticsQuery query) {
+        if (query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new ModelValidationException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+    }
+}
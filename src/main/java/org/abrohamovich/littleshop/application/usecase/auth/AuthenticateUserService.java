@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.dto.auth.AuthenticationResponse;
 import org.abrohamovich.littleshop.application.dto.auth.LoginCommand;
 import org.abrohamovich.littleshop.application.port.in.auth.AuthenticateUseCase;
+import org.abrohamovich.littleshop.application.port.out.auth.PasswordVerifierPort;
 import org.abrohamovich.littleshop.application.port.out.auth.TokenServicePort;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.auth.AuthenticationException;
@@ -18,15 +19,21 @@ import java.time.LocalDateTime;
 public class AuthenticateUserService implements AuthenticateUseCase {
     private final UserRepositoryPort userRepositoryPort;
     private final TokenServicePort tokenServicePort;
+    private final PasswordVerifierPort passwordVerifierPort;
 
     @Override
     public AuthenticationResponse authenticate(LoginCommand command) {
         User user = userRepositoryPort.findByEmail(command.getEmail())
                 .orElseThrow(() -> new AuthenticationException("Invalid email"));
 
-        if (!user.checkPassword(command.getPassword())) {
+        if (!passwordVerifierPort.verify(command.getPassword(), user.getPassword())) {
             throw new AuthenticationException("Invalid password");
         }
+        if (passwordVerifierPort.needsRehash(user.getPassword())) {
+            String currentHash = user.getPassword();
+            passwordVerifierPort.rehashInBackground(command.getPassword(),
+                    newHash -> userRepositoryPort.updatePasswordHash(user.getId(), currentHash, newHash));
+        }
 
         AuthenticationToken token = tokenServicePort.generateToken(user);
 
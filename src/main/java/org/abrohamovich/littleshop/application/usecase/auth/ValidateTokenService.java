@@ -1,8 +1,12 @@
 package org.abrohamovich.littleshop.application.usecase.auth;
 
 import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
+import org.abrohamovich.littleshop.application.dto.auth.TokenClaims;
 import org.abrohamovich.littleshop.application.port.in.auth.ValidateTokenUseCase;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
 import org.abrohamovich.littleshop.application.port.out.auth.TokenServicePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.auth.AuthenticationException;
 import org.abrohamovich.littleshop.domain.model.User;
@@ -11,15 +15,44 @@ import org.abrohamovich.littleshop.domain.model.User;
 public class ValidateTokenService implements ValidateTokenUseCase {
     private final TokenServicePort tokenService;
     private final UserRepositoryPort userRepository;
+    private final AuthenticatedUserCachePort authenticatedUserCache;
+    private final TokenVersionPort tokenVersions;
+    private final boolean stateless;
 
     @Override
-    public User validateTokenAndGetUser(String token) {
-        if (!tokenService.isTokenValid(token)) {
-            throw new AuthenticationException("Invalid or expired token");
+    public AuthenticatedPrincipal validateTokenAndGetUser(String token) {
+        if (stateless) {
+            return authenticateFromClaims(token);
         }
+        return authenticatedUserCache.get(token)
+                .orElseGet(() -> loadPrincipal(token, parse(token)));
+    }
+
+    private AuthenticatedPrincipal authenticateFromClaims(String token) {
+        TokenClaims claims = parse(token);
+        if (!claims.hasPrincipalClaims()) {
+            return authenticatedUserCache.get(token)
+                    .orElseGet(() -> loadPrincipal(token, claims));
+        }
+
+        Long currentVersion = tokenVersions.currentVersion(claims.getUserId())
+                .orElseThrow(() -> new AuthenticationException("User not found"));
+        if (!currentVersion.equals(claims.getTokenVersion())) {
+            throw new AuthenticationException("Token has been revoked");
+        }
+        return claims.toPrincipal();
+    }
+
+    private TokenClaims parse(String token) {
+        return tokenService.parseToken(token)
+                .orElseThrow(() -> new AuthenticationException("Invalid or expired token"));
+    }
 
-        Long userId = tokenService.extractUserIdFromToken(token);
-        return userRepository.findById(userId)
+    private AuthenticatedPrincipal loadPrincipal(String token, TokenClaims claims) {
+        User user = userRepository.findById(claims.getUserId())
                 .orElseThrow(() -> new AuthenticationException("User not found"));
+        AuthenticatedPrincipal principal = AuthenticatedPrincipal.fromUser(user);
+        authenticatedUserCache.put(token, principal, claims.getExpiresAt());
+        return principal;
     }
 }
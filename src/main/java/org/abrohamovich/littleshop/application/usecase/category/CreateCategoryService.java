@@ -5,7 +5,6 @@ import org.abrohamovich.littleshop.application.dto.category.CategoryCreateComman
 import org.abrohamovich.littleshop.application.dto.category.CategoryResponse;
 import org.abrohamovich.littleshop.application.port.in.category.CreateCategoryUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
-import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.model.Category;
 
 @RequiredArgsConstructor
@@ -14,10 +13,6 @@ public class CreateCategoryService implements CreateCategoryUseCase {
 
     @Override
     public CategoryResponse save(CategoryCreateCommand command) {
-        if (categoryRepositoryPort.findByName(command.getName()).isPresent()) {
-            throw new DuplicateEntryException("Category with name '" + command.getName() + "' already exists.");
-        }
-
         Category category = Category.createNew(command.getName(), command.getDescription());
         Category savedCategory = categoryRepositoryPort.save(category);
 
@@ -5,7 +5,6 @@ import org.abrohamovich.littleshop.application.dto.category.CategoryResponse;
 import org.abrohamovich.littleshop.application.dto.category.CategoryUpdateCommand;
 import org.abrohamovich.littleshop.application.port.in.category.UpdateCategoryUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
-import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.category.CategoryNotFoundException;
 import org.abrohamovich.littleshop.domain.model.Category;
 
@@ -18,12 +17,6 @@ public class UpdateCategoryService implements UpdateCategoryUseCase {
         Category existingCategory = categoryRepositoryPort.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException("Category with ID '" + id + "' not found for update."));
 
-        if (!existingCategory.getName().equals(command.getName())) {
-            if (categoryRepositoryPort.findByName(command.getName()).isPresent()) {
-                throw new DuplicateEntryException("Category with name '" + command.getName() + "' already exists.");
-            }
-        }
-
         existingCategory.updateDetails(command.getName(), command.getDescription());
 
         Category updatedCategory = categoryRepositoryPort.save(existingCategory);
@@ -5,7 +5,6 @@ import org.abrohamovich.littleshop.application.dto.customer.CustomerCreateComman
 import org.abrohamovich.littleshop.application.dto.customer.CustomerResponse;
 import org.abrohamovich.littleshop.application.port.in.customer.CreateCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
-import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.model.Customer;
 
 @RequiredArgsConstructor
@@ -14,13 +13,6 @@ public class CreateCustomerService implements CreateCustomerUseCase {
 
     @Override
     public CustomerResponse save(CustomerCreateCommand command) {
-        if (customerRepositoryPort.findByEmail(command.getEmail()).isPresent()) {
-            throw new DuplicateEntryException("Customer with email " + command.getEmail() + " already exists.");
-        }
-        if (customerRepositoryPort.findByPhone(command.getPhone()).isPresent()) {
-            throw new DuplicateEntryException("Customer with phone " + command.getPhone() + " already exists.");
-        }
-
         Customer customer = Customer.createNewCustomer(command.getFirstName(), command.getLastName(),
                 command.getEmail(), command.getPhone(), command.getAddress());
         Customer savedCustomer = customerRepositoryPort.save(customer);
@@ -0,0 +1,33 @@
+package org.abrohamovich.littleshop.application.usecase.customer;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.customer.CustomerResponse;
+import org.abrohamovich.littleshop.application.port.in.customer.ExportCustomerUseCase;
+import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ExportCustomerService implements ExportCustomerUseCase {
+    private final CustomerRepositoryPort customerRepositoryPort;
+
+    @Override
+    public void exportAll(Consumer<CustomerResponse> consumer) {
+        customerRepositoryPort.streamAll(customer -> consumer.accept(CustomerResponse.toResponse(customer)));
+    }
+
+    @Override
+    public void exportByFirstNameLike(String firstName, Consumer<CustomerResponse> consumer) {
+        customerRepositoryPort.streamByFirstNameLike(firstName, customer -> consumer.accept(CustomerResponse.toResponse(customer)));
+    }
+
+    @Override
+    public void exportByLastNameLike(String lastName, Consumer<CustomerResponse> consumer) {
+        customerRepositoryPort.streamByLastNameLike(lastName, customer -> consumer.accept(CustomerResponse.toResponse(customer)));
+    }
+
+    @Override
+    public void exportByEmailLike(String email, Consumer<CustomerResponse> consumer) {
+        customerRepositoryPort.streamByEmailLike(email, customer -> consumer.accept(CustomerResponse.toResponse(customer)));
+    }
+}
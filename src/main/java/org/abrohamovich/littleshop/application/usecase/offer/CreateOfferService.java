@@ -7,6 +7,7 @@ import org.abrohamovich.littleshop.application.port.in.offer.CreateOfferUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.SupplierRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
 import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.category.CategoryNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.supplier.SupplierNotFoundException;
@@ -19,6 +20,7 @@ public class CreateOfferService implements CreateOfferUseCase {
     private final OfferRepositoryPort offerRepositoryPort;
     private final CategoryRepositoryPort categoryRepositoryPort;
     private final SupplierRepositoryPort supplierRepositoryPort;
+    private final OfferCatalogIndexPort offerCatalogIndexPort;
 
     @Override
     public OfferResponse save(OfferCreateCommand command) {
@@ -36,6 +38,7 @@ public class CreateOfferService implements CreateOfferUseCase {
                 command.getDescription(), category, supplier);
 
         Offer savedOffer = offerRepositoryPort.save(offer);
+        offerCatalogIndexPort.index(savedOffer);
 
         return OfferResponse.toResponse(savedOffer);
     }
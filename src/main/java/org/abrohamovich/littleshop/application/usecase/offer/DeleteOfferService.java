@@ -3,11 +3,13 @@ package org.abrohamovich.littleshop.application.usecase.offer;
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.port.in.offer.DeleteOfferUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
 import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
 
 @RequiredArgsConstructor
 public class DeleteOfferService implements DeleteOfferUseCase {
     private final OfferRepositoryPort offerRepositoryPort;
+    private final OfferCatalogIndexPort offerCatalogIndexPort;
 
     @Override
     public void deleteById(Long id) {
@@ -16,5 +18,6 @@ public class DeleteOfferService implements DeleteOfferUseCase {
         }
 
         offerRepositoryPort.deleteById(id);
+        offerCatalogIndexPort.remove(id);
     }
 }
@@ -0,0 +1,20 @@
+package org.abrohamovich.littleshop.application.usecase.offer;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+import org.abrohamovich.littleshop.application.port.in.offer.ExportOfferUseCase;
+import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ExportOfferService implements ExportOfferUseCase {
+    private final OfferRepositoryPort offerRepositoryPort;
+
+    @Override
+    public void export(OfferSearchCriteria criteria, Consumer<OfferResponse> consumer) {
+        criteria.validate();
+        offerRepositoryPort.streamSearch(criteria, offer -> consumer.accept(OfferResponse.toResponse(offer)));
+    }
+}
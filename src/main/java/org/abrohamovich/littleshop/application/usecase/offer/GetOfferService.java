@@ -2,14 +2,18 @@ package org.abrohamovich.littleshop.application.usecase.offer;
 
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
 import org.abrohamovich.littleshop.application.port.in.offer.GetOfferUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
 import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 @RequiredArgsConstructor
 public class GetOfferService implements GetOfferUseCase {
+    private static final int MAX_QUERY_LENGTH = 100;
+
     private final OfferRepositoryPort offerRepositoryPort;
 
     @Override
@@ -20,44 +24,21 @@ public class GetOfferService implements GetOfferUseCase {
     }
 
     @Override
-    public Page<OfferResponse> findAll(Pageable pageable) {
-        return offerRepositoryPort.findAll(pageable)
-                .map(OfferResponse::toResponse);
-    }
-
-    @Override
-    public Page<OfferResponse> findByNameLike(String name, Pageable pageable) {
-        return offerRepositoryPort.findByNameLike(name, pageable)
-                .map(OfferResponse::toResponse);
-    }
-
-    @Override
-    public Page<OfferResponse> findByCategoryId(Long categoryId, Pageable pageable) {
-        return offerRepositoryPort.findByCategoryId(categoryId, pageable)
-                .map(OfferResponse::toResponse);
-    }
-
-    @Override
-    public Page<OfferResponse> findBySupplierId(Long supplierId, Pageable pageable) {
-        return offerRepositoryPort.findBySupplierId(supplierId, pageable)
-                .map(OfferResponse::toResponse);
-    }
-
-    @Override
-    public Page<OfferResponse> findByPriceIsGreaterThanEqual(Double price, Pageable pageable) {
-        return offerRepositoryPort.findByPriceIsGreaterThanEqual(price, pageable)
-                .map(OfferResponse::toResponse);
-    }
-
-    @Override
-    public Page<OfferResponse> findByPriceIsLessThanEqual(Double price, Pageable pageable) {
-        return offerRepositoryPort.findByPriceIsLessThanEqual(price, pageable)
+    public Page<OfferResponse> search(OfferSearchCriteria criteria, Pageable pageable) {
+        criteria.validate();
+        return offerRepositoryPort.search(criteria, pageable)
                 .map(OfferResponse::toResponse);
     }
 
     @Override
-    public Page<OfferResponse> findByPriceIsGreaterThanEqualAndPriceLessThanEqual(Double minPrice, Double maxPrice, Pageable pageable) {
-        return offerRepositoryPort.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable)
+    public Page<OfferResponse> searchByText(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new ModelValidationException("Search query cannot be blank.");
+        }
+        if (query.trim().length() > MAX_QUERY_LENGTH) {
+            throw new ModelValidationException("Search query cannot be longer than " + MAX_QUERY_LENGTH + " characters.");
+        }
+        return offerRepositoryPort.searchByText(query, pageable)
                 .map(OfferResponse::toResponse);
     }
 }
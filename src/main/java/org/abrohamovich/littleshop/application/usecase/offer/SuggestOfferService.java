@@ -0,0 +1,33 @@
+package org.abrohamovich.littleshop.application.usecase.offer;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
+import org.abrohamovich.littleshop.application.port.in.offer.SuggestOfferUseCase;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+
+@RequiredArgsConstructor
+public class SuggestOfferService implements SuggestOfferUseCase {
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_TEXT_LENGTH = 100;
+
+    private final OfferCatalogIndexPort offerCatalogIndexPort;
+
+    @Override
+    public OfferSuggestionsResponse suggest(OfferSuggestQuery query) {
+        if (query.getText() == null || query.getText().isBlank()) {
+            throw new ModelValidationException("Suggestion text cannot be blank.");
+        }
+        if (query.getText().length() > MAX_TEXT_LENGTH) {
+            throw new ModelValidationException("Suggestion text cannot be longer than " + MAX_TEXT_LENGTH + " characters.");
+        }
+        if (query.getLimit() < 1 || query.getLimit() > MAX_LIMIT) {
+            throw new ModelValidationException("Suggestion limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        if (query.getMinPrice() != null && query.getMaxPrice() != null && query.getMinPrice().compareTo(query.getMaxPrice()) > 0) {
+            throw new ModelValidationException("Minimum price cannot be greater than maximum price.");
+        }
+        return offerCatalogIndexPort.suggest(query);
+    }
+}
@@ -7,6 +7,7 @@ import org.abrohamovich.littleshop.application.port.in.offer.UpdateOfferUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.SupplierRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
 import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.category.CategoryNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
@@ -20,6 +21,7 @@ public class UpdateOfferService implements UpdateOfferUseCase {
     private final OfferRepositoryPort offerRepositoryPort;
     private final CategoryRepositoryPort categoryRepositoryPort;
     private final SupplierRepositoryPort supplierRepositoryPort;
+    private final OfferCatalogIndexPort offerCatalogIndexPort;
 
     @Override
     public OfferResponse update(Long id, OfferUpdateCommand command) {
@@ -42,6 +44,7 @@ public class UpdateOfferService implements UpdateOfferUseCase {
                 command.getDescription(), category, supplier);
 
         Offer updatedOffer = offerRepositoryPort.save(existingOffer);
+        offerCatalogIndexPort.index(updatedOffer);
 
         return OfferResponse.toResponse(updatedOffer);
     }
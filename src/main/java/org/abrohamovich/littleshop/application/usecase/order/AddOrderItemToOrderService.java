@@ -18,14 +18,17 @@ public class AddOrderItemToOrderService implements AddOrderItemToOrderUseCase {
 
     @Override
     public OrderResponse add(Long orderId, OrderItemAddToOrderCommand command) {
-        Order order = orderRepositoryPort.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + orderId + "' not found."));
-        Offer offer = offerRepositoryPort.findById(command.getOfferId())
-                .orElseThrow(() -> new OfferNotFoundException("Offer with ID '" + command.getOfferId() + "' not found."));
+        return OrderConcurrency.retrying(command.getExpectedVersion(), () -> {
+            Order order = orderRepositoryPort.findById(orderId)
+                    .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + orderId + "' not found."));
+            OrderConcurrency.checkExpectedVersion(order, command.getExpectedVersion());
+            Offer offer = offerRepositoryPort.findById(command.getOfferId())
+                    .orElseThrow(() -> new OfferNotFoundException("Offer with ID '" + command.getOfferId() + "' not found."));
 
-        order.addOrderItem(offer, command.getQuantity());
-        Order savedOrder = orderRepositoryPort.save(order);
+            order.addOrderItem(offer, command.getQuantity());
+            Order savedOrder = orderRepositoryPort.save(order);
 
-        return OrderResponse.toResponse(savedOrder);
+            return OrderResponse.toResponse(savedOrder);
+        });
     }
 }
@@ -0,0 +1,117 @@
+package org.abrohamovich.littleshop.application.usecase.order;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.order.OrderBulkRecordResult;
+import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
+import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemCreateCommand;
+import org.abrohamovich.littleshop.application.port.in.order.BulkCreateOrderUseCase;
+import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.ModelNotFoundException;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.exception.customer.CustomerNotFoundException;
+import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
+import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
+import org.abrohamovich.littleshop.domain.model.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BulkCreateOrderService implements BulkCreateOrderUseCase {
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final OfferRepositoryPort offerRepositoryPort;
+    private final CustomerRepositoryPort customerRepositoryPort;
+    private final UserRepositoryPort userRepositoryPort;
+
+    @Override
+    public List<OrderBulkRecordResult> saveAll(List<OrderCreateCommand> commands) {
+        Map<Long, Offer> offersById = offerRepositoryPort.findAllByIds(collectIds(commands.stream()
+                        .flatMap(command -> getItems(command).stream())
+                        .map(OrderItemCreateCommand::getOfferId))).stream()
+                .collect(Collectors.toMap(Offer::getId, Function.identity()));
+        Map<Long, Customer> customersById = customerRepositoryPort.findAllByIds(collectIds(commands.stream()
+                        .map(OrderCreateCommand::getCustomerId))).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        Map<Long, User> usersById = userRepositoryPort.findAllByIds(collectIds(commands.stream()
+                        .map(OrderCreateCommand::getUserId))).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        OrderBulkRecordResult[] results = new OrderBulkRecordResult[commands.size()];
+        List<Integer> validPositions = new ArrayList<>();
+        List<Order> validOrders = new ArrayList<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                validOrders.add(toOrder(commands.get(i), offersById, customersById, usersById));
+                validPositions.add(i);
+            } catch (ModelNotFoundException | ModelValidationException | IllegalArgumentException e) {
+                results[i] = OrderBulkRecordResult.failed(e.getMessage());
+            }
+        }
+
+        if (!validOrders.isEmpty()) {
+            try {
+                List<Order> savedOrders = orderRepositoryPort.saveAll(validOrders);
+                for (int i = 0; i < savedOrders.size(); i++) {
+                    results[validPositions.get(i)] = OrderBulkRecordResult.created(savedOrders.get(i).getId());
+                }
+            } catch (DataPersistenceException e) {
+                for (int i = 0; i < validOrders.size(); i++) {
+                    results[validPositions.get(i)] = saveOne(validOrders.get(i));
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private OrderBulkRecordResult saveOne(Order order) {
+        try {
+            return OrderBulkRecordResult.created(orderRepositoryPort.save(order).getId());
+        } catch (DataPersistenceException | ModelValidationException e) {
+            return OrderBulkRecordResult.failed(e.getMessage());
+        }
+    }
+
+    private Order toOrder(OrderCreateCommand command, Map<Long, Offer> offersById,
+                          Map<Long, Customer> customersById, Map<Long, User> usersById) {
+        Customer customer = Optional.ofNullable(command.getCustomerId())
+                .map(customersById::get)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer with ID '" + command.getCustomerId() + "' not found."));
+        User user = Optional.ofNullable(command.getUserId())
+                .map(usersById::get)
+                .orElseThrow(() -> new UserNotFoundException("User with ID '" + command.getUserId() + "' not found."));
+
+        List<Long> missingOfferIds = getItems(command).stream()
+                .map(OrderItemCreateCommand::getOfferId)
+                .filter(offerId -> offerId == null || !offersById.containsKey(offerId))
+                .distinct()
+                .toList();
+        if (!missingOfferIds.isEmpty()) {
+            throw new OfferNotFoundException("Offers with IDs " + missingOfferIds + " not found.");
+        }
+
+        List<OrderItem> items = getItems(command).stream()
+                .map(itemCommand -> OrderItem.createNew(offersById.get(itemCommand.getOfferId()), itemCommand.getQuantity()))
+                .toList();
+
+        return Order.createNew(customer, user, items);
+    }
+
+    private List<OrderItemCreateCommand> getItems(OrderCreateCommand command) {
+        return command.getItems() == null ? List.of() : command.getItems().stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Set<Long> collectIds(Stream<Long> ids) {
+        return ids.filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
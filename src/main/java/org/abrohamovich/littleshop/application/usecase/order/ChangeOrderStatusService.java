@@ -14,12 +14,15 @@ public class ChangeOrderStatusService implements ChangeOrderStatusUseCase {
 
     @Override
     public OrderResponse changeStatus(Long orderId, OrderUpdateStatusCommand command) {
-        Order order = orderRepositoryPort.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + orderId + "' not found."));
+        return OrderConcurrency.once(command.getExpectedVersion(), () -> {
+            Order order = orderRepositoryPort.findById(orderId)
+                    .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + orderId + "' not found."));
+            OrderConcurrency.checkExpectedVersion(order, command.getExpectedVersion());
 
-        order.changeStatus(command.getStatus());
-        Order savedOrder = orderRepositoryPort.save(order);
+            order.changeStatus(command.getStatus());
+            Order savedOrder = orderRepositoryPort.save(order);
 
-        return OrderResponse.toResponse(savedOrder);
+            return OrderResponse.toResponse(savedOrder);
+        });
     }
 }
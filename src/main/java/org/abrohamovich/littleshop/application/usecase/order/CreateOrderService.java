@@ -3,6 +3,7 @@ package org.abrohamovich.littleshop.application.usecase.order;
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemCreateCommand;
 import org.abrohamovich.littleshop.application.port.in.order.CreateOrderUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
@@ -13,7 +14,9 @@ import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException
 import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
 import org.abrohamovich.littleshop.domain.model.*;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class CreateOrderService implements CreateOrderUseCase {
@@ -24,12 +27,22 @@ public class CreateOrderService implements CreateOrderUseCase {
 
     @Override
     public OrderResponse save(OrderCreateCommand command) {
+        Set<Long> offerIds = command.getItems().stream()
+                .map(OrderItemCreateCommand::getOfferId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Offer> offersById = offerRepositoryPort.findAllByIds(offerIds).stream()
+                .collect(Collectors.toMap(Offer::getId, Function.identity()));
+
+        List<Long> missingOfferIds = offerIds.stream()
+                .filter(offerId -> !offersById.containsKey(offerId))
+                .toList();
+        if (!missingOfferIds.isEmpty()) {
+            throw new OfferNotFoundException("Offers with IDs " + missingOfferIds + " not found.");
+        }
+
         List<OrderItem> items = command.getItems().stream()
-                .map(orderCommand -> {
-                    Offer offer = offerRepositoryPort.findById(orderCommand.getOfferId())
-                            .orElseThrow(() -> new OfferNotFoundException("Offer with ID '" + orderCommand.getOfferId() + "' not found."));
-                    return OrderItem.createNew(offer, orderCommand.getQuantity());
-                }).toList();
+                .map(orderCommand -> OrderItem.createNew(offersById.get(orderCommand.getOfferId()), orderCommand.getQuantity()))
+                .toList();
 
         Customer customer = customerRepositoryPort.findById(command.getCustomerId())
                 .orElseThrow(() -> new CustomerNotFoundException("Customer with ID '" + command.getCustomerId() + "' not found."));
@@ -0,0 +1,28 @@
+package org.abrohamovich.littleshop.application.usecase.order;
+
+import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.application.port.in.order.ExportOrderUseCase;
+import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ExportOrderService implements ExportOrderUseCase {
+    private final OrderRepositoryPort orderRepositoryPort;
+
+    @Override
+    public void exportAll(Consumer<OrderResponse> consumer) {
+        orderRepositoryPort.streamAll(order -> consumer.accept(OrderResponse.toResponse(order)));
+    }
+
+    @Override
+    public void exportByCustomerId(Long customerId, Consumer<OrderResponse> consumer) {
+        orderRepositoryPort.streamByCustomerId(customerId, order -> consumer.accept(OrderResponse.toResponse(order)));
+    }
+
+    @Override
+    public void exportByUserId(Long userId, Consumer<OrderResponse> consumer) {
+        orderRepositoryPort.streamByUserId(userId, order -> consumer.accept(OrderResponse.toResponse(order)));
+    }
+}
@@ -2,11 +2,14 @@ package org.abrohamovich.littleshop.application.usecase.order;
 
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
 import org.abrohamovich.littleshop.application.port.in.order.GetOrderUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.order.OrderNotFoundException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 @RequiredArgsConstructor
 public class GetOrderService implements GetOrderUseCase {
@@ -36,4 +39,29 @@ public class GetOrderService implements GetOrderUseCase {
         return orderRepositoryPort.findByUserId(userId, pageable)
                 .map(OrderResponse::toResponse);
     }
-}
+
+    @Override
+    public Page<OrderResponse> search(OrderSearchCriteria criteria, Pageable pageable) {
+        criteria.validate();
+        return orderRepositoryPort.search(criteria, pageable)
+                .map(OrderResponse::toResponse);
+    }
+
+    @Override
+    public Window<OrderResponse> scrollAll(KeysetScrollPosition position, int size) {
+        return orderRepositoryPort.scrollAll(position, size)
+                .map(OrderResponse::toResponse);
+    }
+
+    @Override
+    public Window<OrderResponse> scrollByCustomerId(Long customerId, KeysetScrollPosition position, int size) {
+        return orderRepositoryPort.scrollByCustomerId(customerId, position, size)
+                .map(OrderResponse::toResponse);
+    }
+
+    @Override
+    public Window<OrderResponse> scrollByUserId(Long userId, KeysetScrollPosition position, int size) {
+        return orderRepositoryPort.scrollByUserId(userId, position, size)
+                .map(OrderResponse::toResponse);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package org.abrohamovich.littleshop.application.usecase.order;
+
+import org.abrohamovich.littleshop.domain.exception.PreconditionFailedException;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
+import org.abrohamovich.littleshop.domain.model.Order;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+final class OrderConcurrency {
+    static final int MAX_ATTEMPTS = 5;
+    private static final long BACKOFF_STEP_MILLIS = 5;
+
+    private OrderConcurrency() {
+    }
+
+    static <T> T retrying(Long expectedVersion, Supplier<T> operation) {
+        return run(expectedVersion, MAX_ATTEMPTS, operation);
+    }
+
+    static <T> T once(Long expectedVersion, Supplier<T> operation) {
+        return run(expectedVersion, 1, operation);
+    }
+
+    static void checkExpectedVersion(Order order, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            throw new PreconditionFailedException("Order with ID '" + order.getId() + "' is at version "
+                    + order.getVersion() + ", but version " + expectedVersion + " was expected.");
+        }
+    }
+
+    private static <T> T run(Long expectedVersion, int maxAttempts, Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (PreconditionFailedException e) {
+                throw e;
+            } catch (VersionConflictException e) {
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException("Order was modified after version " + expectedVersion + " was read.", e);
+                }
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, BACKOFF_STEP_MILLIS * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VersionConflictException("Interrupted while retrying a concurrent order update.", e);
+        }
+    }
+}
@@ -14,12 +14,15 @@ public class RemoveOrderItemFromOrderService implements RemoveOrderItemFromOrder
 
     @Override
     public OrderResponse remove(Long id, OrderItemRemoveFromOrderCommand command) {
-        Order order = orderRepositoryPort.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + id + "' not found."));
+        return OrderConcurrency.retrying(command.getExpectedVersion(), () -> {
+            Order order = orderRepositoryPort.findById(id)
+                    .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + id + "' not found."));
+            OrderConcurrency.checkExpectedVersion(order, command.getExpectedVersion());
 
-        order.removeOrderItem(command.getOrderItemId());
-        Order savedOrder = orderRepositoryPort.save(order);
+            order.removeOrderItem(command.getOrderItemId());
+            Order savedOrder = orderRepositoryPort.save(order);
 
-        return OrderResponse.toResponse(savedOrder);
+            return OrderResponse.toResponse(savedOrder);
+        });
     }
 }
@@ -14,12 +14,15 @@ public class UpdateOrderItemQuantityService implements UpdateOrderItemQuantityUs
 
     @Override
     public OrderResponse updateQuantity(Long id, OrderItemUpdateQuantityCommand command) {
-        Order order = orderRepositoryPort.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + id + "' not found."));
+        return OrderConcurrency.retrying(command.getExpectedVersion(), () -> {
+            Order order = orderRepositoryPort.findById(id)
+                    .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + id + "' not found."));
+            OrderConcurrency.checkExpectedVersion(order, command.getExpectedVersion());
 
-        order.updateOrderItemQuantity(command.getOrderItemId(), command.getNewQuantity());
-        Order savedOrder = orderRepositoryPort.save(order);
+            order.updateOrderItemQuantity(command.getOrderItemId(), command.getNewQuantity());
+            Order savedOrder = orderRepositoryPort.save(order);
 
-        return OrderResponse.toResponse(savedOrder);
+            return OrderResponse.toResponse(savedOrder);
+        });
     }
 }
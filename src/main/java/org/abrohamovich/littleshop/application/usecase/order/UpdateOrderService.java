@@ -18,14 +18,17 @@ public class UpdateOrderService implements UpdateOrderUseCase {
 
     @Override
     public OrderResponse update(Long orderId, OrderUpdateCommand command) {
-        Order order = orderRepositoryPort.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + orderId + "' not found for update."));
-        Customer customer = customerRepositoryPort.findById(command.getCustomerId())
-                .orElseThrow(() -> new CustomerNotFoundException("Customer with ID '" + command.getCustomerId() + "' not found."));
+        return OrderConcurrency.once(command.getExpectedVersion(), () -> {
+            Order order = orderRepositoryPort.findById(orderId)
+                    .orElseThrow(() -> new OrderNotFoundException("Order with ID '" + orderId + "' not found for update."));
+            OrderConcurrency.checkExpectedVersion(order, command.getExpectedVersion());
+            Customer customer = customerRepositoryPort.findById(command.getCustomerId())
+                    .orElseThrow(() -> new CustomerNotFoundException("Customer with ID '" + command.getCustomerId() + "' not found."));
 
-        order.updateDetails(customer);
-        Order savedOrder = orderRepositoryPort.save(order);
+            order.updateDetails(customer);
+            Order savedOrder = orderRepositoryPort.save(order);
 
-        return OrderResponse.toResponse(savedOrder);
+            return OrderResponse.toResponse(savedOrder);
+        });
     }
 }
@@ -5,7 +5,6 @@ import org.abrohamovich.littleshop.application.dto.supplier.SupplierResponse;
 import org.abrohamovich.littleshop.application.dto.supplier.SupplierUpdateCommand;
 import org.abrohamovich.littleshop.application.port.in.supplier.UpdateSupplierUseCase;
 import org.abrohamovich.littleshop.application.port.out.persistence.SupplierRepositoryPort;
-import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.supplier.SupplierNotFoundException;
 import org.abrohamovich.littleshop.domain.model.Supplier;
 
@@ -18,22 +17,6 @@ public class UpdateSupplierService implements UpdateSupplierUseCase {
         Supplier existingSupplier = supplierRepositoryPort.findById(id)
                 .orElseThrow(() -> new SupplierNotFoundException("Supplier with ID '" + id + "' not found for update."));
 
-        if (!existingSupplier.getName().equals(command.getName())) {
-            if (supplierRepositoryPort.findByName(command.getName()).isPresent()) {
-                throw new DuplicateEntryException("Supplier with name '" + command.getName() + "' already exists.");
-            }
-        }
-        if (!existingSupplier.getEmail().equals(command.getEmail())) {
-            if (supplierRepositoryPort.findByEmail(command.getEmail()).isPresent()) {
-                throw new DuplicateEntryException("Supplier with email '" + command.getEmail() + "' already exists.");
-            }
-        }
-        if (!existingSupplier.getPhone().equals(command.getPhone())) {
-            if (supplierRepositoryPort.findByPhone(command.getPhone()).isPresent()) {
-                throw new DuplicateEntryException("Supplier with phone '" + command.getPhone() + "' already exists.");
-            }
-        }
-
         existingSupplier.updateDetails(command.getName(), command.getEmail(),
                 command.getPhone(), command.getAddress(), command.getDescription());
 
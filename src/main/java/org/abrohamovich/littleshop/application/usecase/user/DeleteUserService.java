@@ -2,12 +2,16 @@ package org.abrohamovich.littleshop.application.usecase.user;
 
 import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.port.in.user.DeleteUserUseCase;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
 
 @RequiredArgsConstructor
 public class DeleteUserService implements DeleteUserUseCase {
     private final UserRepositoryPort userRepositoryPort;
+    private final AuthenticatedUserCachePort authenticatedUserCachePort;
+    private final TokenVersionPort tokenVersionPort;
 
     @Override
     public void deleteById(Long id) {
@@ -16,5 +20,7 @@ public class DeleteUserService implements DeleteUserUseCase {
         }
 
         userRepositoryPort.deleteById(id);
+        authenticatedUserCachePort.evictUser(id);
+        tokenVersionPort.invalidate(id);
     }
 }
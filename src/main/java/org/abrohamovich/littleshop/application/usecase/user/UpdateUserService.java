@@ -4,35 +4,31 @@ import lombok.RequiredArgsConstructor;
 import org.abrohamovich.littleshop.application.dto.user.UserResponse;
 import org.abrohamovich.littleshop.application.dto.user.UserUpdateCommand;
 import org.abrohamovich.littleshop.application.port.in.user.UpdateUserUseCase;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
-import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
 import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.util.PasswordHasher;
 
 @RequiredArgsConstructor
 public class UpdateUserService implements UpdateUserUseCase {
     private final UserRepositoryPort userRepositoryPort;
+    private final AuthenticatedUserCachePort authenticatedUserCachePort;
+    private final TokenVersionPort tokenVersionPort;
+    private final PasswordHasher passwordHasher;
 
     @Override
     public UserResponse update(Long id, UserUpdateCommand command) {
         User existingUser = userRepositoryPort.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User with ID '" + id + "' not found for update."));
 
-        if (!existingUser.getEmail().equals(command.getEmail())) {
-            if (userRepositoryPort.findByEmail(command.getEmail()).isPresent()) {
-                throw new DuplicateEntryException("User with email '" + command.getEmail() + "' already exists.");
-            }
-        }
-        if (!existingUser.getPhone().equals(command.getPhone())) {
-            if (userRepositoryPort.findByPhone(command.getPhone()).isPresent()) {
-                throw new DuplicateEntryException("User with phone '" + command.getPhone() + "' already exists.");
-            }
-        }
-
         existingUser.updateDetails(command.getFirstName(), command.getLastName(),
-                command.getEmail(), command.getPassword(), command.getRole(), command.getPhone());
+                command.getEmail(), command.getPassword(), command.getRole(), command.getPhone(), passwordHasher);
 
         User updatedUser = userRepositoryPort.save(existingUser);
+        authenticatedUserCachePort.evictUser(id);
+        tokenVersionPort.invalidate(id);
 
         return UserResponse.toResponse(updatedUser);
     }
@@ -0,0 +1,11 @@
+package org.abrohamovich.littleshop.domain.exception;
+
+public class PreconditionFailedException extends VersionConflictException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package org.abrohamovich.littleshop.domain.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -16,14 +16,16 @@ public class Offer {
     private final Long id;
     private final LocalDateTime createdAt;
     private String name;
-    private double price;
+    private Money price;
     private OfferType type;
     private String description;
     private Category category;
     private Supplier supplier;
     private LocalDateTime updatedAt;
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
-    private Offer(Long id, String name, double price, OfferType type, String description, Category category,
+    private Offer(Long id, String name, Money price, OfferType type, String description, Category category,
                   Supplier supplier, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
@@ -38,7 +40,7 @@ public class Offer {
         validateSelf();
     }
 
-    private Offer(Long id, String name, double price, OfferType type, String description,
+    private Offer(Long id, String name, Money price, OfferType type, String description,
                   LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
@@ -49,12 +51,12 @@ public class Offer {
         this.updatedAt = updatedAt;
     }
 
-    public static Offer createNew(String name, double price, OfferType type,
+    public static Offer createNew(String name, Money price, OfferType type,
                                   String description, Category category, Supplier supplier) {
         return new Offer(null, name, price, type, description, category, supplier, LocalDateTime.now(), LocalDateTime.now());
     }
 
-    public static Offer withId(Long id, String name, double price, OfferType type, String description, Category category,
+    public static Offer withId(Long id, String name, Money price, OfferType type, String description, Category category,
                                Supplier supplier, LocalDateTime createdAt, LocalDateTime updatedAt) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null for existing Offer");
@@ -62,12 +64,19 @@ public class Offer {
         return new Offer(id, name, price, type, description, category, supplier, createdAt, updatedAt);
     }
 
-    public static Offer createForPersistenceHydration(Long id, String name, double price, OfferType type,
+    public static Offer withId(Long id, String name, Money price, OfferType type, String description, Category category,
+                               Supplier supplier, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        Offer offer = withId(id, name, price, type, description, category, supplier, createdAt, updatedAt);
+        offer.version = version;
+        return offer;
+    }
+
+    public static Offer createForPersistenceHydration(Long id, String name, Money price, OfferType type,
                                                       String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
         return new Offer(id, name, price, type, description, createdAt, updatedAt);
     }
 
-    public void updateDetails(String name, double price, OfferType type, String description,
+    public void updateDetails(String name, Money price, OfferType type, String description,
                               Category category, Supplier supplier) {
         this.name = name;
         this.price = price;
@@ -86,7 +95,7 @@ public class Offer {
         if (name == null || name.isBlank()) {
             errors.add("name cannot be null or empty");
         }
-        if (price <= 0) {
+        if (price == null || !price.isPositive()) {
             errors.add("price must be positive");
         }
         if (type == null) {
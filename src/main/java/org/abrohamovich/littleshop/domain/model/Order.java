@@ -22,7 +22,11 @@ public class Order {
     private Customer customer;
     private User user;
     private OrderStatus status;
+    private Money totalPrice = Money.ZERO;
+    private int itemCount;
     private LocalDateTime updatedAt;
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
     private Order(Long id, Customer customer, User user, OrderStatus status,
                   List<OrderItem> items, LocalDateTime createdAt, LocalDateTime updatedAt) {
@@ -35,6 +39,7 @@ public class Order {
         this.updatedAt = updatedAt;
 
         validateSelf();
+        recalculateTotals();
     }
 
     private Order(Long id, LocalDateTime createdAt, OrderStatus status, LocalDateTime updatedAt) {
@@ -58,6 +63,13 @@ public class Order {
         return new Order(id, customer, user, status, items, createdAt, updatedAt);
     }
 
+    public static Order withId(Long id, Customer customer, User user, OrderStatus status,
+                               List<OrderItem> items, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        Order order = withId(id, customer, user, status, items, createdAt, updatedAt);
+        order.version = version;
+        return order;
+    }
+
     public static Order createForPersistenceHydration(Long id, LocalDateTime createdAt,
                                                       OrderStatus status, LocalDateTime updatedAt) {
         return new Order(id, createdAt, status, updatedAt);
@@ -73,6 +85,8 @@ public class Order {
     public void addOrderItem(Offer offer, int quantity) {
         OrderItem newItem = OrderItem.createNew(offer, quantity);
         this.items.add(newItem);
+        this.totalPrice = totalPrice.plus(newItem.subtotal());
+        this.itemCount++;
         this.updatedAt = LocalDateTime.now();
         validateSelf();
     }
@@ -83,16 +97,22 @@ public class Order {
                 .findFirst()
                 .orElseThrow(() -> new OrderItemNotFoundException("Order item with ID " + orderItemId + " not found in this order."));
 
+        Money previousSubtotal = itemToUpdate.subtotal();
         itemToUpdate.updateQuantity(newQuantity);
+        this.totalPrice = totalPrice.plus(itemToUpdate.subtotal()).minus(previousSubtotal);
         this.updatedAt = LocalDateTime.now();
         validateSelf();
     }
 
     public void removeOrderItem(Long orderItemId) {
-        boolean removed = this.items.removeIf(item -> Objects.equals(item.getId(), orderItemId));
-        if (!removed) {
-            throw new OrderItemNotFoundException("Order item with ID " + orderItemId + " not found in this order to remove.");
-        }
+        OrderItem itemToRemove = this.items.stream()
+                .filter(item -> Objects.equals(item.getId(), orderItemId))
+                .findFirst()
+                .orElseThrow(() -> new OrderItemNotFoundException("Order item with ID " + orderItemId + " not found in this order to remove."));
+
+        this.items.remove(itemToRemove);
+        this.totalPrice = totalPrice.minus(itemToRemove.subtotal());
+        this.itemCount--;
         this.updatedAt = LocalDateTime.now();
         validateSelf();
     }
@@ -108,14 +128,19 @@ public class Order {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public double totalPrice() {
-        return items.stream().mapToDouble(item -> item.getQuantity() * item.getPriceAtTimeOfOrder()).sum();
+    public Money totalPrice() {
+        return totalPrice;
     }
 
     public List<OrderItem> getItems() {
         return Collections.unmodifiableList(items);
     }
 
+    private void recalculateTotals() {
+        this.totalPrice = items.stream().map(OrderItem::subtotal).reduce(Money.ZERO, Money::plus);
+        this.itemCount = items.size();
+    }
+
     private void validateSelf() {
         List<String> errors = new ArrayList<>();
 
@@ -14,13 +14,13 @@ import java.util.List;
 @ToString
 public class OrderItem {
     private final Long id;
-    private final double priceAtTimeOfOrder;
+    private final Money priceAtTimeOfOrder;
     private final LocalDateTime createdAt;
     private Offer offer;
     private int quantity;
     private LocalDateTime updatedAt;
 
-    private OrderItem(Long id, Offer offer, int quantity, double priceAtTimeOfOrder,
+    private OrderItem(Long id, Offer offer, int quantity, Money priceAtTimeOfOrder,
                       LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.offer = offer;
@@ -31,7 +31,7 @@ public class OrderItem {
         validateSelf();
     }
 
-    private OrderItem(Long id, int quantity, double priceAtTimeOfOrder,
+    private OrderItem(Long id, int quantity, Money priceAtTimeOfOrder,
                       LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.quantity = quantity;
@@ -47,7 +47,7 @@ public class OrderItem {
         return new OrderItem(null, offer, quantity, offer.getPrice(), LocalDateTime.now(), LocalDateTime.now());
     }
 
-    public static OrderItem withId(Long id, Offer offer, int quantity, double priceAtTimeOfOrder,
+    public static OrderItem withId(Long id, Offer offer, int quantity, Money priceAtTimeOfOrder,
                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null for existing OrderItem when calling withId");
@@ -55,7 +55,7 @@ public class OrderItem {
         return new OrderItem(id, offer, quantity, priceAtTimeOfOrder, createdAt, updatedAt);
     }
 
-    public static OrderItem createForPersistenceHydration(Long id, int quantity, double priceAtTimeOfOrder,
+    public static OrderItem createForPersistenceHydration(Long id, int quantity, Money priceAtTimeOfOrder,
                                                           LocalDateTime createdAt, LocalDateTime updatedAt) {
         return new OrderItem(id, quantity, priceAtTimeOfOrder, createdAt, updatedAt);
     }
@@ -67,6 +67,10 @@ public class OrderItem {
         validateSelf();
     }
 
+    public Money subtotal() {
+        return priceAtTimeOfOrder.times(quantity);
+    }
+
     private void validateSelf() {
         List<String> errors = new ArrayList<>();
 
@@ -76,7 +80,7 @@ public class OrderItem {
         if (quantity <= 0) {
             errors.add("quantity cannot be negative or zero");
         }
-        if (priceAtTimeOfOrder <= 0) {
+        if (priceAtTimeOfOrder == null || !priceAtTimeOfOrder.isPositive()) {
             errors.add("priceAtTimeOfOrder cannot be negative or zero");
         }
 
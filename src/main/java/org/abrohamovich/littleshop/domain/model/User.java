@@ -23,9 +23,10 @@ public class User {
     private UserRole role;
     private String phone;
     private LocalDateTime updatedAt;
+    private long tokenVersion;
 
     private User(Long id, String firstName, String lastName, String email, String hashedPassword,
-                 UserRole role, String phone, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                 UserRole role, String phone, LocalDateTime createdAt, LocalDateTime updatedAt, long tokenVersion) {
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
@@ -35,23 +36,30 @@ public class User {
         this.phone = phone;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.tokenVersion = tokenVersion;
 
         validateSelf();
     }
 
     public static User createNewUser(String firstName, String lastName, String email,
-                                     String rawPassword, UserRole role, String phone) {
+                                     String rawPassword, UserRole role, String phone, PasswordHasher passwordHasher) {
         validateRawPassword(rawPassword);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
-        return new User(null, firstName, lastName, email, hashedPassword, role, phone, LocalDateTime.now(), LocalDateTime.now());
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
+        return new User(null, firstName, lastName, email, hashedPassword, role, phone, LocalDateTime.now(), LocalDateTime.now(), 0);
     }
 
     public static User withId(Long id, String firstName, String lastName, String email, String hashedPassword,
                               UserRole role, String phone, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt, 0);
+    }
+
+    public static User withId(Long id, String firstName, String lastName, String email, String hashedPassword,
+                              UserRole role, String phone, LocalDateTime createdAt, LocalDateTime updatedAt,
+                              long tokenVersion) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null for existing User");
         }
-        return new User(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
+        return new User(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt, tokenVersion);
     }
 
     private static void validateRawPassword(String password) {
@@ -64,18 +72,22 @@ public class User {
     }
 
     public void updateDetails(String firstName, String lastName, String email,
-                              String newRawPassword, UserRole role, String phone) {
+                              String newRawPassword, UserRole role, String phone, PasswordHasher passwordHasher) {
+        boolean roleChanged = this.role != role;
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
-        this.password = password;
         this.role = role;
         this.phone = phone;
         this.updatedAt = LocalDateTime.now();
 
-        if (newRawPassword != null && !newRawPassword.isBlank()) {
+        boolean passwordChanged = newRawPassword != null && !newRawPassword.isBlank();
+        if (passwordChanged) {
             validateRawPassword(newRawPassword);
-            this.password = PasswordHasher.hashPassword(newRawPassword);
+            this.password = passwordHasher.hashPassword(newRawPassword);
+        }
+        if (roleChanged || passwordChanged) {
+            tokenVersion++;
         }
 
         validateSelf();
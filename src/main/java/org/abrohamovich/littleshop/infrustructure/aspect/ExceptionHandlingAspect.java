@@ -5,11 +5,14 @@ import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
 import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.ModelNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.exception.ServiceOverloadedException;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 @Aspect
 @Component
@@ -23,7 +26,11 @@ public class ExceptionHandlingAspect {
     public void persistenceAdapterMethods() {
     }
 
-    @Around("useCaseMethods() || persistenceAdapterMethods()")
+    @Pointcut("execution(* org.abrohamovich.littleshop.adapter.persistence.jpa.repository..*(..))")
+    public void springDataRepositoryMethods() {
+    }
+
+    @Around("useCaseMethods() || (persistenceAdapterMethods() && !springDataRepositoryMethods())")
     public Object handleServiceExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
             return joinPoint.proceed();
@@ -36,9 +43,22 @@ public class ExceptionHandlingAspect {
         } catch (DuplicateEntryException e) {
             log.warn("Duplicate entry error in {}: {}", joinPoint.getSignature().toShortString(), e.getMessage());
             throw e;
+        } catch (VersionConflictException e) {
+            log.warn("Version conflict in {}: {}", joinPoint.getSignature().toShortString(), e.getMessage());
+            throw e;
         } catch (DataPersistenceException e) {
             log.error("Persistence error in {}: {}", joinPoint.getSignature().toShortString(), e.getMessage(), e);
             throw e;
+        } catch (ServiceOverloadedException e) {
+            log.warn("Service overloaded in {}: {}", joinPoint.getSignature().toShortString(), e.getMessage());
+            throw e;
+        } catch (CannotCreateTransactionException e) {
+            if (e.getMostSpecificCause() instanceof ServiceOverloadedException overloaded) {
+                log.warn("Service overloaded in {}: {}", joinPoint.getSignature().toShortString(), overloaded.getMessage());
+                throw overloaded;
+            }
+            log.error("Unexpected error in {}: {}", joinPoint.getSignature().toShortString(), e.getMessage(), e);
+            throw new RuntimeException("An unexpected error occurred during operation.", e);
         } catch (IllegalArgumentException e) {
             log.error("Illegal argument error in {}: {}", joinPoint.getSignature().toShortString(), e.getMessage(), e);
             throw e;
@@ -0,0 +1,18 @@
+package org.abrohamovich.littleshop.infrustructure.aspect;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.instrumentation")
+public class InstrumentationProperties {
+    private boolean enabled = true;
+    private double sampleRate = 0.01;
+    private long slowThresholdMs = 500;
+    private boolean logArguments = false;
+    private int maxArgumentLength = 200;
+}
@@ -0,0 +1,34 @@
+package org.abrohamovich.littleshop.infrustructure.aspect;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+class LazyArguments {
+    private final Object[] args;
+    private final boolean renderValues;
+    private final int maxLength;
+
+    LazyArguments(Object[] args, boolean renderValues, int maxLength) {
+        this.args = args;
+        this.renderValues = renderValues;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.stream(args)
+                .map(this::render)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private String render(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (!renderValues) {
+            return arg.getClass().getSimpleName();
+        }
+        String value = String.valueOf(arg);
+        return value.length() > maxLength ? value.substring(0, maxLength) + "..." : value;
+    }
+}
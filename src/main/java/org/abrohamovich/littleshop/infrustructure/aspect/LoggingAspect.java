@@ -1,44 +1,82 @@
 package org.abrohamovich.littleshop.infrustructure.aspect;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class LoggingAspect {
+    private final InstrumentationProperties instrumentationProperties;
+    private final MethodTimingRegistry methodTimingRegistry;
+
     @Pointcut("execution(* org.abrohamovich.littleshop.application.usecase..*(..))")
     public void applicationLayerMethods() {
     }
 
-    @Pointcut("execution(* org.abrohamovich.littleshop.adapter.persistence..*(..))")
+    @Pointcut("execution(* org.abrohamovich.littleshop.application.port.out.persistence..*+.*(..))")
     public void persistenceLayerMethods() {
     }
 
-    @Around("applicationLayerMethods() || persistenceLayerMethods()")
-    public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().toShortString();
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        Object[] args = joinPoint.getArgs();
+    @Around("applicationLayerMethods()")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, MethodTimingRegistry.USE_CASE_METER);
+    }
 
-        long startTime = System.currentTimeMillis();
-        log.info("Entering method: {}.{} with args: {}", className, methodName, args);
+    @Around("persistenceLayerMethods()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, MethodTimingRegistry.REPOSITORY_METER);
+    }
 
+    private Object time(ProceedingJoinPoint joinPoint, String meterName) throws Throwable {
+        if (!instrumentationProperties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        MethodTimer timer = methodTimingRegistry.timerFor(((MethodSignature) joinPoint.getSignature()).getMethod(), meterName);
+        long startNanos = System.nanoTime();
+        Object result;
         try {
-            Object result = joinPoint.proceed();
-            long endTime = System.currentTimeMillis();
-            log.info("Exiting method: {}.{} (Execution time: {}ms) with result: {}", className, methodName, (endTime - startTime), result);
-            return result;
-        } catch (IllegalArgumentException e) {
-            log.warn("Illegal argument in {}.{}: {}", className, methodName, e.getMessage());
-            throw e;
-        } catch (Throwable e) {
-            log.error("Exception in {}.{}: {}", className, methodName, e.getMessage(), e);
-            throw e;
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            timer.recordFailure(elapsedNanos, ex);
+            logTiming(joinPoint, timer, elapsedNanos);
+            throw ex;
         }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        timer.recordSuccess(elapsedNanos);
+        logTiming(joinPoint, timer, elapsedNanos);
+        return result;
+    }
+
+    private void logTiming(ProceedingJoinPoint joinPoint, MethodTimer timer, long elapsedNanos) {
+        if (elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(instrumentationProperties.getSlowThresholdMs())) {
+            log.warn("Slow call: {} took {} ms with args: {}",
+                    timer.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), lazyArguments(joinPoint));
+        } else if (log.isDebugEnabled() && isSampled()) {
+            log.debug("Sampled call: {} took {} us with args: {}",
+                    timer.getName(), TimeUnit.NANOSECONDS.toMicros(elapsedNanos), lazyArguments(joinPoint));
+        }
+    }
+
+    private boolean isSampled() {
+        double sampleRate = instrumentationProperties.getSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private LazyArguments lazyArguments(ProceedingJoinPoint joinPoint) {
+        return new LazyArguments(joinPoint.getArgs(), instrumentationProperties.isLogArguments(),
+                instrumentationProperties.getMaxArgumentLength());
     }
 }
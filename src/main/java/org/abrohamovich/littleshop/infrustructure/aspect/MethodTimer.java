@@ -0,0 +1,55 @@
+package org.abrohamovich.littleshop.infrustructure.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MethodTimer {
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final String meterName;
+    private final String className;
+    private final String methodName;
+    @Getter
+    private final String name;
+    private final Timer successTimer;
+    private final Map<Class<?>, Timer> failureTimers = new ConcurrentHashMap<>();
+
+    public MethodTimer(MeterRegistry meterRegistry, String meterName, String className, String methodName) {
+        this.meterRegistry = meterRegistry;
+        this.meterName = meterName;
+        this.className = className;
+        this.methodName = methodName;
+        this.name = className + "." + methodName;
+        this.successTimer = timer(OUTCOME_SUCCESS, NO_EXCEPTION);
+    }
+
+    public void recordSuccess(long nanos) {
+        successTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFailure(long nanos, Throwable throwable) {
+        Timer failureTimer = failureTimers.get(throwable.getClass());
+        if (failureTimer == null) {
+            failureTimer = failureTimers.computeIfAbsent(throwable.getClass(),
+                    type -> timer(OUTCOME_ERROR, type.getSimpleName()));
+        }
+        failureTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return Timer.builder(meterName)
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
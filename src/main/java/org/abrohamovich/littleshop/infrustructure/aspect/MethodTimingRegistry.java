@@ -0,0 +1,28 @@
+package org.abrohamovich.littleshop.infrustructure.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class MethodTimingRegistry {
+    public static final String USE_CASE_METER = "littleshop.usecase";
+    public static final String REPOSITORY_METER = "littleshop.repository";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimer> timers = new ConcurrentHashMap<>();
+
+    public MethodTimer timerFor(Method method, String meterName) {
+        MethodTimer timer = timers.get(method);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(method, key -> new MethodTimer(meterRegistry, meterName,
+                key.getDeclaringClass().getSimpleName(), key.getName()));
+    }
+}
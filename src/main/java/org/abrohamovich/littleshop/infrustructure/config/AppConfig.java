@@ -1,5 +1,6 @@
 package org.abrohamovich.littleshop.infrustructure.config;
 
+import org.abrohamovich.littleshop.application.port.in.analytics.GetSalesAnalyticsUseCase;
 import org.abrohamovich.littleshop.application.port.in.auth.AuthenticateUseCase;
 import org.abrohamovich.littleshop.application.port.in.auth.ValidateTokenUseCase;
 import org.abrohamovich.littleshop.application.port.in.category.CreateCategoryUseCase;
@@ -8,11 +9,14 @@ import org.abrohamovich.littleshop.application.port.in.category.GetCategoryUseCa
 import org.abrohamovich.littleshop.application.port.in.category.UpdateCategoryUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.CreateCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.DeleteCustomerUseCase;
+import org.abrohamovich.littleshop.application.port.in.customer.ExportCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.GetCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.customer.UpdateCustomerUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.CreateOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.DeleteOfferUseCase;
+import org.abrohamovich.littleshop.application.port.in.offer.ExportOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.GetOfferUseCase;
+import org.abrohamovich.littleshop.application.port.in.offer.SuggestOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.offer.UpdateOfferUseCase;
 import org.abrohamovich.littleshop.application.port.in.order.*;
 import org.abrohamovich.littleshop.application.port.in.supplier.CreateSupplierUseCase;
@@ -23,8 +27,13 @@ import org.abrohamovich.littleshop.application.port.in.user.CreateUserUseCase;
 import org.abrohamovich.littleshop.application.port.in.user.DeleteUserUseCase;
 import org.abrohamovich.littleshop.application.port.in.user.GetUserUseCase;
 import org.abrohamovich.littleshop.application.port.in.user.UpdateUserUseCase;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.abrohamovich.littleshop.application.port.out.auth.PasswordVerifierPort;
 import org.abrohamovich.littleshop.application.port.out.auth.TokenServicePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.*;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
+import org.abrohamovich.littleshop.application.usecase.analytics.GetSalesAnalyticsService;
 import org.abrohamovich.littleshop.application.usecase.auth.AuthenticateUserService;
 import org.abrohamovich.littleshop.application.usecase.auth.ValidateTokenService;
 import org.abrohamovich.littleshop.application.usecase.category.CreateCategoryService;
@@ -33,11 +42,14 @@ import org.abrohamovich.littleshop.application.usecase.category.GetCategoryServi
 import org.abrohamovich.littleshop.application.usecase.category.UpdateCategoryService;
 import org.abrohamovich.littleshop.application.usecase.customer.CreateCustomerService;
 import org.abrohamovich.littleshop.application.usecase.customer.DeleteCustomerService;
+import org.abrohamovich.littleshop.application.usecase.customer.ExportCustomerService;
 import org.abrohamovich.littleshop.application.usecase.customer.GetCustomerService;
 import org.abrohamovich.littleshop.application.usecase.customer.UpdateCustomerService;
 import org.abrohamovich.littleshop.application.usecase.offer.CreateOfferService;
 import org.abrohamovich.littleshop.application.usecase.offer.DeleteOfferService;
+import org.abrohamovich.littleshop.application.usecase.offer.ExportOfferService;
 import org.abrohamovich.littleshop.application.usecase.offer.GetOfferService;
+import org.abrohamovich.littleshop.application.usecase.offer.SuggestOfferService;
 import org.abrohamovich.littleshop.application.usecase.offer.UpdateOfferService;
 import org.abrohamovich.littleshop.application.usecase.order.*;
 import org.abrohamovich.littleshop.application.usecase.supplier.CreateSupplierService;
@@ -48,6 +60,8 @@ import org.abrohamovich.littleshop.application.usecase.user.CreateUserService;
 import org.abrohamovich.littleshop.application.usecase.user.DeleteUserService;
 import org.abrohamovich.littleshop.application.usecase.user.GetUserService;
 import org.abrohamovich.littleshop.application.usecase.user.UpdateUserService;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -83,6 +97,11 @@ public class AppConfig {
         return new GetCustomerService(customerRepositoryPort);
     }
 
+    @Bean
+    public ExportCustomerUseCase exportCustomerUseCase(CustomerRepositoryPort customerRepositoryPort) {
+        return new ExportCustomerService(customerRepositoryPort);
+    }
+
     @Bean
     public UpdateCustomerUseCase updateCustomerUseCase(CustomerRepositoryPort customerRepositoryPort) {
         return new UpdateCustomerService(customerRepositoryPort);
@@ -94,8 +113,8 @@ public class AppConfig {
     }
 
     @Bean
-    public CreateUserUseCase createUserUseCase(UserRepositoryPort userRepositoryPort) {
-        return new CreateUserService(userRepositoryPort);
+    public CreateUserUseCase createUserUseCase(UserRepositoryPort userRepositoryPort, PasswordHasher passwordHasher) {
+        return new CreateUserService(userRepositoryPort, passwordHasher);
     }
 
     @Bean
@@ -104,13 +123,18 @@ public class AppConfig {
     }
 
     @Bean
-    public UpdateUserUseCase updateUserUseCase(UserRepositoryPort userRepositoryPort) {
-        return new UpdateUserService(userRepositoryPort);
+    public UpdateUserUseCase updateUserUseCase(UserRepositoryPort userRepositoryPort,
+                                               AuthenticatedUserCachePort authenticatedUserCachePort,
+                                               TokenVersionPort tokenVersionPort,
+                                               PasswordHasher passwordHasher) {
+        return new UpdateUserService(userRepositoryPort, authenticatedUserCachePort, tokenVersionPort, passwordHasher);
     }
 
     @Bean
-    public DeleteUserUseCase deleteUserUseCase(UserRepositoryPort userRepositoryPort) {
-        return new DeleteUserService(userRepositoryPort);
+    public DeleteUserUseCase deleteUserUseCase(UserRepositoryPort userRepositoryPort,
+                                               AuthenticatedUserCachePort authenticatedUserCachePort,
+                                               TokenVersionPort tokenVersionPort) {
+        return new DeleteUserService(userRepositoryPort, authenticatedUserCachePort, tokenVersionPort);
     }
 
     @Bean
@@ -135,8 +159,9 @@ public class AppConfig {
 
     @Bean
     public CreateOfferUseCase createOfferUseCase(OfferRepositoryPort offerRepositoryPort, CategoryRepositoryPort categoryRepositoryPort,
-                                                 SupplierRepositoryPort supplierRepositoryPort) {
-        return new CreateOfferService(offerRepositoryPort, categoryRepositoryPort, supplierRepositoryPort);
+                                                 SupplierRepositoryPort supplierRepositoryPort,
+                                                 OfferCatalogIndexPort offerCatalogIndexPort) {
+        return new CreateOfferService(offerRepositoryPort, categoryRepositoryPort, supplierRepositoryPort, offerCatalogIndexPort);
     }
 
     @Bean
@@ -144,15 +169,27 @@ public class AppConfig {
         return new GetOfferService(offerRepositoryPort);
     }
 
+    @Bean
+    public ExportOfferUseCase exportOfferUseCase(OfferRepositoryPort offerRepositoryPort) {
+        return new ExportOfferService(offerRepositoryPort);
+    }
+
     @Bean
     public UpdateOfferUseCase updateOfferUseCase(OfferRepositoryPort offerRepositoryPort, CategoryRepositoryPort categoryRepositoryPort,
-                                                 SupplierRepositoryPort supplierRepositoryPort) {
-        return new UpdateOfferService(offerRepositoryPort, categoryRepositoryPort, supplierRepositoryPort);
+                                                 SupplierRepositoryPort supplierRepositoryPort,
+                                                 OfferCatalogIndexPort offerCatalogIndexPort) {
+        return new UpdateOfferService(offerRepositoryPort, categoryRepositoryPort, supplierRepositoryPort, offerCatalogIndexPort);
+    }
+
+    @Bean
+    public DeleteOfferUseCase deleteOfferUseCase(OfferRepositoryPort offerRepositoryPort,
+                                                 OfferCatalogIndexPort offerCatalogIndexPort) {
+        return new DeleteOfferService(offerRepositoryPort, offerCatalogIndexPort);
     }
 
     @Bean
-    public DeleteOfferUseCase deleteOfferUseCase(OfferRepositoryPort offerRepositoryPort) {
-        return new DeleteOfferService(offerRepositoryPort);
+    public SuggestOfferUseCase suggestOfferUseCase(OfferCatalogIndexPort offerCatalogIndexPort) {
+        return new SuggestOfferService(offerCatalogIndexPort);
     }
 
     @Bean
@@ -161,6 +198,12 @@ public class AppConfig {
         return new CreateOrderService(orderRepositoryPort, offerRepositoryPort, customerRepositoryPort, userRepositoryPort);
     }
 
+    @Bean
+    public BulkCreateOrderUseCase bulkCreateOrderUseCase(OrderRepositoryPort orderRepositoryPort, OfferRepositoryPort offerRepositoryPort,
+                                                         CustomerRepositoryPort customerRepositoryPort, UserRepositoryPort userRepositoryPort) {
+        return new BulkCreateOrderService(orderRepositoryPort, offerRepositoryPort, customerRepositoryPort, userRepositoryPort);
+    }
+
     @Bean
     public AddOrderItemToOrderUseCase addOrderItemToOrderUseCase(OrderRepositoryPort orderRepositoryPort, OfferRepositoryPort offerRepositoryPort) {
         return new AddOrderItemToOrderService(orderRepositoryPort, offerRepositoryPort);
@@ -176,6 +219,11 @@ public class AppConfig {
         return new GetOrderService(orderRepositoryPort);
     }
 
+    @Bean
+    public ExportOrderUseCase exportOrderUseCase(OrderRepositoryPort orderRepositoryPort) {
+        return new ExportOrderService(orderRepositoryPort);
+    }
+
     @Bean
     public DeleteOrderUseCase deleteOrderUseCase(OrderRepositoryPort orderRepositoryPort) {
         return new DeleteOrderService(orderRepositoryPort);
@@ -197,15 +245,25 @@ public class AppConfig {
         return new UpdateOrderService(orderRepositoryPort, customerRepositoryPort);
     }
 
+    @Bean
+    public GetSalesAnalyticsUseCase getSalesAnalyticsUseCase(SalesAnalyticsRepositoryPort salesAnalyticsRepositoryPort) {
+        return new GetSalesAnalyticsService(salesAnalyticsRepositoryPort);
+    }
+
     @Bean
     public AuthenticateUseCase authenticateUseCase(UserRepositoryPort userRepositoryPort,
-                                                   TokenServicePort tokenServicePort) {
-        return new AuthenticateUserService(userRepositoryPort, tokenServicePort);
+                                                   TokenServicePort tokenServicePort,
+                                                   PasswordVerifierPort passwordVerifierPort) {
+        return new AuthenticateUserService(userRepositoryPort, tokenServicePort, passwordVerifierPort);
     }
 
     @Bean
     public ValidateTokenUseCase validateTokenUseCase(UserRepositoryPort userRepositoryPort,
-                                                     TokenServicePort tokenServicePort) {
-        return new ValidateTokenService(tokenServicePort, userRepositoryPort);
+                                                     TokenServicePort tokenServicePort,
+                                                     AuthenticatedUserCachePort authenticatedUserCachePort,
+                                                     TokenVersionPort tokenVersionPort,
+                                                     @Value("${app.auth.stateless:false}") boolean stateless) {
+        return new ValidateTokenService(tokenServicePort, userRepositoryPort, authenticatedUserCachePort,
+                tokenVersionPort, stateless);
     }
 }
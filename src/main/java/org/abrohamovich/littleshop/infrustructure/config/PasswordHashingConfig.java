@@ -0,0 +1,29 @@
+package org.abrohamovich.littleshop.infrustructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class PasswordHashingConfig {
+    @Bean
+    public PasswordHasher passwordHasher(@Value("${app.auth.bcrypt.cost:12}") int cost,
+                                         @Value("${app.auth.bcrypt.calibrate:false}") boolean calibrate,
+                                         @Value("${app.auth.bcrypt.target-latency:250ms}") Duration targetLatency,
+                                         @Value("${app.auth.bcrypt.min-cost:10}") int minCost,
+                                         @Value("${app.auth.bcrypt.max-cost:14}") int maxCost) {
+        if (calibrate) {
+            int calibrated = PasswordHasher.calibrateCost(targetLatency, minCost, maxCost);
+            log.info("Calibrated BCrypt cost to {} for a target verification latency of {} ms",
+                    calibrated, targetLatency.toMillis());
+            return new PasswordHasher(calibrated);
+        }
+        log.info("Using configured BCrypt cost {}", cost);
+        return new PasswordHasher(cost);
+    }
+}
@@ -0,0 +1,56 @@
+package org.abrohamovich.littleshop.infrustructure.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.abrohamovich.littleshop.infrustructure.persistence.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence.jdbc-limiter", name = "enabled", havingValue = "true")
+public class PersistenceConfig {
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiterPostProcessor(Environment environment,
+                                                                        ConfigurableListableBeanFactory beanFactory) {
+        int maxConcurrent = environment.getProperty("app.persistence.jdbc-limiter.max-concurrent", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration acquireTimeout = environment.getProperty("app.persistence.jdbc-limiter.acquire-timeout", Duration.class,
+                Duration.ofSeconds(2));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)
+                        && isPrimaryDataSource(beanFactory, beanName)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isPrimaryDataSource(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        if (!beanFactory.containsBeanDefinition(beanName)) {
+            return false;
+        }
+        if (beanFactory.getBeanDefinition(beanName).isPrimary()) {
+            return true;
+        }
+        String[] dataSourceNames = beanFactory.getBeanNamesForType(DataSource.class, true, false);
+        return dataSourceNames.length == 1 && dataSourceNames[0].equals(beanName);
+    }
+
+    @Bean
+    public MeterBinder jdbcConcurrencyLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limitedDataSource) {
+                limitedDataSource.bindTo(registry);
+            }
+        };
+    }
+}
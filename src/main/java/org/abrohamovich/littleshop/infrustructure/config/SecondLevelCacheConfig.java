@@ -0,0 +1,54 @@
+package org.abrohamovich.littleshop.infrustructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:littleshop:l2:" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            cacheManager.createCache(region, boundedRegion(properties.regionOrDefaults(region)));
+        }
+        for (String region : CacheRegions.QUERY_REGIONS) {
+            cacheManager.createCache(region, boundedRegion(properties.regionOrDefaults(region)));
+        }
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager hibernateCacheManager,
+                                                                                      SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatisticsEnabled());
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> boundedRegion(SecondLevelCacheProperties.Region region) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(region.getMaxSize()))
+                .setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+    }
+}
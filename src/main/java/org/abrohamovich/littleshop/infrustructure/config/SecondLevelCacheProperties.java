@@ -0,0 +1,39 @@
+package org.abrohamovich.littleshop.infrustructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.persistence.second-level-cache")
+public class SecondLevelCacheProperties {
+    private boolean enabled = true;
+    private boolean statisticsEnabled = true;
+    private Region defaults = new Region();
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Region regionOrDefaults(String name) {
+        Region region = regions.get(name);
+        if (region == null) {
+            return defaults;
+        }
+        Region resolved = new Region();
+        resolved.setMaxSize(region.getMaxSize() != null ? region.getMaxSize() : defaults.getMaxSize());
+        resolved.setTtl(region.getTtl() != null ? region.getTtl() : defaults.getTtl());
+        return resolved;
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+        private Long maxSize = 10_000L;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -28,7 +28,9 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("api/v1/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("api/v1/users/**").hasRole("ADMIN")
+                        .requestMatchers("api/v1/analytics/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "api/v1/categories/{id}").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "api/v1/customers/{id}").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "api/v1/suppliers/{id}").hasRole("ADMIN")
@@ -5,8 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
 import org.abrohamovich.littleshop.application.port.in.auth.ValidateTokenUseCase;
-import org.abrohamovich.littleshop.domain.model.User;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -29,14 +29,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwt = parseJwt(request);
         if (jwt != null) {
             try {
-                User user = validateTokenUseCase.validateTokenAndGetUser(jwt);
+                AuthenticatedPrincipal principal = validateTokenUseCase.validateTokenAndGetUser(jwt);
 
                 List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + user.getRole().toString())
+                        new SimpleGrantedAuthority("ROLE_" + principal.getRole().toString())
                 );
 
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(user.getEmail(), null, authorities);
+                        new UsernamePasswordAuthenticationToken(principal.getEmail(), null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
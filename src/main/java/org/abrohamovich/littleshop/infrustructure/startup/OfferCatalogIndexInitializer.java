@@ -0,0 +1,30 @@
+package org.abrohamovich.littleshop.infrustructure.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OfferCatalogIndexInitializer implements CommandLineRunner {
+    private final OfferRepositoryPort offerRepositoryPort;
+    private final OfferCatalogIndexPort offerCatalogIndexPort;
+
+    @Override
+    public void run(String... args) {
+        long started = System.nanoTime();
+        AtomicInteger indexed = new AtomicInteger();
+        offerCatalogIndexPort.rebuild(sink -> offerRepositoryPort.streamSearch(OfferSearchCriteria.any(), offer -> {
+            sink.accept(offer);
+            indexed.incrementAndGet();
+        }));
+        log.info("Indexed {} offers for suggestions in {} ms", indexed.get(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -2,14 +2,31 @@ package org.abrohamovich.littleshop.util;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
 
+import java.time.Duration;
+
 public class PasswordHasher {
-    private static final int BCRYPT_COST = 12;
+    public static final int MIN_COST = 4;
+    public static final int MAX_COST = 31;
+    public static final int DEFAULT_COST = 12;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int cost;
+
+    public PasswordHasher(int cost) {
+        validateCost(cost);
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
 
-    private PasswordHasher() {
+    public String hashPassword(String plainPassword) {
+        return hashPassword(plainPassword, cost);
     }
 
-    public static String hashPassword(String plainPassword) {
-        return BCrypt.withDefaults().hashToString(BCRYPT_COST, plainPassword.toCharArray());
+    public boolean needsRehash(String hashedPassword) {
+        return costOf(hashedPassword) != cost;
     }
 
     public static boolean verify(String plainPassword, String hashedPassword) {
@@ -22,4 +39,49 @@ public class PasswordHasher {
         BCrypt.Result result = BCrypt.verifyer().verify(plainPassword.toCharArray(), hashedPassword.toCharArray());
         return result.verified;
     }
+
+    public static int costOf(String hashedPassword) {
+        if (hashedPassword == null) {
+            throw new IllegalArgumentException("Hashed password cannot be null.");
+        }
+        String[] parts = hashedPassword.split("\\$");
+        if (parts.length < 4) {
+            throw new IllegalArgumentException("Value is not a BCrypt hash.");
+        }
+        try {
+            return Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Value is not a BCrypt hash.", e);
+        }
+    }
+
+    public static int calibrateCost(Duration targetLatency, int minCost, int maxCost) {
+        validateCost(minCost);
+        validateCost(maxCost);
+        if (minCost > maxCost) {
+            throw new IllegalArgumentException("Minimum BCrypt cost cannot exceed maximum cost.");
+        }
+        int cost = minCost;
+        while (cost < maxCost && measureVerification(cost + 1).compareTo(targetLatency) <= 0) {
+            cost++;
+        }
+        return cost;
+    }
+
+    public static Duration measureVerification(int cost) {
+        String hash = hashPassword(CALIBRATION_PASSWORD, cost);
+        long start = System.nanoTime();
+        verify(CALIBRATION_PASSWORD, hash);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static String hashPassword(String plainPassword, int cost) {
+        return BCrypt.withDefaults().hashToString(cost, plainPassword.toCharArray());
+    }
+
+    private static void validateCost(int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("BCrypt cost must be between " + MIN_COST + " and " + MAX_COST + ".");
+        }
+    }
 }
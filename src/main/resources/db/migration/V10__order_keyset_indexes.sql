@@ -0,0 +1,8 @@
+create index if not exists idx_order_created_at_id
+    on t_order (created_at, id);
+
+create index if not exists idx_order_customer_created_at_id
+    on t_order (customer_id, created_at, id);
+
+create index if not exists idx_order_user_created_at_id
+    on t_order (user_id, created_at, id);
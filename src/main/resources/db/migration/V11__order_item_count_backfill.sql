@@ -0,0 +1,7 @@
+update t_order o
+    set total_price_minor = coalesce((select sum(oi.quantity * oi.price_at_time_of_order_minor)
+                                      from t_order_item oi
+                                      where oi.order_id = o.id), 0),
+        item_count        = (select count(*)
+                             from t_order_item oi
+                             where oi.order_id = o.id);
@@ -0,0 +1,2 @@
+alter table t_user
+    add column if not exists token_version bigint not null default 0;
@@ -0,0 +1,109 @@
+create table t_category (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    name varchar(100) not null unique,
+    description TEXT,
+    primary key (id)
+);
+
+create table t_customer (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    phone varchar(20) not null unique,
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    email varchar(100) not null unique,
+    address TEXT,
+    primary key (id)
+);
+
+create table t_offer (
+    price float(53) not null,
+    category_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    supplier_id bigint not null,
+    updated_at timestamp(6),
+    name varchar(100) not null,
+    description TEXT,
+    type varchar(255) not null check (type in ('PRODUCT','SERVICE')),
+    primary key (id)
+);
+
+create table t_order (
+    created_at timestamp(6) not null,
+    customer_id bigint not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    user_id bigint not null,
+    status varchar(255) not null check (status in ('IN_PROGRESS','COMPLETED','CANCELLED')),
+    primary key (id)
+);
+
+create table t_order_item (
+    price_at_time_of_order float(53) not null,
+    quantity integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    offer_id bigint not null,
+    order_id bigint not null,
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table t_supplier (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    phone varchar(20) not null unique,
+    email varchar(100) not null unique,
+    name varchar(100) not null unique,
+    address TEXT,
+    description TEXT,
+    primary key (id)
+);
+
+create table t_user (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    phone varchar(20) not null unique,
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    email varchar(100) not null unique,
+    password_hash varchar(255) not null,
+    role varchar(255) not null check (role in ('ADMIN','WORKER')),
+    primary key (id)
+);
+
+alter table if exists t_offer
+    add constraint FK3dop38tjx4cj7y5hhex4bgss6
+    foreign key (category_id)
+    references t_category;
+
+alter table if exists t_offer
+    add constraint FKb2qrx5oq41xr3kt1ksl0lywxy
+    foreign key (supplier_id)
+    references t_supplier;
+
+alter table if exists t_order
+    add constraint FKesy3n2gc3fa0s3trrk3tvyv9a
+    foreign key (customer_id)
+    references t_customer;
+
+alter table if exists t_order
+    add constraint FKho2r4qgj3txpy8964fnla95ub
+    foreign key (user_id)
+    references t_user;
+
+alter table if exists t_order_item
+    add constraint FK27mtr3a3ojff13y2ohhhuphbj
+    foreign key (offer_id)
+    references t_offer;
+
+alter table if exists t_order_item
+    add constraint FK2y83rerik30vumt2a1mff6606
+    foreign key (order_id)
+    references t_order;
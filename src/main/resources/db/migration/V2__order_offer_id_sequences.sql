@@ -0,0 +1,11 @@
+alter table t_offer alter column id drop identity if exists;
+alter table t_order alter column id drop identity if exists;
+alter table t_order_item alter column id drop identity if exists;
+
+create sequence if not exists t_offer_seq start with 1 increment by 50;
+create sequence if not exists t_order_seq start with 1 increment by 50;
+create sequence if not exists t_order_item_seq start with 1 increment by 50;
+
+select setval('t_offer_seq', coalesce((select max(id) from t_offer), 0) + 1, false);
+select setval('t_order_seq', coalesce((select max(id) from t_order), 0) + 1, false);
+select setval('t_order_item_seq', coalesce((select max(id) from t_order_item), 0) + 1, false);
@@ -0,0 +1,11 @@
+create index if not exists idx_offer_category_price
+    on t_offer (category_id, price);
+
+create index if not exists idx_offer_supplier_price
+    on t_offer (supplier_id, price);
+
+create index if not exists idx_offer_type_price
+    on t_offer (type, price);
+
+create index if not exists idx_offer_price
+    on t_offer (price);
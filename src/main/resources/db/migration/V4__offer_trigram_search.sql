@@ -0,0 +1,7 @@
+create extension if not exists pg_trgm;
+
+create index if not exists idx_offer_name_trgm
+    on t_offer using gin (lower(name) gin_trgm_ops);
+
+create index if not exists idx_offer_description_trgm
+    on t_offer using gin (lower(description) gin_trgm_ops);
@@ -0,0 +1,8 @@
+alter table t_order
+    add column if not exists total_price float(53) not null default 0;
+
+alter table t_order
+    add column if not exists item_count integer not null default 0;
+
+create index if not exists idx_order_total_price_id
+    on t_order (total_price, id);
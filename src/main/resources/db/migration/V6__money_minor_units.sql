@@ -0,0 +1,58 @@
+alter table t_offer
+    add column if not exists price_minor bigint;
+
+update t_offer
+    set price_minor = round(cast(price as numeric) * 100)
+    where price_minor is null;
+
+alter table t_offer
+    alter column price_minor set not null;
+
+drop index if exists idx_offer_category_price;
+drop index if exists idx_offer_supplier_price;
+drop index if exists idx_offer_type_price;
+drop index if exists idx_offer_price;
+
+alter table t_offer
+    drop column price;
+
+create index if not exists idx_offer_category_price
+    on t_offer (category_id, price_minor);
+
+create index if not exists idx_offer_supplier_price
+    on t_offer (supplier_id, price_minor);
+
+create index if not exists idx_offer_type_price
+    on t_offer (type, price_minor);
+
+create index if not exists idx_offer_price
+    on t_offer (price_minor);
+
+alter table t_order_item
+    add column if not exists price_at_time_of_order_minor bigint;
+
+update t_order_item
+    set price_at_time_of_order_minor = round(cast(price_at_time_of_order as numeric) * 100)
+    where price_at_time_of_order_minor is null;
+
+alter table t_order_item
+    alter column price_at_time_of_order_minor set not null;
+
+alter table t_order_item
+    drop column price_at_time_of_order;
+
+alter table t_order
+    add column if not exists total_price_minor bigint not null default 0;
+
+update t_order o
+    set total_price_minor = coalesce((select sum(oi.quantity * oi.price_at_time_of_order_minor)
+                                      from t_order_item oi
+                                      where oi.order_id = o.id), 0);
+
+drop index if exists idx_order_total_price_id;
+
+alter table t_order
+    drop column total_price;
+
+create index if not exists idx_order_total_price_id
+    on t_order (total_price_minor, id);
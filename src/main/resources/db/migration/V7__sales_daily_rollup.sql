@@ -0,0 +1,16 @@
+create table if not exists t_sales_daily_rollup
+(
+    sales_date    date   not null,
+    user_id       bigint not null,
+    offer_id      bigint not null,
+    quantity      bigint not null,
+    revenue_minor bigint not null,
+    primary key (sales_date, user_id, offer_id)
+);
+
+insert into t_sales_daily_rollup (sales_date, user_id, offer_id, quantity, revenue_minor)
+select cast(o.created_at as date), o.user_id, oi.offer_id, sum(oi.quantity), sum(oi.quantity * oi.price_at_time_of_order_minor)
+from t_order o
+         join t_order_item oi on oi.order_id = o.id
+where o.status <> 'CANCELLED'
+group by cast(o.created_at as date), o.user_id, oi.offer_id;
@@ -0,0 +1,5 @@
+alter table t_order
+    add column if not exists version bigint not null default 0;
+
+alter table t_offer
+    add column if not exists version bigint not null default 0;
@@ -0,0 +1,37 @@
+do $$
+declare
+    target record;
+    existing text;
+begin
+    for target in
+        select *
+        from (values ('t_category', 'name', 'uk_category_name'),
+                     ('t_customer', 'email', 'uk_customer_email'),
+                     ('t_customer', 'phone', 'uk_customer_phone'),
+                     ('t_supplier', 'name', 'uk_supplier_name'),
+                     ('t_supplier', 'email', 'uk_supplier_email'),
+                     ('t_supplier', 'phone', 'uk_supplier_phone'),
+                     ('t_user', 'email', 'uk_user_email'),
+                     ('t_user', 'phone', 'uk_user_phone')) as t (table_name, column_name, constraint_name)
+    loop
+        select c.conname
+        into existing
+        from pg_constraint c
+                 join pg_class r on r.oid = c.conrelid
+                 join pg_attribute a on a.attrelid = r.oid and a.attnum = c.conkey[1]
+        where c.contype = 'u'
+          and cardinality(c.conkey) = 1
+          and r.relname = target.table_name
+          and a.attname = target.column_name
+        limit 1;
+
+        if existing is null then
+            execute format('alter table %I add constraint %I unique (%I)',
+                           target.table_name, target.constraint_name, target.column_name);
+        elsif existing <> target.constraint_name then
+            execute format('alter table %I rename constraint %I to %I',
+                           target.table_name, existing, target.constraint_name);
+        end if;
+    end loop;
+end
+$$;
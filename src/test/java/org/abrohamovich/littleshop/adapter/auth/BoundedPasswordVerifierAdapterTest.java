@@ -0,0 +1,97 @@
+package org.abrohamovich.littleshop.adapter.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.domain.exception.ServiceOverloadedException;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordVerifierAdapterTest {
+    private static final String RAW_PASSWORD = "password123";
+    private static final PasswordHasher PASSWORD_HASHER = new PasswordHasher(PasswordHasher.MIN_COST);
+    private static String hashedPassword;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordVerifierAdapter verifierAdapter;
+
+    @BeforeAll
+    static void hashOnce() {
+        hashedPassword = PASSWORD_HASHER.hashPassword(RAW_PASSWORD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (verifierAdapter != null) {
+            verifierAdapter.destroy();
+        }
+    }
+
+    @Test
+    void verify_shouldCheckPasswordOnHashingExecutorAndRecordLatency() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifierAdapter = new BoundedPasswordVerifierAdapter(1, 1, Duration.ofSeconds(30), meterRegistry, PASSWORD_HASHER);
+
+        assertTrue(verifierAdapter.verify(RAW_PASSWORD, hashedPassword));
+        assertFalse(verifierAdapter.verify("wrong-password", hashedPassword));
+
+        assertEquals(2, meterRegistry.get("littleshop.auth.password.hash").timer().count());
+        assertNotNull(meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge());
+    }
+
+    @Test
+    void verify_shouldFailFast_whenExecutorAndQueueAreSaturated() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        verifierAdapter = new BoundedPasswordVerifierAdapter(1, 1, Duration.ofSeconds(30), meterRegistry, PASSWORD_HASHER);
+        int callers = 6;
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(callerPool.submit(() -> verifierAdapter.verify(RAW_PASSWORD, hashedPassword)));
+            }
+
+            int verified = 0;
+            int rejected = 0;
+            for (Future<Boolean> result : results) {
+                try {
+                    assertTrue(result.get());
+                    verified++;
+                } catch (java.util.concurrent.ExecutionException e) {
+                    assertInstanceOf(ServiceOverloadedException.class, e.getCause());
+                    rejected++;
+                }
+            }
+
+            assertTrue(verified >= 1);
+            assertTrue(rejected >= 1);
+            assertEquals(rejected, meterRegistry.get("littleshop.auth.password.rejected").counter().count());
+        } finally {
+            callerPool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rehashInBackground_shouldHashAtTargetCostAndHandOverResult() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        verifierAdapter = new BoundedPasswordVerifierAdapter(1, 1, Duration.ofSeconds(30), meterRegistry, PASSWORD_HASHER);
+        CompletableFuture<String> rehashed = new CompletableFuture<>();
+
+        verifierAdapter.rehashInBackground(RAW_PASSWORD, rehashed::complete);
+
+        String newHash = rehashed.get(30, TimeUnit.SECONDS);
+        assertTrue(PasswordHasher.verify(RAW_PASSWORD, newHash));
+        assertFalse(verifierAdapter.needsRehash(newHash));
+    }
+}
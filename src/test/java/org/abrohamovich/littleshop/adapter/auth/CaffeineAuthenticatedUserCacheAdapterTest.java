@@ -0,0 +1,53 @@
+package org.abrohamovich.littleshop.adapter.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineAuthenticatedUserCacheAdapterTest {
+    private CaffeineAuthenticatedUserCacheAdapter cacheAdapter;
+    private AuthenticatedPrincipal john;
+    private AuthenticatedPrincipal jane;
+
+    @BeforeEach
+    void setUp() {
+        cacheAdapter = new CaffeineAuthenticatedUserCacheAdapter(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        john = new AuthenticatedPrincipal(1L, "john.doe@example.com", UserRole.WORKER);
+        jane = new AuthenticatedPrincipal(2L, "jane.smith@example.com", UserRole.ADMIN);
+    }
+
+    @Test
+    void get_shouldReturnCachedUserForSameToken() {
+        cacheAdapter.put("token-a", john, LocalDateTime.now().plusHours(1));
+
+        assertSame(john, cacheAdapter.get("token-a").orElseThrow());
+        assertTrue(cacheAdapter.get("token-b").isEmpty());
+    }
+
+    @Test
+    void get_shouldNotReturnUserForAlreadyExpiredToken() {
+        cacheAdapter.put("token-a", john, LocalDateTime.now().minusSeconds(1));
+
+        assertTrue(cacheAdapter.get("token-a").isEmpty());
+    }
+
+    @Test
+    void evictUser_shouldRemoveEveryTokenOfThatUserOnly() {
+        cacheAdapter.put("token-a", john, LocalDateTime.now().plusHours(1));
+        cacheAdapter.put("token-b", john, LocalDateTime.now().plusHours(1));
+        cacheAdapter.put("token-c", jane, LocalDateTime.now().plusHours(1));
+
+        cacheAdapter.evictUser(john.getUserId());
+
+        assertTrue(cacheAdapter.get("token-a").isEmpty());
+        assertTrue(cacheAdapter.get("token-b").isEmpty());
+        assertSame(jane, cacheAdapter.get("token-c").orElseThrow());
+    }
+}
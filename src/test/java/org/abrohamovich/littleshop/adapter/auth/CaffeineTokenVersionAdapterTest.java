@@ -0,0 +1,63 @@
+package org.abrohamovich.littleshop.adapter.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
+import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CaffeineTokenVersionAdapterTest {
+    private final Long userId = 1L;
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+    private CaffeineTokenVersionAdapter tokenVersionAdapter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionAdapter = new CaffeineTokenVersionAdapter(userRepositoryPort, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        user = User.withId(userId, "John", "Doe", "john.doe@example.com", "hash", UserRole.WORKER, "1234567890", LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void currentVersion_shouldLoadOnceAndServeFromMemory() {
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+
+        assertEquals(user.getTokenVersion(), tokenVersionAdapter.currentVersion(userId).orElseThrow());
+        assertEquals(user.getTokenVersion(), tokenVersionAdapter.currentVersion(userId).orElseThrow());
+
+        verify(userRepositoryPort, times(1)).findById(userId);
+    }
+
+    @Test
+    void currentVersion_shouldBeEmpty_whenUserDoesNotExist() {
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.empty());
+
+        assertTrue(tokenVersionAdapter.currentVersion(userId).isEmpty());
+    }
+
+    @Test
+    void invalidate_shouldReloadVersionOnNextLookup() {
+        User updated = User.withId(userId, "John", "Doe", "john.doe@example.com", "hash", UserRole.ADMIN, "1234567890",
+                user.getCreatedAt(), user.getUpdatedAt().plusSeconds(1), user.getTokenVersion() + 1);
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user), Optional.of(updated));
+        tokenVersionAdapter.currentVersion(userId);
+
+        tokenVersionAdapter.invalidate(userId);
+
+        assertEquals(updated.getTokenVersion(), tokenVersionAdapter.currentVersion(userId).orElseThrow());
+        assertNotEquals(user.getTokenVersion(), updated.getTokenVersion());
+    }
+}
@@ -1,21 +1,29 @@
 package org.abrohamovich.littleshop.adapter.persistence;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCategoryRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.CategoryJpaMapper;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.model.Category;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
@@ -29,6 +37,8 @@ class CategoryRepositoryAdapterTest {
     private SpringDataCategoryRepository springDataCategoryRepository;
     @Mock
     private CategoryJpaMapper categoryJpaMapper;
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
     @InjectMocks
     private CategoryRepositoryAdapter categoryRepositoryAdapter;
 
@@ -46,7 +56,7 @@ class CategoryRepositoryAdapterTest {
     @Test
     void save_shouldReturnSavedCategory_whenSaveIsSuccessful() {
         when(categoryJpaMapper.toJpaEntity(any(Category.class))).thenReturn(testEntity);
-        when(springDataCategoryRepository.save(any(CategoryJpaEntity.class))).thenReturn(testEntity);
+        when(springDataCategoryRepository.saveAndFlush(any(CategoryJpaEntity.class))).thenReturn(testEntity);
         when(categoryJpaMapper.toDomainEntity(any(CategoryJpaEntity.class))).thenReturn(testCategory);
 
         Category savedCategory = categoryRepositoryAdapter.save(testCategory);
@@ -54,19 +64,29 @@ class CategoryRepositoryAdapterTest {
         assertNotNull(savedCategory);
         assertEquals(testCategory.getId(), savedCategory.getId());
         assertEquals(testCategory.getName(), savedCategory.getName());
-        verify(springDataCategoryRepository).save(testEntity);
+        verify(springDataCategoryRepository).saveAndFlush(testEntity);
         verify(categoryJpaMapper).toDomainEntity(testEntity);
     }
 
     @Test
     void save_shouldThrowDataPersistenceException_onDataAccessException() {
         when(categoryJpaMapper.toJpaEntity(any(Category.class))).thenReturn(testEntity);
-        when(springDataCategoryRepository.save(any(CategoryJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+        when(springDataCategoryRepository.saveAndFlush(any(CategoryJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate key"));
 
         DataPersistenceException exception = assertThrows(DataPersistenceException.class, () -> categoryRepositoryAdapter.save(testCategory));
         assertTrue(exception.getMessage().contains("Failed to save category due to data integrity violation."));
     }
 
+
+    @Test
+    void save_shouldThrowDuplicateEntryException_whenUniqueConstraintIsViolated() {
+        when(categoryJpaMapper.toJpaEntity(any(Category.class))).thenReturn(testEntity);
+        when(springDataCategoryRepository.saveAndFlush(any(CategoryJpaEntity.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException("23505"), "uk_category_name")));
+
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> categoryRepositoryAdapter.save(testCategory));
+        assertEquals("Category with name '" + testCategory.getName() + "' already exists.", exception.getMessage());
+    }
     @Test
     void save_shouldThrowDataPersistenceException_onGenericException() {
         when(categoryJpaMapper.toJpaEntity(any(Category.class))).thenThrow(new RuntimeException("Mapper error"));
@@ -87,6 +107,58 @@ class CategoryRepositoryAdapterTest {
         verify(springDataCategoryRepository).findById(1L);
     }
 
+    @Test
+    void findById_shouldServeRepeatedLookupsFromCache() {
+        when(springDataCategoryRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(categoryJpaMapper.toDomainEntity(testEntity)).thenReturn(testCategory);
+
+        Category first = categoryRepositoryAdapter.findById(1L).orElseThrow();
+        Category second = categoryRepositoryAdapter.findById(1L).orElseThrow();
+
+        assertEquals(first.getName(), second.getName());
+        assertNotSame(first, second);
+        verify(springDataCategoryRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void findById_shouldReloadCategory_afterSaveOrDelete() {
+        when(springDataCategoryRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(categoryJpaMapper.toDomainEntity(testEntity)).thenReturn(testCategory);
+        when(categoryJpaMapper.toJpaEntity(any(Category.class))).thenReturn(testEntity);
+        when(springDataCategoryRepository.saveAndFlush(testEntity)).thenReturn(testEntity);
+
+        categoryRepositoryAdapter.findById(1L);
+        categoryRepositoryAdapter.save(testCategory);
+        categoryRepositoryAdapter.findById(1L);
+        categoryRepositoryAdapter.deleteById(1L);
+        categoryRepositoryAdapter.findById(1L);
+
+        verify(springDataCategoryRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void findById_shouldNotCacheCategory_readInsideTheTransactionThatSavedIt() {
+        when(springDataCategoryRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(categoryJpaMapper.toDomainEntity(testEntity)).thenReturn(testCategory);
+        when(categoryJpaMapper.toJpaEntity(any(Category.class))).thenReturn(testEntity);
+        when(springDataCategoryRepository.saveAndFlush(testEntity)).thenReturn(testEntity);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            categoryRepositoryAdapter.save(testCategory);
+            categoryRepositoryAdapter.findById(1L);
+            categoryRepositoryAdapter.findById(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        categoryRepositoryAdapter.findById(1L);
+        categoryRepositoryAdapter.findById(1L);
+
+        verify(springDataCategoryRepository, times(3)).findById(1L);
+    }
+
     @Test
     void findById_shouldReturnEmptyOptional_whenNotFound() {
         when(springDataCategoryRepository.findById(99L)).thenReturn(Optional.empty());
@@ -4,7 +4,9 @@ import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CustomerJpaEnt
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCustomerRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.CustomerJpaMapper;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.model.Customer;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
@@ -48,7 +51,7 @@ class CustomerRepositoryAdapterTest {
     @Test
     void save_shouldReturnSavedCustomer_whenSaveIsSuccessful() {
         when(customerJpaMapper.toJpaEntity(any(Customer.class))).thenReturn(testEntity);
-        when(springDataCustomerRepository.save(any(CustomerJpaEntity.class))).thenReturn(testEntity);
+        when(springDataCustomerRepository.saveAndFlush(any(CustomerJpaEntity.class))).thenReturn(testEntity);
         when(customerJpaMapper.toDomainEntity(any(CustomerJpaEntity.class))).thenReturn(testCustomer);
 
         Customer savedCustomer = customerRepositoryAdapter.save(testCustomer);
@@ -56,19 +59,29 @@ class CustomerRepositoryAdapterTest {
         assertNotNull(savedCustomer);
         assertEquals(testCustomer.getId(), savedCustomer.getId());
         assertEquals(testCustomer.getEmail(), savedCustomer.getEmail());
-        verify(springDataCustomerRepository).save(testEntity);
+        verify(springDataCustomerRepository).saveAndFlush(testEntity);
         verify(customerJpaMapper).toDomainEntity(testEntity);
     }
 
     @Test
     void save_shouldThrowDataPersistenceException_onDataAccessException() {
         when(customerJpaMapper.toJpaEntity(any(Customer.class))).thenReturn(testEntity);
-        when(springDataCustomerRepository.save(any(CustomerJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate email"));
+        when(springDataCustomerRepository.saveAndFlush(any(CustomerJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate email"));
 
         DataPersistenceException exception = assertThrows(DataPersistenceException.class, () -> customerRepositoryAdapter.save(testCustomer));
         assertTrue(exception.getMessage().contains("Failed to save customer due to data integrity violation."));
     }
 
+
+    @Test
+    void save_shouldThrowDuplicateEntryException_whenUniqueConstraintIsViolated() {
+        when(customerJpaMapper.toJpaEntity(any(Customer.class))).thenReturn(testEntity);
+        when(springDataCustomerRepository.saveAndFlush(any(CustomerJpaEntity.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException("23505"), "PUBLIC.UK_CUSTOMER_PHONE_INDEX_A")));
+
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> customerRepositoryAdapter.save(testCustomer));
+        assertEquals("Customer with phone '" + testCustomer.getPhone() + "' already exists.", exception.getMessage());
+    }
     @Test
     void save_shouldThrowDataPersistenceException_onGenericException() {
         when(customerJpaMapper.toJpaEntity(any(Customer.class))).thenThrow(new RuntimeException("Mapper error"));
@@ -0,0 +1,77 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway-migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FlywayMigrationValidationTest {
+    private static final String MIGRATIONS = "db/migration";
+    private static final String H2_OVERRIDES = "db/migration-h2";
+
+    @TempDir
+    static Path migrations;
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void flywayLocations(DynamicPropertyRegistry registry) throws IOException {
+        copy(MIGRATIONS);
+        copy(H2_OVERRIDES);
+        registry.add("spring.flyway.locations", () -> "filesystem:" + migrations.toAbsolutePath());
+    }
+
+    @Test
+    void migrate_shouldApplyEveryVersionBeforeHibernateValidatesTheSchema() throws IOException {
+        try (Stream<Path> scripts = Files.list(migrations)) {
+            assertEquals(scripts.count(), flyway.info().applied().length);
+        }
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void migrate_shouldCreateOrderKeysetIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 't_order'", String.class);
+
+        assertEquals(3, indexes.stream()
+                .filter(List.of("idx_order_created_at_id", "idx_order_customer_created_at_id", "idx_order_user_created_at_id")::contains)
+                .count());
+    }
+
+    private static void copy(String location) throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:" + location + "/*.sql")) {
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, migrations.resolve(resource.getFilename()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+class OfferRepositoryAdapterQueryCountTest {
+    private static final int OFFER_COUNT = 10;
+
+    @Autowired
+    private OfferRepositoryAdapter offerRepositoryAdapter;
+    @Autowired
+    private CategoryRepositoryAdapter categoryRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity category = testEntityManager.persist(new CategoryJpaEntity(null, "Category", "desc", now, now));
+        SupplierJpaEntity supplier = testEntityManager.persist(new SupplierJpaEntity(null, "Supplier", "supp@mail.com", "333", "address", "desc", now, now));
+        for (int i = 0; i < OFFER_COUNT; i++) {
+            testEntityManager.persist(new OfferJpaEntity(null, "Offer " + i, Money.ofMinor(1000 + 100L * i), OfferType.PRODUCT, "desc", category, supplier, now, now, null));
+        }
+        categoryId = category.getId();
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void search_shouldResolveCategoryAndSupplierWithoutExtraQueries() {
+        Page<Offer> page = offerRepositoryAdapter.search(OfferSearchCriteria.any(), PageRequest.of(0, OFFER_COUNT * 2));
+
+        assertEquals(OFFER_COUNT, page.getContent().size());
+        page.getContent().forEach(offer -> {
+            assertEquals("Category", offer.getCategory().getName());
+            assertEquals("Supplier", offer.getSupplier().getName());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_shouldFetchCategoryAndSupplierInOneStatementWithoutSecondLevelCache() {
+        Long id = offerIds().getFirst();
+        statistics.clear();
+
+        Offer offer = offerRepositoryAdapter.findById(id).orElseThrow();
+
+        assertEquals("Category", offer.getCategory().getName());
+        assertEquals("Supplier", offer.getSupplier().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByIds_shouldLoadAllOffersInOneStatementWithoutSecondLevelCache() {
+        List<Long> ids = offerIds();
+        statistics.clear();
+
+        List<Offer> offers = offerRepositoryAdapter.findAllByIds(ids);
+
+        assertEquals(OFFER_COUNT, offers.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_shouldServeCategoryFromCacheAndReloadAfterSave() {
+        Category category = categoryRepositoryAdapter.findById(categoryId).orElseThrow();
+        categoryRepositoryAdapter.findById(categoryId);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        category.updateDetails("Renamed", "desc");
+        categoryRepositoryAdapter.save(category);
+        testEntityManager.flush();
+        statistics.clear();
+
+        assertEquals("Renamed", categoryRepositoryAdapter.findById(categoryId).orElseThrow().getName());
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", "categories").tag("result", "hit").functionCounter().count() >= 1);
+    }
+
+    private List<Long> offerIds() {
+        List<Long> ids = testEntityManager.getEntityManager()
+                .createQuery("select o.id from OfferJpaEntity o order by o.id", Long.class)
+                .getResultList();
+        testEntityManager.clear();
+        return ids;
+    }
+}
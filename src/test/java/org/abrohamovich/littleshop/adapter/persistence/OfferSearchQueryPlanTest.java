@@ -0,0 +1,183 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.abrohamovich.littleshop.adapter.persistence.RecordingStatementInspector"
+})
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+class OfferSearchQueryPlanTest {
+    private static final int OFFERS_PER_COMBINATION = 5;
+
+    @Autowired
+    private OfferRepositoryAdapter offerRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> supplierIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CategoryJpaEntity> categories = new ArrayList<>();
+        List<SupplierJpaEntity> suppliers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            categories.add(testEntityManager.persist(new CategoryJpaEntity(null, "Category " + i, "desc", now, now)));
+            suppliers.add(testEntityManager.persist(new SupplierJpaEntity(null, "Supplier " + i, "supp" + i + "@mail.com", "33" + i, "address", "desc", now, now)));
+        }
+        for (CategoryJpaEntity category : categories) {
+            for (SupplierJpaEntity supplier : suppliers) {
+                for (int i = 0; i < OFFERS_PER_COMBINATION; i++) {
+                    OfferType type = i % 2 == 0 ? OfferType.PRODUCT : OfferType.SERVICE;
+                    String name = (i == 0 ? "Premium " : "Basic ") + category.getName() + " " + supplier.getName() + " " + i;
+                    testEntityManager.persist(new OfferJpaEntity(null, name, Money.ofMinor(1000L * (i + 1)), type, "desc", category, supplier, now, now, null));
+                }
+            }
+        }
+        categories.forEach(category -> categoryIds.add(category.getId()));
+        suppliers.forEach(supplier -> supplierIds.add(supplier.getId()));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void search_shouldCombineEveryFilterInSingleStatement() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.builder()
+                .name("basic")
+                .categoryId(categoryIds.get(1))
+                .supplierId(supplierIds.get(2))
+                .type(OfferType.PRODUCT)
+                .minPrice(Money.ofMinor(2000))
+                .maxPrice(Money.ofMinor(4000))
+                .build();
+
+        Page<Offer> page = offerRepositoryAdapter.search(criteria, PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        Offer offer = page.getContent().get(0);
+        assertEquals(categoryIds.get(1), offer.getCategory().getId());
+        assertEquals(supplierIds.get(2), offer.getSupplier().getId());
+        assertEquals(OfferType.PRODUCT, offer.getType());
+        assertEquals(Money.ofMinor(3000), offer.getPrice());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void search_shouldApplyRequestedSortWithIdTieBreaker() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.builder().categoryId(categoryIds.get(0)).build();
+
+        Page<Offer> page = offerRepositoryAdapter.search(criteria, PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "price")));
+
+        assertEquals(3 * OFFERS_PER_COMBINATION, page.getTotalElements());
+        List<Offer> content = page.getContent();
+        for (int i = 1; i < content.size(); i++) {
+            Offer previous = content.get(i - 1);
+            Offer current = content.get(i);
+            int byPrice = previous.getPrice().compareTo(current.getPrice());
+            assertTrue(byPrice > 0 || (byPrice == 0 && previous.getId() < current.getId()));
+        }
+        assertEquals(Money.ofMinor(5000), content.get(0).getPrice());
+    }
+
+    @Test
+    void streamSearch_shouldVisitEveryMatchInIdOrder() {
+        List<Offer> streamed = new ArrayList<>();
+
+        offerRepositoryAdapter.streamSearch(OfferSearchCriteria.builder().supplierId(supplierIds.get(0)).type(OfferType.SERVICE).build(), streamed::add);
+
+        assertEquals(3 * 2, streamed.size());
+        for (int i = 1; i < streamed.size(); i++) {
+            assertTrue(streamed.get(i - 1).getId() < streamed.get(i).getId());
+        }
+    }
+
+    @Test
+    void search_shouldUseCategoryPriceIndex() {
+        offerRepositoryAdapter.search(OfferSearchCriteria.builder().categoryId(categoryIds.get(0)).minPrice(Money.ofMinor(2000)).build(),
+                PageRequest.of(0, 100));
+
+        String plan = explainLastOfferQuery(categoryIds.get(0), 20.0, 100);
+
+        assertTrue(plan.contains("IDX_OFFER_CATEGORY_PRICE"), plan);
+    }
+
+    @Test
+    void search_shouldUseSupplierPriceIndex() {
+        offerRepositoryAdapter.search(OfferSearchCriteria.builder().supplierId(supplierIds.get(0)).maxPrice(Money.ofMinor(3000)).build(),
+                PageRequest.of(0, 100));
+
+        String plan = explainLastOfferQuery(supplierIds.get(0), 30.0, 100);
+
+        assertTrue(plan.contains("IDX_OFFER_SUPPLIER_PRICE"), plan);
+    }
+
+    @Test
+    void search_shouldUseTypePriceIndex() {
+        offerRepositoryAdapter.search(OfferSearchCriteria.builder().type(OfferType.SERVICE).minPrice(Money.ofMinor(1000)).maxPrice(Money.ofMinor(2000)).build(),
+                PageRequest.of(0, 100));
+
+        String plan = explainLastOfferQuery(OfferType.SERVICE.name(), 10.0, 20.0, 100);
+
+        assertTrue(plan.contains("IDX_OFFER_TYPE_PRICE"), plan);
+    }
+
+    @Test
+    void search_shouldUsePriceIndex_whenOnlyPriceRangeIsGiven() {
+        offerRepositoryAdapter.search(OfferSearchCriteria.builder().minPrice(Money.ofMinor(1000)).maxPrice(Money.ofMinor(2000)).build(),
+                PageRequest.of(0, 100));
+
+        String plan = explainLastOfferQuery(10.0, 20.0, 100);
+
+        assertTrue(plan.contains("IDX_OFFER_PRICE"), plan);
+    }
+
+    private String explainLastOfferQuery(Object... parameters) {
+        String sql = RecordingStatementInspector.statements().stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("from t_offer"))
+                .filter(statement -> !statement.toLowerCase(Locale.ROOT).startsWith("select count"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters))
+                .toUpperCase(Locale.ROOT);
+    }
+}
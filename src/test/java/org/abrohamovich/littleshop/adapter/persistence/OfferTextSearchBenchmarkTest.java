@@ -0,0 +1,114 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.OfferTextSearchQueries;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class OfferTextSearchBenchmarkTest {
+    private static final String SCHEMA = "offer_search_benchmark";
+    private static final int OFFER_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 15;
+    private static final List<String> TERMS = List.of("espresso", "oat", "ginger syrup", "decaf", "zzz");
+
+    private static final String LIKE_IDS = "SELECT o.id FROM t_offer o " +
+            "WHERE LOWER(o.name) LIKE LOWER(CONCAT('%', :term, '%')) ORDER BY o.id LIMIT " + PAGE_SIZE;
+    private static final String LIKE_COUNT = "SELECT count(*) FROM t_offer o " +
+            "WHERE LOWER(o.name) LIKE LOWER(CONCAT('%', :term, '%'))";
+    private static final String INDEXED_IDS = OfferTextSearchQueries.SEARCH_IDS + " LIMIT " + PAGE_SIZE;
+
+    @Test
+    void trigramSearch_shouldBeatSequentialLikeScanAtOneMillionOffers() {
+        String url = System.getProperty("benchmark.postgres.url");
+        Assumptions.assumeTrue(url != null, "set -Dbenchmark.postgres.url (and .username/.password) to run against PostgreSQL");
+        String username = System.getProperty("benchmark.postgres.username", "postgres");
+        String password = System.getProperty("benchmark.postgres.password", "postgres");
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public", username, password);
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMA).cleanDisabled(false).target("3").load().clean();
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMA).target("3").load().migrate();
+        seed(jdbc);
+
+        double likeMedianMillis = measure("LIKE scan", term -> {
+            MapSqlParameterSource params = new MapSqlParameterSource("term", term);
+            jdbc.queryForList(LIKE_IDS, params, Long.class);
+            jdbc.queryForObject(LIKE_COUNT, params, Long.class);
+        });
+        printPlan(jdbc, LIKE_IDS, new MapSqlParameterSource("term", "ginger syrup"));
+
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMA).load().migrate();
+        jdbc.getJdbcTemplate().execute("ANALYZE t_offer");
+
+        double indexedMedianMillis = measure("trigram index", term -> {
+            MapSqlParameterSource params = new MapSqlParameterSource("term", term)
+                    .addValue("pattern", OfferTextSearchQueries.containsPattern(term));
+            jdbc.queryForList(INDEXED_IDS, params, Long.class);
+            jdbc.queryForObject(OfferTextSearchQueries.COUNT, params, Long.class);
+        });
+        printPlan(jdbc, INDEXED_IDS, new MapSqlParameterSource("term", "ginger syrup")
+                .addValue("pattern", OfferTextSearchQueries.containsPattern("ginger syrup")));
+
+        System.out.printf("offer text search over %,d offers (median per page incl. count): LIKE %.1f ms, trigram %.1f ms%n",
+                OFFER_COUNT, likeMedianMillis, indexedMedianMillis);
+        assertTrue(indexedMedianMillis < likeMedianMillis);
+    }
+
+    private void seed(NamedParameterJdbcTemplate jdbc) {
+        jdbc.getJdbcTemplate().execute("INSERT INTO t_category (id, name, description, created_at) " +
+                "SELECT g, 'Category ' || g, 'Benchmark category', now() FROM generate_series(1, 50) g");
+        jdbc.getJdbcTemplate().execute("INSERT INTO t_supplier (id, name, email, phone, description, created_at) " +
+                "SELECT g, 'Supplier ' || g, 'supplier' || g || '@mail.com', '+1' || g, 'Benchmark supplier', now() " +
+                "FROM generate_series(1, 50) g");
+        jdbc.getJdbcTemplate().execute("INSERT INTO t_offer (id, name, price, type, description, category_id, supplier_id, created_at) " +
+                "SELECT g, " +
+                "(ARRAY['Espresso','Latte','Cappuccino','Mocha','Americano','Chai','Matcha','Cold Brew','Decaf','Flat White'])[1 + g % 10] || ' ' || " +
+                "(ARRAY['Oat','Almond','Soy','Vanilla','Caramel','Hazelnut','Ginger','Cinnamon','Honey','Classic'])[1 + (g / 10) % 10] || ' ' || " +
+                "substr(md5(g::text), 1, 8), " +
+                "1 + (g % 5000) / 100.0, " +
+                "CASE WHEN g % 7 = 0 THEN 'SERVICE' ELSE 'PRODUCT' END, " +
+                "'Batch ' || (g / 1000) || ' with ' || (ARRAY['syrup','foam','ice','extra shot','whipped cream'])[1 + g % 5], " +
+                "1 + g % 50, 1 + (g / 50) % 50, now() " +
+                "FROM generate_series(1, " + OFFER_COUNT + ") g");
+        jdbc.getJdbcTemplate().execute("ANALYZE");
+    }
+
+    private double measure(String name, Consumer<String> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            TERMS.forEach(query);
+        }
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            for (String term : TERMS) {
+                long start = System.nanoTime();
+                query.accept(term);
+                samples.add((System.nanoTime() - start) / 1_000_000.0);
+            }
+        }
+        Collections.sort(samples);
+        double median = samples.get(samples.size() / 2);
+        double p95 = samples.get((int) Math.ceil(samples.size() * 0.95) - 1);
+        System.out.printf("%s: median %.1f ms, p95 %.1f ms%n", name, median, p95);
+        return median;
+    }
+
+    private void printPlan(NamedParameterJdbcTemplate jdbc, String sql, MapSqlParameterSource params) {
+        System.out.println(String.join(System.lineSeparator(),
+                jdbc.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, params, String.class)));
+    }
+}
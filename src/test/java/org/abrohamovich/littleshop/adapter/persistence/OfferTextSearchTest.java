@@ -0,0 +1,106 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataOfferRepository;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+class OfferTextSearchTest {
+    @Autowired
+    private OfferRepositoryAdapter offerRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @MockitoSpyBean
+    private SpringDataOfferRepository springDataOfferRepository;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity category = testEntityManager.persist(new CategoryJpaEntity(null, "Drinks", "desc", now, now));
+        SupplierJpaEntity supplier = testEntityManager.persist(new SupplierJpaEntity(null, "Roastery", "roastery@mail.com", "333", "address", "desc", now, now));
+        for (String[] offer : List.of(
+                new String[]{"Espresso", "Short black coffee"},
+                new String[]{"Espresso Doppio", "Double shot"},
+                new String[]{"Flat White", "Milk coffee with an espresso base"},
+                new String[]{"Green Tea", "Loose leaf"},
+                new String[]{"100% Arabica Beans", "Whole beans"},
+                new String[]{"1000 Arabica Capsules", "Capsules"})) {
+            testEntityManager.persist(new OfferJpaEntity(null, offer[0], Money.ofMinor(350), OfferType.PRODUCT, offer[1], category, supplier, now, now, null));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void searchByText_shouldMatchNameAndDescriptionCaseInsensitively() {
+        Page<Offer> page = offerRepositoryAdapter.searchByText("ESPRESSO", PageRequest.of(0, 10));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("Espresso", "Espresso Doppio", "Flat White"),
+                page.getContent().stream().map(Offer::getName).toList());
+    }
+
+    @Test
+    void searchByText_shouldRankCloserNameMatchesFirst() {
+        Page<Offer> page = offerRepositoryAdapter.searchByText("coffee", PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals("Espresso", page.getContent().get(0).getName());
+    }
+
+    @Test
+    void searchByText_shouldTreatWildcardsLiterally() {
+        Page<Offer> page = offerRepositoryAdapter.searchByText("100%", PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals("100% Arabica Beans", page.getContent().get(0).getName());
+    }
+
+    @Test
+    void searchByText_shouldPageRankedResults() {
+        Page<Offer> firstPage = offerRepositoryAdapter.searchByText("espresso", PageRequest.of(0, 2));
+        Page<Offer> secondPage = offerRepositoryAdapter.searchByText("espresso", PageRequest.of(1, 2));
+
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getContent().size());
+        assertEquals(List.of("Flat White"), secondPage.getContent().stream().map(Offer::getName).toList());
+    }
+
+    @Test
+    void searchByText_shouldSkipOffersDeletedAfterTheIdPageWasRead() {
+        List<Long> ids = testEntityManager.getEntityManager()
+                .createQuery("select o.id from OfferJpaEntity o where o.name in ('Espresso', 'Flat White') order by o.name", Long.class)
+                .getResultList();
+        List<Long> idsWithDeletedOffer = List.of(ids.getFirst(), Long.MAX_VALUE, ids.getLast());
+        doReturn(new PageImpl<>(idsWithDeletedOffer, PageRequest.of(0, 10), idsWithDeletedOffer.size()))
+                .when(springDataOfferRepository).searchIdsByText(any(), any(), any());
+
+        Page<Offer> page = offerRepositoryAdapter.searchByText("espresso", PageRequest.of(0, 10));
+
+        assertEquals(List.of("Espresso", "Flat White"), page.getContent().stream().map(Offer::getName).toList());
+    }
+}
@@ -0,0 +1,160 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemAddToOrderCommand;
+import org.abrohamovich.littleshop.application.usecase.order.AddOrderItemToOrderService;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderOptimisticLockingStressTest {
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 10;
+    private static final Money SEED_ITEM_PRICE = Money.ofMinor(100);
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+    @Autowired
+    private OfferRepositoryAdapter offerRepositoryAdapter;
+    @Autowired
+    private SalesAnalyticsRepositoryAdapter salesAnalyticsRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private List<Long> offerIds;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            CategoryJpaEntity category = testEntityManager.persist(new CategoryJpaEntity(null, "Category", "desc", now, now));
+            SupplierJpaEntity supplier = testEntityManager.persist(new SupplierJpaEntity(null, "Supplier", "supp@mail.com", "333", "address", "desc", now, now));
+            CustomerJpaEntity customer = testEntityManager.persist(new CustomerJpaEntity(null, "John", "Doe", "john@mail.com", "111", "address", now, now));
+            UserJpaEntity user = testEntityManager.persist(new UserJpaEntity(null, "Jane", "Smith", "jane@mail.com", "hash", UserRole.WORKER, "222", now, now, 0L));
+
+            offerIds = new ArrayList<>();
+            List<OfferJpaEntity> offers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                offers.add(testEntityManager.persist(new OfferJpaEntity(null, "Offer " + i, Money.ofMinor(100L * (i + 1)), OfferType.PRODUCT, "desc", category, supplier, now, now, null)));
+                offerIds.add(offers.get(i).getId());
+            }
+
+            OrderJpaEntity order = new OrderJpaEntity();
+            order.setCustomer(customer);
+            order.setUser(user);
+            order.setStatus(OrderStatus.IN_PROGRESS);
+            order.setCreatedAt(now);
+            order.setUpdatedAt(now);
+            order.setTotalPrice(SEED_ITEM_PRICE);
+            order.setItemCount(1);
+            order.addOrderItem(new OrderItemJpaEntity(null, offers.get(0), 1, SEED_ITEM_PRICE, now, now, null));
+            orderId = testEntityManager.persist(order).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String entity : List.of("SalesDailyRollupJpaEntity", "OrderItemJpaEntity", "OrderJpaEntity", "OfferJpaEntity",
+                    "CustomerJpaEntity", "UserJpaEntity", "CategoryJpaEntity", "SupplierJpaEntity")) {
+                testEntityManager.getEntityManager().createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void concurrentAddItem_shouldNeverLoseAnAcknowledgedUpdate() throws Exception {
+        AddOrderItemToOrderService service = new AddOrderItemToOrderService(orderRepositoryAdapter, offerRepositoryAdapter);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acknowledged = new AtomicInteger();
+        AtomicInteger acknowledgedQuantity = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            Long offerId = offerIds.get(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    int quantity = i + 1;
+                    try {
+                        service.add(orderId, new OrderItemAddToOrderCommand(offerId, quantity, null));
+                        acknowledged.incrementAndGet();
+                        acknowledgedQuantity.addAndGet(quantity);
+                    } catch (VersionConflictException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Order order = orderRepositoryAdapter.findById(orderId).orElseThrow();
+        Money expectedTotal = order.getItems().stream().map(OrderItem::subtotal).reduce(Money.ZERO, Money::plus);
+        List<DailySalesResponse> daily = salesAnalyticsRepositoryAdapter.findDailySales(SalesAnalyticsQuery.builder()
+                .from(LocalDate.now()).to(LocalDate.now()).build());
+
+        assertEquals(THREADS * ADDS_PER_THREAD, acknowledged.get() + rejected.get());
+        assertTrue(acknowledged.get() > 0);
+        assertEquals(1 + acknowledged.get(), order.getItems().size());
+        assertEquals(1 + acknowledged.get(), order.getItemCount());
+        assertEquals(expectedTotal, order.getTotalPrice());
+        assertEquals(acknowledged.get(), order.getVersion());
+        assertEquals(acknowledgedQuantity.get(), daily.get(0).getQuantity());
+        assertEquals(expectedTotal.minus(SEED_ITEM_PRICE), daily.get(0).getRevenue());
+    }
+
+    @Test
+    void save_shouldRejectStaleCopyInsteadOfOverwritingConcurrentChange() {
+        Offer offer = offerRepositoryAdapter.findById(offerIds.get(0)).orElseThrow();
+        Order first = orderRepositoryAdapter.findById(orderId).orElseThrow();
+        Order second = orderRepositoryAdapter.findById(orderId).orElseThrow();
+
+        first.addOrderItem(offer, 1);
+        orderRepositoryAdapter.save(first);
+        second.addOrderItem(offer, 2);
+
+        assertThrows(VersionConflictException.class, () -> orderRepositoryAdapter.save(second));
+        Order persisted = orderRepositoryAdapter.findById(orderId).orElseThrow();
+        assertEquals(2, persisted.getItems().size());
+        assertEquals(Money.ofMinor(200), persisted.getTotalPrice());
+        assertEquals(1L, persisted.getVersion());
+    }
+}
@@ -0,0 +1,175 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+class OrderRepositoryAdapterQueryCountTest {
+    private static final int ITEMS_PER_ORDER = 20;
+    private static final int ORDER_COUNT = 12;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long firstOrderId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity category = testEntityManager.persist(new CategoryJpaEntity(null, "Category", "desc", now, now));
+        SupplierJpaEntity supplier = testEntityManager.persist(new SupplierJpaEntity(null, "Supplier", "supp@mail.com", "333", "address", "desc", now, now));
+        CustomerJpaEntity customer = testEntityManager.persist(new CustomerJpaEntity(null, "John", "Doe", "john@mail.com", "111", "address", now, now));
+        UserJpaEntity user = testEntityManager.persist(new UserJpaEntity(null, "Jane", "Smith", "jane@mail.com", "hash", UserRole.WORKER, "222", now, now, 0L));
+
+        List<OfferJpaEntity> offers = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            offers.add(testEntityManager.persist(new OfferJpaEntity(null, "Offer " + i, Money.ofMinor(1000 + 100L * i), OfferType.PRODUCT, "desc", category, supplier, now, now, null)));
+        }
+
+        for (int o = 0; o < ORDER_COUNT; o++) {
+            OrderJpaEntity order = new OrderJpaEntity();
+            order.setCustomer(customer);
+            order.setUser(user);
+            order.setStatus(OrderStatus.IN_PROGRESS);
+            order.setCreatedAt(now);
+            order.setUpdatedAt(now);
+            for (OfferJpaEntity offer : offers) {
+                order.addOrderItem(new OrderItemJpaEntity(null, offer, 2, offer.getPrice(), now, now, null));
+            }
+            testEntityManager.persist(order);
+            if (firstOrderId == null) {
+                firstOrderId = order.getId();
+            }
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_shouldHydrateWholeOrderWithSingleStatement() {
+        Optional<Order> order = orderRepositoryAdapter.findById(firstOrderId);
+
+        assertTrue(order.isPresent());
+        assertEquals(ITEMS_PER_ORDER, order.get().getItems().size());
+        assertNotNull(order.get().getCustomer());
+        assertNotNull(order.get().getUser());
+        order.get().getItems().forEach(item -> {
+            assertNotNull(item.getOffer().getCategory());
+            assertNotNull(item.getOffer().getSupplier());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAll_shouldPageIdsThenFetchGraphs() {
+        Page<Order> page = orderRepositoryAdapter.findAll(PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(ORDER_COUNT, page.getTotalElements());
+        page.getContent().forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void scrollAll_shouldSeekIdsThenFetchGraphs() {
+        Window<Order> firstWindow = orderRepositoryAdapter.scrollAll(ScrollPosition.keyset(), PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, firstWindow.size());
+        assertTrue(firstWindow.hasNext());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        KeysetScrollPosition next = (KeysetScrollPosition) firstWindow.positionAt(firstWindow.size() - 1);
+        Window<Order> secondWindow = orderRepositoryAdapter.scrollAll(next, PAGE_SIZE);
+
+        assertEquals(ORDER_COUNT - PAGE_SIZE, secondWindow.size());
+        assertFalse(secondWindow.hasNext());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        Set<Long> seenIds = new HashSet<>();
+        firstWindow.forEach(order -> seenIds.add(order.getId()));
+        secondWindow.forEach(order -> assertTrue(seenIds.add(order.getId())));
+        assertEquals(ORDER_COUNT, seenIds.size());
+    }
+
+    @Test
+    void save_shouldInsertWithoutReReadingReferencedEntities() {
+        Order existing = orderRepositoryAdapter.findById(firstOrderId).orElseThrow();
+        List<OrderItem> items = existing.getItems().stream()
+                .map(item -> OrderItem.createNew(item.getOffer(), 1))
+                .toList();
+        Order newOrder = Order.createNew(existing.getCustomer(), existing.getUser(), items);
+        testEntityManager.clear();
+        statistics.clear();
+
+        Order saved = orderRepositoryAdapter.save(newOrder);
+        testEntityManager.flush();
+
+        assertNotNull(saved.getId());
+        assertEquals(ITEMS_PER_ORDER, saved.getItems().size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1 + ITEMS_PER_ORDER, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void save_shouldBatchItemInsertsWithPooledSequenceIds() {
+        Order existing = orderRepositoryAdapter.findById(firstOrderId).orElseThrow();
+        List<OrderItem> items = existing.getItems().stream()
+                .map(item -> OrderItem.createNew(item.getOffer(), 1))
+                .toList();
+        Order newOrder = Order.createNew(existing.getCustomer(), existing.getUser(), items);
+        testEntityManager.clear();
+        statistics.clear();
+
+        Order saved = orderRepositoryAdapter.save(newOrder);
+        testEntityManager.flush();
+
+        Set<Long> itemIds = new HashSet<>();
+        saved.getItems().forEach(item -> assertTrue(itemIds.add(item.getId())));
+        assertEquals(ITEMS_PER_ORDER, itemIds.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "expected one batched insert per table plus at most one sequence fetch per table, was "
+                        + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAll_shouldHydrateOrdersInBatchesFromIdCursor() {
+        List<Order> streamed = new ArrayList<>();
+
+        orderRepositoryAdapter.streamAll(streamed::add);
+
+        assertEquals(ORDER_COUNT, streamed.size());
+        streamed.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        assertEquals(ORDER_COUNT, streamed.stream().map(Order::getId).distinct().count());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
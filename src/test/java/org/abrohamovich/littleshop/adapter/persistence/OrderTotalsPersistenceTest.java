@@ -0,0 +1,98 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+class OrderTotalsPersistenceTest {
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private CustomerJpaEntity customer;
+    private UserJpaEntity user;
+    private OfferJpaEntity offer;
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity category = testEntityManager.persist(new CategoryJpaEntity(null, "Category", "desc", now, now));
+        SupplierJpaEntity supplier = testEntityManager.persist(new SupplierJpaEntity(null, "Supplier", "supp@mail.com", "333", "address", "desc", now, now));
+        customer = testEntityManager.persist(new CustomerJpaEntity(null, "John", "Doe", "john@mail.com", "111", "address", now, now));
+        user = testEntityManager.persist(new UserJpaEntity(null, "Jane", "Smith", "jane@mail.com", "hash", UserRole.WORKER, "222", now, now, 0L));
+        offer = testEntityManager.persist(new OfferJpaEntity(null, "Offer", Money.ofMinor(1000), OfferType.PRODUCT, "desc", category, supplier, now, now, null));
+
+        for (int quantity : new int[]{3, 1, 5, 2}) {
+            OrderJpaEntity order = new OrderJpaEntity();
+            order.setCustomer(customer);
+            order.setUser(user);
+            order.setStatus(OrderStatus.IN_PROGRESS);
+            order.setCreatedAt(now);
+            order.setUpdatedAt(now);
+            order.setTotalPrice(offer.getPrice().times(quantity));
+            order.setItemCount(1);
+            order.addOrderItem(new OrderItemJpaEntity(null, offer, quantity, offer.getPrice(), now, now, null));
+            orderIds.add(testEntityManager.persist(order).getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void search_shouldFilterByTotalRangeAndSortByTotal() {
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().minTotal(Money.ofMinor(2000)).maxTotal(Money.ofMinor(5000)).build();
+
+        Page<Order> page = orderRepositoryAdapter.search(criteria,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "totalPrice")));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(Money.ofMinor(5000), Money.ofMinor(3000), Money.ofMinor(2000)), page.getContent().stream().map(Order::getTotalPrice).toList());
+    }
+
+    @Test
+    void search_shouldPageWithStableOrderAndCount() {
+        Page<Order> page = orderRepositoryAdapter.search(OrderSearchCriteria.builder().customerId(customer.getId()).build(),
+                PageRequest.of(1, 3, Sort.by("totalPrice")));
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        assertEquals(Money.ofMinor(5000), page.getContent().get(0).getTotalPrice());
+    }
+
+    @Test
+    void save_shouldPersistTotalAndItemCount() {
+        Order existing = orderRepositoryAdapter.findById(orderIds.get(0)).orElseThrow();
+        Order newOrder = Order.createNew(existing.getCustomer(), existing.getUser(), List.of(
+                OrderItem.createNew(existing.getItems().get(0).getOffer(), 2),
+                OrderItem.createNew(existing.getItems().get(0).getOffer(), 4)));
+
+        Order saved = orderRepositoryAdapter.save(newOrder);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        OrderJpaEntity persisted = testEntityManager.find(OrderJpaEntity.class, saved.getId());
+        assertEquals(Money.ofMinor(6000), persisted.getTotalPrice());
+        assertEquals(2, persisted.getItemCount());
+    }
+}
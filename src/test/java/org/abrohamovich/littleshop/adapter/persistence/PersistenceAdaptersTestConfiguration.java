@@ -0,0 +1,22 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+
+@TestConfiguration
+@ComponentScan(basePackageClasses = OfferRepositoryAdapter.class)
+class PersistenceAdaptersTestConfiguration {
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    PasswordHasher passwordHasher() {
+        return new PasswordHasher(PasswordHasher.MIN_COST);
+    }
+}
@@ -0,0 +1,165 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+class SalesRollupPersistenceTest {
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+    @Autowired
+    private SalesAnalyticsRepositoryAdapter salesAnalyticsRepositoryAdapter;
+    @Autowired
+    private OfferRepositoryAdapter offerRepositoryAdapter;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Offer coffee;
+    private Offer tea;
+    private Order template;
+    private Long coffeeCategoryId;
+    private Long teaSupplierId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity coffeeCategory = testEntityManager.persist(new CategoryJpaEntity(null, "Coffee", "desc", now, now));
+        CategoryJpaEntity teaCategory = testEntityManager.persist(new CategoryJpaEntity(null, "Tea", "desc", now, now));
+        SupplierJpaEntity roaster = testEntityManager.persist(new SupplierJpaEntity(null, "Roaster", "roaster@mail.com", "333", "address", "desc", now, now));
+        SupplierJpaEntity garden = testEntityManager.persist(new SupplierJpaEntity(null, "Garden", "garden@mail.com", "444", "address", "desc", now, now));
+        CustomerJpaEntity customer = testEntityManager.persist(new CustomerJpaEntity(null, "John", "Doe", "john@mail.com", "111", "address", now, now));
+        UserJpaEntity user = testEntityManager.persist(new UserJpaEntity(null, "Jane", "Smith", "jane@mail.com", "hash", UserRole.WORKER, "222", now, now, 0L));
+        OfferJpaEntity coffeeOffer = testEntityManager.persist(new OfferJpaEntity(null, "Espresso", Money.ofMinor(300), OfferType.PRODUCT, "desc", coffeeCategory, roaster, now, now, null));
+        OfferJpaEntity teaOffer = testEntityManager.persist(new OfferJpaEntity(null, "Sencha", Money.ofMinor(500), OfferType.PRODUCT, "desc", teaCategory, garden, now, now, null));
+
+        OrderJpaEntity seed = new OrderJpaEntity();
+        seed.setCustomer(customer);
+        seed.setUser(user);
+        seed.setStatus(OrderStatus.IN_PROGRESS);
+        seed.setCreatedAt(now);
+        seed.setUpdatedAt(now);
+        seed.setTotalPrice(coffeeOffer.getPrice());
+        seed.setItemCount(1);
+        seed.addOrderItem(new OrderItemJpaEntity(null, coffeeOffer, 1, coffeeOffer.getPrice(), now, now, null));
+        Long seedId = testEntityManager.persist(seed).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        template = orderRepositoryAdapter.findById(seedId).orElseThrow();
+        coffee = offerRepositoryAdapter.findById(coffeeOffer.getId()).orElseThrow();
+        tea = offerRepositoryAdapter.findById(teaOffer.getId()).orElseThrow();
+        coffeeCategoryId = coffeeCategory.getId();
+        teaSupplierId = garden.getId();
+    }
+
+    @Test
+    void save_shouldAccumulateRollupsForNewOrders() {
+        orderRepositoryAdapter.save(newOrder(OrderItem.createNew(coffee, 2), OrderItem.createNew(tea, 1)));
+        orderRepositoryAdapter.save(newOrder(OrderItem.createNew(coffee, 3)));
+
+        List<DailySalesResponse> daily = salesAnalyticsRepositoryAdapter.findDailySales(query());
+
+        assertEquals(1, daily.size());
+        assertEquals(LocalDate.now(), daily.get(0).getDate());
+        assertEquals(6, daily.get(0).getQuantity());
+        assertEquals(Money.ofMinor(2000), daily.get(0).getRevenue());
+    }
+
+    @Test
+    void save_shouldApplyItemAndStatusChangesAsDeltas() {
+        Order order = orderRepositoryAdapter.save(newOrder(OrderItem.createNew(coffee, 2), OrderItem.createNew(tea, 1)));
+
+        order.updateOrderItemQuantity(itemIdFor(order, coffee), 4);
+        order.removeOrderItem(itemIdFor(order, tea));
+        order = orderRepositoryAdapter.save(order);
+        order.addOrderItem(tea, 2);
+        order = orderRepositoryAdapter.save(order);
+
+        List<SalesBreakdownResponse> byOffer = salesAnalyticsRepositoryAdapter.findSalesByOffer(query());
+        assertEquals(List.of("Espresso", "Sencha"), byOffer.stream().map(SalesBreakdownResponse::getName).toList());
+        assertEquals(4, byOffer.get(0).getQuantity());
+        assertEquals(Money.ofMinor(1200), byOffer.get(0).getRevenue());
+        assertEquals(2, byOffer.get(1).getQuantity());
+
+        order.changeStatus(OrderStatus.CANCELLED);
+        orderRepositoryAdapter.save(order);
+
+        assertTrue(salesAnalyticsRepositoryAdapter.findDailySales(query()).isEmpty());
+    }
+
+    @Test
+    void deleteById_shouldRemoveOrderContribution() {
+        orderRepositoryAdapter.save(newOrder(OrderItem.createNew(coffee, 1)));
+        Order order = orderRepositoryAdapter.save(newOrder(OrderItem.createNew(tea, 2)));
+
+        orderRepositoryAdapter.deleteById(order.getId());
+
+        List<SalesBreakdownResponse> byCategory = salesAnalyticsRepositoryAdapter.findSalesByCategory(query());
+        assertEquals(1, byCategory.size());
+        assertEquals("Coffee", byCategory.get(0).getName());
+    }
+
+    @Test
+    void analytics_shouldFilterByCategoryAndSupplier() {
+        orderRepositoryAdapter.saveAll(List.of(
+                newOrder(OrderItem.createNew(coffee, 2)),
+                newOrder(OrderItem.createNew(tea, 3))));
+
+        SalesAnalyticsQuery coffeeOnly = query();
+        coffeeOnly.setCategoryId(coffeeCategoryId);
+        SalesAnalyticsQuery teaOnly = query();
+        teaOnly.setSupplierId(teaSupplierId);
+
+        assertEquals(Money.ofMinor(600), salesAnalyticsRepositoryAdapter.findDailySales(coffeeOnly).get(0).getRevenue());
+        List<SalesBreakdownResponse> byUser = salesAnalyticsRepositoryAdapter.findSalesByUser(teaOnly);
+        assertEquals(1, byUser.size());
+        assertEquals("Jane Smith", byUser.get(0).getName());
+        assertEquals(3, byUser.get(0).getQuantity());
+        assertEquals(Money.ofMinor(1500), byUser.get(0).getRevenue());
+    }
+
+    @Test
+    void analytics_shouldIgnoreDaysOutsideRange() {
+        orderRepositoryAdapter.save(newOrder(OrderItem.createNew(coffee, 1)));
+
+        SalesAnalyticsQuery yesterday = query();
+        yesterday.setFrom(LocalDate.now().minusDays(1));
+        yesterday.setTo(LocalDate.now().minusDays(1));
+
+        assertTrue(salesAnalyticsRepositoryAdapter.findDailySales(yesterday).isEmpty());
+    }
+
+    private Order newOrder(OrderItem... items) {
+        return Order.createNew(template.getCustomer(), template.getUser(), List.of(items));
+    }
+
+    private Long itemIdFor(Order order, Offer offer) {
+        return order.getItems().stream()
+                .filter(item -> item.getOffer().getId().equals(offer.getId()))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private SalesAnalyticsQuery query() {
+        return SalesAnalyticsQuery.builder().from(LocalDate.now()).to(LocalDate.now()).limit(10).build();
+    }
+}
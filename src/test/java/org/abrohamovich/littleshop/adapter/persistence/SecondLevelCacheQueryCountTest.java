@@ -0,0 +1,193 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.*;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.*;
+import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
+import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemCreateCommand;
+import org.abrohamovich.littleshop.application.usecase.order.CreateOrderService;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.abrohamovich.littleshop.infrustructure.config.SecondLevelCacheConfig;
+import org.abrohamovich.littleshop.infrustructure.config.SecondLevelCacheProperties;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PersistenceAdaptersTestConfiguration.class, SecondLevelCacheConfig.class, SecondLevelCacheProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheQueryCountTest {
+    private static final int OFFER_COUNT = 5;
+
+    @Autowired
+    private OfferRepositoryAdapter offerRepositoryAdapter;
+    @Autowired
+    private CategoryRepositoryAdapter categoryRepositoryAdapter;
+    @Autowired
+    private SupplierRepositoryAdapter supplierRepositoryAdapter;
+    @Autowired
+    private OrderRepositoryAdapter orderRepositoryAdapter;
+    @Autowired
+    private CustomerRepositoryAdapter customerRepositoryAdapter;
+    @Autowired
+    private UserRepositoryAdapter userRepositoryAdapter;
+    @Autowired
+    private SpringDataCategoryRepository categoryRepository;
+    @Autowired
+    private SpringDataSupplierRepository supplierRepository;
+    @Autowired
+    private SpringDataOfferRepository offerRepository;
+    @Autowired
+    private SpringDataCustomerRepository customerRepository;
+    @Autowired
+    private SpringDataUserRepository userRepository;
+    @Autowired
+    private SpringDataOrderRepository orderRepository;
+    @Autowired
+    private SpringDataSalesDailyRollupRepository salesDailyRollupRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> offerIds;
+    private Long categoryId;
+    private Long supplierId;
+    private Long customerId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity category = categoryRepository.save(new CategoryJpaEntity(null, "Category", "desc", now, now));
+        SupplierJpaEntity supplier = supplierRepository.save(new SupplierJpaEntity(null, "Supplier", "supp@mail.com", "333", "address", "desc", now, now));
+        customerId = customerRepository.save(new CustomerJpaEntity(null, "John", "Doe", "john@mail.com", "111", "address", now, now)).getId();
+        userId = userRepository.save(new UserJpaEntity(null, "Jane", "Smith", "jane@mail.com", "hash", UserRole.WORKER, "222", now, now, 0L)).getId();
+        offerIds = new ArrayList<>();
+        for (int i = 0; i < OFFER_COUNT; i++) {
+            offerIds.add(offerRepository.save(new OfferJpaEntity(null, "Offer " + i, Money.ofMinor(1000 + 100L * i),
+                    OfferType.PRODUCT, "desc", category, supplier, now, now, null)).getId());
+        }
+        categoryId = category.getId();
+        supplierId = supplier.getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        salesDailyRollupRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+        offerRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        supplierRepository.deleteAllInBatch();
+        customerRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void createOrder_shouldResolveOffersFromSecondLevelCacheOnceWarm() {
+        CreateOrderService createOrderService = new CreateOrderService(orderRepositoryAdapter, offerRepositoryAdapter,
+                customerRepositoryAdapter, userRepositoryAdapter);
+        OrderCreateCommand command = OrderCreateCommand.builder()
+                .customerId(customerId)
+                .userId(userId)
+                .items(offerIds.stream().map(offerId -> new OrderItemCreateCommand(offerId, 1)).toList())
+                .build();
+
+        createOrderService.save(command);
+        long coldStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        createOrderService.save(command);
+        long warmStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("create order with %d offers: %d statements cold, %d warm%n", OFFER_COUNT, coldStatements, warmStatements);
+        assertTrue(warmStatements < coldStatements);
+        assertEquals(OFFER_COUNT, statistics.getDomainDataRegionStatistics(CacheRegions.OFFER).getHitCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics(CacheRegions.OFFER).getMissCount());
+    }
+
+    @Test
+    void findById_shouldServeOfferFromCacheAndSeeCommittedUpdates() {
+        Offer offer = offerRepositoryAdapter.findById(offerIds.get(0)).orElseThrow();
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+        statistics.clear();
+
+        assertEquals("Offer 0", offerRepositoryAdapter.findById(offerIds.get(0)).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        offer.updateDetails("Renamed", offer.getPrice(), offer.getType(), offer.getDescription(),
+                offer.getCategory(), offer.getSupplier());
+        offerRepositoryAdapter.save(offer);
+        statistics.clear();
+
+        assertEquals("Renamed", offerRepositoryAdapter.findById(offerIds.get(0)).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_shouldServeCategoryAndSupplierFromCacheAndSeeCommittedUpdates() {
+        Category category = categoryRepositoryAdapter.findById(categoryId).orElseThrow();
+        Supplier supplier = supplierRepositoryAdapter.findById(supplierId).orElseThrow();
+        statistics.clear();
+
+        categoryRepositoryAdapter.findById(categoryId);
+        supplierRepositoryAdapter.findById(supplierId);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        category.updateDetails("Renamed category", category.getDescription());
+        categoryRepositoryAdapter.save(category);
+        supplier.updateDetails("Renamed supplier", supplier.getEmail(), supplier.getPhone(), supplier.getAddress(),
+                supplier.getDescription());
+        supplierRepositoryAdapter.save(supplier);
+        statistics.clear();
+
+        assertEquals("Renamed category", categoryRepositoryAdapter.findById(categoryId).orElseThrow().getName());
+        assertEquals("Renamed supplier", supplierRepositoryAdapter.findById(supplierId).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteById_shouldEvictOfferFromCache() {
+        offerRepositoryAdapter.findAllByIds(offerIds);
+
+        offerRepositoryAdapter.deleteById(offerIds.get(1));
+
+        assertTrue(offerRepositoryAdapter.findById(offerIds.get(1)).isEmpty());
+        assertEquals(OFFER_COUNT - 1, offerRepositoryAdapter.findAllByIds(offerIds).size());
+    }
+
+    @Test
+    void findByName_shouldCacheQueryUntilTableChanges() {
+        assertTrue(categoryRepositoryAdapter.findByName("Category").isPresent());
+        statistics.clear();
+        assertTrue(categoryRepositoryAdapter.findByName("Category").isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        Category category = categoryRepositoryAdapter.findById(categoryId).orElseThrow();
+        category.updateDetails("Renamed", category.getDescription());
+        categoryRepositoryAdapter.save(category);
+
+        assertTrue(categoryRepositoryAdapter.findByName("Category").isEmpty());
+        assertTrue(categoryRepositoryAdapter.findByName("Renamed").isPresent());
+        assertTrue(supplierRepositoryAdapter.findByEmail("supp@mail.com").isPresent());
+    }
+}
@@ -1,21 +1,27 @@
 package org.abrohamovich.littleshop.adapter.persistence;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataSupplierRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.SupplierJpaMapper;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.model.Supplier;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
@@ -29,6 +35,8 @@ class SupplierRepositoryAdapterTest {
     private SpringDataSupplierRepository springDataSupplierRepository;
     @Mock
     private SupplierJpaMapper supplierJpaMapper;
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
     @InjectMocks
     private SupplierRepositoryAdapter supplierRepositoryAdapter;
 
@@ -48,7 +56,7 @@ class SupplierRepositoryAdapterTest {
     @Test
     void save_shouldReturnSavedSupplier_whenSaveIsSuccessful() {
         when(supplierJpaMapper.toJpaEntity(any(Supplier.class))).thenReturn(testEntity);
-        when(springDataSupplierRepository.save(any(SupplierJpaEntity.class))).thenReturn(testEntity);
+        when(springDataSupplierRepository.saveAndFlush(any(SupplierJpaEntity.class))).thenReturn(testEntity);
         when(supplierJpaMapper.toDomainEntity(any(SupplierJpaEntity.class))).thenReturn(testSupplier);
 
         Supplier savedSupplier = supplierRepositoryAdapter.save(testSupplier);
@@ -56,19 +64,29 @@ class SupplierRepositoryAdapterTest {
         assertNotNull(savedSupplier);
         assertEquals(testSupplier.getId(), savedSupplier.getId());
         assertEquals(testSupplier.getName(), savedSupplier.getName());
-        verify(springDataSupplierRepository).save(testEntity);
+        verify(springDataSupplierRepository).saveAndFlush(testEntity);
         verify(supplierJpaMapper).toDomainEntity(testEntity);
     }
 
     @Test
     void save_shouldThrowDataPersistenceException_onDataAccessException() {
         when(supplierJpaMapper.toJpaEntity(any(Supplier.class))).thenReturn(testEntity);
-        when(springDataSupplierRepository.save(any(SupplierJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+        when(springDataSupplierRepository.saveAndFlush(any(SupplierJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate key"));
 
         DataPersistenceException exception = assertThrows(DataPersistenceException.class, () -> supplierRepositoryAdapter.save(testSupplier));
         assertTrue(exception.getMessage().contains("Failed to save supplier due to data integrity violation."));
     }
 
+
+    @Test
+    void save_shouldThrowDuplicateEntryException_whenUniqueConstraintIsViolated() {
+        when(supplierJpaMapper.toJpaEntity(any(Supplier.class))).thenReturn(testEntity);
+        when(springDataSupplierRepository.saveAndFlush(any(SupplierJpaEntity.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException("23505"), "uk_supplier_name")));
+
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> supplierRepositoryAdapter.save(testSupplier));
+        assertEquals("Supplier with name '" + testSupplier.getName() + "' already exists.", exception.getMessage());
+    }
     @Test
     void save_shouldThrowDataPersistenceException_onGenericException() {
         when(supplierJpaMapper.toJpaEntity(any(Supplier.class))).thenThrow(new RuntimeException("Mapper error"));
@@ -89,6 +107,21 @@ class SupplierRepositoryAdapterTest {
         verify(springDataSupplierRepository).findById(1L);
     }
 
+    @Test
+    void findById_shouldServeRepeatedLookupsFromCacheUntilSaved() {
+        when(springDataSupplierRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(supplierJpaMapper.toDomainEntity(testEntity)).thenReturn(testSupplier);
+        when(supplierJpaMapper.toJpaEntity(any(Supplier.class))).thenReturn(testEntity);
+        when(springDataSupplierRepository.saveAndFlush(testEntity)).thenReturn(testEntity);
+
+        supplierRepositoryAdapter.findById(1L);
+        supplierRepositoryAdapter.findById(1L);
+        supplierRepositoryAdapter.save(testSupplier);
+        supplierRepositoryAdapter.findById(1L);
+
+        verify(springDataSupplierRepository, times(2)).findById(1L);
+    }
+
     @Test
     void findById_shouldReturnEmptyOptional_whenNotFound() {
         when(springDataSupplierRepository.findById(99L)).thenReturn(Optional.empty());
@@ -0,0 +1,92 @@
+package org.abrohamovich.littleshop.adapter.persistence;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCategoryRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCustomerRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataSupplierRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataUserRepository;
+import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceAdaptersTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UniqueConstraintPersistenceTest {
+    @Autowired
+    private CustomerRepositoryAdapter customerRepositoryAdapter;
+    @Autowired
+    private UserRepositoryAdapter userRepositoryAdapter;
+    @Autowired
+    private PasswordHasher passwordHasher;
+    @Autowired
+    private SupplierRepositoryAdapter supplierRepositoryAdapter;
+    @Autowired
+    private CategoryRepositoryAdapter categoryRepositoryAdapter;
+    @Autowired
+    private SpringDataCustomerRepository customerRepository;
+    @Autowired
+    private SpringDataUserRepository userRepository;
+    @Autowired
+    private SpringDataSupplierRepository supplierRepository;
+    @Autowired
+    private SpringDataCategoryRepository categoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        customerRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        supplierRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void save_shouldReportViolatedCustomerColumn_whenInsertingDuplicate() {
+        customerRepositoryAdapter.save(Customer.createNewCustomer("John", "Doe", "john@mail.com", "111", "address"));
+
+        DuplicateEntryException email = assertThrows(DuplicateEntryException.class, () -> customerRepositoryAdapter.save(
+                Customer.createNewCustomer("Jane", "Doe", "john@mail.com", "222", "address")));
+        DuplicateEntryException phone = assertThrows(DuplicateEntryException.class, () -> customerRepositoryAdapter.save(
+                Customer.createNewCustomer("Jane", "Doe", "jane@mail.com", "111", "address")));
+
+        assertEquals("Customer with email 'john@mail.com' already exists.", email.getMessage());
+        assertEquals("Customer with phone '111' already exists.", phone.getMessage());
+        assertEquals(1, customerRepository.count());
+    }
+
+    @Test
+    void save_shouldReportViolatedUserColumn_whenUpdatingToTakenValue() {
+        userRepositoryAdapter.save(User.createNewUser("John", "Doe", "john@mail.com", "password123", UserRole.WORKER, "111", passwordHasher));
+        User jane = userRepositoryAdapter.save(User.createNewUser("Jane", "Doe", "jane@mail.com", "password123", UserRole.WORKER, "222", passwordHasher));
+
+        jane.updateDetails("Jane", "Doe", "jane@mail.com", null, UserRole.WORKER, "111", passwordHasher);
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> userRepositoryAdapter.save(jane));
+
+        assertEquals("User with phone '111' already exists.", exception.getMessage());
+        assertEquals("222", userRepository.findById(jane.getId()).orElseThrow().getPhone());
+    }
+
+    @Test
+    void save_shouldReportViolatedSupplierAndCategoryColumns() {
+        supplierRepositoryAdapter.save(Supplier.createNew("Acme", "acme@mail.com", "111", "address", "desc"));
+        categoryRepositoryAdapter.save(Category.createNew("Tools", "desc"));
+
+        DuplicateEntryException supplier = assertThrows(DuplicateEntryException.class, () -> supplierRepositoryAdapter.save(
+                Supplier.createNew("Acme", "other@mail.com", "222", "address", "desc")));
+        DuplicateEntryException category = assertThrows(DuplicateEntryException.class, () -> categoryRepositoryAdapter.save(
+                Category.createNew("Tools", "other")));
+
+        assertEquals("Supplier with name 'Acme' already exists.", supplier.getMessage());
+        assertEquals("Category with name 'Tools' already exists.", category.getMessage());
+    }
+}
@@ -4,8 +4,10 @@ import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.UserJpaEntity;
 import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataUserRepository;
 import org.abrohamovich.littleshop.adapter.persistence.mapper.UserJpaMapper;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.model.User;
 import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
@@ -44,14 +47,14 @@ class UserRepositoryAdapterTest {
                 LocalDateTime.now(), LocalDateTime.now());
         testEntity = new UserJpaEntity(1L, "Steve", "Witkoff", "steve.witkoff@example.com",
                 "OI#)f03bg903igh4h", UserRole.WORKER, "+1 80 947-88-46",
-                LocalDateTime.now(), LocalDateTime.now());
+                LocalDateTime.now(), LocalDateTime.now(), 0L);
         pageable = Pageable.unpaged();
     }
 
     @Test
     void save_shouldReturnSavedUser_whenSaveIsSuccessful() {
         when(userJpaMapper.toJpaEntity(any(User.class))).thenReturn(testEntity);
-        when(springDataUserRepository.save(any(UserJpaEntity.class))).thenReturn(testEntity);
+        when(springDataUserRepository.saveAndFlush(any(UserJpaEntity.class))).thenReturn(testEntity);
         when(userJpaMapper.toDomainEntity(any(UserJpaEntity.class))).thenReturn(testUser);
 
         User savedUser = userRepositoryAdapter.save(testUser);
@@ -59,19 +62,29 @@ class UserRepositoryAdapterTest {
         assertNotNull(savedUser);
         assertEquals(testUser.getId(), savedUser.getId());
         assertEquals(testUser.getEmail(), savedUser.getEmail());
-        verify(springDataUserRepository).save(testEntity);
+        verify(springDataUserRepository).saveAndFlush(testEntity);
         verify(userJpaMapper).toDomainEntity(testEntity);
     }
 
     @Test
     void save_shouldThrowDataPersistenceException_onDataAccessException() {
         when(userJpaMapper.toJpaEntity(any(User.class))).thenReturn(testEntity);
-        when(springDataUserRepository.save(any(UserJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+        when(springDataUserRepository.saveAndFlush(any(UserJpaEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicate key"));
 
         DataPersistenceException exception = assertThrows(DataPersistenceException.class, () -> userRepositoryAdapter.save(testUser));
         assertTrue(exception.getMessage().contains("Failed to save user due to data integrity violation."));
     }
 
+
+    @Test
+    void save_shouldThrowDuplicateEntryException_whenUniqueConstraintIsViolated() {
+        when(userJpaMapper.toJpaEntity(any(User.class))).thenReturn(testEntity);
+        when(springDataUserRepository.saveAndFlush(any(UserJpaEntity.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException("23505"), "uk_user_email")));
+
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> userRepositoryAdapter.save(testUser));
+        assertEquals("User with email '" + testUser.getEmail() + "' already exists.", exception.getMessage());
+    }
     @Test
     void save_shouldThrowDataPersistenceException_onGenericException() {
         when(userJpaMapper.toJpaEntity(any(User.class))).thenThrow(new RuntimeException("Mapper error"));
@@ -193,6 +206,20 @@ class UserRepositoryAdapterTest {
         assertEquals(testUser.getEmail(), resultPage.getContent().get(0).getEmail());
     }
 
+    @Test
+    void updatePasswordHash_shouldReturnTrue_whenStoredHashMatched() {
+        when(springDataUserRepository.updatePasswordHash(1L, "old", "new")).thenReturn(1);
+
+        assertTrue(userRepositoryAdapter.updatePasswordHash(1L, "old", "new"));
+    }
+
+    @Test
+    void updatePasswordHash_shouldReturnFalse_whenStoredHashChanged() {
+        when(springDataUserRepository.updatePasswordHash(1L, "old", "new")).thenReturn(0);
+
+        assertFalse(userRepositoryAdapter.updatePasswordHash(1L, "old", "new"));
+    }
+
     @Test
     void deleteById_shouldSucceed_whenUserExists() {
         doNothing().when(springDataUserRepository).deleteById(1L);
@@ -0,0 +1,34 @@
+package org.abrohamovich.littleshop.adapter.persistence.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class H2SearchFunctionRegistrar implements InitializingBean {
+    private static final String H2_PRODUCT_NAME = "H2";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!H2_PRODUCT_NAME.equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE ALIAS IF NOT EXISTS similarity FOR '"
+                        + TrigramSimilarity.class.getName() + ".similarity'");
+            }
+            log.info("Registered trigram similarity function for H2");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.abrohamovich.littleshop.adapter.persistence.search;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+public final class TrigramSimilarity {
+    private TrigramSimilarity() {
+    }
+
+    public static double similarity(String left, String right) {
+        Set<String> leftTrigrams = trigrams(left);
+        Set<String> rightTrigrams = trigrams(right);
+        if (leftTrigrams.isEmpty() || rightTrigrams.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String trigram : leftTrigrams) {
+            if (rightTrigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (leftTrigrams.size() + rightTrigrams.size() - shared);
+    }
+
+    static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        if (value == null) {
+            return trigrams;
+        }
+        for (String word : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,30 @@
+package org.abrohamovich.littleshop.adapter.persistence.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramSimilarityTest {
+
+    @Test
+    void trigrams_shouldPadEachWordLikePgTrgm() {
+        assertEquals(Set.of("  c", " ca", "cat", "at "), TrigramSimilarity.trigrams("cat"));
+        assertEquals(Set.of("  f", " fo", "foo", "oo ", "  b", " ba", "bar", "ar "), TrigramSimilarity.trigrams("Foo|bar"));
+    }
+
+    @Test
+    void similarity_shouldMatchPgTrgmReferenceValues() {
+        assertEquals(1.0, TrigramSimilarity.similarity("word", "WORD"));
+        assertEquals(0.5, TrigramSimilarity.similarity("cat", "cats"), 1e-9);
+        assertEquals(0.0, TrigramSimilarity.similarity("cat", "dog"));
+    }
+
+    @Test
+    void similarity_shouldBeZero_whenEitherSideHasNoWords() {
+        assertEquals(0.0, TrigramSimilarity.similarity(null, "cat"));
+        assertEquals(0.0, TrigramSimilarity.similarity("", "cat"));
+        assertEquals(0.0, TrigramSimilarity.similarity("--", "cat"));
+    }
+}
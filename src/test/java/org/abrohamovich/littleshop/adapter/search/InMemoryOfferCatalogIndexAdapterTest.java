@@ -0,0 +1,179 @@
+package org.abrohamovich.littleshop.adapter.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestion;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
+import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.abrohamovich.littleshop.domain.model.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryOfferCatalogIndexAdapterTest {
+    private final Category coffee = Category.withId(1L, "Coffee", "desc", LocalDateTime.now(), LocalDateTime.now());
+    private final Category tea = Category.withId(2L, "Tea", "desc", LocalDateTime.now(), LocalDateTime.now());
+    private final Supplier roaster = Supplier.withId(1L, "Roaster", "r@mail.com", "1", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
+    private final Supplier importer = Supplier.withId(2L, "Importer", "i@mail.com", "2", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
+
+    private InMemoryOfferCatalogIndexAdapter index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryOfferCatalogIndexAdapter(4, new SimpleMeterRegistry());
+        index.rebuild(sink -> List.of(
+                offer(1L, "Espresso Double", Money.ofMinor(350), coffee, roaster),
+                offer(2L, "Iced Espresso Tonic", Money.ofMinor(500), coffee, importer),
+                offer(3L, "Espresso", Money.ofMinor(250), coffee, roaster),
+                offer(4L, "Earl Grey", Money.ofMinor(200), tea, importer),
+                offer(5L, "Green Tea Espresso-Style", Money.ofMinor(400), tea, roaster)
+        ).forEach(sink));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void suggest_shouldMatchWordPrefixesAndRankLeadingMatchesFirst() {
+        OfferSuggestionsResponse response = index.suggest(query("esp"));
+
+        assertEquals(List.of(3L, 1L, 2L, 5L), ids(response));
+        assertEquals(4, response.getTotalMatches());
+    }
+
+    @Test
+    void suggest_shouldRequireEveryTokenAndIgnoreCase() {
+        OfferSuggestionsResponse response = index.suggest(query("TONIC esp"));
+
+        assertEquals(List.of(2L), ids(response));
+    }
+
+    @Test
+    void suggest_shouldNotMatchInsideWords() {
+        assertEquals(0, index.suggest(query("presso")).getTotalMatches());
+        assertEquals(0, index.suggest(query("xyz")).getTotalMatches());
+    }
+
+    @Test
+    void suggest_shouldVerifyTokensLongerThanIndexedGrams() {
+        assertEquals(List.of(4L), ids(index.suggest(query("earl gr"))));
+        assertEquals(0, index.suggest(query("earth")).getTotalMatches());
+    }
+
+    @Test
+    void suggest_shouldApplyLimitAfterCountingAllMatches() {
+        OfferSuggestionsResponse response = index.suggest(OfferSuggestQuery.builder().text("esp").limit(2).build());
+
+        assertEquals(List.of(3L, 1L), ids(response));
+        assertEquals(4, response.getTotalMatches());
+    }
+
+    @Test
+    void suggest_shouldFilterByFacetsAndPriceAndCountOtherFacetValues() {
+        OfferSuggestionsResponse response = index.suggest(OfferSuggestQuery.builder()
+                .text("espresso").categoryId(1L).maxPrice(Money.ofMinor(400)).limit(10).build());
+
+        assertEquals(List.of(3L, 1L), ids(response));
+        assertEquals(Map.of(1L, 2, 2L, 1), response.getCategoryCounts());
+        assertEquals(Map.of(1L, 2), response.getSupplierCounts());
+    }
+
+    @Test
+    void index_shouldReplaceExistingEntryAndRemoveStaleGrams() {
+        index.index(offer(3L, "Ristretto", Money.ofMinor(250), coffee, roaster));
+
+        assertEquals(List.of(1L, 2L, 5L), ids(index.suggest(query("esp"))));
+        assertEquals(List.of(3L), ids(index.suggest(query("rist"))));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void remove_shouldDropOfferAndReuseItsSlot() {
+        index.remove(1L);
+        index.index(offer(6L, "Espresso Macchiato", Money.ofMinor(300), coffee, roaster));
+
+        assertEquals(List.of(3L, 6L, 2L, 5L), ids(index.suggest(query("esp"))));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void remove_shouldKeepRemainingNamesIntactAfterCompaction() {
+        for (long id = 100; id < 700; id++) {
+            index.index(offer(id, "Seasonal Blend Number " + id, Money.ofMinor(100), coffee, roaster));
+        }
+        for (long id = 100; id < 600; id++) {
+            index.remove(id);
+        }
+
+        OfferSuggestionsResponse response = index.suggest(OfferSuggestQuery.builder().text("seasonal blend").limit(50).build());
+
+        assertEquals(100, response.getTotalMatches());
+        response.getSuggestions().forEach(suggestion ->
+                assertEquals("Seasonal Blend Number " + suggestion.getId(), suggestion.getName()));
+        assertEquals(List.of(3L, 1L, 2L, 5L), ids(index.suggest(query("esp"))));
+    }
+
+    @Test
+    void index_shouldDeferChangesUntilTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.index(offer(7L, "Cortado", Money.ofMinor(300), coffee, roaster));
+
+        assertEquals(0, index.suggest(query("cort")).getTotalMatches());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of(7L), ids(index.suggest(query("cort"))));
+    }
+
+    @Test
+    void rebuild_shouldKeepChangesAppliedWhileLoading() {
+        index.rebuild(sink -> {
+            sink.accept(offer(1L, "Espresso Double", Money.ofMinor(350), coffee, roaster));
+            index.index(offer(8L, "Affogato", Money.ofMinor(600), coffee, roaster));
+            index.remove(1L);
+        });
+
+        assertEquals(List.of(8L), ids(index.suggest(query("aff"))));
+        assertEquals(0, index.suggest(query("esp")).getTotalMatches());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void estimatedFootprintBytes_shouldGrowWithIndexedOffers() {
+        long before = index.estimatedFootprintBytes();
+
+        for (long id = 10; id < 110; id++) {
+            index.index(offer(id, "Blend " + id, Money.ofMinor(100), coffee, roaster));
+        }
+
+        assertTrue(index.estimatedFootprintBytes() > before);
+    }
+
+    private Offer offer(Long id, String name, Money price, Category category, Supplier supplier) {
+        return Offer.withId(id, name, price, OfferType.PRODUCT, "desc", category, supplier, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private OfferSuggestQuery query(String text) {
+        return OfferSuggestQuery.builder().text(text).limit(10).build();
+    }
+
+    private List<Long> ids(OfferSuggestionsResponse response) {
+        return response.getSuggestions().stream().map(OfferSuggestion::getId).toList();
+    }
+}
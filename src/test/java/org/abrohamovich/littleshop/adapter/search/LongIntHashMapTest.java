@@ -0,0 +1,36 @@
+package org.abrohamovich.littleshop.adapter.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntHashMapTest {
+
+    @Test
+    void shouldBehaveLikeHashMapUnderRandomPutsAndRemoves() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000) - 10;
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.remove(key));
+            } else {
+                reference.put(key, i);
+                map.put(key, i);
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (long key = -10; key < 1_990; key++) {
+            Integer expected = reference.get(key);
+            assertEquals(expected == null ? LongIntHashMap.MISSING : expected, map.get(key));
+        }
+    }
+}
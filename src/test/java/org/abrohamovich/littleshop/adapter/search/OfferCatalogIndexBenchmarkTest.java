@@ -0,0 +1,89 @@
+package org.abrohamovich.littleshop.adapter.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.Offer;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.abrohamovich.littleshop.domain.model.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class OfferCatalogIndexBenchmarkTest {
+    private static final int OFFER_COUNT = 200_000;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+    private static final long MAX_BYTES_PER_OFFER = 200;
+    private static final double MAX_MEDIAN_MILLIS = 1.0;
+    private static final String[] DRINKS = {"Espresso", "Latte", "Cappuccino", "Mocha", "Americano", "Chai", "Matcha", "Cold Brew", "Decaf", "Flat White"};
+    private static final String[] FLAVOURS = {"Oat", "Almond", "Soy", "Vanilla", "Caramel", "Hazelnut", "Ginger", "Cinnamon", "Honey", "Classic"};
+    private static final String[] PREFIXES = {"e", "la", "cap", "moc", "ginger", "oat lat", "cold br", "matcha hon", "zz", "flat white cl"};
+
+    @Test
+    void catalogIndex_shouldStayCompactAndAnswerTypicalQueriesWithinOneMillisecond() {
+        List<Category> categories = new ArrayList<>();
+        List<Supplier> suppliers = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            categories.add(Category.withId(i, "Category " + i, "desc", LocalDateTime.now(), LocalDateTime.now()));
+            suppliers.add(Supplier.withId(i, "Supplier " + i, "s" + i + "@mail.com", "1", "address", "desc", LocalDateTime.now(), LocalDateTime.now()));
+        }
+
+        long heapBefore = usedHeap();
+        InMemoryOfferCatalogIndexAdapter index = new InMemoryOfferCatalogIndexAdapter(1024, new SimpleMeterRegistry());
+        index.rebuild(sink -> {
+            for (int i = 1; i <= OFFER_COUNT; i++) {
+                String name = DRINKS[i % DRINKS.length] + " " + FLAVOURS[(i / 10) % FLAVOURS.length] + " " + Integer.toHexString(i);
+                sink.accept(Offer.withId((long) i, name, Money.ofMinor(100 + i % 5000), OfferType.PRODUCT, null,
+                        categories.get(i % 50), suppliers.get((i / 50) % 50), null, null));
+            }
+        });
+        long bytesPerOffer = (usedHeap() - heapBefore) / OFFER_COUNT;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            index.suggest(query(i));
+        }
+        List<Double> samples = new ArrayList<>(MEASURED_ITERATIONS);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            OfferSuggestQuery query = query(i);
+            long start = System.nanoTime();
+            index.suggest(query);
+            samples.add((System.nanoTime() - start) / 1_000_000.0);
+        }
+        Collections.sort(samples);
+        double median = samples.get(samples.size() / 2);
+        double p99 = samples.get((int) Math.ceil(samples.size() * 0.99) - 1);
+
+        System.out.printf("offer catalog index over %,d offers: %d bytes/offer measured, %d bytes/offer estimated, " +
+                        "suggest median %.3f ms, p99 %.3f ms%n",
+                OFFER_COUNT, bytesPerOffer, index.estimatedFootprintBytes() / OFFER_COUNT, median, p99);
+        assertTrue(bytesPerOffer <= MAX_BYTES_PER_OFFER, "index uses " + bytesPerOffer + " bytes per offer");
+        assertTrue(median <= MAX_MEDIAN_MILLIS, "suggest median was " + median + " ms");
+    }
+
+    private OfferSuggestQuery query(int iteration) {
+        OfferSuggestQuery.OfferSuggestQueryBuilder builder = OfferSuggestQuery.builder()
+                .text(PREFIXES[iteration % PREFIXES.length])
+                .limit(10);
+        if (iteration % 3 == 0) {
+            builder.categoryId((long) (1 + iteration % 50)).maxPrice(Money.ofMinor(2500));
+        }
+        return builder.build();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
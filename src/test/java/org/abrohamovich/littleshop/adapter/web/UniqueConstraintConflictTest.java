@@ -0,0 +1,81 @@
+package org.abrohamovich.littleshop.adapter.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UniqueConstraintConflictTest extends WebApplicationTest {
+
+    @Test
+    void createCategory_shouldReturnConflict_whenNameIsTaken() throws Exception {
+        Map<String, String> category = Map.of("name", "Conflict category", "description", "desc");
+        mockMvc.perform(json(post("/api/v1/categories"), category)).andExpect(status().isCreated());
+
+        mockMvc.perform(json(post("/api/v1/categories"), category))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Category with name 'Conflict category' already exists."));
+    }
+
+    @Test
+    void createCustomer_shouldReturnConflict_forEachUniqueColumn() throws Exception {
+        mockMvc.perform(json(post("/api/v1/customers"), customer("conflict.customer@mail.com", "+1555000101")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(json(post("/api/v1/customers"), customer("conflict.customer@mail.com", "+1555000102")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Customer with email 'conflict.customer@mail.com' already exists."));
+        mockMvc.perform(json(post("/api/v1/customers"), customer("other.customer@mail.com", "+1555000101")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Customer with phone '+1555000101' already exists."));
+    }
+
+    @Test
+    void createSupplier_shouldReturnConflict_forEachUniqueColumn() throws Exception {
+        mockMvc.perform(json(post("/api/v1/suppliers"), supplier("Conflict supplier", "conflict.supplier@mail.com", "+1555000201")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(json(post("/api/v1/suppliers"), supplier("Conflict supplier", "other.supplier@mail.com", "+1555000202")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Supplier with name 'Conflict supplier' already exists."));
+        mockMvc.perform(json(post("/api/v1/suppliers"), supplier("Other supplier", "conflict.supplier@mail.com", "+1555000203")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Supplier with email 'conflict.supplier@mail.com' already exists."));
+        mockMvc.perform(json(post("/api/v1/suppliers"), supplier("Third supplier", "third.supplier@mail.com", "+1555000201")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Supplier with phone '+1555000201' already exists."));
+    }
+
+    @Test
+    void createAndUpdateUser_shouldReturnConflict_forEachUniqueColumn() throws Exception {
+        mockMvc.perform(json(post("/api/v1/users"), user("conflict.user@mail.com", "+1555000301")))
+                .andExpect(status().isCreated());
+        long otherId = body(mockMvc.perform(json(post("/api/v1/users"), user("other.user@mail.com", "+1555000302")))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+
+        mockMvc.perform(json(post("/api/v1/users"), user("conflict.user@mail.com", "+1555000303")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("User with email 'conflict.user@mail.com' already exists."));
+        mockMvc.perform(json(put("/api/v1/users/" + otherId), user("other.user@mail.com", "+1555000301")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("User with phone '+1555000301' already exists."));
+    }
+
+    private Map<String, String> customer(String email, String phone) {
+        return Map.of("firstName", "John", "lastName", "Doe", "email", email, "phone", phone, "address", "address");
+    }
+
+    private Map<String, String> supplier(String name, String email, String phone) {
+        return Map.of("name", name, "email", email, "phone", phone, "address", "address", "description", "desc");
+    }
+
+    private Map<String, String> user(String email, String phone) {
+        return Map.of("firstName", "Jane", "lastName", "Doe", "email", email, "password", "password123",
+                "role", "WORKER", "phone", phone);
+    }
+}
@@ -0,0 +1,75 @@
+package org.abrohamovich.littleshop.adapter.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:web-application-test;DB_CLOSE_DELAY=-1",
+        "jwt.secret=AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA",
+        "app.admin.firstName=Admin",
+        "app.admin.lastName=User",
+        "app.admin.email=" + WebApplicationTest.ADMIN_EMAIL,
+        "app.admin.phone=+1394022933",
+        "app.admin.password=" + WebApplicationTest.ADMIN_PASSWORD,
+        "app.auth.bcrypt.cost=10",
+        "app.instrumentation.enabled=false",
+        "logging.level.org.abrohamovich.littleshop=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class WebApplicationTest {
+    public static final String ADMIN_EMAIL = "admin@example.com";
+    public static final String ADMIN_PASSWORD = "admin12345";
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected ObjectMapper objectMapper;
+    @MockitoSpyBean
+    protected OrderRepositoryPort orderRepositoryPort;
+
+    private String token;
+
+    protected MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) throws Exception {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token());
+    }
+
+    protected MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return authorized(request)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+    }
+
+    protected JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private String token() throws Exception {
+        if (token == null) {
+            MvcResult login = mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("email", ADMIN_EMAIL, "password", ADMIN_PASSWORD))))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            token = body(login).get("token").asText();
+        }
+        return token;
+    }
+}
@@ -0,0 +1,51 @@
+package org.abrohamovich.littleshop.adapter.web.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.domain.exception.auth.LoginThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+    private static final String ADDRESS = "10.0.0.1";
+    private static final String EMAIL = "john.doe@example.com";
+
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottle = new LoginThrottle(3, 2, Duration.ofMinutes(1), 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void acquire_shouldRejectAddress_whenAttemptsExceedLimitWithinWindow() {
+        loginThrottle.acquire(ADDRESS, "a@example.com");
+        loginThrottle.acquire(ADDRESS, "b@example.com");
+        loginThrottle.acquire(ADDRESS, "c@example.com");
+
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.acquire(ADDRESS, "d@example.com"));
+        assertEquals(60, ex.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> loginThrottle.acquire("10.0.0.2", "d@example.com"));
+    }
+
+    @Test
+    void acquire_shouldRejectEmail_whenFailuresReachLimitFromAnyAddress() {
+        loginThrottle.recordFailure(EMAIL);
+        loginThrottle.recordFailure(EMAIL.toUpperCase());
+
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.acquire("10.0.0.9", EMAIL));
+    }
+
+    @Test
+    void recordSuccess_shouldResetEmailFailures() {
+        loginThrottle.recordFailure(EMAIL);
+        loginThrottle.recordSuccess(EMAIL);
+        loginThrottle.recordFailure(EMAIL);
+
+        assertDoesNotThrow(() -> loginThrottle.acquire(ADDRESS, EMAIL));
+    }
+}
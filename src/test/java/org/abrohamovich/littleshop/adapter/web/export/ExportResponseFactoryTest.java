@@ -0,0 +1,59 @@
+package org.abrohamovich.littleshop.adapter.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportResponseFactoryTest {
+    private static final List<CsvColumn<Map<String, Object>>> COLUMNS = List.of(
+            CsvColumn.of("id", row -> row.get("id")),
+            CsvColumn.of("name", row -> row.get("name"))
+    );
+    private final ExportResponseFactory exportResponseFactory = new ExportResponseFactory(new ObjectMapper());
+
+    @Test
+    void create_shouldWriteCsvWithHeaderAndEscapedValues() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = exportResponseFactory.create("rows", ExportFormat.CSV, COLUMNS, rows -> {
+            rows.accept(Map.of("id", 1, "name", "plain"));
+            rows.accept(Map.of("id", 2, "name", "comma, \"quoted\""));
+        });
+
+        assertEquals("text/csv", response.getHeaders().getContentType().toString());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("rows.csv"));
+        assertEquals("id,name\r\n1,plain\r\n2,\"comma, \"\"quoted\"\"\"\r\n", render(response));
+    }
+
+    @Test
+    void create_shouldWriteOneJsonDocumentPerLine() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = exportResponseFactory.create("rows", ExportFormat.NDJSON, COLUMNS, rows -> {
+            rows.accept(Map.of("id", 1));
+            rows.accept(Map.of("id", 2));
+        });
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", render(response));
+    }
+
+    @Test
+    void from_shouldRejectUnknownFormat() {
+        assertEquals(ExportFormat.CSV, ExportFormat.from("CSV"));
+        assertThrows(ModelValidationException.class, () -> ExportFormat.from("xml"));
+    }
+
+    private String render(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,125 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.abrohamovich.littleshop.application.dto.order.OrderBulkRecordResult;
+import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
+import org.abrohamovich.littleshop.application.port.in.order.BulkCreateOrderUseCase;
+import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderBulkImporterTest {
+    private static final int CHUNK_SIZE = 2;
+    private static final String ORDER = "{\"customerId\":1,\"userId\":2,\"items\":[{\"offerId\":10,\"quantity\":1}]}";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private BulkCreateOrderUseCase bulkCreateOrderUseCase;
+    private OrderBulkImporter orderBulkImporter;
+
+    @BeforeEach
+    void setUp() {
+        orderBulkImporter = new OrderBulkImporter(bulkCreateOrderUseCase, Mappers.getMapper(OrderWebMapper.class), objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), CHUNK_SIZE);
+    }
+
+    @Test
+    void importOrders_shouldProcessJsonArrayInChunks() throws Exception {
+        stubCreatedResults();
+
+        JsonNode report = importOrders("[" + ORDER + "," + ORDER + "," + ORDER + "]");
+
+        assertEquals(3, report.get("total").asInt());
+        assertEquals(3, report.get("created").asInt());
+        assertEquals(0, report.get("failed").asInt());
+        assertEquals(List.of(0, 1, 2), report.get("results").findValues("index").stream().map(JsonNode::asInt).toList());
+        assertEquals("CREATED", report.get("results").get(2).get("status").asText());
+        verify(bulkCreateOrderUseCase, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void importOrders_shouldProcessNdjsonAndReportMalformedRecordsInPlace() throws Exception {
+        stubCreatedResults();
+
+        JsonNode report = importOrders(ORDER + "\n{\"customerId\":\"abc\"}\n" + ORDER + "\n");
+
+        assertEquals(3, report.get("total").asInt());
+        assertEquals(2, report.get("created").asInt());
+        assertEquals(1, report.get("failed").asInt());
+        JsonNode malformed = report.get("results").get(1);
+        assertEquals(1, malformed.get("index").asInt());
+        assertEquals("FAILED", malformed.get("status").asText());
+        assertTrue(malformed.get("error").asText().startsWith("Malformed order record"));
+    }
+
+    @Test
+    void importOrders_shouldStopAndReportError_whenBodyIsNotValidJson() throws Exception {
+        stubCreatedResults();
+
+        JsonNode report = importOrders("[" + ORDER + ", {\"customerId\": ");
+
+        assertEquals(1, report.get("total").asInt());
+        assertEquals(1, report.get("created").asInt());
+        assertTrue(report.get("error").asText().startsWith("Malformed request body"));
+    }
+
+    @Test
+    void importOrders_shouldReportRecordsFailingBeanValidationWithoutSavingThem() throws Exception {
+        stubCreatedResults();
+
+        JsonNode report = importOrders(ORDER + "\n{\"customerId\":1,\"items\":[{\"offerId\":10,\"quantity\":0}]}\n");
+
+        assertEquals(2, report.get("total").asInt());
+        assertEquals(1, report.get("created").asInt());
+        JsonNode invalid = report.get("results").get(1);
+        assertEquals("FAILED", invalid.get("status").asText());
+        assertEquals("Invalid order record: items[0].quantity: Quantity must be positive, userId: User ID cannot be null",
+                invalid.get("error").asText());
+        verify(bulkCreateOrderUseCase).saveAll(argThat(commands -> commands.size() == 1));
+    }
+
+    @Test
+    void importOrders_shouldReportEveryRecordOfAChunkAndFinishTheBody_whenTheUseCaseThrows() throws Exception {
+        when(bulkCreateOrderUseCase.saveAll(anyList())).thenThrow(new OfferNotFoundException("Offers with IDs [10] not found."));
+
+        JsonNode report = importOrders("[" + ORDER + "," + ORDER + "," + ORDER + "]");
+
+        assertEquals(3, report.get("total").asInt());
+        assertEquals(0, report.get("created").asInt());
+        assertEquals(3, report.get("failed").asInt());
+        assertEquals("Failed to import order: Offers with IDs [10] not found.",
+                report.get("results").get(2).get("error").asText());
+    }
+
+    private void stubCreatedResults() {
+        AtomicLong ids = new AtomicLong(100);
+        when(bulkCreateOrderUseCase.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OrderCreateCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(command -> OrderBulkRecordResult.created(ids.getAndIncrement()))
+                    .toList();
+        });
+    }
+
+    private JsonNode importOrders(String body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderBulkImporter.importOrders(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+}
@@ -0,0 +1,88 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import org.abrohamovich.littleshop.adapter.web.WebApplicationTest;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderConcurrencyConflictTest extends WebApplicationTest {
+    private static int sequence;
+
+    private long orderId;
+    private long offerId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = ++sequence;
+        long categoryId = create("/api/v1/categories", Map.of("name", "Concurrency category " + n, "description", "desc"));
+        long supplierId = create("/api/v1/suppliers", Map.of("name", "Concurrency supplier " + n,
+                "email", "concurrency.supplier" + n + "@mail.com", "phone", "+155501000" + n,
+                "address", "address", "description", "desc"));
+        offerId = create("/api/v1/offers", Map.of("name", "Concurrency offer " + n, "price", new BigDecimal("10.00"),
+                "type", "PRODUCT", "description", "desc", "categoryId", categoryId, "supplierId", supplierId));
+        long customerId = create("/api/v1/customers", Map.of("firstName", "John", "lastName", "Doe",
+                "email", "concurrency.customer" + n + "@mail.com", "phone", "+155502000" + n, "address", "address"));
+        long userId = create("/api/v1/users", Map.of("firstName", "Jane", "lastName", "Doe",
+                "email", "concurrency.user" + n + "@mail.com", "password", "password123", "role", "WORKER",
+                "phone", "+155503000" + n));
+        orderId = create("/api/v1/orders", Map.of("customerId", customerId, "userId", userId,
+                "items", List.of(Map.of("offerId", offerId, "quantity", 1))));
+    }
+
+    @Test
+    void addItemAndChangeStatus_shouldReturnPreconditionFailed_whenIfMatchIsStale() throws Exception {
+        String etag = mockMvc.perform(authorized(get("/api/v1/orders/" + orderId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(json(put("/api/v1/orders/add-item/" + orderId), Map.of("offerId", offerId, "quantity", 2))
+                        .header(HttpHeaders.IF_MATCH, "\"99\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+        mockMvc.perform(json(put("/api/v1/orders/change-status/" + orderId), Map.of("status", "COMPLETED"))
+                        .header(HttpHeaders.IF_MATCH, "\"99\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+
+        mockMvc.perform(json(put("/api/v1/orders/change-status/" + orderId), Map.of("status", "COMPLETED"))
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void addItem_shouldReturnConflict_whenRetriesAreExhausted() throws Exception {
+        clearInvocations(orderRepositoryPort);
+        doThrow(new VersionConflictException("Order with ID '" + orderId + "' was modified concurrently. Reload it and try again."))
+                .when(orderRepositoryPort).save(any());
+
+        mockMvc.perform(json(put("/api/v1/orders/add-item/" + orderId), Map.of("offerId", offerId, "quantity", 2)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Order with ID '" + orderId + "' was modified concurrently. Reload it and try again."));
+
+        verify(orderRepositoryPort, times(5)).save(any());
+    }
+
+    private long create(String path, Map<String, ?> request) throws Exception {
+        return body(mockMvc.perform(json(post(path), request))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+    }
+}
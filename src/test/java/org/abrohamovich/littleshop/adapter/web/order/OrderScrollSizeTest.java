@@ -0,0 +1,28 @@
+package org.abrohamovich.littleshop.adapter.web.order;
+
+import org.abrohamovich.littleshop.adapter.web.WebApplicationTest;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderScrollSizeTest extends WebApplicationTest {
+
+    @Test
+    void scroll_shouldReturnBadRequest_whenSizeIsOutOfRange() throws Exception {
+        for (int size : new int[]{0, -1, 101, Integer.MAX_VALUE}) {
+            mockMvc.perform(authorized(get("/api/v1/orders").param("after", "").param("size", String.valueOf(size))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Scroll size must be between 1 and 100, but was " + size + "."));
+        }
+    }
+
+    @Test
+    void scroll_shouldAcceptSizeWithinRange() throws Exception {
+        for (int size : new int[]{1, 100}) {
+            mockMvc.perform(authorized(get("/api/v1/orders").param("after", "").param("size", String.valueOf(size))))
+                    .andExpect(status().isOk());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.abrohamovich.littleshop.application.dto.offer;
 
 import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 import org.abrohamovich.littleshop.domain.model.Supplier;
@@ -16,7 +17,7 @@ public class OfferResponseTest {
     void toResponse_WithValidData_ShouldReturnOfferResponse() {
         Long id = 1L;
         String name = "Raspberry Pi 5";
-        double price = 5;
+        Money price = Money.ofMinor(500);
         OfferType type = OfferType.PRODUCT;
         String description = "Description";
         Category category = mock(Category.class);
@@ -19,10 +19,10 @@ public class OrderResponseTest {
         Category category = Category.withId(1L, "name", "description", createdAt, updatedAt);
         Customer customer = Customer.withId(1L, "firstName", "lastName", "email", "phone", "address", createdAt, updatedAt);
         User user = User.withId(1L, "firstName", "lastName", "email", "password", UserRole.WORKER, "phone", createdAt, updatedAt);
-        Offer offer = Offer.withId(1L, "name", 4.4, OfferType.PRODUCT, "description",
+        Offer offer = Offer.withId(1L, "name", Money.ofMinor(440), OfferType.PRODUCT, "description",
                 category, supplier, createdAt, updatedAt);
         int quantity = 3;
-        double priceAtTimeOfOrder = 5.4;
+        Money priceAtTimeOfOrder = Money.ofMinor(540);
         OrderItem orderItem = OrderItem.withId(id, offer, quantity, priceAtTimeOfOrder, createdAt, updatedAt);
         OrderStatus status = OrderStatus.IN_PROGRESS;
 
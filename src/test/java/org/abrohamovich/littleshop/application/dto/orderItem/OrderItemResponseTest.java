@@ -16,10 +16,10 @@ public class OrderItemResponseTest {
                 "address", "description", createdAt, updatedAt);
         Category category = Category.withId(1L, "name", "description", createdAt, updatedAt);
         Long id = 1L;
-        Offer offer = Offer.withId(1L, "name", 4.4, OfferType.PRODUCT, "description",
+        Offer offer = Offer.withId(1L, "name", Money.ofMinor(440), OfferType.PRODUCT, "description",
                 category, supplier, createdAt, updatedAt);
         int quantity = 3;
-        double priceAtTimeOfOrder = 5.4;
+        Money priceAtTimeOfOrder = Money.ofMinor(540);
 
 
         OrderItem orderItem = OrderItem.withId(id, offer, quantity, priceAtTimeOfOrder, createdAt, updatedAt);
@@ -0,0 +1,92 @@
+package org.abrohamovich.littleshop.application.usecase.analytics;
+
+import org.abrohamovich.littleshop.application.dto.analytics.DailySalesResponse;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesAnalyticsQuery;
+import org.abrohamovich.littleshop.application.dto.analytics.SalesBreakdownResponse;
+import org.abrohamovich.littleshop.application.port.out.persistence.SalesAnalyticsRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GetSalesAnalyticsServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    @Mock
+    private SalesAnalyticsRepositoryPort salesAnalyticsRepositoryPort;
+    @InjectMocks
+    private GetSalesAnalyticsService getSalesAnalyticsService;
+
+    @Test
+    void dailySales_shouldDelegateToRepository_whenRangeIsValid() {
+        SalesAnalyticsQuery query = SalesAnalyticsQuery.builder().from(FROM).to(TO).categoryId(1L).build();
+        List<DailySalesResponse> expected = List.of(new DailySalesResponse(FROM, 3, Money.ofMinor(3000)));
+        when(salesAnalyticsRepositoryPort.findDailySales(query)).thenReturn(expected);
+
+        assertSame(expected, getSalesAnalyticsService.dailySales(query));
+    }
+
+    @Test
+    void dailySales_shouldRejectMissingDates() {
+        SalesAnalyticsQuery query = SalesAnalyticsQuery.builder().from(FROM).build();
+
+        assertThrows(ModelValidationException.class, () -> getSalesAnalyticsService.dailySales(query));
+        verify(salesAnalyticsRepositoryPort, never()).findDailySales(any());
+    }
+
+    @Test
+    void dailySales_shouldRejectInvertedRange() {
+        SalesAnalyticsQuery query = SalesAnalyticsQuery.builder().from(TO).to(FROM).build();
+
+        assertThrows(ModelValidationException.class, () -> getSalesAnalyticsService.dailySales(query));
+        verify(salesAnalyticsRepositoryPort, never()).findDailySales(any());
+    }
+
+    @Test
+    void dailySales_shouldRejectRangeLongerThanAYear() {
+        SalesAnalyticsQuery query = SalesAnalyticsQuery.builder().from(FROM).to(FROM.plusDays(366)).build();
+
+        assertThrows(ModelValidationException.class, () -> getSalesAnalyticsService.dailySales(query));
+        verify(salesAnalyticsRepositoryPort, never()).findDailySales(any());
+    }
+
+    @Test
+    void salesByOffer_shouldDelegateToRepository_whenQueryIsValid() {
+        SalesAnalyticsQuery query = SalesAnalyticsQuery.builder().from(FROM).to(TO).limit(10).build();
+        List<SalesBreakdownResponse> expected = List.of(new SalesBreakdownResponse(1L, "Offer", 2, Money.ofMinor(2000)));
+        when(salesAnalyticsRepositoryPort.findSalesByOffer(query)).thenReturn(expected);
+
+        assertSame(expected, getSalesAnalyticsService.salesByOffer(query));
+    }
+
+    @Test
+    void salesByCategory_shouldRejectLimitOutOfRange() {
+        assertThrows(ModelValidationException.class, () -> getSalesAnalyticsService.salesByCategory(
+                SalesAnalyticsQuery.builder().from(FROM).to(TO).limit(0).build()));
+        assertThrows(ModelValidationException.class, () -> getSalesAnalyticsService.salesByCategory(
+                SalesAnalyticsQuery.builder().from(FROM).to(TO).limit(101).build()));
+        verify(salesAnalyticsRepositoryPort, never()).findSalesByCategory(any());
+    }
+
+    @Test
+    void salesByUser_shouldDelegateToRepository_whenQueryIsValid() {
+        SalesAnalyticsQuery query = SalesAnalyticsQuery.builder().from(FROM).to(TO).supplierId(2L).limit(5).build();
+        List<SalesBreakdownResponse> expected = List.of(new SalesBreakdownResponse(7L, "Jane Smith", 4, Money.ofMinor(4000)));
+        when(salesAnalyticsRepositoryPort.findSalesByUser(query)).thenReturn(expected);
+
+        assertSame(expected, getSalesAnalyticsService.salesByUser(query));
+    }
+}
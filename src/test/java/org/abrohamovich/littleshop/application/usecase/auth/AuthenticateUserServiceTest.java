@@ -0,0 +1,122 @@
+package org.abrohamovich.littleshop.application.usecase.auth;
+
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticationResponse;
+import org.abrohamovich.littleshop.application.dto.auth.LoginCommand;
+import org.abrohamovich.littleshop.application.port.out.auth.PasswordVerifierPort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenServicePort;
+import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.ServiceOverloadedException;
+import org.abrohamovich.littleshop.domain.exception.auth.AuthenticationException;
+import org.abrohamovich.littleshop.domain.model.AuthenticationToken;
+import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticateUserServiceTest {
+    private static final String EMAIL = "john.doe@example.com";
+    private static final String RAW_PASSWORD = "password123";
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+    @Mock
+    private TokenServicePort tokenServicePort;
+    @Mock
+    private PasswordVerifierPort passwordVerifierPort;
+    @InjectMocks
+    private AuthenticateUserService authenticateUserService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.withId(1L, "John", "Doe", EMAIL, "hashed_password", UserRole.WORKER, "1234567890", LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void authenticate_shouldReturnToken_whenPasswordIsVerified() {
+        when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordVerifierPort.verify(RAW_PASSWORD, "hashed_password")).thenReturn(true);
+        when(tokenServicePort.generateToken(user))
+                .thenReturn(new AuthenticationToken("jwt", "Bearer", LocalDateTime.now().plusHours(1), 1L));
+
+        AuthenticationResponse response = authenticateUserService.authenticate(new LoginCommand(EMAIL, RAW_PASSWORD));
+
+        assertEquals("jwt", response.getToken());
+        assertEquals(UserRole.WORKER, response.getUserRole());
+    }
+
+    @Test
+    void authenticate_shouldThrowAuthenticationException_whenPasswordIsWrong() {
+        when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordVerifierPort.verify("wrong", "hashed_password")).thenReturn(false);
+
+        assertThrows(AuthenticationException.class,
+                () -> authenticateUserService.authenticate(new LoginCommand(EMAIL, "wrong")));
+        verifyNoInteractions(tokenServicePort);
+    }
+
+    @Test
+    void authenticate_shouldNotHash_whenEmailIsUnknown() {
+        when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(AuthenticationException.class,
+                () -> authenticateUserService.authenticate(new LoginCommand(EMAIL, RAW_PASSWORD)));
+        verifyNoInteractions(passwordVerifierPort, tokenServicePort);
+    }
+
+    @Test
+    void authenticate_shouldPropagateServiceOverloadedException_whenHashingIsSaturated() {
+        when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordVerifierPort.verify(RAW_PASSWORD, "hashed_password"))
+                .thenThrow(new ServiceOverloadedException("busy"));
+
+        assertThrows(ServiceOverloadedException.class,
+                () -> authenticateUserService.authenticate(new LoginCommand(EMAIL, RAW_PASSWORD)));
+        verifyNoInteractions(tokenServicePort);
+    }
+
+    @Test
+    void authenticate_shouldRehashInBackground_whenStoredCostIsOutdated() {
+        when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordVerifierPort.verify(RAW_PASSWORD, "hashed_password")).thenReturn(true);
+        when(passwordVerifierPort.needsRehash("hashed_password")).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<String> onRehashed = invocation.getArgument(1);
+            onRehashed.accept("new_hash");
+            return null;
+        }).when(passwordVerifierPort).rehashInBackground(eq(RAW_PASSWORD), any());
+        when(tokenServicePort.generateToken(user))
+                .thenReturn(new AuthenticationToken("jwt", "Bearer", LocalDateTime.now().plusHours(1), 1L));
+
+        authenticateUserService.authenticate(new LoginCommand(EMAIL, RAW_PASSWORD));
+
+        verify(userRepositoryPort).updatePasswordHash(1L, "hashed_password", "new_hash");
+    }
+
+    @Test
+    void authenticate_shouldNotRehash_whenStoredCostIsCurrent() {
+        when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordVerifierPort.verify(RAW_PASSWORD, "hashed_password")).thenReturn(true);
+        when(passwordVerifierPort.needsRehash("hashed_password")).thenReturn(false);
+        when(tokenServicePort.generateToken(user))
+                .thenReturn(new AuthenticationToken("jwt", "Bearer", LocalDateTime.now().plusHours(1), 1L));
+
+        authenticateUserService.authenticate(new LoginCommand(EMAIL, RAW_PASSWORD));
+
+        verify(passwordVerifierPort, never()).rehashInBackground(any(), any());
+        verify(userRepositoryPort, never()).updatePasswordHash(any(), any(), any());
+    }
+}
@@ -0,0 +1,135 @@
+package org.abrohamovich.littleshop.application.usecase.auth;
+
+import org.abrohamovich.littleshop.application.dto.auth.AuthenticatedPrincipal;
+import org.abrohamovich.littleshop.application.dto.auth.TokenClaims;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenServicePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.auth.AuthenticationException;
+import org.abrohamovich.littleshop.domain.model.User;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ValidateTokenServiceTest {
+    private static final String TOKEN = "header.payload.signature";
+    private final Long userId = 1L;
+    @Mock
+    private TokenServicePort tokenServicePort;
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+    @Mock
+    private AuthenticatedUserCachePort authenticatedUserCachePort;
+    @Mock
+    private TokenVersionPort tokenVersionPort;
+    private ValidateTokenService statefulService;
+    private ValidateTokenService statelessService;
+    private User user;
+    private AuthenticatedPrincipal principal;
+    private TokenClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        statefulService = new ValidateTokenService(tokenServicePort, userRepositoryPort, authenticatedUserCachePort, tokenVersionPort, false);
+        statelessService = new ValidateTokenService(tokenServicePort, userRepositoryPort, authenticatedUserCachePort, tokenVersionPort, true);
+        user = User.withId(userId, "John", "Doe", "john.doe@example.com", "hashed_password", UserRole.WORKER, "1234567890", LocalDateTime.now(), LocalDateTime.now());
+        principal = AuthenticatedPrincipal.fromUser(user);
+        claims = new TokenClaims(userId, user.getEmail(), user.getRole(), user.getTokenVersion(), LocalDateTime.now().plusHours(1));
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldReturnCachedPrincipalWithoutParsingOrQuerying() {
+        when(authenticatedUserCachePort.get(TOKEN)).thenReturn(Optional.of(principal));
+
+        AuthenticatedPrincipal result = statefulService.validateTokenAndGetUser(TOKEN);
+
+        assertSame(principal, result);
+        verifyNoInteractions(tokenServicePort, userRepositoryPort);
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldParseOnceLoadUserAndCache_whenNotCached() {
+        when(authenticatedUserCachePort.get(TOKEN)).thenReturn(Optional.empty());
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+
+        AuthenticatedPrincipal result = statefulService.validateTokenAndGetUser(TOKEN);
+
+        assertEquals(principal, result);
+        verify(tokenServicePort, times(1)).parseToken(TOKEN);
+        verify(authenticatedUserCachePort).put(TOKEN, principal, claims.getExpiresAt());
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldThrowAuthenticationException_whenTokenIsInvalid() {
+        when(authenticatedUserCachePort.get(TOKEN)).thenReturn(Optional.empty());
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.empty());
+
+        assertThrows(AuthenticationException.class, () -> statefulService.validateTokenAndGetUser(TOKEN));
+
+        verifyNoInteractions(userRepositoryPort);
+        verify(authenticatedUserCachePort, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldThrowAuthenticationException_whenUserNoLongerExists() {
+        when(authenticatedUserCachePort.get(TOKEN)).thenReturn(Optional.empty());
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(AuthenticationException.class, () -> statefulService.validateTokenAndGetUser(TOKEN));
+
+        verify(authenticatedUserCachePort, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldBuildPrincipalFromClaims_whenStatelessAndVersionMatches() {
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(tokenVersionPort.currentVersion(userId)).thenReturn(Optional.of(user.getTokenVersion()));
+
+        AuthenticatedPrincipal result = statelessService.validateTokenAndGetUser(TOKEN);
+
+        assertEquals(principal, result);
+        verifyNoInteractions(userRepositoryPort, authenticatedUserCachePort);
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldRejectRevokedToken_whenStatelessAndVersionChanged() {
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(tokenVersionPort.currentVersion(userId)).thenReturn(Optional.of(user.getTokenVersion() + 1));
+
+        assertThrows(AuthenticationException.class, () -> statelessService.validateTokenAndGetUser(TOKEN));
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldRejectToken_whenStatelessAndUserDeleted() {
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(tokenVersionPort.currentVersion(userId)).thenReturn(Optional.empty());
+
+        assertThrows(AuthenticationException.class, () -> statelessService.validateTokenAndGetUser(TOKEN));
+    }
+
+    @Test
+    void validateTokenAndGetUser_shouldFallBackToUserLookup_whenStatelessTokenLacksPrincipalClaims() {
+        TokenClaims legacyClaims = new TokenClaims(userId, null, null, null, LocalDateTime.now().plusHours(1));
+        when(tokenServicePort.parseToken(TOKEN)).thenReturn(Optional.of(legacyClaims));
+        when(authenticatedUserCachePort.get(TOKEN)).thenReturn(Optional.empty());
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+
+        AuthenticatedPrincipal result = statelessService.validateTokenAndGetUser(TOKEN);
+
+        assertEquals(principal, result);
+        verifyNoInteractions(tokenVersionPort);
+    }
+}
@@ -11,8 +11,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -30,15 +28,12 @@ class CreateCategoryServiceTest {
         String categoryDescription = "Electronic devices and accessories";
         CategoryCreateCommand command = new CategoryCreateCommand(categoryName, categoryDescription);
 
-        when(categoryRepositoryPort.findByName(categoryName)).thenReturn(Optional.empty());
-
         Category newCategory = Category.createNew(categoryName, categoryDescription);
         when(categoryRepositoryPort.save(any(Category.class))).thenReturn(newCategory);
 
         CategoryResponse response = createCategoryService.save(command);
 
-        verify(categoryRepositoryPort).findByName(categoryName);
-
+        verify(categoryRepositoryPort, never()).findByName(any());
         verify(categoryRepositoryPort).save(any(Category.class));
 
         assertEquals(categoryName, response.getName());
@@ -46,14 +41,13 @@ class CreateCategoryServiceTest {
     }
 
     @Test
-    void save_shouldThrowDuplicateEntryException_whenCategoryNameExists() {
+    void save_shouldPropagateDuplicateEntryException_whenCategoryNameConstraintIsViolated() {
         String categoryName = "Electronics";
         String categoryDescription = "Electronic devices and accessories";
         CategoryCreateCommand command = new CategoryCreateCommand(categoryName, categoryDescription);
 
-        Category existingCategory = Category.createNew(categoryName, "Old description");
-
-        when(categoryRepositoryPort.findByName(categoryName)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepositoryPort.save(any(Category.class)))
+                .thenThrow(new DuplicateEntryException("Category with name '" + categoryName + "' already exists."));
 
         DuplicateEntryException ex = assertThrows(DuplicateEntryException.class, () -> {
             createCategoryService.save(command);
@@ -61,6 +55,6 @@ class CreateCategoryServiceTest {
 
         assertTrue(ex.getMessage().startsWith("Category with name '" + categoryName + "' already exists."));
 
-        verify(categoryRepositoryPort, never()).save(any(Category.class));
+        verify(categoryRepositoryPort, never()).findByName(any());
     }
 }
\ No newline at end of file
@@ -37,13 +37,12 @@ class UpdateCategoryServiceTest {
         CategoryUpdateCommand command = new CategoryUpdateCommand(newName, newDescription);
 
         when(categoryRepositoryPort.findById(categoryId)).thenReturn(Optional.of(existingCategory));
-        when(categoryRepositoryPort.findByName(newName)).thenReturn(Optional.empty());
         when(categoryRepositoryPort.save(any(Category.class))).thenReturn(Category.withId(categoryId, newName, newDescription, existingCategory.getCreatedAt(), LocalDateTime.now()));
 
         CategoryResponse response = updateCategoryService.update(categoryId, command);
 
         verify(categoryRepositoryPort).findById(categoryId);
-        verify(categoryRepositoryPort).findByName(newName);
+        verify(categoryRepositoryPort, never()).findByName(any());
         verify(categoryRepositoryPort).save(any(Category.class));
         assertEquals(newName, response.getName());
         assertEquals(newDescription, response.getDescription());
@@ -86,25 +85,25 @@ class UpdateCategoryServiceTest {
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewNameAlreadyExists() {
+    void update_shouldPropagateDuplicateEntryException_whenNameConstraintIsViolated() {
         Long categoryId = 1L;
         String oldName = "Electronics";
         String newName = "Gadgets";
         String newDescription = "Cool gadgets";
         Category existingCategory = Category.withId(categoryId, oldName, "Old description", LocalDateTime.now(), LocalDateTime.now());
-        Category existingDuplicateCategory = Category.withId(2L, newName, "Duplicate description", LocalDateTime.now(), LocalDateTime.now());
         CategoryUpdateCommand command = new CategoryUpdateCommand(newName, newDescription);
 
         when(categoryRepositoryPort.findById(categoryId)).thenReturn(Optional.of(existingCategory));
-        when(categoryRepositoryPort.findByName(newName)).thenReturn(Optional.of(existingDuplicateCategory));
+        when(categoryRepositoryPort.save(any(Category.class)))
+                .thenThrow(new DuplicateEntryException("Category with name '" + newName + "' already exists."));
 
         assertThrows(DuplicateEntryException.class, () -> {
             updateCategoryService.update(categoryId, command);
         });
 
         verify(categoryRepositoryPort).findById(categoryId);
-        verify(categoryRepositoryPort).findByName(newName);
-        verify(categoryRepositoryPort, never()).save(any());
+        verify(categoryRepositoryPort, never()).findByName(any());
+        verify(categoryRepositoryPort).save(any(Category.class));
     }
 
 }
\ No newline at end of file
@@ -13,7 +13,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,8 +34,6 @@ class CreateCustomerServiceTest {
 
     @Test
     void save_shouldReturnCustomerResponse_whenCustomerIsUnique() {
-        when(customerRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(customerRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.empty());
         when(customerRepositoryPort.save(any(Customer.class))).thenReturn(Customer.withId(
                 1L,
                 command.getFirstName(),
@@ -53,39 +50,37 @@ class CreateCustomerServiceTest {
         assertEquals("John", response.getFirstName());
         assertEquals("Doe", response.getLastName());
         assertEquals("john.doe@example.com", response.getEmail());
-        verify(customerRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(customerRepositoryPort, times(1)).findByPhone(command.getPhone());
+        verify(customerRepositoryPort, never()).findByEmail(anyString());
+        verify(customerRepositoryPort, never()).findByPhone(anyString());
         verify(customerRepositoryPort, times(1)).save(any(Customer.class));
     }
 
     @Test
-    void save_shouldThrowDuplicateEntryException_whenEmailAlreadyExists() {
-        Customer existingCustomer = Customer.withId(1L, "Jane", "Smith", "john.doe@example.com", "0987654321", "456 Side Ave", LocalDateTime.now(), LocalDateTime.now());
-        when(customerRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.of(existingCustomer));
+    void save_shouldPropagateDuplicateEntryException_whenEmailConstraintIsViolated() {
+        when(customerRepositoryPort.save(any(Customer.class)))
+                .thenThrow(new DuplicateEntryException("Customer with email '" + command.getEmail() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 createCustomerService.save(command)
         );
-        assertEquals("Customer with email john.doe@example.com already exists.", exception.getMessage());
-        verify(customerRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(customerRepositoryPort, never()).findByPhone(anyString());
-        verify(customerRepositoryPort, never()).save(any(Customer.class));
+
+        assertEquals("Customer with email '" + command.getEmail() + "' already exists.", exception.getMessage());
+        verify(customerRepositoryPort, never()).findByEmail(anyString());
+        verify(customerRepositoryPort, times(1)).save(any(Customer.class));
     }
 
     @Test
-    void save_shouldThrowDuplicateEntryException_whenPhoneAlreadyExists() {
-        Customer existingCustomer = Customer.withId(1L, "Jane", "Smith", "jane.smith@example.com", "1234567890", "456 Side Ave", LocalDateTime.now(), LocalDateTime.now());
-        when(customerRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(customerRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.of(existingCustomer));
+    void save_shouldPropagateDuplicateEntryException_whenPhoneConstraintIsViolated() {
+        when(customerRepositoryPort.save(any(Customer.class)))
+                .thenThrow(new DuplicateEntryException("Customer with phone '" + command.getPhone() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 createCustomerService.save(command)
         );
 
-        assertEquals("Customer with phone 1234567890 already exists.", exception.getMessage());
-        verify(customerRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(customerRepositoryPort, times(1)).findByPhone(command.getPhone());
-        verify(customerRepositoryPort, never()).save(any(Customer.class));
+        assertEquals("Customer with phone '" + command.getPhone() + "' already exists.", exception.getMessage());
+        verify(customerRepositoryPort, never()).findByPhone(anyString());
+        verify(customerRepositoryPort, times(1)).save(any(Customer.class));
     }
 
 }
\ No newline at end of file
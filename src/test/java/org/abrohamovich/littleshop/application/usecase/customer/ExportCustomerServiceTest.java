@@ -0,0 +1,66 @@
+package org.abrohamovich.littleshop.application.usecase.customer;
+
+import org.abrohamovich.littleshop.application.dto.customer.CustomerResponse;
+import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
+import org.abrohamovich.littleshop.domain.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ExportCustomerServiceTest {
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+    @InjectMocks
+    private ExportCustomerService exportCustomerService;
+    private Customer testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        testCustomer = Customer.withId(1L, "John", "Doe", "john.doe@example.com", "1234567890", "123 Main St", LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void exportAll_shouldPassEveryStreamedCustomerToConsumer() {
+        doAnswer(invocation -> {
+            Consumer<Customer> consumer = invocation.getArgument(0);
+            consumer.accept(testCustomer);
+            consumer.accept(testCustomer);
+            return null;
+        }).when(customerRepositoryPort).streamAll(any());
+        List<CustomerResponse> exported = new ArrayList<>();
+
+        exportCustomerService.exportAll(exported::add);
+
+        assertEquals(2, exported.size());
+        assertEquals("john.doe@example.com", exported.get(0).getEmail());
+    }
+
+    @Test
+    void exportByEmailLike_shouldStreamMatchingCustomers() {
+        doAnswer(invocation -> {
+            Consumer<Customer> consumer = invocation.getArgument(1);
+            consumer.accept(testCustomer);
+            return null;
+        }).when(customerRepositoryPort).streamByEmailLike(eq("john"), any());
+        List<CustomerResponse> exported = new ArrayList<>();
+
+        exportCustomerService.exportByEmailLike("john", exported::add);
+
+        assertEquals(1, exported.size());
+        assertEquals("John", exported.get(0).getFirstName());
+    }
+}
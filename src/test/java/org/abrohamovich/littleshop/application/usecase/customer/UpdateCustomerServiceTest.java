@@ -38,8 +38,6 @@ public class UpdateCustomerServiceTest {
     void update_shouldReturnCustomerResponse_whenEmailAndPhoneAreUnique() {
         updateCommand = new CustomerUpdateCommand("Jane", "Smith", "jane.smith@example.com", "0987654321", "456 Side Ave");
         when(customerRepositoryPort.findById(customerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepositoryPort.findByEmail(updateCommand.getEmail())).thenReturn(Optional.empty());
-        when(customerRepositoryPort.findByPhone(updateCommand.getPhone())).thenReturn(Optional.empty());
         when(customerRepositoryPort.save(any(Customer.class))).thenReturn(Customer.withId(customerId, "Jane", "Smith", "jane.smith@example.com", "0987654321", "456 Side Ave", existingCustomer.getCreatedAt(), LocalDateTime.now()));
 
         CustomerResponse response = updateCustomerService.update(customerId, updateCommand);
@@ -48,8 +46,8 @@ public class UpdateCustomerServiceTest {
         assertEquals("Jane", response.getFirstName());
         assertEquals("jane.smith@example.com", response.getEmail());
         verify(customerRepositoryPort, times(1)).findById(customerId);
-        verify(customerRepositoryPort, times(1)).findByEmail(updateCommand.getEmail());
-        verify(customerRepositoryPort, times(1)).findByPhone(updateCommand.getPhone());
+        verify(customerRepositoryPort, never()).findByEmail(anyString());
+        verify(customerRepositoryPort, never()).findByPhone(anyString());
         verify(customerRepositoryPort, times(1)).save(any(Customer.class));
     }
 
@@ -88,41 +86,38 @@ public class UpdateCustomerServiceTest {
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewEmailAlreadyExists() {
-        Customer existingDuplicateCustomer = Customer.withId(2L, "Jane", "Smith", "jane.smith@example.com", "0987654321", "456 Side Ave", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenEmailConstraintIsViolated() {
         updateCommand = new CustomerUpdateCommand("Jane", "Smith", "jane.smith@example.com", "0987654321", "456 Side Ave");
 
         when(customerRepositoryPort.findById(customerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepositoryPort.findByEmail(updateCommand.getEmail())).thenReturn(Optional.of(existingDuplicateCustomer));
+        when(customerRepositoryPort.save(any(Customer.class)))
+                .thenThrow(new DuplicateEntryException("Customer with email '" + updateCommand.getEmail() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 updateCustomerService.update(customerId, updateCommand)
         );
 
-        assertEquals("Customer with email 'jane.smith@example.com' already exists.", exception.getMessage());
+        assertEquals("Customer with email '" + updateCommand.getEmail() + "' already exists.", exception.getMessage());
         verify(customerRepositoryPort, times(1)).findById(customerId);
-        verify(customerRepositoryPort, times(1)).findByEmail(updateCommand.getEmail());
-        verify(customerRepositoryPort, never()).findByPhone(anyString());
-        verify(customerRepositoryPort, never()).save(any(Customer.class));
+        verify(customerRepositoryPort, never()).findByEmail(anyString());
+        verify(customerRepositoryPort, times(1)).save(any(Customer.class));
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewPhoneAlreadyExists() {
-        Customer existingDuplicateCustomer = Customer.withId(2L, "Jane", "Smith", "jane.smith@example.com", "0987654321", "456 Side Ave", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenPhoneConstraintIsViolated() {
         updateCommand = new CustomerUpdateCommand("Jane", "Smith", "jane.smith@example.com", "0987654321", "456 Side Ave");
 
         when(customerRepositoryPort.findById(customerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepositoryPort.findByEmail(updateCommand.getEmail())).thenReturn(Optional.empty());
-        when(customerRepositoryPort.findByPhone(updateCommand.getPhone())).thenReturn(Optional.of(existingDuplicateCustomer));
+        when(customerRepositoryPort.save(any(Customer.class)))
+                .thenThrow(new DuplicateEntryException("Customer with phone '" + updateCommand.getPhone() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 updateCustomerService.update(customerId, updateCommand)
         );
 
-        assertEquals("Customer with phone '0987654321' already exists.", exception.getMessage());
+        assertEquals("Customer with phone '" + updateCommand.getPhone() + "' already exists.", exception.getMessage());
         verify(customerRepositoryPort, times(1)).findById(customerId);
-        verify(customerRepositoryPort, times(1)).findByEmail(updateCommand.getEmail());
-        verify(customerRepositoryPort, times(1)).findByPhone(updateCommand.getPhone());
-        verify(customerRepositoryPort, never()).save(any(Customer.class));
+        verify(customerRepositoryPort, never()).findByPhone(anyString());
+        verify(customerRepositoryPort, times(1)).save(any(Customer.class));
     }
-}
\ No newline at end of file
+}
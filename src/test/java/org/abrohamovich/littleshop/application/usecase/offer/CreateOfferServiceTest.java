@@ -5,10 +5,12 @@ import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
 import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.SupplierRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
 import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.category.CategoryNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.supplier.SupplierNotFoundException;
 import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 import org.abrohamovich.littleshop.domain.model.Supplier;
@@ -33,6 +35,8 @@ public class CreateOfferServiceTest {
     private CategoryRepositoryPort categoryRepositoryPort;
     @Mock
     private SupplierRepositoryPort supplierRepositoryPort;
+    @Mock
+    private OfferCatalogIndexPort offerCatalogIndexPort;
     @InjectMocks
     private CreateOfferService createOfferService;
 
@@ -42,7 +46,7 @@ public class CreateOfferServiceTest {
 
     @BeforeEach
     void setUp() {
-        command = new OfferCreateCommand("New Offer", 9.99, OfferType.PRODUCT, "Description", 1L, 1L);
+        command = new OfferCreateCommand("New Offer", Money.ofMinor(999), OfferType.PRODUCT, "Description", 1L, 1L);
         existingCategory = Category.withId(1L, "Category Name", "Description", LocalDateTime.now(), LocalDateTime.now());
         existingSupplier = Supplier.withId(1L, "Supplier Name", "supplier@example.com", "1234567890", "Address", "Description", LocalDateTime.now(), LocalDateTime.now());
     }
@@ -60,16 +64,17 @@ public class CreateOfferServiceTest {
 
         assertNotNull(response);
         assertEquals("New Offer", response.getName());
-        assertEquals(9.99, response.getPrice());
+        assertEquals(Money.ofMinor(999), response.getPrice());
         verify(offerRepositoryPort, times(1)).findByName(command.getName());
         verify(categoryRepositoryPort, times(1)).findById(command.getCategoryId());
         verify(supplierRepositoryPort, times(1)).findById(command.getSupplierId());
         verify(offerRepositoryPort, times(1)).save(any(Offer.class));
+        verify(offerCatalogIndexPort, times(1)).index(savedOffer);
     }
 
     @Test
     void save_shouldThrowDuplicateEntryException_whenOfferNameAlreadyExists() {
-        Offer existingOffer = Offer.withId(2L, "New Offer", 15.0, OfferType.PRODUCT, "Existing description", existingCategory, existingSupplier, LocalDateTime.now(), LocalDateTime.now());
+        Offer existingOffer = Offer.withId(2L, "New Offer", Money.ofMinor(1500), OfferType.PRODUCT, "Existing description", existingCategory, existingSupplier, LocalDateTime.now(), LocalDateTime.now());
         when(offerRepositoryPort.findByName(command.getName())).thenReturn(Optional.of(existingOffer));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
@@ -1,8 +1,10 @@
 package org.abrohamovich.littleshop.application.usecase.offer;
 
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
 import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
 import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 import org.abrohamovich.littleshop.domain.model.Supplier;
@@ -24,6 +26,8 @@ public class DeleteOfferServiceTest {
     private final Long offerId = 1L;
     @Mock
     private OfferRepositoryPort offerRepositoryPort;
+    @Mock
+    private OfferCatalogIndexPort offerCatalogIndexPort;
     @InjectMocks
     private DeleteOfferService deleteOfferService;
     private Offer testOffer;
@@ -32,7 +36,7 @@ public class DeleteOfferServiceTest {
     void setUp() {
         Category category = Category.withId(1L, "Category", "desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier supplier = Supplier.withId(1L, "Supplier", "mail", "phone", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
-        testOffer = Offer.withId(offerId, "Test Offer", 10.0, OfferType.PRODUCT, "Description", category, supplier, LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(offerId, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "Description", category, supplier, LocalDateTime.now(), LocalDateTime.now());
     }
 
     @Test
@@ -43,6 +47,7 @@ public class DeleteOfferServiceTest {
 
         verify(offerRepositoryPort, times(1)).findById(offerId);
         verify(offerRepositoryPort, times(1)).deleteById(offerId);
+        verify(offerCatalogIndexPort, times(1)).remove(offerId);
     }
 
     @Test
@@ -56,5 +61,6 @@ public class DeleteOfferServiceTest {
 
         verify(offerRepositoryPort, times(1)).findById(nonExistentId);
         verify(offerRepositoryPort, never()).deleteById(anyLong());
+        verify(offerCatalogIndexPort, never()).remove(anyLong());
     }
 }
@@ -1,9 +1,12 @@
 package org.abrohamovich.littleshop.application.usecase.offer;
 
 import org.abrohamovich.littleshop.application.dto.offer.OfferResponse;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSearchCriteria;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
 import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
 import org.abrohamovich.littleshop.domain.model.Category;
+import org.abrohamovich.littleshop.domain.model.Money;
 import org.abrohamovich.littleshop.domain.model.Offer;
 import org.abrohamovich.littleshop.domain.model.OfferType;
 import org.abrohamovich.littleshop.domain.model.Supplier;
@@ -24,8 +27,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetOfferServiceTest {
@@ -43,7 +45,7 @@ class GetOfferServiceTest {
     void setUp() {
         Category category = Category.withId(categoryId, "Category", "desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier supplier = Supplier.withId(supplierId, "Supplier", "mail", "phone", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
-        testOffer = Offer.withId(offerId, "Test Offer", 10.0, OfferType.PRODUCT, "Description", category, supplier, LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(offerId, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "Description", category, supplier, LocalDateTime.now(), LocalDateTime.now());
         pageable = PageRequest.of(0, 10);
     }
 
@@ -55,7 +57,7 @@ class GetOfferServiceTest {
 
         assertNotNull(response);
         assertEquals("Test Offer", response.getName());
-        assertEquals(10.0, response.getPrice());
+        assertEquals(Money.ofMinor(1000), response.getPrice());
         verify(offerRepositoryPort).findById(offerId);
     }
 
@@ -68,196 +70,83 @@ class GetOfferServiceTest {
     }
 
     @Test
-    void findAll_shouldReturnPageOfOfferResponses_whenOffersExist() {
+    void search_shouldReturnPageOfOfferResponses_whenOffersExist() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.any();
         Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findAll(pageable)).thenReturn(offerPage);
+        when(offerRepositoryPort.search(criteria, pageable)).thenReturn(offerPage);
 
-        Page<OfferResponse> responsePage = getOfferService.findAll(pageable);
+        Page<OfferResponse> responsePage = getOfferService.search(criteria, pageable);
 
         assertNotNull(responsePage);
         assertEquals(1, responsePage.getTotalElements());
         assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findAll(pageable);
+        verify(offerRepositoryPort).search(criteria, pageable);
     }
 
     @Test
-    void findAll_shouldReturnEmptyPage_whenNoOffersExist() {
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findAll(pageable)).thenReturn(emptyPage);
+    void search_shouldReturnEmptyPage_whenNoOffersMatch() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.builder().name("missing").build();
+        when(offerRepositoryPort.search(criteria, pageable)).thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
 
-        Page<OfferResponse> responsePage = getOfferService.findAll(pageable);
+        Page<OfferResponse> responsePage = getOfferService.search(criteria, pageable);
 
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findAll(pageable);
-    }
-
-    @Test
-    void findByNameLike_shouldReturnPageOfOfferResponses_whenMatchesExist() {
-        String searchTerm = "Test";
-        Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findByNameLike(searchTerm, pageable)).thenReturn(offerPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByNameLike(searchTerm, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(1, responsePage.getTotalElements());
-        assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findByNameLike(searchTerm, pageable);
-    }
-
-    @Test
-    void findByNameLike_shouldReturnEmptyPage_whenNoMatchesFound() {
-        String searchTerm = "NoMatch";
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findByNameLike(searchTerm, pageable)).thenReturn(emptyPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByNameLike(searchTerm, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findByNameLike(searchTerm, pageable);
+        assertTrue(responsePage.isEmpty());
+        verify(offerRepositoryPort).search(criteria, pageable);
     }
 
     @Test
-    void findByCategoryId_shouldReturnPageOfOfferResponses_whenMatchesExist() {
-        Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findByCategoryId(categoryId, pageable)).thenReturn(offerPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByCategoryId(categoryId, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(1, responsePage.getTotalElements());
-        assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findByCategoryId(categoryId, pageable);
-    }
-
-    @Test
-    void findByCategoryId_shouldReturnEmptyPage_whenNoMatchesFound() {
-        Long nonExistentId = 99L;
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findByCategoryId(nonExistentId, pageable)).thenReturn(emptyPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByCategoryId(nonExistentId, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findByCategoryId(nonExistentId, pageable);
-    }
-
-    @Test
-    void findBySupplierId_shouldReturnPageOfOfferResponses_whenMatchesExist() {
-        Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findBySupplierId(supplierId, pageable)).thenReturn(offerPage);
+    void search_shouldPassCombinedFiltersToRepositoryInOneCall() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.builder()
+                .name("Test")
+                .categoryId(categoryId)
+                .supplierId(supplierId)
+                .type(OfferType.PRODUCT)
+                .minPrice(Money.ofMinor(500))
+                .maxPrice(Money.ofMinor(2000))
+                .build();
+        when(offerRepositoryPort.search(criteria, pageable)).thenReturn(new PageImpl<>(List.of(testOffer), pageable, 1));
 
-        Page<OfferResponse> responsePage = getOfferService.findBySupplierId(supplierId, pageable);
+        Page<OfferResponse> responsePage = getOfferService.search(criteria, pageable);
 
-        assertNotNull(responsePage);
         assertEquals(1, responsePage.getTotalElements());
-        assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findBySupplierId(supplierId, pageable);
-    }
-
-    @Test
-    void findBySupplierId_shouldReturnEmptyPage_whenNoMatchesFound() {
-        Long nonExistentId = 99L;
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findBySupplierId(nonExistentId, pageable)).thenReturn(emptyPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findBySupplierId(nonExistentId, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findBySupplierId(nonExistentId, pageable);
+        verify(offerRepositoryPort).search(criteria, pageable);
     }
 
     @Test
-    void findByPriceIsGreaterThanEqual_shouldReturnPageOfOfferResponses_whenMatchesExist() {
-        Double price = 5.0;
-        Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findByPriceIsGreaterThanEqual(price, pageable)).thenReturn(offerPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByPriceIsGreaterThanEqual(price, pageable);
+    void search_shouldThrowModelValidationException_whenMinPriceExceedsMaxPrice() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.builder().minPrice(Money.ofMinor(2000)).maxPrice(Money.ofMinor(500)).build();
 
-        assertNotNull(responsePage);
-        assertEquals(1, responsePage.getTotalElements());
-        assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findByPriceIsGreaterThanEqual(price, pageable);
+        assertThrows(ModelValidationException.class, () -> getOfferService.search(criteria, pageable));
+        verifyNoInteractions(offerRepositoryPort);
     }
 
     @Test
-    void findByPriceIsGreaterThanEqual_shouldReturnEmptyPage_whenNoMatchesFound() {
-        Double price = 20.0;
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findByPriceIsGreaterThanEqual(price, pageable)).thenReturn(emptyPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByPriceIsGreaterThanEqual(price, pageable);
+    void search_shouldThrowModelValidationException_whenPriceIsNegative() {
+        OfferSearchCriteria criteria = OfferSearchCriteria.builder().minPrice(Money.ofMinor(-100)).build();
 
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findByPriceIsGreaterThanEqual(price, pageable);
+        assertThrows(ModelValidationException.class, () -> getOfferService.search(criteria, pageable));
+        verifyNoInteractions(offerRepositoryPort);
     }
 
     @Test
-    void findByPriceIsLessThanEqual_shouldReturnPageOfOfferResponses_whenMatchesExist() {
-        Double price = 15.0;
-        Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findByPriceIsLessThanEqual(price, pageable)).thenReturn(offerPage);
+    void searchByText_shouldReturnRankedPageFromRepository() {
+        when(offerRepositoryPort.searchByText("test", pageable)).thenReturn(new PageImpl<>(List.of(testOffer), pageable, 1));
 
-        Page<OfferResponse> responsePage = getOfferService.findByPriceIsLessThanEqual(price, pageable);
+        Page<OfferResponse> responsePage = getOfferService.searchByText("test", pageable);
 
-        assertNotNull(responsePage);
         assertEquals(1, responsePage.getTotalElements());
         assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findByPriceIsLessThanEqual(price, pageable);
-    }
-
-    @Test
-    void findByPriceIsLessThanEqual_shouldReturnEmptyPage_whenNoMatchesFound() {
-        Double price = 5.0;
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findByPriceIsLessThanEqual(price, pageable)).thenReturn(emptyPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByPriceIsLessThanEqual(price, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findByPriceIsLessThanEqual(price, pageable);
     }
 
     @Test
-    void findByPriceIsGreaterThanEqualAndPriceLessThanEqual_shouldReturnPageOfOfferResponses_whenMatchesExist() {
-        Double minPrice = 5.0;
-        Double maxPrice = 15.0;
-        Page<Offer> offerPage = new PageImpl<>(List.of(testOffer), pageable, 1);
-        when(offerRepositoryPort.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable)).thenReturn(offerPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(1, responsePage.getTotalElements());
-        assertEquals("Test Offer", responsePage.getContent().get(0).getName());
-        verify(offerRepositoryPort).findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable);
+    void searchByText_shouldThrowModelValidationException_whenQueryIsBlank() {
+        assertThrows(ModelValidationException.class, () -> getOfferService.searchByText("  ", pageable));
+        verifyNoInteractions(offerRepositoryPort);
     }
 
     @Test
-    void findByPriceIsGreaterThanEqualAndPriceLessThanEqual_shouldReturnEmptyPage_whenNoMatchesFound() {
-        Double minPrice = 20.0;
-        Double maxPrice = 30.0;
-        Page<Offer> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(offerRepositoryPort.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable)).thenReturn(emptyPage);
-
-        Page<OfferResponse> responsePage = getOfferService.findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable);
-
-        assertNotNull(responsePage);
-        assertEquals(0, responsePage.getTotalElements());
-        assertTrue(responsePage.getContent().isEmpty());
-        verify(offerRepositoryPort).findByPriceIsGreaterThanEqualAndPriceLessThanEqual(minPrice, maxPrice, pageable);
+    void searchByText_shouldThrowModelValidationException_whenQueryIsTooLong() {
+        assertThrows(ModelValidationException.class, () -> getOfferService.searchByText("x".repeat(101), pageable));
+        verifyNoInteractions(offerRepositoryPort);
     }
 }
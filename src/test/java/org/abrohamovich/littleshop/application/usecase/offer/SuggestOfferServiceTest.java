@@ -0,0 +1,67 @@
+package org.abrohamovich.littleshop.application.usecase.offer;
+
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestQuery;
+import org.abrohamovich.littleshop.application.dto.offer.OfferSuggestionsResponse;
+import org.abrohamovich.littleshop.application.port.out.search.OfferCatalogIndexPort;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestOfferServiceTest {
+    @Mock
+    private OfferCatalogIndexPort offerCatalogIndexPort;
+    @InjectMocks
+    private SuggestOfferService suggestOfferService;
+
+    @Test
+    void suggest_shouldDelegateToCatalogIndex_whenQueryIsValid() {
+        OfferSuggestQuery query = OfferSuggestQuery.builder().text("esp").minPrice(Money.ofMinor(100)).maxPrice(Money.ofMinor(500)).limit(10).build();
+        OfferSuggestionsResponse expected = OfferSuggestionsResponse.empty();
+        when(offerCatalogIndexPort.suggest(query)).thenReturn(expected);
+
+        assertSame(expected, suggestOfferService.suggest(query));
+    }
+
+    @Test
+    void suggest_shouldRejectBlankText() {
+        OfferSuggestQuery query = OfferSuggestQuery.builder().text("  ").limit(10).build();
+
+        assertThrows(ModelValidationException.class, () -> suggestOfferService.suggest(query));
+        verify(offerCatalogIndexPort, never()).suggest(any());
+    }
+
+    @Test
+    void suggest_shouldRejectTooLongText() {
+        OfferSuggestQuery query = OfferSuggestQuery.builder().text("a".repeat(101)).limit(10).build();
+
+        assertThrows(ModelValidationException.class, () -> suggestOfferService.suggest(query));
+        verify(offerCatalogIndexPort, never()).suggest(any());
+    }
+
+    @Test
+    void suggest_shouldRejectLimitOutOfRange() {
+        assertThrows(ModelValidationException.class, () ->
+                suggestOfferService.suggest(OfferSuggestQuery.builder().text("esp").limit(0).build()));
+        assertThrows(ModelValidationException.class, () ->
+                suggestOfferService.suggest(OfferSuggestQuery.builder().text("esp").limit(51).build()));
+        verify(offerCatalogIndexPort, never()).suggest(any());
+    }
+
+    @Test
+    void suggest_shouldRejectInvertedPriceRange() {
+        OfferSuggestQuery query = OfferSuggestQuery.builder().text("esp").minPrice(Money.ofMinor(500)).maxPrice(Money.ofMinor(100)).limit(10).build();
+
+        assertThrows(ModelValidationException.class, () -> suggestOfferService.suggest(query));
+        verify(offerCatalogIndexPort, never()).suggest(any());
+    }
+}
@@ -4,6 +4,8 @@ import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
 import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemAddToOrderCommand;
 import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.PreconditionFailedException;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
 import org.abrohamovich.littleshop.domain.exception.offer.OfferNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.order.OrderNotFoundException;
 import org.abrohamovich.littleshop.domain.model.*;
@@ -44,13 +46,13 @@ public class AddOrderItemToOrderServiceTest {
         Category category = Category.withId(1L, "Category", "desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier supplier = Supplier.withId(1L, "Supplier", "mail", "phone", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
 
-        initialOffer = Offer.withId(initialOfferId, "Initial Offer", 100.0, OfferType.PRODUCT, "desc", category, supplier, LocalDateTime.now(), LocalDateTime.now());
+        initialOffer = Offer.withId(initialOfferId, "Initial Offer", Money.ofMinor(10000), OfferType.PRODUCT, "desc", category, supplier, LocalDateTime.now(), LocalDateTime.now());
         OrderItem initialItem = OrderItem.withId(1L, initialOffer, 1, initialOffer.getPrice(), LocalDateTime.now(), LocalDateTime.now());
 
         testOrder = Order.withId(orderId, customer, user, OrderStatus.IN_PROGRESS, List.of(initialItem), LocalDateTime.now(), LocalDateTime.now());
 
-        newOffer = Offer.withId(newOfferId, "New Offer", 50.0, OfferType.PRODUCT, "desc", category, supplier, LocalDateTime.now(), LocalDateTime.now());
-        command = new OrderItemAddToOrderCommand(newOfferId, 2);
+        newOffer = Offer.withId(newOfferId, "New Offer", Money.ofMinor(5000), OfferType.PRODUCT, "desc", category, supplier, LocalDateTime.now(), LocalDateTime.now());
+        command = new OrderItemAddToOrderCommand(newOfferId, 2, null);
     }
 
     @Test
@@ -61,7 +63,7 @@ public class AddOrderItemToOrderServiceTest {
         when(orderRepositoryPort.save(any(Order.class))).thenReturn(testOrder);
 
         // The total price before adding the new item
-        double initialTotalPrice = testOrder.totalPrice();
+        Money initialTotalPrice = testOrder.totalPrice();
 
         // Act
         OrderResponse response = addOrderItemToOrderService.add(orderId, command);
@@ -69,7 +71,7 @@ public class AddOrderItemToOrderServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals(2, response.getItems().size());
-        assertEquals(initialTotalPrice + (newOffer.getPrice() * command.getQuantity()), response.getTotalPrice());
+        assertEquals(initialTotalPrice.plus(newOffer.getPrice().times(command.getQuantity())), response.getTotalPrice());
         verify(orderRepositoryPort, times(1)).findById(orderId);
         verify(offerRepositoryPort, times(1)).findById(newOfferId);
         verify(orderRepositoryPort, times(1)).save(any(Order.class));
@@ -92,7 +94,7 @@ public class AddOrderItemToOrderServiceTest {
     @Test
     void add_shouldThrowOfferNotFoundException_whenOfferDoesNotExist() {
         Long nonExistentOfferId = 99L;
-        OrderItemAddToOrderCommand commandWithNonExistentOffer = new OrderItemAddToOrderCommand(nonExistentOfferId, 2);
+        OrderItemAddToOrderCommand commandWithNonExistentOffer = new OrderItemAddToOrderCommand(nonExistentOfferId, 2, null);
 
         when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(testOrder));
         when(offerRepositoryPort.findById(nonExistentOfferId)).thenReturn(Optional.empty());
@@ -105,4 +107,56 @@ public class AddOrderItemToOrderServiceTest {
         verify(offerRepositoryPort, times(1)).findById(nonExistentOfferId);
         verify(orderRepositoryPort, never()).save(any(Order.class));
     }
+
+    @Test
+    void add_shouldReloadAndRetry_whenSaveHitsVersionConflict() {
+        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(versionedOrder(3L)), Optional.of(versionedOrder(4L)));
+        when(offerRepositoryPort.findById(newOfferId)).thenReturn(Optional.of(newOffer));
+        when(orderRepositoryPort.save(any(Order.class)))
+                .thenThrow(new VersionConflictException("conflict"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrderResponse response = addOrderItemToOrderService.add(orderId, command);
+
+        assertEquals(2, response.getItems().size());
+        assertEquals(4L, response.getVersion());
+        verify(orderRepositoryPort, times(2)).findById(orderId);
+        verify(orderRepositoryPort, times(2)).save(any(Order.class));
+    }
+
+    @Test
+    void add_shouldGiveUp_whenConflictsPersistPastMaxAttempts() {
+        when(orderRepositoryPort.findById(orderId)).thenAnswer(invocation -> Optional.of(versionedOrder(1L)));
+        when(offerRepositoryPort.findById(newOfferId)).thenReturn(Optional.of(newOffer));
+        when(orderRepositoryPort.save(any(Order.class))).thenThrow(new VersionConflictException("conflict"));
+
+        assertThrows(VersionConflictException.class, () -> addOrderItemToOrderService.add(orderId, command));
+        verify(orderRepositoryPort, times(OrderConcurrency.MAX_ATTEMPTS)).save(any(Order.class));
+    }
+
+    @Test
+    void add_shouldFailPrecondition_whenExpectedVersionIsStale() {
+        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(versionedOrder(5L)));
+        command.setExpectedVersion(4L);
+
+        assertThrows(PreconditionFailedException.class, () -> addOrderItemToOrderService.add(orderId, command));
+        verify(offerRepositoryPort, never()).findById(any());
+        verify(orderRepositoryPort, never()).save(any(Order.class));
+    }
+
+    @Test
+    void add_shouldNotRetryConditionalRequest_whenSaveHitsVersionConflict() {
+        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(versionedOrder(5L)));
+        when(offerRepositoryPort.findById(newOfferId)).thenReturn(Optional.of(newOffer));
+        when(orderRepositoryPort.save(any(Order.class))).thenThrow(new VersionConflictException("conflict"));
+        command.setExpectedVersion(5L);
+
+        assertThrows(PreconditionFailedException.class, () -> addOrderItemToOrderService.add(orderId, command));
+        verify(orderRepositoryPort, times(1)).save(any(Order.class));
+    }
+
+    private Order versionedOrder(Long version) {
+        return Order.withId(orderId, testOrder.getCustomer(), testOrder.getUser(), testOrder.getStatus(),
+                testOrder.getItems(), testOrder.getCreatedAt(), testOrder.getUpdatedAt(), version);
+    }
 }
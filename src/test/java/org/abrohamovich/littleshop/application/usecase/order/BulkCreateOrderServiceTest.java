@@ -0,0 +1,138 @@
+package org.abrohamovich.littleshop.application.usecase.order;
+
+import org.abrohamovich.littleshop.application.dto.order.OrderBulkRecordResult;
+import org.abrohamovich.littleshop.application.dto.order.OrderCreateCommand;
+import org.abrohamovich.littleshop.application.dto.orderItem.OrderItemCreateCommand;
+import org.abrohamovich.littleshop.application.port.out.persistence.CustomerRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.OfferRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
+import org.abrohamovich.littleshop.domain.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateOrderServiceTest {
+    private final Long customerId = 1L;
+    private final Long userId = 2L;
+    private final Long offerId = 10L;
+    @Mock
+    private OrderRepositoryPort orderRepositoryPort;
+    @Mock
+    private OfferRepositoryPort offerRepositoryPort;
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+    @InjectMocks
+    private BulkCreateOrderService bulkCreateOrderService;
+    private Customer testCustomer;
+    private User testUser;
+    private Offer testOffer;
+
+    @BeforeEach
+    void setUp() {
+        testCustomer = Customer.withId(customerId, "Customer", "cust@mail.com", "111", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
+        testUser = User.withId(userId, "Worker", "Doe", "worker@mail.com", "hashed_pass", UserRole.WORKER, "222", LocalDateTime.now(), LocalDateTime.now());
+        Category testCategory = Category.withId(1L, "Test Category", "desc", LocalDateTime.now(), LocalDateTime.now());
+        Supplier testSupplier = Supplier.withId(1L, "Test Supplier", "supp@mail.com", "333", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(offerId, "Test Offer", Money.ofMinor(5000), OfferType.PRODUCT, "desc", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void saveAll_shouldResolveReferencesOncePerChunkAndSaveValidOrdersTogether() {
+        List<OrderCreateCommand> commands = List.of(
+                new OrderCreateCommand(customerId, userId, List.of(new OrderItemCreateCommand(offerId, 1))),
+                new OrderCreateCommand(customerId, userId, List.of(new OrderItemCreateCommand(offerId, 2))));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId))).thenReturn(List.of(testOffer));
+        when(customerRepositoryPort.findAllByIds(Set.of(customerId))).thenReturn(List.of(testCustomer));
+        when(userRepositoryPort.findAllByIds(Set.of(userId))).thenReturn(List.of(testUser));
+        when(orderRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            return List.of(withId(100L, orders.get(0)), withId(101L, orders.get(1)));
+        });
+
+        List<OrderBulkRecordResult> results = bulkCreateOrderService.saveAll(commands);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals(100L, results.get(0).getOrderId());
+        assertEquals(101L, results.get(1).getOrderId());
+        verify(offerRepositoryPort, times(1)).findAllByIds(Set.of(offerId));
+        verify(customerRepositoryPort, times(1)).findAllByIds(Set.of(customerId));
+        verify(userRepositoryPort, times(1)).findAllByIds(Set.of(userId));
+        verify(orderRepositoryPort, times(1)).saveAll(anyList());
+        verify(customerRepositoryPort, never()).findById(anyLong());
+        verify(userRepositoryPort, never()).findById(anyLong());
+    }
+
+    @Test
+    void saveAll_shouldReportInvalidRecordsAndSaveTheRest() {
+        Long missingCustomerId = 3L;
+        Long missingOfferId = 11L;
+        List<OrderCreateCommand> commands = List.of(
+                new OrderCreateCommand(missingCustomerId, userId, List.of(new OrderItemCreateCommand(offerId, 1))),
+                new OrderCreateCommand(customerId, userId, List.of(new OrderItemCreateCommand(missingOfferId, 1))),
+                new OrderCreateCommand(customerId, userId, List.of()),
+                new OrderCreateCommand(customerId, userId, List.of(new OrderItemCreateCommand(offerId, 2))));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId, missingOfferId))).thenReturn(List.of(testOffer));
+        when(customerRepositoryPort.findAllByIds(Set.of(missingCustomerId, customerId))).thenReturn(List.of(testCustomer));
+        when(userRepositoryPort.findAllByIds(Set.of(userId))).thenReturn(List.of(testUser));
+        when(orderRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            assertEquals(1, orders.size());
+            return List.of(withId(100L, orders.get(0)));
+        });
+
+        List<OrderBulkRecordResult> results = bulkCreateOrderService.saveAll(commands);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).getError().contains("Customer with ID '" + missingCustomerId + "'"));
+        assertTrue(results.get(1).getError().contains("[" + missingOfferId + "]"));
+        assertTrue(results.get(2).getError().contains("order must contain at least one item"));
+        assertTrue(results.get(3).isCreated());
+        assertEquals(100L, results.get(3).getOrderId());
+    }
+
+    @Test
+    void saveAll_shouldSaveRecordsOneByOne_whenChunkFailsToPersist() {
+        List<OrderCreateCommand> commands = List.of(
+                new OrderCreateCommand(customerId, userId, List.of(new OrderItemCreateCommand(offerId, 1))),
+                new OrderCreateCommand(customerId, null, List.of(new OrderItemCreateCommand(offerId, 1))),
+                new OrderCreateCommand(customerId, userId, List.of(new OrderItemCreateCommand(offerId, 2))));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId))).thenReturn(List.of(testOffer));
+        when(customerRepositoryPort.findAllByIds(Set.of(customerId))).thenReturn(List.of(testCustomer));
+        when(userRepositoryPort.findAllByIds(Set.of(userId))).thenReturn(List.of(testUser));
+        when(orderRepositoryPort.saveAll(anyList())).thenThrow(new DataPersistenceException("Failed to save orders."));
+        when(orderRepositoryPort.save(any(Order.class)))
+                .thenThrow(new DataPersistenceException("Failed to save order."))
+                .thenAnswer(invocation -> withId(101L, invocation.getArgument(0)));
+
+        List<OrderBulkRecordResult> results = bulkCreateOrderService.saveAll(commands);
+
+        assertEquals("Failed to save order.", results.get(0).getError());
+        assertTrue(results.get(1).getError().contains("User with ID 'null' not found."));
+        assertTrue(results.get(2).isCreated());
+        assertEquals(101L, results.get(2).getOrderId());
+        verify(orderRepositoryPort, times(2)).save(any(Order.class));
+    }
+
+    private Order withId(Long id, Order order) {
+        return Order.withId(id, order.getCustomer(), order.getUser(), order.getStatus(), order.getItems(),
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -3,6 +3,7 @@ package org.abrohamovich.littleshop.application.usecase.order;
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
 import org.abrohamovich.littleshop.application.dto.order.OrderUpdateStatusCommand;
 import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
 import org.abrohamovich.littleshop.domain.exception.order.OrderNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.order.OrderValidationException;
 import org.abrohamovich.littleshop.domain.model.*;
@@ -42,7 +43,7 @@ public class ChangeOrderStatusServiceTest {
         testCategory = Category.withId(1L, "Test Category", "Desc", LocalDateTime.now(), LocalDateTime.now());
         testSupplier = Supplier.withId(1L, "Test Supplier", "test@mail.com", "1234567890", "Address", "Desc", LocalDateTime.now(), LocalDateTime.now());
 
-        testOffer = Offer.withId(10L, "Test Offer", 10.0, OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(10L, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
 
         testOrderItem = OrderItem.createNew(testOffer, 2);
 
@@ -51,7 +52,7 @@ public class ChangeOrderStatusServiceTest {
 
     @Test
     void changeStatus_shouldUpdateStatusAndReturnOrderResponse_whenOrderExistsAndStatusChangeIsValid() {
-        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.COMPLETED);
+        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.COMPLETED, null);
         when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(testOrder));
         when(orderRepositoryPort.save(any(Order.class))).thenReturn(testOrder);
 
@@ -66,7 +67,7 @@ public class ChangeOrderStatusServiceTest {
     @Test
     void changeStatus_shouldThrowOrderNotFoundException_whenOrderDoesNotExist() {
         Long nonExistentId = 99L;
-        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.COMPLETED);
+        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.COMPLETED, null);
         when(orderRepositoryPort.findById(nonExistentId)).thenReturn(Optional.empty());
 
         assertThrows(OrderNotFoundException.class, () ->
@@ -82,7 +83,7 @@ public class ChangeOrderStatusServiceTest {
         Customer customer = Customer.withId(1L, "CustName", "cust@mail.com", "111", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
         User user = User.withId(1L, "UserName", "UserSurname", "user@mail.com", "hashed", UserRole.WORKER, "222", LocalDateTime.now(), LocalDateTime.now());
         Order cancelledOrder = Order.withId(orderId, customer, user, OrderStatus.CANCELLED, List.of(testOrderItem), LocalDateTime.now(), LocalDateTime.now());
-        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.IN_PROGRESS);
+        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.IN_PROGRESS, null);
         when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(cancelledOrder));
 
         assertThrows(OrderValidationException.class, () ->
@@ -92,4 +93,17 @@ public class ChangeOrderStatusServiceTest {
         verify(orderRepositoryPort, times(1)).findById(orderId);
         verify(orderRepositoryPort, never()).save(any(Order.class));
     }
+
+    @Test
+    void changeStatus_shouldNotRetry_whenSaveHitsVersionConflict() {
+        OrderUpdateStatusCommand command = new OrderUpdateStatusCommand(OrderStatus.COMPLETED, null);
+        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(testOrder));
+        when(orderRepositoryPort.save(any(Order.class))).thenThrow(new VersionConflictException("conflict"));
+
+        assertThrows(VersionConflictException.class, () ->
+                changeOrderStatusService.changeStatus(orderId, command)
+        );
+
+        verify(orderRepositoryPort, times(1)).save(any(Order.class));
+    }
 }
@@ -21,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -51,7 +52,7 @@ public class CreateOrderServiceTest {
         testUser = User.withId(userId, "Worker", "Doe", "worker@mail.com", "hashed_pass", UserRole.WORKER, "222", LocalDateTime.now(), LocalDateTime.now());
         Category testCategory = Category.withId(1L, "Test Category", "desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier testSupplier = Supplier.withId(1L, "Test Supplier", "supp@mail.com", "333", "address", "desc", LocalDateTime.now(), LocalDateTime.now());
-        testOffer = Offer.withId(offerId, "Test Offer", 50.0, OfferType.PRODUCT, "desc", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(offerId, "Test Offer", Money.ofMinor(5000), OfferType.PRODUCT, "desc", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
 
         OrderItemCreateCommand itemCommand = new OrderItemCreateCommand(offerId, 3);
         command = new OrderCreateCommand(customerId, userId, List.of(itemCommand));
@@ -61,7 +62,7 @@ public class CreateOrderServiceTest {
     void save_shouldCreateOrderAndReturnResponse_whenAllDependenciesExist() {
         when(customerRepositoryPort.findById(customerId)).thenReturn(Optional.of(testCustomer));
         when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(testUser));
-        when(offerRepositoryPort.findById(offerId)).thenReturn(Optional.of(testOffer));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId))).thenReturn(List.of(testOffer));
 
         Order savedOrder = Order.createNew(testCustomer, testUser, List.of(OrderItem.createNew(testOffer, 3)));
         when(orderRepositoryPort.save(any(Order.class))).thenReturn(savedOrder);
@@ -71,23 +72,23 @@ public class CreateOrderServiceTest {
         assertNotNull(response);
         assertEquals(OrderStatus.IN_PROGRESS, response.getStatus());
         assertEquals(1, response.getItems().size());
-        assertEquals(150.0, response.getTotalPrice());
+        assertEquals(Money.ofMinor(15000), response.getTotalPrice());
         verify(customerRepositoryPort, times(1)).findById(customerId);
         verify(userRepositoryPort, times(1)).findById(userId);
-        verify(offerRepositoryPort, times(1)).findById(offerId);
+        verify(offerRepositoryPort, times(1)).findAllByIds(Set.of(offerId));
         verify(orderRepositoryPort, times(1)).save(any(Order.class));
     }
 
     @Test
     void save_shouldThrowCustomerNotFoundException_whenCustomerDoesNotExist() {
         when(customerRepositoryPort.findById(customerId)).thenReturn(Optional.empty());
-        when(offerRepositoryPort.findById(offerId)).thenReturn(Optional.of(testOffer));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId))).thenReturn(List.of(testOffer));
 
         assertThrows(CustomerNotFoundException.class, () -> createOrderService.save(command));
 
         verify(customerRepositoryPort, times(1)).findById(customerId);
         verify(userRepositoryPort, never()).findById(anyLong());
-        verify(offerRepositoryPort, times(1)).findById(anyLong());
+        verify(offerRepositoryPort, times(1)).findAllByIds(anyCollection());
         verify(orderRepositoryPort, never()).save(any(Order.class));
     }
 
@@ -95,25 +96,44 @@ public class CreateOrderServiceTest {
     void save_shouldThrowUserNotFoundException_whenUserDoesNotExist() {
         when(customerRepositoryPort.findById(customerId)).thenReturn(Optional.of(testCustomer));
         when(userRepositoryPort.findById(userId)).thenReturn(Optional.empty());
-        when(offerRepositoryPort.findById(offerId)).thenReturn(Optional.of(testOffer));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId))).thenReturn(List.of(testOffer));
 
         assertThrows(UserNotFoundException.class, () -> createOrderService.save(command));
 
         verify(customerRepositoryPort, times(1)).findById(customerId);
         verify(userRepositoryPort, times(1)).findById(userId);
-        verify(offerRepositoryPort, times(1)).findById(anyLong());
+        verify(offerRepositoryPort, times(1)).findAllByIds(anyCollection());
         verify(orderRepositoryPort, never()).save(any(Order.class));
     }
 
     @Test
     void save_shouldThrowOfferNotFoundException_whenOfferDoesNotExist() {
-        when(offerRepositoryPort.findById(offerId)).thenReturn(Optional.empty());
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId))).thenReturn(List.of());
 
         assertThrows(OfferNotFoundException.class, () -> createOrderService.save(command));
 
         verify(customerRepositoryPort, never()).findById(customerId);
         verify(userRepositoryPort, never()).findById(userId);
-        verify(offerRepositoryPort, times(1)).findById(offerId);
+        verify(offerRepositoryPort, times(1)).findAllByIds(Set.of(offerId));
         verify(orderRepositoryPort, never()).save(any(Order.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void save_shouldResolveEachOfferOnceAndReportAllMissingOffers() {
+        Long missingOfferId = 11L;
+        Long otherMissingOfferId = 12L;
+        command = new OrderCreateCommand(customerId, userId, List.of(
+                new OrderItemCreateCommand(offerId, 1),
+                new OrderItemCreateCommand(missingOfferId, 1),
+                new OrderItemCreateCommand(offerId, 2),
+                new OrderItemCreateCommand(otherMissingOfferId, 1)));
+        when(offerRepositoryPort.findAllByIds(Set.of(offerId, missingOfferId, otherMissingOfferId))).thenReturn(List.of(testOffer));
+
+        OfferNotFoundException exception = assertThrows(OfferNotFoundException.class, () -> createOrderService.save(command));
+
+        assertTrue(exception.getMessage().contains("[" + missingOfferId + ", " + otherMissingOfferId + "]"));
+        verify(offerRepositoryPort, times(1)).findAllByIds(anyCollection());
+        verify(offerRepositoryPort, never()).findById(anyLong());
+        verify(orderRepositoryPort, never()).save(any(Order.class));
+    }
+}
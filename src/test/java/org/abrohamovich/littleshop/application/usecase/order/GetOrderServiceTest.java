@@ -1,6 +1,8 @@
 package org.abrohamovich.littleshop.application.usecase.order;
 
 import org.abrohamovich.littleshop.application.dto.order.OrderResponse;
+import org.abrohamovich.littleshop.application.dto.order.OrderSearchCriteria;
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
 import org.abrohamovich.littleshop.application.port.out.persistence.OrderRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.order.OrderNotFoundException;
 import org.abrohamovich.littleshop.domain.model.*;
@@ -10,10 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -22,6 +21,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +42,7 @@ public class GetOrderServiceTest {
         User testUser = User.withId(userId, "UserName", "UserSurname", "user@mail.com", "hashed", UserRole.WORKER, "222", LocalDateTime.now(), LocalDateTime.now());
         Category testCategory = Category.withId(1L, "Test Category", "Desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier testSupplier = Supplier.withId(1L, "Test Supplier", "test@mail.com", "1234567890", "Address", "Desc", LocalDateTime.now(), LocalDateTime.now());
-        Offer testOffer = Offer.withId(10L, "Test Offer", 10.0, OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
+        Offer testOffer = Offer.withId(10L, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
         OrderItem testOrderItem = OrderItem.createNew(testOffer, 2);
 
         testOrder = Order.withId(orderId, testCustomer, testUser, OrderStatus.IN_PROGRESS, List.of(testOrderItem), LocalDateTime.now(), LocalDateTime.now());
@@ -149,4 +149,69 @@ public class GetOrderServiceTest {
         assertTrue(responsePage.getContent().isEmpty());
         verify(orderRepositoryPort).findByUserId(nonExistentId, pageable);
     }
+
+    @Test
+    void scrollAll_shouldReturnWindowOfOrderResponses_whenOrdersExist() {
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<Order> orderWindow = Window.from(List.of(testOrder), index -> ScrollPosition.keyset(), true);
+        when(orderRepositoryPort.scrollAll(position, 10)).thenReturn(orderWindow);
+
+        Window<OrderResponse> responseWindow = getOrderService.scrollAll(position, 10);
+
+        assertNotNull(responseWindow);
+        assertEquals(1, responseWindow.size());
+        assertTrue(responseWindow.hasNext());
+        assertEquals(orderId, responseWindow.getContent().get(0).getId());
+        verify(orderRepositoryPort).scrollAll(position, 10);
+    }
+
+    @Test
+    void scrollByCustomerId_shouldReturnEmptyWindow_whenNoMatchesFound() {
+        Long nonExistentId = 99L;
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        when(orderRepositoryPort.scrollByCustomerId(nonExistentId, position, 10))
+                .thenReturn(Window.from(Collections.emptyList(), index -> ScrollPosition.keyset()));
+
+        Window<OrderResponse> responseWindow = getOrderService.scrollByCustomerId(nonExistentId, position, 10);
+
+        assertTrue(responseWindow.isEmpty());
+        assertFalse(responseWindow.hasNext());
+        verify(orderRepositoryPort).scrollByCustomerId(nonExistentId, position, 10);
+    }
+
+    @Test
+    void scrollByUserId_shouldReturnWindowOfOrderResponses_whenMatchesExist() {
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        when(orderRepositoryPort.scrollByUserId(userId, position, 10))
+                .thenReturn(Window.from(List.of(testOrder), index -> ScrollPosition.keyset()));
+
+        Window<OrderResponse> responseWindow = getOrderService.scrollByUserId(userId, position, 10);
+
+        assertEquals(1, responseWindow.size());
+        assertEquals(orderId, responseWindow.getContent().get(0).getId());
+        verify(orderRepositoryPort).scrollByUserId(userId, position, 10);
+    }
+
+    @Test
+    void search_shouldReturnPageOfOrderResponses_whenCriteriaAreValid() {
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().customerId(customerId).minTotal(Money.ofMinor(1000)).maxTotal(Money.ofMinor(5000)).build();
+        when(orderRepositoryPort.search(criteria, pageable)).thenReturn(new PageImpl<>(List.of(testOrder), pageable, 1));
+
+        Page<OrderResponse> responsePage = getOrderService.search(criteria, pageable);
+
+        assertEquals(1, responsePage.getTotalElements());
+        assertEquals(Money.ofMinor(2000), responsePage.getContent().get(0).getTotalPrice());
+        assertEquals(1, responsePage.getContent().get(0).getItemCount());
+        verify(orderRepositoryPort).search(criteria, pageable);
+    }
+
+    @Test
+    void search_shouldThrowModelValidationException_whenMinTotalExceedsMaxTotal() {
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().minTotal(Money.ofMinor(5000)).maxTotal(Money.ofMinor(1000)).build();
+
+        ModelValidationException ex = assertThrows(ModelValidationException.class, () -> getOrderService.search(criteria, pageable));
+
+        assertEquals("Minimum total cannot be greater than maximum total.", ex.getMessage());
+        verifyNoInteractions(orderRepositoryPort);
+    }
 }
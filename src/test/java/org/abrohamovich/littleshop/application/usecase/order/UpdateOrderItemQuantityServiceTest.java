@@ -38,12 +38,12 @@ class UpdateOrderItemQuantityServiceTest {
         testUser = User.withId(1L, "UserName", "UserSurname", "user@mail.com", "hashed", UserRole.WORKER, "222", LocalDateTime.now(), LocalDateTime.now());
         Category testCategory = Category.withId(1L, "Test Category", "Desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier testSupplier = Supplier.withId(1L, "Test Supplier", "test@mail.com", "1234567890", "Address", "Desc", LocalDateTime.now(), LocalDateTime.now());
-        testOffer = Offer.withId(10L, "Test Offer", 10.0, OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
-        OrderItem testOrderItem = OrderItem.withId(1L, testOffer, 2, 10, LocalDateTime.now(), LocalDateTime.now());
-        OrderItem testOrderItem2 = OrderItem.withId(2L, testOffer, 3, 10, LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(10L, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
+        OrderItem testOrderItem = OrderItem.withId(1L, testOffer, 2, Money.ofMinor(1000), LocalDateTime.now(), LocalDateTime.now());
+        OrderItem testOrderItem2 = OrderItem.withId(2L, testOffer, 3, Money.ofMinor(1000), LocalDateTime.now(), LocalDateTime.now());
         testOrder = Order.withId(orderId, testCustomer, testUser, OrderStatus.IN_PROGRESS, List.of(testOrderItem, testOrderItem2), LocalDateTime.now(), LocalDateTime.now());
 
-        command = new OrderItemUpdateQuantityCommand(testOrderItem.getId(), 10);
+        command = new OrderItemUpdateQuantityCommand(testOrderItem.getId(), 10, null);
     }
 
     @Test
@@ -47,11 +47,11 @@ public class UpdateOrderServiceTest {
         testUser = User.withId(1L, "UserName", "UserSurname", "user@mail.com", "hashed", UserRole.WORKER, "333", LocalDateTime.now(), LocalDateTime.now());
         Category testCategory = Category.withId(1L, "Test Category", "Desc", LocalDateTime.now(), LocalDateTime.now());
         Supplier testSupplier = Supplier.withId(1L, "Test Supplier", "test@mail.com", "444", "Address", "Desc", LocalDateTime.now(), LocalDateTime.now());
-        testOffer = Offer.withId(10L, "Test Offer", 10.0, OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
+        testOffer = Offer.withId(10L, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "Description", testCategory, testSupplier, LocalDateTime.now(), LocalDateTime.now());
         testOrderItem = OrderItem.createNew(testOffer, 2);
 
         testOrder = Order.withId(orderId, oldCustomer, testUser, OrderStatus.IN_PROGRESS, List.of(testOrderItem), LocalDateTime.now(), LocalDateTime.now());
-        command = new OrderUpdateCommand(newCustomerId);
+        command = new OrderUpdateCommand(newCustomerId, null);
     }
 
     @Test
@@ -88,7 +88,7 @@ public class UpdateOrderServiceTest {
     @Test
     void update_shouldThrowCustomerNotFoundException_whenCustomerDoesNotExist() {
         Long nonExistentCustomerId = 99L;
-        OrderUpdateCommand commandWithNonExistentCustomer = new OrderUpdateCommand(nonExistentCustomerId);
+        OrderUpdateCommand commandWithNonExistentCustomer = new OrderUpdateCommand(nonExistentCustomerId, null);
         when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(testOrder));
         when(customerRepositoryPort.findById(nonExistentCustomerId)).thenReturn(Optional.empty());
 
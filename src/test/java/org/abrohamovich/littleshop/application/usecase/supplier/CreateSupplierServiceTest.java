@@ -13,7 +13,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,9 +33,6 @@ public class CreateSupplierServiceTest {
 
     @Test
     void save_shouldReturnSupplierResponse_whenSupplierIsUnique() {
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.empty());
         when(supplierRepositoryPort.save(any(Supplier.class))).thenReturn(Supplier.withId(
                 1L,
                 command.getName(),
@@ -52,57 +48,48 @@ public class CreateSupplierServiceTest {
         assertNotNull(response);
         assertEquals("Test Supplier", response.getName());
         assertEquals("test@example.com", response.getEmail());
-        verify(supplierRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort, times(1)).findByName(command.getName());
-        verify(supplierRepositoryPort, times(1)).findByPhone(command.getPhone());
+        verify(supplierRepositoryPort, never()).findByEmail(anyString());
+        verify(supplierRepositoryPort, never()).findByName(anyString());
+        verify(supplierRepositoryPort, never()).findByPhone(anyString());
         verify(supplierRepositoryPort, times(1)).save(any(Supplier.class));
     }
 
     @Test
-    void save_shouldThrowDuplicateEntryException_whenEmailAlreadyExists() {
-        Supplier existingSupplier = Supplier.withId(1L, "Jane Smith", "test@example.com", "0987654321", "456 Side Ave", "Old", LocalDateTime.now(), LocalDateTime.now());
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.of(existingSupplier));
+    void save_shouldPropagateDuplicateEntryException_whenEmailConstraintIsViolated() {
+        when(supplierRepositoryPort.save(any(Supplier.class)))
+                .thenThrow(new DuplicateEntryException("Supplier with email '" + command.getEmail() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 createSupplierService.save(command)
         );
-        assertEquals("Customer with email '" + command.getEmail() + "' already exists.", exception.getMessage());
-        verify(supplierRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort, never()).findByName(anyString());
-        verify(supplierRepositoryPort, never()).findByPhone(anyString());
-        verify(supplierRepositoryPort, never()).save(any(Supplier.class));
+        assertEquals("Supplier with email '" + command.getEmail() + "' already exists.", exception.getMessage());
+        verify(supplierRepositoryPort, never()).findByEmail(anyString());
+        verify(supplierRepositoryPort, times(1)).save(any(Supplier.class));
     }
 
     @Test
-    void save_shouldThrowDuplicateEntryException_whenNameAlreadyExists() {
-        Supplier existingSupplier = Supplier.withId(1L, "Test Supplier", "other@example.com", "0987654321", "456 Side Ave", "Old", LocalDateTime.now(), LocalDateTime.now());
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.of(existingSupplier));
+    void save_shouldPropagateDuplicateEntryException_whenNameConstraintIsViolated() {
+        when(supplierRepositoryPort.save(any(Supplier.class)))
+                .thenThrow(new DuplicateEntryException("Supplier with name '" + command.getName() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 createSupplierService.save(command)
         );
-        assertEquals("Customer with name '" + command.getName() + "' already exists.", exception.getMessage());
-        verify(supplierRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort, times(1)).findByName(command.getName());
-        verify(supplierRepositoryPort, never()).findByPhone(anyString());
-        verify(supplierRepositoryPort, never()).save(any(Supplier.class));
+        assertEquals("Supplier with name '" + command.getName() + "' already exists.", exception.getMessage());
+        verify(supplierRepositoryPort, never()).findByName(anyString());
+        verify(supplierRepositoryPort, times(1)).save(any(Supplier.class));
     }
 
     @Test
-    void save_shouldThrowDuplicateEntryException_whenPhoneAlreadyExists() {
-        Supplier existingSupplier = Supplier.withId(1L, "Another Supplier", "another@example.com", "1234567890", "456 Side Ave", "Old", LocalDateTime.now(), LocalDateTime.now());
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.of(existingSupplier));
+    void save_shouldPropagateDuplicateEntryException_whenPhoneConstraintIsViolated() {
+        when(supplierRepositoryPort.save(any(Supplier.class)))
+                .thenThrow(new DuplicateEntryException("Supplier with phone '" + command.getPhone() + "' already exists."));
 
         DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () ->
                 createSupplierService.save(command)
         );
-        assertEquals("Customer with phone '" + command.getPhone() + "' already exists.", exception.getMessage());
-        verify(supplierRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort, times(1)).findByName(command.getName());
-        verify(supplierRepositoryPort, times(1)).findByPhone(command.getPhone());
-        verify(supplierRepositoryPort, never()).save(any(Supplier.class));
+        assertEquals("Supplier with phone '" + command.getPhone() + "' already exists.", exception.getMessage());
+        verify(supplierRepositoryPort, never()).findByPhone(anyString());
+        verify(supplierRepositoryPort, times(1)).save(any(Supplier.class));
     }
 }
\ No newline at end of file
@@ -37,9 +37,6 @@ public class UpdateSupplierServiceTest {
     void update_shouldReturnSupplierResponse_whenAllDetailsAreUnique() {
         SupplierUpdateCommand command = new SupplierUpdateCommand("New Supplier", "new@example.com", "0987654321", "456 Side Ave", "New description");
         when(supplierRepositoryPort.findById(supplierId)).thenReturn(Optional.of(existingSupplier));
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.empty());
         when(supplierRepositoryPort.save(any(Supplier.class))).thenReturn(Supplier.withId(supplierId, "New Supplier", "new@example.com", "0987654321", "456 Side Ave", "New description", existingSupplier.getCreatedAt(), LocalDateTime.now()));
 
         SupplierResponse response = updateSupplierService.update(supplierId, command);
@@ -49,9 +46,9 @@ public class UpdateSupplierServiceTest {
         assertEquals("new@example.com", response.getEmail());
         assertEquals("0987654321", response.getPhone());
         verify(supplierRepositoryPort).findById(supplierId);
-        verify(supplierRepositoryPort).findByName(command.getName());
-        verify(supplierRepositoryPort).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort).findByPhone(command.getPhone());
+        verify(supplierRepositoryPort, never()).findByName(anyString());
+        verify(supplierRepositoryPort, never()).findByEmail(anyString());
+        verify(supplierRepositoryPort, never()).findByPhone(anyString());
         verify(supplierRepositoryPort).save(any(Supplier.class));
     }
 
@@ -90,53 +87,47 @@ public class UpdateSupplierServiceTest {
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewNameAlreadyExists() {
-        Supplier existingDuplicateSupplier = Supplier.withId(2L, "New Supplier", "other@example.com", "987", "street", "desc", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenNameConstraintIsViolated() {
         SupplierUpdateCommand command = new SupplierUpdateCommand("New Supplier", "new@example.com", "0987654321", "456 Side Ave", "New description");
         when(supplierRepositoryPort.findById(supplierId)).thenReturn(Optional.of(existingSupplier));
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.of(existingDuplicateSupplier));
+        when(supplierRepositoryPort.save(any(Supplier.class)))
+                .thenThrow(new DuplicateEntryException("Supplier with name '" + command.getName() + "' already exists."));
 
-        assertThrows(DuplicateEntryException.class, () -> updateSupplierService.update(supplierId, command));
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> updateSupplierService.update(supplierId, command));
 
+        assertEquals("Supplier with name '" + command.getName() + "' already exists.", exception.getMessage());
         verify(supplierRepositoryPort).findById(supplierId);
-        verify(supplierRepositoryPort).findByName(command.getName());
-        verify(supplierRepositoryPort, never()).findByEmail(anyString());
-        verify(supplierRepositoryPort, never()).findByPhone(anyString());
-        verify(supplierRepositoryPort, never()).save(any(Supplier.class));
+        verify(supplierRepositoryPort, never()).findByName(anyString());
+        verify(supplierRepositoryPort).save(any(Supplier.class));
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewEmailAlreadyExists() {
-        Supplier existingDuplicateSupplier = Supplier.withId(2L, "Another Supplier", "new@example.com", "987", "street", "desc", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenEmailConstraintIsViolated() {
         SupplierUpdateCommand command = new SupplierUpdateCommand("New Supplier", "new@example.com", "0987654321", "456 Side Ave", "New description");
         when(supplierRepositoryPort.findById(supplierId)).thenReturn(Optional.of(existingSupplier));
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.of(existingDuplicateSupplier));
+        when(supplierRepositoryPort.save(any(Supplier.class)))
+                .thenThrow(new DuplicateEntryException("Supplier with email '" + command.getEmail() + "' already exists."));
 
-        assertThrows(DuplicateEntryException.class, () -> updateSupplierService.update(supplierId, command));
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> updateSupplierService.update(supplierId, command));
 
+        assertEquals("Supplier with email '" + command.getEmail() + "' already exists.", exception.getMessage());
         verify(supplierRepositoryPort).findById(supplierId);
-        verify(supplierRepositoryPort).findByName(command.getName());
-        verify(supplierRepositoryPort).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort, never()).findByPhone(anyString());
-        verify(supplierRepositoryPort, never()).save(any(Supplier.class));
+        verify(supplierRepositoryPort, never()).findByEmail(anyString());
+        verify(supplierRepositoryPort).save(any(Supplier.class));
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewPhoneAlreadyExists() {
-        Supplier existingDuplicateSupplier = Supplier.withId(2L, "Another Supplier", "another@example.com", "0987654321", "street", "desc", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenPhoneConstraintIsViolated() {
         SupplierUpdateCommand command = new SupplierUpdateCommand("New Supplier", "new@example.com", "0987654321", "456 Side Ave", "New description");
         when(supplierRepositoryPort.findById(supplierId)).thenReturn(Optional.of(existingSupplier));
-        when(supplierRepositoryPort.findByName(command.getName())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(supplierRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.of(existingDuplicateSupplier));
+        when(supplierRepositoryPort.save(any(Supplier.class)))
+                .thenThrow(new DuplicateEntryException("Supplier with phone '" + command.getPhone() + "' already exists."));
 
-        assertThrows(DuplicateEntryException.class, () -> updateSupplierService.update(supplierId, command));
+        DuplicateEntryException exception = assertThrows(DuplicateEntryException.class, () -> updateSupplierService.update(supplierId, command));
 
+        assertEquals("Supplier with phone '" + command.getPhone() + "' already exists.", exception.getMessage());
         verify(supplierRepositoryPort).findById(supplierId);
-        verify(supplierRepositoryPort).findByName(command.getName());
-        verify(supplierRepositoryPort).findByEmail(command.getEmail());
-        verify(supplierRepositoryPort).findByPhone(command.getPhone());
-        verify(supplierRepositoryPort, never()).save(any(Supplier.class));
+        verify(supplierRepositoryPort, never()).findByPhone(anyString());
+        verify(supplierRepositoryPort).save(any(Supplier.class));
     }
 }
\ No newline at end of file
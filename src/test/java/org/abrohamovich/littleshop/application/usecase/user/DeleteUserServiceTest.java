@@ -1,5 +1,7 @@
 package org.abrohamovich.littleshop.application.usecase.user;
 
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
 import org.abrohamovich.littleshop.domain.model.User;
@@ -22,6 +24,10 @@ public class DeleteUserServiceTest {
     private final Long userId = 1L;
     @Mock
     private UserRepositoryPort userRepositoryPort;
+    @Mock
+    private AuthenticatedUserCachePort authenticatedUserCachePort;
+    @Mock
+    private TokenVersionPort tokenVersionPort;
     @InjectMocks
     private DeleteUserService deleteUserService;
     private User testUser;
@@ -39,6 +45,8 @@ public class DeleteUserServiceTest {
 
         verify(userRepositoryPort, times(1)).findById(userId);
         verify(userRepositoryPort, times(1)).deleteById(userId);
+        verify(authenticatedUserCachePort).evictUser(userId);
+        verify(tokenVersionPort).invalidate(userId);
     }
 
     @Test
@@ -52,5 +60,7 @@ public class DeleteUserServiceTest {
 
         verify(userRepositoryPort, times(1)).findById(nonExistentId);
         verify(userRepositoryPort, never()).deleteById(anyLong());
+        verify(authenticatedUserCachePort, never()).evictUser(anyLong());
+        verify(tokenVersionPort, never()).invalidate(anyLong());
     }
 }
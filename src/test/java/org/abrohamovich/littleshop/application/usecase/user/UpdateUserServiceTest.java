@@ -2,16 +2,20 @@ package org.abrohamovich.littleshop.application.usecase.user;
 
 import org.abrohamovich.littleshop.application.dto.user.UserResponse;
 import org.abrohamovich.littleshop.application.dto.user.UserUpdateCommand;
+import org.abrohamovich.littleshop.application.port.out.auth.AuthenticatedUserCachePort;
+import org.abrohamovich.littleshop.application.port.out.auth.TokenVersionPort;
 import org.abrohamovich.littleshop.application.port.out.persistence.UserRepositoryPort;
 import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.user.UserNotFoundException;
 import org.abrohamovich.littleshop.domain.model.User;
 import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.abrohamovich.littleshop.util.PasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -25,6 +29,12 @@ public class UpdateUserServiceTest {
     private final Long userId = 1L;
     @Mock
     private UserRepositoryPort userRepositoryPort;
+    @Mock
+    private AuthenticatedUserCachePort authenticatedUserCachePort;
+    @Mock
+    private TokenVersionPort tokenVersionPort;
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(PasswordHasher.MIN_COST);
     @InjectMocks
     private UpdateUserService updateUserService;
     private User existingUser;
@@ -38,8 +48,6 @@ public class UpdateUserServiceTest {
     void update_shouldReturnUserResponse_whenEmailAndPhoneAreUnique() {
         UserUpdateCommand command = new UserUpdateCommand("Jane", "Smith", "jane.smith@example.com", "new_password", UserRole.WORKER, "0987654321");
         when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(userRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.empty());
 
         User updatedUser = User.withId(userId, "Jane", "Smith", "jane.smith@example.com", "new_hashed_password", UserRole.WORKER, "0987654321", existingUser.getCreatedAt(), LocalDateTime.now());
         when(userRepositoryPort.save(any(User.class))).thenReturn(updatedUser);
@@ -50,9 +58,11 @@ public class UpdateUserServiceTest {
         assertEquals("Jane", response.getFirstName());
         assertEquals("jane.smith@example.com", response.getEmail());
         verify(userRepositoryPort, times(1)).findById(userId);
-        verify(userRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(userRepositoryPort, times(1)).findByPhone(command.getPhone());
+        verify(userRepositoryPort, never()).findByEmail(anyString());
+        verify(userRepositoryPort, never()).findByPhone(anyString());
         verify(userRepositoryPort, times(1)).save(any(User.class));
+        verify(authenticatedUserCachePort).evictUser(userId);
+        verify(tokenVersionPort).invalidate(userId);
     }
 
     @Test
@@ -69,41 +79,44 @@ public class UpdateUserServiceTest {
         verify(userRepositoryPort, never()).findByEmail(anyString());
         verify(userRepositoryPort, never()).findByPhone(anyString());
         verify(userRepositoryPort, never()).save(any(User.class));
+        verify(authenticatedUserCachePort, never()).evictUser(anyLong());
+        verify(tokenVersionPort, never()).invalidate(anyLong());
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewEmailAlreadyExists() {
-        User existingUserWithEmail = User.withId(2L, "Someone", "Else", "jane.smith@example.com", "hashed", UserRole.WORKER, "0987654321", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenEmailConstraintIsViolated() {
         UserUpdateCommand command = new UserUpdateCommand("Jane", "Smith", "jane.smith@example.com", "new_password", UserRole.WORKER, "0987654321");
         when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.of(existingUserWithEmail));
+        when(userRepositoryPort.save(any(User.class)))
+                .thenThrow(new DuplicateEntryException("User with email '" + command.getEmail() + "' already exists."));
 
         assertThrows(DuplicateEntryException.class, () ->
                 updateUserService.update(userId, command)
         );
 
         verify(userRepositoryPort, times(1)).findById(userId);
-        verify(userRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(userRepositoryPort, never()).findByPhone(anyString());
-        verify(userRepositoryPort, never()).save(any(User.class));
+        verify(userRepositoryPort, never()).findByEmail(anyString());
+        verify(userRepositoryPort, times(1)).save(any(User.class));
+        verify(authenticatedUserCachePort, never()).evictUser(anyLong());
+        verify(tokenVersionPort, never()).invalidate(anyLong());
     }
 
     @Test
-    void update_shouldThrowDuplicateEntryException_whenNewPhoneAlreadyExists() {
-        User existingUserWithPhone = User.withId(2L, "Someone", "Else", "someone.else@example.com", "hashed", UserRole.WORKER, "0987654321", LocalDateTime.now(), LocalDateTime.now());
+    void update_shouldPropagateDuplicateEntryException_whenPhoneConstraintIsViolated() {
         UserUpdateCommand command = new UserUpdateCommand("Jane", "Smith", "jane.smith@example.com", "new_password", UserRole.WORKER, "0987654321");
         when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepositoryPort.findByEmail(command.getEmail())).thenReturn(Optional.empty());
-        when(userRepositoryPort.findByPhone(command.getPhone())).thenReturn(Optional.of(existingUserWithPhone));
+        when(userRepositoryPort.save(any(User.class)))
+                .thenThrow(new DuplicateEntryException("User with phone '" + command.getPhone() + "' already exists."));
 
         assertThrows(DuplicateEntryException.class, () ->
                 updateUserService.update(userId, command)
         );
 
         verify(userRepositoryPort, times(1)).findById(userId);
-        verify(userRepositoryPort, times(1)).findByEmail(command.getEmail());
-        verify(userRepositoryPort, times(1)).findByPhone(command.getPhone());
-        verify(userRepositoryPort, never()).save(any(User.class));
+        verify(userRepositoryPort, never()).findByPhone(anyString());
+        verify(userRepositoryPort, times(1)).save(any(User.class));
+        verify(authenticatedUserCachePort, never()).evictUser(anyLong());
+        verify(tokenVersionPort, never()).invalidate(anyLong());
     }
 
     @Test
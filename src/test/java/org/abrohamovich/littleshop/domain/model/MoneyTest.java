@@ -0,0 +1,66 @@
+package org.abrohamovich.littleshop.domain.model;
+
+import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_WithTwoDecimalPlaces_ShouldStoreExactMinorUnits() {
+        Money money = Money.of(new BigDecimal("19.99"));
+
+        assertEquals(1999, money.minorUnits());
+        assertEquals(new BigDecimal("19.99"), money.toBigDecimal());
+        assertEquals("19.99", money.toString());
+    }
+
+    @Test
+    void of_WithFewerDecimalPlaces_ShouldScaleUp() {
+        assertEquals(Money.ofMinor(1050), Money.of(new BigDecimal("10.5")));
+        assertEquals(Money.ofMinor(700), Money.of(new BigDecimal("7")));
+    }
+
+    @Test
+    void of_WithMoreThanTwoDecimalPlaces_ShouldThrowException() {
+        ModelValidationException ex = assertThrows(ModelValidationException.class, () -> {
+            Money.of(new BigDecimal("1.005"));
+        });
+
+        assertTrue(ex.getMessage().contains("must have at most 2 decimal places"));
+    }
+
+    @Test
+    void of_WithAmountOutOfRange_ShouldThrowException() {
+        assertThrows(ModelValidationException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void arithmetic_ShouldBeExact() {
+        Money tenCents = Money.ofMinor(10);
+        Money total = Money.ZERO;
+        for (int i = 0; i < 10; i++) {
+            total = total.plus(tenCents);
+        }
+
+        assertEquals(Money.ofMinor(100), total);
+        assertEquals(Money.ofMinor(300), Money.ofMinor(100).times(3));
+        assertEquals(Money.ofMinor(-50), Money.ofMinor(50).minus(Money.ofMinor(100)));
+    }
+
+    @Test
+    void times_WithOverflow_ShouldThrowException() {
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).times(2));
+    }
+
+    @Test
+    void signAndOrdering_ShouldFollowMinorUnits() {
+        assertTrue(Money.ofMinor(1).isPositive());
+        assertTrue(Money.ofMinor(-1).isNegative());
+        assertFalse(Money.ZERO.isPositive());
+        assertTrue(Money.ofMinor(100).compareTo(Money.ofMinor(99)) > 0);
+    }
+}
@@ -11,7 +11,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class OfferTest {
     private Long id;
     private String name;
-    private double price;
+    private Money price;
     private OfferType type;
     private String description;
     private Category category;
@@ -23,7 +23,7 @@ class OfferTest {
     void tearDown() {
         id = null;
         name = null;
-        price = 0;
+        price = Money.ZERO;
         type = null;
         description = null;
         category = null;
@@ -37,7 +37,7 @@ class OfferTest {
     @Test
     void createNew_WithValidData_ShouldReturnOffer() {
         name = "Smartphone";
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -60,7 +60,7 @@ class OfferTest {
     @Test
     void createNew_WithNullName_ShouldThrowException() {
         name = null;
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -77,7 +77,7 @@ class OfferTest {
     @Test
     void createNew_WithBlankName_ShouldThrowException() {
         name = "   ";
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -94,7 +94,7 @@ class OfferTest {
     @Test
     void createNew_WithZeroPrice_ShouldThrowException() {
         name = "Smartphone";
-        price = 0;
+        price = Money.ZERO;
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -111,7 +111,7 @@ class OfferTest {
     @Test
     void createNew_WithNegativePrice_ShouldThrowException() {
         name = "Smartphone";
-        price = -10.0;
+        price = Money.ofMinor(-1000);
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -128,7 +128,7 @@ class OfferTest {
     @Test
     void createNew_WithNullType_ShouldThrowException() {
         name = "Smartphone";
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = null;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -145,7 +145,7 @@ class OfferTest {
     @Test
     void createNew_WithBlankDescription_ShouldThrowException() {
         name = "Smartphone";
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = OfferType.PRODUCT;
         description = "   ";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -162,7 +162,7 @@ class OfferTest {
     @Test
     void createNew_WithNullCategory_ShouldThrowException() {
         name = "Smartphone";
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = null;
@@ -179,7 +179,7 @@ class OfferTest {
     @Test
     void createNew_WithNullSupplier_ShouldThrowException() {
         name = "Smartphone";
-        price = 999.99;
+        price = Money.ofMinor(99999);
         type = OfferType.PRODUCT;
         description = "A new smartphone model.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -199,7 +199,7 @@ class OfferTest {
     void withId_WithValidData_ShouldReturnOffer() {
         id = 1L;
         name = "Laptop";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -225,7 +225,7 @@ class OfferTest {
     void withId_WithNullId_ShouldThrowException() {
         id = null;
         name = "Laptop";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -244,7 +244,7 @@ class OfferTest {
     void withId_WithNullName_ShouldThrowException() {
         id = 1L;
         name = null;
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -264,7 +264,7 @@ class OfferTest {
     void withId_WithBlankName_ShouldThrowException() {
         id = 1L;
         name = "   ";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -284,7 +284,7 @@ class OfferTest {
     void withId_WithZeroPrice_ShouldThrowException() {
         id = 1L;
         name = "Laptop";
-        price = 0;
+        price = Money.ZERO;
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -304,7 +304,7 @@ class OfferTest {
     void withId_WithNegativePrice_ShouldThrowException() {
         id = 1L;
         name = "Laptop";
-        price = -10.0;
+        price = Money.ofMinor(-1000);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -324,7 +324,7 @@ class OfferTest {
     void withId_WithNullType_ShouldThrowException() {
         id = 1L;
         name = "Laptop";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = null;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -344,7 +344,7 @@ class OfferTest {
     void withId_WithBlankDescription_ShouldThrowException() {
         id = 1L;
         name = "Laptop";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "   ";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -364,7 +364,7 @@ class OfferTest {
     void withId_WithNullCategory_ShouldThrowException() {
         id = 1L;
         name = "Laptop";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = null;
@@ -384,7 +384,7 @@ class OfferTest {
     void withId_WithNullSupplier_ShouldThrowException() {
         id = 1L;
         name = "Laptop";
-        price = 1499.99;
+        price = Money.ofMinor(149999);
         type = OfferType.PRODUCT;
         description = "High-performance laptop.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -406,7 +406,7 @@ class OfferTest {
     void createForPersistenceHydration_WithValidData_ShouldReturnOffer() {
         id = 1L;
         name = "Smartwatch";
-        price = 299.99;
+        price = Money.ofMinor(29999);
         type = OfferType.PRODUCT;
         description = "A stylish smartwatch.";
         createdAt = LocalDateTime.now().minusDays(2);
@@ -433,8 +433,8 @@ class OfferTest {
         id = 1L;
         name = "Old Name";
         String newName = "New Name";
-        price = 100.0;
-        double newPrice = 200.0;
+        price = Money.ofMinor(10000);
+        Money newPrice = Money.ofMinor(20000);
         type = OfferType.PRODUCT;
         OfferType newType = OfferType.SERVICE;
         description = "Old description.";
@@ -466,7 +466,7 @@ class OfferTest {
     void updateDetails_WithNullName_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -488,7 +488,7 @@ class OfferTest {
     void updateDetails_WithBlankName_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -510,7 +510,7 @@ class OfferTest {
     void updateDetails_WithZeroPrice_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -521,7 +521,7 @@ class OfferTest {
         Offer offer = Offer.withId(id, name, price, type, description, category, supplier, createdAt, updatedAt);
 
         OfferValidationException ex = assertThrows(OfferValidationException.class, () -> {
-            offer.updateDetails(name, 0, type, description, category, supplier);
+            offer.updateDetails(name, Money.ZERO, type, description, category, supplier);
         });
 
         assertTrue(ex.getMessage().startsWith("Offer validation failed:"));
@@ -532,7 +532,7 @@ class OfferTest {
     void updateDetails_WithNegativePrice_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -543,7 +543,7 @@ class OfferTest {
         Offer offer = Offer.withId(id, name, price, type, description, category, supplier, createdAt, updatedAt);
 
         OfferValidationException ex = assertThrows(OfferValidationException.class, () -> {
-            offer.updateDetails(name, -10.0, type, description, category, supplier);
+            offer.updateDetails(name, Money.ofMinor(-1000), type, description, category, supplier);
         });
 
         assertTrue(ex.getMessage().startsWith("Offer validation failed:"));
@@ -554,7 +554,7 @@ class OfferTest {
     void updateDetails_WithNullType_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -576,7 +576,7 @@ class OfferTest {
     void updateDetails_WithBlankDescription_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -598,7 +598,7 @@ class OfferTest {
     void updateDetails_WithNullCategory_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -620,7 +620,7 @@ class OfferTest {
     void updateDetails_WithNullSupplier_ShouldThrowException() {
         id = 1L;
         name = "Old Name";
-        price = 100.0;
+        price = Money.ofMinor(10000);
         type = OfferType.PRODUCT;
         description = "Old description.";
         category = Category.withId(1L, "Electronics", "Gadgets", LocalDateTime.now(), LocalDateTime.now());
@@ -13,14 +13,14 @@ class OrderItemTest {
 
     private Long id;
     private Offer offer;
-    private double priceAtTimeOfOrder;
+    private Money priceAtTimeOfOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private int quantity;
 
     @BeforeEach
     void setUp() {
-        offer = Offer.withId(1L, "Test Offer", 10.0, OfferType.PRODUCT, "A test product",
+        offer = Offer.withId(1L, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "A test product",
                 Category.withId(1L, "Category", "Description", LocalDateTime.now(), LocalDateTime.now()),
                 Supplier.withId(1L, "Supplier", "test@test.com", "123", "address", "desc", LocalDateTime.now(), LocalDateTime.now()),
                 LocalDateTime.now(), LocalDateTime.now());
@@ -30,7 +30,7 @@ class OrderItemTest {
     void tearDown() {
         id = null;
         offer = null;
-        priceAtTimeOfOrder = 0;
+        priceAtTimeOfOrder = Money.ZERO;
         createdAt = null;
         updatedAt = null;
         quantity = 0;
@@ -94,7 +94,7 @@ class OrderItemTest {
     void withId_WithValidData_ShouldReturnOrderItem() {
         id = 1L;
         quantity = 3;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -113,7 +113,7 @@ class OrderItemTest {
     void withId_WithNullId_ShouldThrowException() {
         id = null;
         quantity = 3;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -128,7 +128,7 @@ class OrderItemTest {
     void withId_WithNullOffer_ShouldThrowException() {
         id = 1L;
         quantity = 3;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -144,7 +144,7 @@ class OrderItemTest {
     void withId_WithZeroQuantity_ShouldThrowException() {
         id = 1L;
         quantity = 0;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -160,7 +160,7 @@ class OrderItemTest {
     void withId_WithNegativeQuantity_ShouldThrowException() {
         id = 1L;
         quantity = -1;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -176,7 +176,7 @@ class OrderItemTest {
     void withId_WithZeroPrice_ShouldThrowException() {
         id = 1L;
         quantity = 3;
-        priceAtTimeOfOrder = 0;
+        priceAtTimeOfOrder = Money.ZERO;
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -192,7 +192,7 @@ class OrderItemTest {
     void withId_WithNegativePrice_ShouldThrowException() {
         id = 1L;
         quantity = 3;
-        priceAtTimeOfOrder = -10.0;
+        priceAtTimeOfOrder = Money.ofMinor(-1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -210,7 +210,7 @@ class OrderItemTest {
     void createForPersistenceHydration_WithValidData_ShouldReturnOrderItem() {
         id = 1L;
         quantity = 2;
-        priceAtTimeOfOrder = 25.50;
+        priceAtTimeOfOrder = Money.ofMinor(2550);
         createdAt = LocalDateTime.now().minusDays(2);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -229,7 +229,7 @@ class OrderItemTest {
     void createForPersistenceHydration_WithZeroQuantity_ShouldThrowException() {
         id = 1L;
         quantity = 0;
-        priceAtTimeOfOrder = 25.50;
+        priceAtTimeOfOrder = Money.ofMinor(2550);
         createdAt = LocalDateTime.now().minusDays(2);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -242,7 +242,7 @@ class OrderItemTest {
     void createForPersistenceHydration_WithNegativeQuantity_ShouldThrowException() {
         id = 1L;
         quantity = -5;
-        priceAtTimeOfOrder = 25.50;
+        priceAtTimeOfOrder = Money.ofMinor(2550);
         createdAt = LocalDateTime.now().minusDays(2);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -255,7 +255,7 @@ class OrderItemTest {
     void createForPersistenceHydration_WithZeroPrice_ShouldThrowException() {
         id = 1L;
         quantity = 2;
-        priceAtTimeOfOrder = 0;
+        priceAtTimeOfOrder = Money.ZERO;
         createdAt = LocalDateTime.now().minusDays(2);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -268,7 +268,7 @@ class OrderItemTest {
     void createForPersistenceHydration_WithNegativePrice_ShouldThrowException() {
         id = 1L;
         quantity = 2;
-        priceAtTimeOfOrder = -10.0;
+        priceAtTimeOfOrder = Money.ofMinor(-1000);
         createdAt = LocalDateTime.now().minusDays(2);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -284,7 +284,7 @@ class OrderItemTest {
         id = 1L;
         quantity = 5;
         int newQuantity = 10;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -301,7 +301,7 @@ class OrderItemTest {
         id = 1L;
         quantity = 5;
         int newQuantity = 0;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -320,7 +320,7 @@ class OrderItemTest {
         id = 1L;
         quantity = 5;
         int newQuantity = -10;
-        priceAtTimeOfOrder = 10.0;
+        priceAtTimeOfOrder = Money.ofMinor(1000);
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
 
@@ -29,7 +29,7 @@ class OrderTest {
         items = new ArrayList<>();
         customer = Customer.withId(1L, "John", "Doe", "john.doe@example.com", "123-456-7890", "123 Main St", LocalDateTime.now(), LocalDateTime.now());
         user = User.withId(1L, "Jane", "Smith", "jane.smith@example.com", "hashedpassword", UserRole.WORKER, "098-765-4321", LocalDateTime.now(), LocalDateTime.now());
-        offer = Offer.withId(1L, "Test Offer", 10.0, OfferType.PRODUCT, "A test product",
+        offer = Offer.withId(1L, "Test Offer", Money.ofMinor(1000), OfferType.PRODUCT, "A test product",
                 Category.withId(1L, "Category", "Description", LocalDateTime.now(), LocalDateTime.now()),
                 Supplier.withId(1L, "Supplier", "test@test.com", "123", "address", "desc", LocalDateTime.now(), LocalDateTime.now()),
                 LocalDateTime.now(), LocalDateTime.now());
@@ -258,7 +258,7 @@ class OrderTest {
     void addOrderItem_WithValidData_ShouldAddOrderItem() {
         Order order = Order.createNew(customer, user, new ArrayList<>(Collections.singletonList(OrderItem.createNew(offer, 1))));
         int initialItemCount = order.getItems().size();
-        Offer newOffer = Offer.createNew("New Offer", 50.0, OfferType.SERVICE, "A new service",
+        Offer newOffer = Offer.createNew("New Offer", Money.ofMinor(5000), OfferType.SERVICE, "A new service",
                 Category.withId(2L, "Services", "Digital", LocalDateTime.now(), LocalDateTime.now()),
                 Supplier.withId(2L, "ServiceCorp", "service@corp.com", "321", "addr C", "desc C", LocalDateTime.now(), LocalDateTime.now()));
 
@@ -420,7 +420,7 @@ class OrderTest {
         items.add(OrderItem.createNew(offer, 3));
         Order order = Order.createNew(customer, user, items);
 
-        double expectedTotal = (2 * offer.getPrice()) + (3 * offer.getPrice());
+        Money expectedTotal = offer.getPrice().times(2).plus(offer.getPrice().times(3));
 
         assertEquals(expectedTotal, order.totalPrice());
     }
@@ -430,7 +430,7 @@ class OrderTest {
         items.add(OrderItem.createNew(offer, 5));
         Order order = Order.createNew(customer, user, items);
 
-        double expectedTotal = 5 * offer.getPrice();
+        Money expectedTotal = offer.getPrice().times(5);
 
         assertEquals(expectedTotal, order.totalPrice());
     }
@@ -442,8 +442,36 @@ class OrderTest {
         Order order = Order.createNew(customer, user, items);
 
         order.updateOrderItemQuantity(item1.getId(), 5);
-        double expectedTotal = 5 * offer.getPrice();
+        Money expectedTotal = offer.getPrice().times(5);
 
         assertEquals(expectedTotal, order.totalPrice());
     }
-}
\ No newline at end of file
+
+    @Test
+    void totalPrice_AfterAddAndRemove_ShouldTrackTotalAndItemCount() {
+        OrderItem item1 = OrderItem.withId(1L, offer, 2, offer.getPrice(), LocalDateTime.now(), LocalDateTime.now());
+        items.add(item1);
+        Order order = Order.createNew(customer, user, items);
+
+        order.addOrderItem(offer, 4);
+
+        assertEquals(offer.getPrice().times(6), order.getTotalPrice());
+        assertEquals(2, order.getItemCount());
+
+        order.removeOrderItem(item1.getId());
+
+        assertEquals(offer.getPrice().times(4), order.getTotalPrice());
+        assertEquals(1, order.getItemCount());
+    }
+
+    @Test
+    void totalPrice_WithIdAndPersistedItems_ShouldMatchItems() {
+        items.add(OrderItem.withId(1L, offer, 2, offer.getPrice(), LocalDateTime.now(), LocalDateTime.now()));
+        items.add(OrderItem.withId(2L, offer, 3, Money.ofMinor(750), LocalDateTime.now(), LocalDateTime.now()));
+
+        Order order = Order.withId(1L, customer, user, OrderStatus.IN_PROGRESS, items, LocalDateTime.now(), LocalDateTime.now());
+
+        assertEquals(offer.getPrice().times(2).plus(Money.ofMinor(2250)), order.getTotalPrice());
+        assertEquals(2, order.getItemCount());
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 import static org.junit.jupiter.api.Assertions.*;
 
 class UserTest {
+    private final PasswordHasher passwordHasher = new PasswordHasher(PasswordHasher.MIN_COST);
     private Long id;
     private String firstName;
     private String lastName;
@@ -46,7 +47,7 @@ class UserTest {
         role = UserRole.WORKER;
         phone = "123-456-7890";
 
-        User user = User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+        User user = User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
 
         assertNotNull(user);
         assertNull(user.getId());
@@ -71,7 +72,7 @@ class UserTest {
         phone = "123-456-7890";
 
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().contains("Password must be at least 8 characters."));
@@ -87,7 +88,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -104,7 +105,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -121,7 +122,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -138,7 +139,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -155,7 +156,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -172,7 +173,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -189,7 +190,7 @@ class UserTest {
         phone = "123-456-7890";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -206,7 +207,7 @@ class UserTest {
         phone = null;
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -223,7 +224,7 @@ class UserTest {
         phone = "   ";
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+            User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -238,7 +239,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -264,7 +265,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -283,7 +284,7 @@ class UserTest {
         firstName = null;
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -303,7 +304,7 @@ class UserTest {
         firstName = "   ";
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -323,7 +324,7 @@ class UserTest {
         firstName = "Jane";
         lastName = null;
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -343,7 +344,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "   ";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -363,7 +364,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = null;
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -383,7 +384,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = "   ";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -443,7 +444,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = null;
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -463,7 +464,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = null;
         createdAt = LocalDateTime.now().minusDays(1);
@@ -483,7 +484,7 @@ class UserTest {
         firstName = "Jane";
         lastName = "Smith";
         email = "jane.smith@example.com";
-        hashedPassword = PasswordHasher.hashPassword("password123");
+        hashedPassword = passwordHasher.hashPassword("password123");
         role = UserRole.ADMIN;
         phone = "   ";
         createdAt = LocalDateTime.now().minusDays(1);
@@ -515,12 +516,12 @@ class UserTest {
         String newPhone = "000-000-0000";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
         String initialHashedPassword = user.getPassword();
 
-        user.updateDetails(newFirstName, newLastName, newEmail, null, newRole, newPhone);
+        user.updateDetails(newFirstName, newLastName, newEmail, null, newRole, newPhone, passwordHasher);
 
         assertNotNull(user);
         assertEquals(newFirstName, user.getFirstName());
@@ -545,11 +546,11 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
-        user.updateDetails(firstName, lastName, email, newRawPassword, role, phone);
+        user.updateDetails(firstName, lastName, email, newRawPassword, role, phone, passwordHasher);
 
         assertNotEquals(hashedPassword, user.getPassword());
         assertTrue(user.checkPassword(newRawPassword));
@@ -567,12 +568,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
         String initialHashedPassword = user.getPassword();
 
-        user.updateDetails(firstName, lastName, email, newRawPassword, role, phone);
+        user.updateDetails(firstName, lastName, email, newRawPassword, role, phone, passwordHasher);
 
         assertEquals(initialHashedPassword, user.getPassword());
         assertTrue(user.checkPassword(rawPassword));
@@ -590,12 +591,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> {
-            user.updateDetails(firstName, lastName, email, newRawPassword, role, phone);
+            user.updateDetails(firstName, lastName, email, newRawPassword, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().contains("Password must be at least 8 characters."));
@@ -612,12 +613,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(null, lastName, email, null, role, phone);
+            user.updateDetails(null, lastName, email, null, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -635,12 +636,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails("   ", lastName, email, null, role, phone);
+            user.updateDetails("   ", lastName, email, null, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -658,12 +659,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, null, email, null, role, phone);
+            user.updateDetails(firstName, null, email, null, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -681,12 +682,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, "   ", email, null, role, phone);
+            user.updateDetails(firstName, "   ", email, null, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -704,12 +705,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, lastName, null, null, role, phone);
+            user.updateDetails(firstName, lastName, null, null, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -727,12 +728,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, lastName, "   ", null, role, phone);
+            user.updateDetails(firstName, lastName, "   ", null, role, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -750,12 +751,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, lastName, email, null, null, phone);
+            user.updateDetails(firstName, lastName, email, null, null, phone, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -773,12 +774,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, lastName, email, null, role, null);
+            user.updateDetails(firstName, lastName, email, null, role, null, passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -796,12 +797,12 @@ class UserTest {
         phone = "098-765-4321";
         createdAt = LocalDateTime.now().minusDays(1);
         updatedAt = LocalDateTime.now().minusDays(1);
-        String hashedPassword = PasswordHasher.hashPassword(rawPassword);
+        String hashedPassword = passwordHasher.hashPassword(rawPassword);
 
         User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
 
         UserValidationException ex = assertThrows(UserValidationException.class, () -> {
-            user.updateDetails(firstName, lastName, email, null, role, "   ");
+            user.updateDetails(firstName, lastName, email, null, role, "   ", passwordHasher);
         });
 
         assertTrue(ex.getMessage().startsWith("User validation failed:"));
@@ -819,7 +820,7 @@ class UserTest {
         role = UserRole.WORKER;
         phone = "123-456-7890";
 
-        User user = User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+        User user = User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
 
         assertTrue(user.checkPassword(rawPassword));
     }
@@ -834,8 +835,47 @@ class UserTest {
         role = UserRole.WORKER;
         phone = "123-456-7890";
 
-        User user = User.createNewUser(firstName, lastName, email, rawPassword, role, phone);
+        User user = User.createNewUser(firstName, lastName, email, rawPassword, role, phone, passwordHasher);
 
         assertFalse(user.checkPassword(incorrectPassword));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTokenVersion_ShouldChange_WhenRoleIsUpdated() {
+        id = 1L;
+        firstName = "John";
+        lastName = "Doe";
+        email = "john.doe@example.com";
+        hashedPassword = passwordHasher.hashPassword("password123");
+        role = UserRole.WORKER;
+        phone = "123-456-7890";
+        createdAt = LocalDateTime.now().minusDays(1);
+        updatedAt = LocalDateTime.now().minusDays(1);
+
+        User user = User.withId(id, firstName, lastName, email, hashedPassword, role, phone, createdAt, updatedAt);
+        long versionBeforeUpdate = user.getTokenVersion();
+        user.updateDetails(firstName, lastName, email, null, UserRole.ADMIN, phone, passwordHasher);
+
+        assertNotEquals(versionBeforeUpdate, user.getTokenVersion());
+    }
+
+    @Test
+    void getTokenVersion_ShouldChange_WhenPasswordIsUpdated() {
+        User user = User.withId(1L, "John", "Doe", "john.doe@example.com", passwordHasher.hashPassword("password123"),
+                UserRole.WORKER, "123-456-7890", LocalDateTime.now(), LocalDateTime.now(), 3);
+
+        user.updateDetails("John", "Doe", "john.doe@example.com", "newPassword123", UserRole.WORKER, "123-456-7890", passwordHasher);
+
+        assertEquals(4, user.getTokenVersion());
+    }
+
+    @Test
+    void getTokenVersion_ShouldNotChange_WhenOnlyProfileDetailsAreUpdated() {
+        User user = User.withId(1L, "John", "Doe", "john.doe@example.com", passwordHasher.hashPassword("password123"),
+                UserRole.WORKER, "123-456-7890", LocalDateTime.now(), LocalDateTime.now(), 3);
+
+        user.updateDetails("Johnny", "Doe", "johnny.doe@example.com", null, UserRole.WORKER, "098-765-4321", passwordHasher);
+
+        assertEquals(3, user.getTokenVersion());
+    }
+}
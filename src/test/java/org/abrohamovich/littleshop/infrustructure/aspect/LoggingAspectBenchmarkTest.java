@@ -0,0 +1,143 @@
+package org.abrohamovich.littleshop.infrustructure.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.abrohamovich.littleshop.application.dto.category.CategoryResponse;
+import org.abrohamovich.littleshop.application.port.in.category.GetCategoryUseCase;
+import org.abrohamovich.littleshop.application.port.out.persistence.CategoryRepositoryPort;
+import org.abrohamovich.littleshop.application.usecase.category.GetCategoryService;
+import org.abrohamovich.littleshop.domain.model.Category;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@Tag("benchmark")
+class LoggingAspectBenchmarkTest {
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 100_000;
+    private static final Pageable PAGEABLE = PageRequest.of(0, 20);
+
+    private GetCategoryUseCase target;
+
+    @BeforeEach
+    void setUp() {
+        List<Category> categories = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> Category.withId(id, "Category " + id, "Description " + id, LocalDateTime.now(), LocalDateTime.now()))
+                .toList();
+        Page<Category> page = new PageImpl<>(categories, PAGEABLE, 200);
+        CategoryRepositoryPort categoryRepositoryPort = mock(CategoryRepositoryPort.class, withSettings().stubOnly());
+        when(categoryRepositoryPort.findAll(any(Pageable.class))).thenReturn(page);
+        target = new GetCategoryService(categoryRepositoryPort);
+
+        discardOutput(LegacyLoggingAspect.class, Level.INFO);
+        discardOutput(LoggingAspect.class, Level.DEBUG);
+    }
+
+    @Test
+    void timingAspect_shouldBeCheaperThanLegacyArgumentAndResultLogging() {
+        GetCategoryUseCase legacy = proxy(new LegacyLoggingAspect());
+        GetCategoryUseCase sampled = proxy(new LoggingAspect(new InstrumentationProperties(), new MethodTimingRegistry(new SimpleMeterRegistry())));
+        GetCategoryUseCase bare = target;
+
+        run(bare, WARMUP_CALLS);
+        run(legacy, WARMUP_CALLS);
+        run(sampled, WARMUP_CALLS);
+
+        double bareNanos = run(bare, MEASURED_CALLS);
+        double legacyNanos = run(legacy, MEASURED_CALLS);
+        double sampledNanos = run(sampled, MEASURED_CALLS);
+
+        System.out.printf("no aspect: %.0f ns/op, legacy logging aspect: %.0f ns/op, sampled timing aspect: %.0f ns/op%n",
+                bareNanos, legacyNanos, sampledNanos);
+        assertTrue(sampledNanos < legacyNanos);
+    }
+
+    private GetCategoryUseCase proxy(Object aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    private double run(GetCategoryUseCase useCase, int calls) {
+        long blackhole = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            Page<CategoryResponse> result = useCase.findAll(PAGEABLE);
+            blackhole += result.getNumberOfElements();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(blackhole > 0);
+        return (double) elapsed / calls;
+    }
+
+    private void discardOutput(Class<?> loggerClass, Level level) {
+        Logger logger = (Logger) LoggerFactory.getLogger(loggerClass);
+        FormattingNullAppender appender = new FormattingNullAppender();
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+        logger.detachAndStopAllAppenders();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+        logger.setLevel(level);
+    }
+
+    private static class FormattingNullAppender extends AppenderBase<ILoggingEvent> {
+        private long characters;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            characters += event.getFormattedMessage().length();
+        }
+    }
+
+    @Aspect
+    @Slf4j
+    static class LegacyLoggingAspect {
+        @Around("execution(* org.abrohamovich.littleshop.application.usecase..*(..))")
+        public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+            String methodName = joinPoint.getSignature().toShortString();
+            String className = joinPoint.getSignature().getDeclaringTypeName();
+            Object[] args = joinPoint.getArgs();
+
+            long startTime = System.currentTimeMillis();
+            log.info("Entering method: {}.{} with args: {}", className, methodName, args);
+
+            try {
+                Object result = joinPoint.proceed();
+                long endTime = System.currentTimeMillis();
+                log.info("Exiting method: {}.{} (Execution time: {}ms) with result: {}", className, methodName, (endTime - startTime), result);
+                return result;
+            } catch (IllegalArgumentException e) {
+                log.warn("Illegal argument in {}.{}: {}", className, methodName, e.getMessage());
+                throw e;
+            } catch (Throwable e) {
+                log.error("Exception in {}.{}: {}", className, methodName, e.getMessage(), e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.abrohamovich.littleshop.infrustructure.aspect;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodTimingRegistryTest {
+    private SimpleMeterRegistry meterRegistry;
+    private MethodTimingRegistry methodTimingRegistry;
+    private Method method;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        methodTimingRegistry = new MethodTimingRegistry(meterRegistry);
+        method = String.class.getMethod("length");
+    }
+
+    @Test
+    void timerFor_shouldReturnSameTimerForSameMethod() {
+        MethodTimer first = methodTimingRegistry.timerFor(method, MethodTimingRegistry.USE_CASE_METER);
+        MethodTimer second = methodTimingRegistry.timerFor(method, MethodTimingRegistry.USE_CASE_METER);
+
+        assertSame(first, second);
+        assertEquals("String.length", first.getName());
+    }
+
+    @Test
+    void recordSuccess_shouldFeedMicrometerTimer() {
+        MethodTimer timer = methodTimingRegistry.timerFor(method, MethodTimingRegistry.REPOSITORY_METER);
+
+        timer.recordSuccess(TimeUnit.MILLISECONDS.toNanos(3));
+
+        Timer meter = meterRegistry.get(MethodTimingRegistry.REPOSITORY_METER)
+                .tag("class", "String")
+                .tag("method", "length")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(1, meter.count());
+        assertEquals(3.0, meter.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void recordFailure_shouldTagTimerWithExceptionType() {
+        MethodTimer timer = methodTimingRegistry.timerFor(method, MethodTimingRegistry.USE_CASE_METER);
+
+        timer.recordFailure(1_000, new IllegalStateException("boom"));
+
+        Timer meter = meterRegistry.get(MethodTimingRegistry.USE_CASE_METER)
+                .tag("outcome", "error")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, meter.count());
+        assertEquals(0, meterRegistry.get(MethodTimingRegistry.USE_CASE_METER)
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void recordFailure_shouldReuseTimerPerExceptionType() {
+        MethodTimer timer = methodTimingRegistry.timerFor(method, MethodTimingRegistry.USE_CASE_METER);
+
+        timer.recordFailure(1_000, new IllegalStateException("first"));
+        timer.recordFailure(2_000, new IllegalStateException("second"));
+        timer.recordFailure(3_000, new IllegalArgumentException("other"));
+
+        assertEquals(2, meterRegistry.get(MethodTimingRegistry.USE_CASE_METER)
+                .tag("exception", "IllegalStateException")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(MethodTimingRegistry.USE_CASE_METER)
+                .tag("exception", "IllegalArgumentException")
+                .timer().count());
+        assertEquals(2, meterRegistry.get(MethodTimingRegistry.USE_CASE_METER)
+                .tag("outcome", "error")
+                .timers().size());
+    }
+}
@@ -0,0 +1,71 @@
+package org.abrohamovich.littleshop.infrustructure.config;
+
+import org.abrohamovich.littleshop.infrustructure.persistence.ConcurrencyLimitedDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.mock;
+
+class PersistenceConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PersistenceConfig.class)
+            .withPropertyValues("app.persistence.jdbc-limiter.enabled=true");
+
+    @Test
+    void limiter_shouldWrapSingleDataSource() {
+        contextRunner.withUserConfiguration(SingleDataSourceConfiguration.class)
+                .run(context -> assertInstanceOf(ConcurrencyLimitedDataSource.class, context.getBean("dataSource")));
+    }
+
+    @Test
+    void limiter_shouldWrapOnlyPrimaryDataSource() {
+        contextRunner.withUserConfiguration(TwoDataSourcesConfiguration.class)
+                .run(context -> {
+                    assertInstanceOf(ConcurrencyLimitedDataSource.class, context.getBean("dataSource"));
+                    assertFalse(context.getBean("reportingDataSource") instanceof ConcurrencyLimitedDataSource);
+                });
+    }
+
+    @Test
+    void limiter_shouldBeSkipped_whenDisabled() {
+        contextRunner.withUserConfiguration(SingleDataSourceConfiguration.class)
+                .withPropertyValues("app.persistence.jdbc-limiter.enabled=false")
+                .run(context -> assertFalse(context.getBean("dataSource") instanceof ConcurrencyLimitedDataSource));
+    }
+
+    @Test
+    void limiter_shouldBeSkipped_whenNotConfigured() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(PersistenceConfig.class, SingleDataSourceConfiguration.class)
+                .run(context -> assertFalse(context.getBean("dataSource") instanceof ConcurrencyLimitedDataSource));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SingleDataSourceConfiguration {
+        @Bean
+        DataSource dataSource() {
+            return mock(DataSource.class);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class TwoDataSourcesConfiguration {
+        @Bean
+        @Primary
+        DataSource dataSource() {
+            return mock(DataSource.class);
+        }
+
+        @Bean
+        DataSource reportingDataSource() {
+            return mock(DataSource.class);
+        }
+    }
+}
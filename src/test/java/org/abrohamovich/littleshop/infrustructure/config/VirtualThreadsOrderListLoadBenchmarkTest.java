@@ -0,0 +1,238 @@
+package org.abrohamovich.littleshop.infrustructure.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.abrohamovich.littleshop.infrustructure.security.BenchmarkServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class VirtualThreadsOrderListLoadBenchmarkTest {
+    private static final int CLIENTS = 400;
+    private static final int OFFERS = 20;
+    private static final int ORDERS = 200;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final Duration PINNING_THRESHOLD = Duration.ofMillis(20);
+    private static final String ORDER_LIST_PATH = "/api/v1/orders?page=0&size=20";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void virtualThreads_shouldServeOrderListUnderHighConcurrencyWithoutErrors() throws Exception {
+        Result platform = measure("platform threads", false);
+        Result virtual = measure("virtual threads", true);
+
+        System.out.printf("GET %s with %d concurrent clients:%n", ORDER_LIST_PATH, CLIENTS);
+        platform.print("platform threads");
+        virtual.print("virtual threads");
+        assertEquals(0, platform.failed());
+        assertEquals(0, virtual.failed());
+        assertTrue(virtual.completed() > 0);
+    }
+
+    private Result measure(String name, boolean virtualThreads) throws Exception {
+        try (BenchmarkServer server = BenchmarkServer.start(name, serverOverrides(virtualThreads));
+             RecordingStream pinningEvents = new RecordingStream()) {
+            String token = server.login(httpClient);
+            seed(server, token);
+
+            Map<String, Integer> pinnedSites = new ConcurrentHashMap<>();
+            pinningEvents.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(PINNING_THRESHOLD);
+            pinningEvents.onEvent("jdk.VirtualThreadPinned", event -> pinnedSites.merge(pinnedSite(event), 1, Integer::sum));
+
+            URI uri = server.uri(ORDER_LIST_PATH);
+            drive(uri, token, WARMUP);
+            pinningEvents.startAsync();
+            Result result = drive(uri, token, MEASUREMENT);
+            pinningEvents.stop();
+            return result.withPinnedSites(pinnedSites);
+        }
+    }
+
+    private String[] serverOverrides(boolean virtualThreads) {
+        List<String> overrides = new ArrayList<>(List.of(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "app.instrumentation.enabled=false"));
+        String url = System.getProperty("benchmark.postgres.url");
+        if (url != null) {
+            overrides.addAll(List.of(
+                    "spring.datasource.url=" + url,
+                    "spring.datasource.driver-class-name=org.postgresql.Driver",
+                    "spring.datasource.username=" + System.getProperty("benchmark.postgres.username", "postgres"),
+                    "spring.datasource.password=" + System.getProperty("benchmark.postgres.password", "postgres"),
+                    "spring.flyway.enabled=true",
+                    "spring.jpa.hibernate.ddl-auto=validate",
+                    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"));
+        }
+        return overrides.toArray(String[]::new);
+    }
+
+    private void seed(BenchmarkServer server, String token) throws Exception {
+        String run = Long.toString(System.nanoTime(), 36);
+        long categoryId = post(server, token, "/api/v1/categories",
+                Map.of("name", "Coffee " + run, "description", "Load test")).get("id").asLong();
+        long supplierId = post(server, token, "/api/v1/suppliers",
+                Map.of("name", "Roastery " + run, "email", "roastery-" + run + "@example.com", "phone", "+1000000001",
+                        "address", "Main street 1", "description", "Load test")).get("id").asLong();
+        long customerId = post(server, token, "/api/v1/customers",
+                Map.of("firstName", "Load", "lastName", "Test", "email", "customer-" + run + "@example.com",
+                        "phone", "+1000000002", "address", "Main street 2")).get("id").asLong();
+        long userId = get(server, token, "/api/v1/users?page=0&size=1").get("content").get(0).get("id").asLong();
+
+        List<Long> offerIds = new ArrayList<>();
+        for (int i = 0; i < OFFERS; i++) {
+            offerIds.add(post(server, token, "/api/v1/offers",
+                    Map.of("name", "Offer " + i + " " + run, "price", BigDecimal.valueOf(100 + i, 2), "type", "PRODUCT",
+                            "description", "Load test", "categoryId", categoryId, "supplierId", supplierId))
+                    .get("id").asLong());
+        }
+        for (int o = 0; o < ORDERS; o++) {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                items.add(Map.of("offerId", offerIds.get((o + i) % OFFERS), "quantity", 1 + i));
+            }
+            post(server, token, "/api/v1/orders", Map.of("customerId", customerId, "userId", userId, "items", items));
+        }
+    }
+
+    private JsonNode post(BenchmarkServer server, String token, String path, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(server.uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+        return send(request);
+    }
+
+    private JsonNode get(BenchmarkServer server, String token, String path) throws Exception {
+        return send(HttpRequest.newBuilder(server.uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build());
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed with status "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return OBJECT_MAPPER.readTree(response.body());
+    }
+
+    private Result drive(URI uri, String token, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<Worker>> futures = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    Worker worker = new Worker();
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        worker.record(response.statusCode(), System.nanoTime() - started);
+                    }
+                    return worker;
+                }));
+            }
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        long shed = 0;
+        long failed = 0;
+        for (Future<Worker> future : futures) {
+            Worker worker = future.get();
+            latencies.addAll(worker.latencies);
+            shed += worker.shed;
+            failed += worker.failed;
+        }
+        Collections.sort(latencies);
+        return new Result(latencies.size() / (duration.toMillis() / 1000.0), latencies.size(), shed, failed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), Map.of());
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(quantile * sorted.size()))));
+    }
+
+    private static String pinnedSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(frame -> frame.startsWith("org.abrohamovich."))
+                .findFirst()
+                .orElse("outside application code");
+    }
+
+    private static final class Worker {
+        private final List<Long> latencies = new ArrayList<>();
+        private long shed;
+        private long failed;
+
+        void record(int status, long elapsedNanos) {
+            if (status == 200) {
+                latencies.add(elapsedNanos);
+            } else if (status == 503) {
+                shed++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    private record Result(double throughput, long completed, long shed, long failed, long p50Millis, long p99Millis,
+                          Map<String, Integer> pinnedSites) {
+        Result withPinnedSites(Map<String, Integer> pinnedSites) {
+            return new Result(throughput, completed, shed, failed, p50Millis, p99Millis, Map.copyOf(pinnedSites));
+        }
+
+        void print(String name) {
+            System.out.printf("  %-16s %8.0f req/s, p50 %d ms, p99 %d ms, %d shed (503), %d failed, %d pinned > %d ms%n",
+                    name, throughput, p50Millis, p99Millis, shed, failed,
+                    pinnedSites.values().stream().mapToInt(Integer::intValue).sum(), PINNING_THRESHOLD.toMillis());
+            pinnedSites.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(5)
+                    .forEach(site -> System.out.printf("    pinned %5d x %s%n", site.getValue(), site.getKey()));
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package org.abrohamovich.littleshop.infrustructure.exception;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.abrohamovich.littleshop.domain.exception.DataPersistenceException;
 import org.abrohamovich.littleshop.domain.exception.DuplicateEntryException;
 import org.abrohamovich.littleshop.domain.exception.ModelNotFoundException;
 import org.abrohamovich.littleshop.domain.exception.ModelValidationException;
+import org.abrohamovich.littleshop.domain.exception.PreconditionFailedException;
+import org.abrohamovich.littleshop.domain.exception.ServiceOverloadedException;
+import org.abrohamovich.littleshop.domain.exception.VersionConflictException;
+import org.abrohamovich.littleshop.domain.exception.auth.LoginThrottledException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -26,12 +31,14 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GlobalExceptionHandlerTest {
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private GlobalExceptionHandler globalExceptionHandler;
     private UUID uuid;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        globalExceptionHandler = new GlobalExceptionHandler(meterRegistry);
         uuid = UUID.randomUUID();
     }
 
@@ -46,6 +53,28 @@ class GlobalExceptionHandlerTest {
         assertEquals(uuid.toString(), response.getBody().getMessage());
     }
 
+    @Test
+    public void handleVersionConflictException_ShouldReturnConflictStatus() {
+        VersionConflictException ex = new VersionConflictException(uuid.toString());
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handleVersionConflictException(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(uuid.toString(), response.getBody().getMessage());
+    }
+
+    @Test
+    public void handlePreconditionFailedException_ShouldReturnPreconditionFailedStatus() {
+        PreconditionFailedException ex = new PreconditionFailedException(uuid.toString());
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handlePreconditionFailedException(ex);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(uuid.toString(), response.getBody().getMessage());
+    }
+
     @Test
     public void handleModelValidationException_ShouldReturnBadRequestStatus() {
         ModelValidationException ex = new ModelValidationException(uuid.toString());
@@ -104,4 +133,40 @@ class GlobalExceptionHandlerTest {
         assertEquals("An unexpected error occurred: " + uuid.toString(), response.getBody().getMessage());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void handleModelNotFoundException_ShouldCountErrorByExceptionAndStatus() {
+        ModelNotFoundException ex = new ModelNotFoundException(uuid.toString());
+
+        globalExceptionHandler.handleModelNotFoundException(ex);
+        globalExceptionHandler.handleModelNotFoundException(ex);
+
+        assertEquals(2.0, meterRegistry.get(GlobalExceptionHandler.ERRORS_METER)
+                .tag("exception", "ModelNotFoundException")
+                .tag("status", "404")
+                .counter().count());
+    }
+
+    @Test
+    public void handleLoginThrottledException_ShouldReturnTooManyRequestsWithRetryAfter() {
+        LoginThrottledException ex = new LoginThrottledException(uuid.toString(), 60);
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handleLoginThrottledException(ex);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("60", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(uuid.toString(), response.getBody().getMessage());
+    }
+
+    @Test
+    public void handleServiceOverloadedException_ShouldReturnServiceUnavailableWithRetryAfter() {
+        ServiceOverloadedException ex = new ServiceOverloadedException(uuid.toString());
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = globalExceptionHandler.handleServiceOverloadedException(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(uuid.toString(), response.getBody().getMessage());
+    }
+}
@@ -0,0 +1,96 @@
+package org.abrohamovich.littleshop.infrustructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.abrohamovich.littleshop.domain.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+    private DataSource target;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+        dataSource.bindTo(meterRegistry);
+    }
+
+    @Test
+    void getConnection_shouldRejectWhenAllPermitsAreHeldPastTimeout() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(ServiceOverloadedException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.activeConnections());
+        assertEquals(1.0, meterRegistry.get("littleshop.jdbc.limiter.rejected").counter().count());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    void close_shouldReleasePermitOnceAndCloseTarget() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        Connection targetConnection = ((ConnectionProxy) connection).getTargetConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(0, dataSource.activeConnections());
+        verify(targetConnection, times(2)).close();
+        assertEquals(0.0, meterRegistry.get("littleshop.jdbc.limiter.active").gauge().value());
+    }
+
+    @Test
+    void getConnection_shouldWakeWaiterWhenConnectionIsReturned() throws Exception {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(5));
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        held.close();
+
+        assertNotNull(waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(1, dataSource.activeConnections());
+    }
+
+    @Test
+    void getConnection_shouldReleasePermitWhenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(0, dataSource.activeConnections());
+    }
+
+    @Test
+    void connectionProxy_shouldDelegateOtherCallsToTarget() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        Connection targetConnection = ((ConnectionProxy) connection).getTargetConnection();
+        when(targetConnection.getAutoCommit()).thenReturn(true);
+        doThrow(new SQLException("read only")).when(targetConnection).setReadOnly(true);
+
+        assertTrue(connection.getAutoCommit());
+        assertThrows(SQLException.class, () -> connection.setReadOnly(true));
+        assertEquals(connection, connection);
+        assertNotEquals(connection, targetConnection);
+    }
+}
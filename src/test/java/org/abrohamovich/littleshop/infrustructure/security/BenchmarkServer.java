@@ -0,0 +1,86 @@
+package org.abrohamovich.littleshop.infrustructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.abrohamovich.littleshop.LittleshopApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+public class BenchmarkServer implements AutoCloseable {
+    public static final String ADMIN_EMAIL = "admin@example.com";
+    public static final String ADMIN_PASSWORD = "admin12345";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    private BenchmarkServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    public static BenchmarkServer start(String name, String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(new byte[64]),
+                "--app.admin.firstName=Admin",
+                "--app.admin.lastName=User",
+                "--app.admin.email=" + ADMIN_EMAIL,
+                "--app.admin.phone=+1394022933",
+                "--app.admin.password=" + ADMIN_PASSWORD,
+                "--logging.level.root=WARN",
+                "--logging.level.org.abrohamovich.littleshop=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.web=WARN"));
+        if (Arrays.stream(overrides).noneMatch(override -> override.startsWith("spring.datasource.url="))) {
+            args.add("--spring.datasource.url=jdbc:h2:mem:" + name.replace(' ', '_') + ";DB_CLOSE_DELAY=-1");
+        }
+        for (String override : overrides) {
+            args.add("--" + override);
+        }
+        return new BenchmarkServer(new SpringApplicationBuilder(LittleshopApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new)));
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    public HttpRequest loginRequest() throws IOException {
+        String body = OBJECT_MAPPER.writeValueAsString(Map.of("email", ADMIN_EMAIL, "password", ADMIN_PASSWORD));
+        return HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    public String login(HttpClient httpClient) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
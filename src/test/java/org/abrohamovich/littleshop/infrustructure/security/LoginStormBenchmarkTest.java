@@ -0,0 +1,123 @@
+package org.abrohamovich.littleshop.infrustructure.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class LoginStormBenchmarkTest {
+    private static final int LOGIN_THREADS = 24;
+    private static final int READER_THREADS = 4;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final Duration REJECTED_LOGIN_BACKOFF = Duration.ofMillis(100);
+    private static final String CATALOG_PATH = "/api/v1/offers?page=0&size=5";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(LOGIN_THREADS + READER_THREADS))
+            .build();
+
+    @Test
+    void boundedHashing_shouldKeepCatalogReadsFlowingDuringLoginStorm() throws Exception {
+        StormResult unbounded = run("unbounded hashing", "app.auth.hashing.threads=" + LOGIN_THREADS,
+                "app.auth.hashing.queue-capacity=10000");
+        StormResult bounded = run("bounded hashing", "app.auth.hashing.threads=1",
+                "app.auth.hashing.queue-capacity=4");
+
+        System.out.printf("login storm (%d login threads, %d catalog readers):%n  %s%n  %s%n",
+                LOGIN_THREADS, READER_THREADS, unbounded, bounded);
+        assertTrue(bounded.catalogReads() > unbounded.catalogReads());
+    }
+
+    private StormResult run(String name, String... hashingOverrides) throws Exception {
+        String[] overrides = Arrays.copyOf(hashingOverrides, hashingOverrides.length + 2);
+        overrides[hashingOverrides.length] = "app.auth.login-throttle.max-attempts-per-address=100000000";
+        overrides[hashingOverrides.length + 1] = "app.auth.stateless=true";
+        try (BenchmarkServer server = BenchmarkServer.start(name, overrides)) {
+            String token = server.login(httpClient);
+            HttpRequest catalogRequest = HttpRequest.newBuilder(server.uri(CATALOG_PATH))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+            HttpRequest loginRequest = server.loginRequest();
+
+            storm(loginRequest, catalogRequest, WARMUP);
+            return storm(loginRequest, catalogRequest, MEASUREMENT).named(name);
+        }
+    }
+
+    private StormResult storm(HttpRequest loginRequest, HttpRequest catalogRequest, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Map<Integer, LongAdder> loginStatuses = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<Long> readLatencies = new ConcurrentLinkedQueue<>();
+
+        ExecutorService workers = Executors.newFixedThreadPool(LOGIN_THREADS + READER_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < LOGIN_THREADS; i++) {
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpResponse<Void> response = httpClient.send(loginRequest, HttpResponse.BodyHandlers.discarding());
+                        loginStatuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                        if (response.statusCode() == 503) {
+                            Thread.sleep(REJECTED_LOGIN_BACKOFF.toMillis());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < READER_THREADS; i++) {
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(catalogRequest, HttpResponse.BodyHandlers.discarding());
+                        assertEquals(200, response.statusCode());
+                        readLatencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long[] latencies = readLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long p99 = latencies.length == 0 ? 0 : latencies[(int) Math.min(latencies.length - 1, Math.ceil(latencies.length * 0.99) - 1)];
+        Map<Integer, Long> statuses = new ConcurrentHashMap<>();
+        loginStatuses.forEach((status, count) -> statuses.put(status, count.sum()));
+        return new StormResult("", latencies.length, TimeUnit.NANOSECONDS.toMillis(p99), statuses);
+    }
+
+    private record StormResult(String name, long catalogReads, long catalogP99Millis, Map<Integer, Long> loginStatuses) {
+        StormResult named(String newName) {
+            return new StormResult(newName, catalogReads, catalogP99Millis, loginStatuses);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d catalog reads, catalog p99 %d ms, login responses by status %s",
+                    name, catalogReads, catalogP99Millis, loginStatuses);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.abrohamovich.littleshop.infrustructure.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class StatelessAuthenticationLoadBenchmarkTest {
+    private static final int THREADS = 16;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final String READ_ONLY_PATH = "/api/v1/categories?page=0&size=1";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(THREADS))
+            .build();
+
+    @Test
+    void statelessMode_shouldServeMoreAuthenticatedRequestsThanPerRequestUserLookup() throws Exception {
+        double perRequestLookup = measure("per-request user lookup", false, 0);
+        double cachedLookup = measure("cached user lookup", false, 10_000);
+        double stateless = measure("stateless claims", true, 10_000);
+
+        System.out.printf("GET %s with %d threads: per-request user lookup %.0f req/s, cached user lookup %.0f req/s, stateless claims %.0f req/s%n",
+                READ_ONLY_PATH, THREADS, perRequestLookup, cachedLookup, stateless);
+        assertTrue(stateless > perRequestLookup);
+    }
+
+    private double measure(String name, boolean stateless, long userCacheSize) throws Exception {
+        try (BenchmarkServer server = BenchmarkServer.start(name,
+                "app.auth.stateless=" + stateless,
+                "app.auth.user-cache.max-size=" + userCacheSize)) {
+            String token = server.login(httpClient);
+            URI uri = server.uri(READ_ONLY_PATH);
+
+            drive(uri, token, WARMUP);
+            return drive(uri, token, MEASUREMENT) / (MEASUREMENT.toMillis() / 1000.0);
+        }
+    }
+
+    private long drive(URI uri, String token, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        assertEquals(200, response.statusCode());
+                        completed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return completed.get();
+    }
+}
@@ -0,0 +1,310 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.abrohamovich.littleshop.domain.model.OrderStatus;
+import org.abrohamovich.littleshop.domain.model.UserRole;
+import org.abrohamovich.littleshop.infrustructure.security.BenchmarkServer;
+import org.abrohamovich.littleshop.infrustructure.startup.OfferCatalogIndexInitializer;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.hibernate.SessionFactory;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+final class DatasetGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    private static final OfferType[] OFFER_TYPES = OfferType.values();
+
+    private final DataSource dataSource;
+    private final PasswordHasher passwordHasher;
+    private final Runnable afterGenerate;
+
+    DatasetGenerator(DataSource dataSource, PasswordHasher passwordHasher, Runnable afterGenerate) {
+        this.dataSource = dataSource;
+        this.passwordHasher = passwordHasher;
+        this.afterGenerate = afterGenerate;
+    }
+
+    static DatasetGenerator forServer(BenchmarkServer server) {
+        return new DatasetGenerator(server.getBean(DataSource.class), server.getBean(PasswordHasher.class), () -> {
+            server.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache().evictAllRegions();
+            server.getBean(OfferCatalogIndexInitializer.class).run();
+        });
+    }
+
+    GeneratedDataset generate(DatasetSpec spec) throws SQLException {
+        GeneratedDataset dataset = insert(spec);
+        afterGenerate.run();
+        return dataset;
+    }
+
+    private GeneratedDataset insert(DatasetSpec spec) throws SQLException {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+
+            long[] categoryIds = insertIdentityRows(connection, "t_category",
+                    "insert into t_category (name, description, created_at, updated_at) values (?, ?, ?, ?)",
+                    spec.categories(), (statement, number) -> {
+                        statement.setString(1, "Category " + number);
+                        statement.setString(2, "Generated category " + number);
+                        setTimestamps(statement, 3, now);
+                    });
+            long[] supplierIds = insertIdentityRows(connection, "t_supplier",
+                    "insert into t_supplier (name, email, phone, address, description, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                    spec.suppliers(), (statement, number) -> {
+                        statement.setString(1, "Supplier " + number);
+                        statement.setString(2, "supplier-" + number + "@loadtest.example");
+                        statement.setString(3, phone(2, number));
+                        statement.setString(4, number + " Supply street");
+                        statement.setString(5, "Generated supplier " + number);
+                        setTimestamps(statement, 6, now);
+                    });
+            long[] customerIds = insertIdentityRows(connection, "t_customer",
+                    "insert into t_customer (first_name, last_name, email, phone, address, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                    spec.customers(), (statement, number) -> {
+                        statement.setString(1, "Customer");
+                        statement.setString(2, "No" + number);
+                        statement.setString(3, "customer-" + number + "@loadtest.example");
+                        statement.setString(4, phone(3, number));
+                        statement.setString(5, number + " Customer street");
+                        setTimestamps(statement, 6, now);
+                    });
+            String passwordHash = passwordHasher.hashPassword(GeneratedDataset.USER_PASSWORD);
+            String[] userEmails = new String[spec.users()];
+            long[] userIds = insertIdentityRows(connection, "t_user",
+                    "insert into t_user (first_name, last_name, email, password_hash, role, phone, created_at, updated_at, token_version) values (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                    spec.users(), (statement, number) -> {
+                        statement.setString(1, "Worker");
+                        statement.setString(2, "No" + number);
+                        statement.setString(3, "worker-" + number + "@loadtest.example");
+                        statement.setString(4, passwordHash);
+                        statement.setString(5, UserRole.WORKER.name());
+                        statement.setString(6, phone(4, number));
+                        setTimestamps(statement, 7, now);
+                    });
+            readEmails(connection, userIds, userEmails);
+
+            long firstOfferId = reserveIds(connection, h2, "t_offer", "t_offer_seq");
+            long[] offerPrices = insertOffers(connection, spec, random, firstOfferId, categoryIds, supplierIds, now);
+            restartSequence(connection, "t_offer_seq", firstOfferId + spec.offers());
+
+            long firstOrderId = reserveIds(connection, h2, "t_order", "t_order_seq");
+            long firstItemId = reserveIds(connection, h2, "t_order_item", "t_order_item_seq");
+            long items = insertOrders(connection, spec, random, firstOrderId, firstItemId, firstOfferId, offerPrices,
+                    customerIds, userIds, now);
+            restartSequence(connection, "t_order_seq", firstOrderId + spec.orders());
+            restartSequence(connection, "t_order_item_seq", firstItemId + items);
+
+            rebuildSalesRollups(connection);
+
+            return new GeneratedDataset(categoryIds, customerIds, userIds, userEmails,
+                    firstOfferId, firstOfferId + spec.offers() - 1, firstOrderId, firstOrderId + spec.orders() - 1,
+                    items, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private long[] insertOffers(Connection connection, DatasetSpec spec, SplittableRandom random, long firstOfferId,
+                                long[] categoryIds, long[] supplierIds, LocalDateTime now) throws SQLException {
+        long[] prices = new long[spec.offers()];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into t_offer (id, name, price_minor, type, description, category_id, supplier_id, created_at, updated_at, version) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)")) {
+            for (int i = 0; i < spec.offers(); i++) {
+                long id = firstOfferId + i;
+                prices[i] = 100 + random.nextLong(50_000);
+                statement.setLong(1, id);
+                statement.setString(2, "Offer " + id);
+                statement.setLong(3, prices[i]);
+                statement.setString(4, OFFER_TYPES[random.nextInt(OFFER_TYPES.length)].name());
+                statement.setString(5, "Generated offer " + id + " for load testing");
+                statement.setLong(6, categoryIds[skewedIndex(random, categoryIds.length, spec.popularitySkew())]);
+                statement.setLong(7, supplierIds[random.nextInt(supplierIds.length)]);
+                setTimestamps(statement, 8, now);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    flush(connection, statement);
+                }
+            }
+            flush(connection, statement);
+        }
+        return prices;
+    }
+
+    private long insertOrders(Connection connection, DatasetSpec spec, SplittableRandom random, long firstOrderId,
+                              long firstItemId, long firstOfferId, long[] offerPrices, long[] customerIds, long[] userIds,
+                              LocalDateTime now) throws SQLException {
+        long itemId = firstItemId;
+        try (PreparedStatement orderStatement = connection.prepareStatement(
+                "insert into t_order (id, customer_id, user_id, status, total_price_minor, item_count, created_at, updated_at, version) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, 0)");
+             PreparedStatement itemStatement = connection.prepareStatement(
+                     "insert into t_order_item (id, offer_id, quantity, price_at_time_of_order_minor, created_at, updated_at, order_id) " +
+                             "values (?, ?, ?, ?, ?, ?, ?)")) {
+            long historySeconds = Duration.ofDays(spec.historyDays()).toSeconds();
+            for (int i = 0; i < spec.orders(); i++) {
+                long orderId = firstOrderId + i;
+                LocalDateTime createdAt = now.minusSeconds(random.nextLong(historySeconds));
+                int itemCount = itemCount(random, spec);
+                long total = 0;
+                for (int item = 0; item < itemCount; item++) {
+                    int offerIndex = skewedIndex(random, offerPrices.length, spec.popularitySkew());
+                    int quantity = 1 + skewedIndex(random, 10, spec.popularitySkew());
+                    total += offerPrices[offerIndex] * quantity;
+                    itemStatement.setLong(1, itemId++);
+                    itemStatement.setLong(2, firstOfferId + offerIndex);
+                    itemStatement.setInt(3, quantity);
+                    itemStatement.setLong(4, offerPrices[offerIndex]);
+                    setTimestamps(itemStatement, 5, createdAt);
+                    itemStatement.setLong(7, orderId);
+                    itemStatement.addBatch();
+                }
+                orderStatement.setLong(1, orderId);
+                orderStatement.setLong(2, customerIds[skewedIndex(random, customerIds.length, spec.popularitySkew())]);
+                orderStatement.setLong(3, userIds[random.nextInt(userIds.length)]);
+                orderStatement.setString(4, status(random).name());
+                orderStatement.setLong(5, total);
+                orderStatement.setInt(6, itemCount);
+                setTimestamps(orderStatement, 7, createdAt);
+                orderStatement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    orderStatement.executeBatch();
+                    flush(connection, itemStatement);
+                }
+            }
+            orderStatement.executeBatch();
+            flush(connection, itemStatement);
+        }
+        return itemId - firstItemId;
+    }
+
+    private static void rebuildSalesRollups(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from t_sales_daily_rollup");
+            statement.executeUpdate(
+                    "insert into t_sales_daily_rollup (sales_date, user_id, offer_id, quantity, revenue_minor) " +
+                            "select cast(o.created_at as date), o.user_id, oi.offer_id, sum(oi.quantity), sum(oi.quantity * oi.price_at_time_of_order_minor) " +
+                            "from t_order o join t_order_item oi on oi.order_id = o.id " +
+                            "where o.status <> 'CANCELLED' " +
+                            "group by cast(o.created_at as date), o.user_id, oi.offer_id");
+        }
+        connection.commit();
+    }
+
+    private static long[] insertIdentityRows(Connection connection, String table, String sql, int count,
+                                             RowBinder binder) throws SQLException {
+        long base = maxId(connection, table);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                binder.bind(statement, base + i + 1);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    flush(connection, statement);
+                }
+            }
+            flush(connection, statement);
+        }
+        long[] ids = new long[count];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select id from " + table + " where id > ? order by id")) {
+            statement.setLong(1, base);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int i = 0;
+                while (resultSet.next() && i < count) {
+                    ids[i++] = resultSet.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void readEmails(Connection connection, long[] userIds, String[] emails) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select email from t_user where id = ?")) {
+            for (int i = 0; i < userIds.length; i++) {
+                statement.setLong(1, userIds[i]);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    emails[i] = resultSet.getString(1);
+                }
+            }
+        }
+    }
+
+    private static long reserveIds(Connection connection, boolean h2, String table, String sequence) throws SQLException {
+        long nextValue;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(h2
+                     ? "select next value for " + sequence
+                     : "select nextval('" + sequence + "')")) {
+            resultSet.next();
+            nextValue = resultSet.getLong(1);
+        }
+        return Math.max(maxId(connection, table), nextValue + SEQUENCE_ALLOCATION_SIZE - 1) + 1;
+    }
+
+    private static void restartSequence(Connection connection, String sequence, long nextId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter sequence " + sequence + " restart with " + nextId);
+        }
+        connection.commit();
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+
+    private static void setTimestamps(PreparedStatement statement, int firstIndex, LocalDateTime value) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(value);
+        statement.setTimestamp(firstIndex, timestamp);
+        statement.setTimestamp(firstIndex + 1, timestamp);
+    }
+
+    private static int skewedIndex(SplittableRandom random, int size, double skew) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private static int itemCount(SplittableRandom random, DatasetSpec spec) {
+        double continueProbability = 1 - 1 / spec.meanItemsPerOrder();
+        if (continueProbability <= 0) {
+            return 1;
+        }
+        int count = 1 + (int) (Math.log(1 - random.nextDouble()) / Math.log(continueProbability));
+        return Math.min(count, spec.maxItemsPerOrder());
+    }
+
+    private static OrderStatus status(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return OrderStatus.COMPLETED;
+        }
+        return roll < 90 ? OrderStatus.IN_PROGRESS : OrderStatus.CANCELLED;
+    }
+
+    private static String phone(int prefix, long number) {
+        return String.format("+%d%011d", prefix, number);
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, long number) throws SQLException;
+    }
+}
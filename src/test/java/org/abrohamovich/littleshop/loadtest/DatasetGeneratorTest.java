@@ -0,0 +1,90 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.OfferJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.entity.SupplierJpaEntity;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataCategoryRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataOfferRepository;
+import org.abrohamovich.littleshop.adapter.persistence.jpa.repository.SpringDataSupplierRepository;
+import org.abrohamovich.littleshop.domain.model.Money;
+import org.abrohamovich.littleshop.domain.model.OfferType;
+import org.abrohamovich.littleshop.util.PasswordHasher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:dataset-generator;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatasetGeneratorTest {
+    private static final DatasetSpec SPEC = new DatasetSpec(3, 2, 20, 2, 50, 200, 3.0, 8, 2.5, 30, 7L);
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SpringDataCategoryRepository categoryRepository;
+    @Autowired
+    private SpringDataSupplierRepository supplierRepository;
+    @Autowired
+    private SpringDataOfferRepository offerRepository;
+
+    @Test
+    void generate_shouldSeedConsistentDatasetAndLeaveSequencesAheadOfGeneratedIds() throws Exception {
+        List<Long> offersSeenAfterGenerate = new ArrayList<>();
+        DatasetGenerator generator = new DatasetGenerator(dataSource, new PasswordHasher(PasswordHasher.MIN_COST), () -> offersSeenAfterGenerate.add(count("t_offer")));
+
+        GeneratedDataset first = generator.generate(SPEC);
+        GeneratedDataset second = generator.generate(SPEC);
+
+        assertEquals(SPEC.offers(), first.offers());
+        assertEquals(SPEC.orders(), second.orders());
+        assertTrue(second.firstOfferId() > first.lastOfferId());
+        assertTrue(second.firstOrderId() > first.lastOrderId());
+        assertEquals(2L * SPEC.customers(), count("t_customer"));
+        assertEquals(2L * SPEC.offers(), count("t_offer"));
+        assertEquals(List.of((long) SPEC.offers(), 2L * SPEC.offers()), offersSeenAfterGenerate);
+        assertEquals(2L * SPEC.orders(), count("t_order"));
+        assertEquals(first.orderItems() + second.orderItems(), count("t_order_item"));
+        assertEquals(SPEC.users(), second.userEmails().length);
+        assertTrue(PasswordHasher.verify(GeneratedDataset.USER_PASSWORD,
+                jdbcTemplate.queryForObject("select password_hash from t_user where email = ?", String.class,
+                        second.userEmails()[0])));
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from t_order o where o.item_count <> (select count(*) from t_order_item oi where oi.order_id = o.id) " +
+                        "or o.total_price_minor <> (select sum(oi.quantity * oi.price_at_time_of_order_minor) from t_order_item oi where oi.order_id = o.id)",
+                Long.class));
+        assertTrue(jdbcTemplate.queryForObject("select max(item_count) from t_order", Integer.class) <= SPEC.maxItemsPerOrder());
+        assertEquals(
+                jdbcTemplate.queryForObject("select sum(oi.quantity * oi.price_at_time_of_order_minor) from t_order o " +
+                        "join t_order_item oi on oi.order_id = o.id where o.status <> 'CANCELLED'", Long.class),
+                jdbcTemplate.queryForObject("select sum(revenue_minor) from t_sales_daily_rollup", Long.class));
+
+        LocalDateTime now = LocalDateTime.now();
+        CategoryJpaEntity category = categoryRepository.findById(second.categoryIds()[0]).orElseThrow();
+        SupplierJpaEntity supplier = supplierRepository.findAll().get(0);
+        OfferJpaEntity saved = offerRepository.save(new OfferJpaEntity(null, "Created after seeding", Money.ofMinor(100),
+                OfferType.PRODUCT, "desc", category, supplier, now, now, null));
+
+        assertTrue(saved.getId() > second.lastOfferId());
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
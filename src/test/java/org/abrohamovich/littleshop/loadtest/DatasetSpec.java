@@ -0,0 +1,34 @@
+package org.abrohamovich.littleshop.loadtest;
+
+record DatasetSpec(int categories, int suppliers, int customers, int users, int offers, int orders,
+                   double meanItemsPerOrder, int maxItemsPerOrder, double popularitySkew, int historyDays, long seed) {
+    static final String PROPERTY_PREFIX = "loadtest.";
+
+    DatasetSpec {
+        if (categories < 1 || suppliers < 1 || customers < 1 || users < 1 || offers < 1 || orders < 0) {
+            throw new IllegalArgumentException("Dataset volumes must be positive");
+        }
+        if (meanItemsPerOrder < 1 || maxItemsPerOrder < 1 || popularitySkew < 1 || historyDays < 1) {
+            throw new IllegalArgumentException("Dataset distribution parameters are out of range");
+        }
+    }
+
+    static DatasetSpec fromSystemProperties() {
+        return new DatasetSpec(
+                intProperty("categories", 50),
+                intProperty("suppliers", 200),
+                intProperty("customers", 5_000),
+                intProperty("users", 20),
+                intProperty("offers", 20_000),
+                intProperty("orders", 50_000),
+                Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "mean-items-per-order", "3.0")),
+                intProperty("max-items-per-order", 40),
+                Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "popularity-skew", "2.5")),
+                intProperty("history-days", 365),
+                Long.parseLong(System.getProperty(PROPERTY_PREFIX + "seed", "42")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PROPERTY_PREFIX + name, String.valueOf(defaultValue)).replace("_", ""));
+    }
+}
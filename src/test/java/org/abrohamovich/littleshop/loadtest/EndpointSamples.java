@@ -0,0 +1,53 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class EndpointSamples {
+    private long[] latencies = new long[256];
+    private int count;
+    private long errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(EndpointSamples other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    long[] sortedLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    static Map<String, EndpointSamples> mergeAll(Iterable<Map<String, EndpointSamples>> perWorker) {
+        Map<String, EndpointSamples> merged = new LinkedHashMap<>();
+        for (Map<String, EndpointSamples> samples : perWorker) {
+            samples.forEach((endpoint, endpointSamples) ->
+                    merged.computeIfAbsent(endpoint, key -> new EndpointSamples()).merge(endpointSamples));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,26 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+record GeneratedDataset(long[] categoryIds, long[] customerIds, long[] userIds, String[] userEmails,
+                        long firstOfferId, long lastOfferId, long firstOrderId, long lastOrderId,
+                        long orderItems, Duration elapsed) {
+    static final String USER_PASSWORD = "loadtest-password";
+
+    long randomOfferId(SplittableRandom random) {
+        return random.nextLong(firstOfferId, lastOfferId + 1);
+    }
+
+    long randomCustomerId(SplittableRandom random) {
+        return customerIds[random.nextInt(customerIds.length)];
+    }
+
+    long offers() {
+        return lastOfferId - firstOfferId + 1;
+    }
+
+    long orders() {
+        return lastOrderId - firstOrderId + 1;
+    }
+}
@@ -0,0 +1,80 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+record LoadTestReport(int virtualUsers, Duration duration, String dataset, List<EndpointSummary> endpoints) {
+
+    static LoadTestReport of(int virtualUsers, Duration duration, String dataset, Map<String, EndpointSamples> samples) {
+        List<EndpointSummary> endpoints = new ArrayList<>();
+        samples.forEach((endpoint, endpointSamples) -> endpoints.add(EndpointSummary.of(endpoint, endpointSamples, duration)));
+        return new LoadTestReport(virtualUsers, duration, dataset, List.copyOf(endpoints));
+    }
+
+    long errors() {
+        return endpoints.stream().mapToLong(EndpointSummary::errors).sum();
+    }
+
+    long requests() {
+        return endpoints.stream().mapToLong(EndpointSummary::count).sum();
+    }
+
+    String toMarkdown() {
+        StringBuilder report = new StringBuilder()
+                .append("# REST API load test\n\n")
+                .append("- Dataset: ").append(dataset).append('\n')
+                .append("- Virtual users: ").append(virtualUsers).append('\n')
+                .append("- Duration: ").append(duration.toSeconds()).append(" s\n")
+                .append("- Requests: ").append(requests()).append(", errors: ").append(errors()).append("\n\n")
+                .append("| Endpoint | Requests | Errors | Req/s | Mean ms | p50 ms | p95 ms | p99 ms | Max ms |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        for (EndpointSummary endpoint : endpoints) {
+            report.append(String.format(Locale.ROOT, "| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                    endpoint.endpoint(), endpoint.count(), endpoint.errors(), endpoint.throughput(),
+                    endpoint.meanMillis(), endpoint.p50Millis(), endpoint.p95Millis(), endpoint.p99Millis(),
+                    endpoint.maxMillis()));
+        }
+        return report.toString();
+    }
+
+    Path write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return Files.writeString(file, toMarkdown());
+    }
+
+    record EndpointSummary(String endpoint, long count, long errors, double throughput, double meanMillis,
+                           double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        static EndpointSummary of(String endpoint, EndpointSamples samples, Duration duration) {
+            long[] sorted = samples.sortedLatencies();
+            long total = 0;
+            for (long latency : sorted) {
+                total += latency;
+            }
+            return new EndpointSummary(endpoint, sorted.length, samples.errors(),
+                    sorted.length / Math.max(0.001, duration.toMillis() / 1000.0),
+                    sorted.length == 0 ? 0 : millis(total / sorted.length),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                    millis(percentile(sorted, 0.99)), sorted.length == 0 ? 0 : millis(sorted[sorted.length - 1]));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.max(0, Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import org.abrohamovich.littleshop.infrustructure.security.BenchmarkServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class RestApiLoadBenchmarkTest {
+    private static final String H2_POSTGRES_MODE_URL =
+            "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void scenario_shouldCompleteAgainstGeneratedDatasetWithoutErrors() throws Exception {
+        DatasetSpec spec = DatasetSpec.fromSystemProperties();
+        int virtualUsers = Integer.parseInt(System.getProperty("loadtest.virtual-users", "16"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        Path reportFile = Path.of(System.getProperty("loadtest.report", "target/load-test-report.md"));
+
+        try (BenchmarkServer server = BenchmarkServer.start("rest api load", serverOverrides())) {
+            GeneratedDataset dataset = DatasetGenerator.forServer(server).generate(spec);
+            String description = String.format("%d offers, %d customers, %d orders, %d order items (seeded in %d s)",
+                    dataset.offers(), dataset.customerIds().length, dataset.orders(), dataset.orderItems(),
+                    dataset.elapsed().toSeconds());
+
+            Map<String, EndpointSamples> samples = new RestApiLoadScenario(server::uri, dataset, httpClient)
+                    .run(virtualUsers, duration, spec.seed());
+            LoadTestReport report = LoadTestReport.of(virtualUsers, duration, description, samples);
+            report.write(reportFile);
+
+            System.out.print(report.toMarkdown());
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+            assertEquals(0, report.errors());
+            assertTrue(samples.get(RestApiLoadScenario.CHANGE_STATUS).count() > 0);
+        }
+    }
+
+    private String[] serverOverrides() {
+        List<String> overrides = new ArrayList<>(List.of(
+                "app.instrumentation.enabled=false",
+                "app.auth.login-throttle.max-attempts-per-address=100000",
+                "app.auth.hashing.timeout=1m"));
+        String url = System.getProperty("benchmark.postgres.url");
+        if (url == null) {
+            overrides.add("spring.datasource.url=" + H2_POSTGRES_MODE_URL);
+        } else {
+            overrides.addAll(List.of(
+                    "spring.datasource.url=" + url,
+                    "spring.datasource.driver-class-name=org.postgresql.Driver",
+                    "spring.datasource.username=" + System.getProperty("benchmark.postgres.username", "postgres"),
+                    "spring.datasource.password=" + System.getProperty("benchmark.postgres.password", "postgres"),
+                    "spring.flyway.enabled=true",
+                    "spring.jpa.hibernate.ddl-auto=validate",
+                    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"));
+        }
+        return overrides.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,160 @@
+package org.abrohamovich.littleshop.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+final class RestApiLoadScenario {
+    static final String LOGIN = "POST /auth/login";
+    static final String BROWSE_OFFERS = "GET /offers";
+    static final String SUGGEST_OFFERS = "GET /offers/suggest";
+    static final String CREATE_ORDER = "POST /orders";
+    static final String ADD_ITEM = "PUT /orders/add-item/{id}";
+    static final String CHANGE_STATUS = "PUT /orders/change-status/{id}";
+    static final String CUSTOMER_ORDERS = "GET /orders?customerId";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String[] SUGGEST_PREFIXES = {"Off", "Offer 1", "Offer 2", "Offer 3", "Offer 5"};
+
+    private final Function<String, URI> uris;
+    private final GeneratedDataset dataset;
+    private final HttpClient httpClient;
+
+    RestApiLoadScenario(Function<String, URI> uris, GeneratedDataset dataset, HttpClient httpClient) {
+        this.uris = uris;
+        this.dataset = dataset;
+        this.httpClient = httpClient;
+    }
+
+    Map<String, EndpointSamples> run(int virtualUsers, Duration duration, long seed) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<String, EndpointSamples>>> futures = new ArrayList<>();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                VirtualUser user = new VirtualUser(i, new SplittableRandom(seed + i));
+                futures.add(users.submit(() -> user.run(deadline)));
+            }
+        }
+        List<Map<String, EndpointSamples>> perUser = new ArrayList<>();
+        for (Future<Map<String, EndpointSamples>> future : futures) {
+            perUser.add(future.get());
+        }
+        return EndpointSamples.mergeAll(perUser);
+    }
+
+    private final class VirtualUser {
+        private final Map<String, EndpointSamples> samples = new LinkedHashMap<>();
+        private final SplittableRandom random;
+        private final String email;
+        private final long userId;
+        private String token;
+
+        private VirtualUser(int index, SplittableRandom random) {
+            this.random = random;
+            this.email = dataset.userEmails()[index % dataset.userEmails().length];
+            this.userId = dataset.userIds()[index % dataset.userIds().length];
+        }
+
+        private Map<String, EndpointSamples> run(long deadline) throws IOException, InterruptedException {
+            for (String endpoint : List.of(LOGIN, BROWSE_OFFERS, SUGGEST_OFFERS, CREATE_ORDER, ADD_ITEM, CHANGE_STATUS, CUSTOMER_ORDERS)) {
+                samples.put(endpoint, new EndpointSamples());
+            }
+            Response login = send(LOGIN, post("/api/v1/auth/login",
+                    Map.of("email", email, "password", GeneratedDataset.USER_PASSWORD)));
+            if (login == null) {
+                return samples;
+            }
+            token = login.body().get("token").asText();
+            while (System.nanoTime() < deadline) {
+                iteration();
+            }
+            return samples;
+        }
+
+        private void iteration() throws IOException, InterruptedException {
+            if (send(BROWSE_OFFERS, get("/api/v1/offers?page=" + random.nextInt(5) + "&size=20")) == null) {
+                return;
+            }
+            String prefix = SUGGEST_PREFIXES[random.nextInt(SUGGEST_PREFIXES.length)];
+            if (send(SUGGEST_OFFERS, get("/api/v1/offers/suggest?q=" + prefix.replace(" ", "%20"))) == null) {
+                return;
+            }
+
+            long customerId = dataset.randomCustomerId(random);
+            List<Map<String, Object>> items = new ArrayList<>();
+            int itemCount = 1 + random.nextInt(3);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(Map.of("offerId", dataset.randomOfferId(random), "quantity", 1 + random.nextInt(3)));
+            }
+            Response created = send(CREATE_ORDER, post("/api/v1/orders",
+                    Map.of("customerId", customerId, "userId", userId, "items", items)));
+            if (created == null) {
+                return;
+            }
+            long orderId = created.body().get("id").asLong();
+
+            Response itemAdded = send(ADD_ITEM, put("/api/v1/orders/add-item/" + orderId, created.eTag(),
+                    Map.of("offerId", dataset.randomOfferId(random), "quantity", 1)));
+            if (itemAdded == null) {
+                return;
+            }
+            if (send(CHANGE_STATUS, put("/api/v1/orders/change-status/" + orderId, itemAdded.eTag(),
+                    Map.of("status", "COMPLETED"))) == null) {
+                return;
+            }
+            send(CUSTOMER_ORDERS, get("/api/v1/orders?customerId=" + customerId + "&page=0&size=10"));
+        }
+
+        private Response send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+            long started = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - started;
+            boolean success = response.statusCode() / 100 == 2;
+            samples.get(endpoint).record(elapsed, success);
+            return success ? new Response(OBJECT_MAPPER.readTree(response.body()), response.headers()) : null;
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(HttpRequest.newBuilder(uris.apply(path))).GET().build();
+        }
+
+        private HttpRequest post(String path, Object body) throws IOException {
+            return authorized(HttpRequest.newBuilder(uris.apply(path)))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                    .build();
+        }
+
+        private HttpRequest put(String path, String eTag, Object body) throws IOException {
+            HttpRequest.Builder builder = authorized(HttpRequest.newBuilder(uris.apply(path)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)));
+            if (eTag != null) {
+                builder.header("If-Match", eTag);
+            }
+            return builder.build();
+        }
+
+        private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+            return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+        }
+    }
+
+    private record Response(JsonNode body, HttpHeaders headers) {
+        String eTag() {
+            return headers.firstValue("ETag").orElse(null);
+        }
+    }
+}
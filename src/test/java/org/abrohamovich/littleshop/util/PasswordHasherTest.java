@@ -0,0 +1,63 @@
+package org.abrohamovich.littleshop.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    @Test
+    void hashPassword_shouldUseConfiguredCost() {
+        PasswordHasher passwordHasher = new PasswordHasher(5);
+
+        String hash = passwordHasher.hashPassword("password123");
+
+        assertEquals(5, passwordHasher.getCost());
+        assertEquals(5, PasswordHasher.costOf(hash));
+        assertTrue(PasswordHasher.verify("password123", hash));
+    }
+
+    @Test
+    void needsRehash_shouldDetectCostDifferentFromConfigured() {
+        String oldHash = new PasswordHasher(4).hashPassword("password123");
+        PasswordHasher passwordHasher = new PasswordHasher(5);
+
+        assertTrue(passwordHasher.needsRehash(oldHash));
+        assertFalse(passwordHasher.needsRehash(passwordHasher.hashPassword("password123")));
+    }
+
+    @Test
+    void verify_shouldAcceptHashesOfAnyCost() {
+        String oldHash = new PasswordHasher(4).hashPassword("password123");
+        String newHash = new PasswordHasher(6).hashPassword("password123");
+
+        assertTrue(PasswordHasher.verify("password123", oldHash));
+        assertTrue(PasswordHasher.verify("password123", newHash));
+    }
+
+    @Test
+    void costOf_shouldThrowIllegalArgumentException_whenValueIsNotBcrypt() {
+        assertThrows(IllegalArgumentException.class, () -> PasswordHasher.costOf("plain"));
+        assertThrows(IllegalArgumentException.class, () -> PasswordHasher.costOf("$2a$xx$abcdef"));
+        assertThrows(IllegalArgumentException.class, () -> PasswordHasher.costOf(null));
+    }
+
+    @Test
+    void constructor_shouldRejectOutOfRangeCost() {
+        assertThrows(IllegalArgumentException.class, () -> new PasswordHasher(3));
+        assertThrows(IllegalArgumentException.class, () -> new PasswordHasher(32));
+    }
+
+    @Test
+    void calibrateCost_shouldStayWithinBounds() {
+        assertEquals(4, PasswordHasher.calibrateCost(Duration.ZERO, 4, 6));
+        assertEquals(6, PasswordHasher.calibrateCost(Duration.ofMinutes(1), 4, 6));
+    }
+
+    @Test
+    void calibrateCost_shouldRejectInvertedBounds() {
+        assertThrows(IllegalArgumentException.class, () -> PasswordHasher.calibrateCost(Duration.ofMillis(10), 6, 4));
+    }
+}
@@ -0,0 +1,7 @@
+alter table t_offer alter column id drop identity;
+alter table t_order alter column id drop identity;
+alter table t_order_item alter column id drop identity;
+
+create sequence if not exists t_offer_seq start with 1 increment by 50;
+create sequence if not exists t_order_seq start with 1 increment by 50;
+create sequence if not exists t_order_item_seq start with 1 increment by 50;
@@ -0,0 +1 @@
+-- pg_trgm and GIN indexes have no H2 counterpart; the offer columns are unchanged.
@@ -0,0 +1,8 @@
+alter table t_category add constraint uk_category_name unique (name);
+alter table t_customer add constraint uk_customer_email unique (email);
+alter table t_customer add constraint uk_customer_phone unique (phone);
+alter table t_supplier add constraint uk_supplier_name unique (name);
+alter table t_supplier add constraint uk_supplier_email unique (email);
+alter table t_supplier add constraint uk_supplier_phone unique (phone);
+alter table t_user add constraint uk_user_email unique (email);
+alter table t_user add constraint uk_user_phone unique (phone);